@@ -0,0 +1,143 @@
+package com.example.demo.config;
+
+import java.util.Map;
+
+import org.apache.hc.client5.http.ConnectionKeepAliveStrategy;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.DefaultConnectionKeepAliveStrategy;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import com.example.demo.http.ConditionalRequestCache;
+import com.example.demo.http.GitHubRateLimiter;
+import com.example.demo.http.OutboundMetricsInterceptor;
+import com.example.demo.http.SingleFlightInterceptor;
+
+/**
+ * 외부 API(GitHub, Gemini) 호출용 공용 HTTP 클라이언트
+ * - 호스트(route)별 커넥션 풀 + keep-alive 재사용
+ * - 연결/풀 대기/응답 타임아웃 (응답 없는 소켓이 요청 스레드를 무기한 붙잡지 않도록)
+ * - gzip/deflate 응답 압축 (httpclient5 기본 동작: Accept-Encoding 추가 및 자동 해제)
+ * - 엔드포인트별 지연시간/상태 코드 지표 (OutboundMetricsInterceptor)
+ * - 동시에 들어온 같은 GitHub GET 요청 합치기 (SingleFlightInterceptor)
+ * - GitHub GET 응답 ETag 캐시 (ConditionalRequestCache)
+ * - GitHub 요청 한도 예산/대기 (GitHubRateLimiter)
+ */
+@Configuration
+public class HttpClientConfig {
+
+	private static final String GITHUB_API_HOST = "api.github.com";
+	private static final String GEMINI_API_HOST = "generativelanguage.googleapis.com";
+
+	@Value("${synodos.http.max-connections:100}")
+	private int maxConnections;
+
+	@Value("${synodos.http.max-connections-per-host:20}")
+	private int maxConnectionsPerHost;
+
+	@Value("${synodos.http.github.max-connections:40}")
+	private int githubMaxConnections;
+
+	@Value("${synodos.http.connect-timeout-ms:5000}")
+	private long connectTimeoutMs;
+
+	@Value("${synodos.http.pool-timeout-ms:5000}")
+	private long poolTimeoutMs;
+
+	@Value("${synodos.http.response-timeout-ms:20000}")
+	private long responseTimeoutMs;
+
+	@Value("${synodos.http.gemini.response-timeout-ms:60000}")
+	private long geminiResponseTimeoutMs;
+
+	@Value("${synodos.http.keep-alive-seconds:60}")
+	private long keepAliveSeconds;
+
+	@Bean(destroyMethod = "close")
+	public PoolingHttpClientConnectionManager outboundConnectionManager() {
+		PoolingHttpClientConnectionManager manager = PoolingHttpClientConnectionManagerBuilder.create()
+				.setMaxConnTotal(maxConnections)
+				.setMaxConnPerRoute(maxConnectionsPerHost)
+				.setDefaultConnectionConfig(ConnectionConfig.custom()
+						.setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMs))
+						.setSocketTimeout(Timeout.ofMilliseconds(Math.max(responseTimeoutMs, geminiResponseTimeoutMs)))
+						.setValidateAfterInactivity(TimeValue.ofSeconds(10))
+						.setTimeToLive(TimeValue.ofMinutes(10))
+						.build())
+				.build();
+		// GitHub은 동기화/가져오기 작업이 몰리므로 별도 한도
+		manager.setMaxPerRoute(new HttpRoute(new HttpHost("https", GITHUB_API_HOST, 443)), githubMaxConnections);
+		return manager;
+	}
+
+	@Bean(destroyMethod = "close")
+	public CloseableHttpClient outboundHttpClient(PoolingHttpClientConnectionManager outboundConnectionManager) {
+		// 서버가 Keep-Alive 헤더로 알려준 시간과 설정값 중 짧은 쪽만큼 연결 유지
+		TimeValue maxKeepAlive = TimeValue.ofSeconds(keepAliveSeconds);
+		ConnectionKeepAliveStrategy keepAliveStrategy = (response, context) -> {
+			TimeValue duration = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+			return TimeValue.isPositive(duration) && duration.compareTo(maxKeepAlive) < 0 ? duration : maxKeepAlive;
+		};
+
+		return HttpClients.custom()
+				.setConnectionManager(outboundConnectionManager)
+				.setDefaultRequestConfig(requestConfig(responseTimeoutMs))
+				.setKeepAliveStrategy(keepAliveStrategy)
+				.evictExpiredConnections()
+				.evictIdleConnections(TimeValue.ofSeconds(keepAliveSeconds))
+				.build();
+	}
+
+	/**
+	 * GitHubService, GitHubIssueService, GeminiService 등이 주입받아 사용하는 RestTemplate
+	 */
+	@Bean
+	public RestTemplate restTemplate(CloseableHttpClient outboundHttpClient,
+	                                 SingleFlightInterceptor singleFlightInterceptor,
+	                                 OutboundMetricsInterceptor outboundMetricsInterceptor,
+	                                 ConditionalRequestCache conditionalRequestCache,
+	                                 GitHubRateLimiter gitHubRateLimiter) {
+		Map<String, RequestConfig> hostConfigs = Map.of(
+				GEMINI_API_HOST, requestConfig(geminiResponseTimeoutMs));
+
+		HttpComponentsClientHttpRequestFactory factory = new HttpComponentsClientHttpRequestFactory(outboundHttpClient);
+		// 호스트별 응답 타임아웃 (AI 분석은 응답 생성이 오래 걸림)
+		factory.setHttpContextFactory((method, uri) -> {
+			RequestConfig config = hostConfigs.get(uri.getHost());
+			if (config == null) {
+				return null;
+			}
+			HttpClientContext context = HttpClientContext.create();
+			context.setRequestConfig(config);
+			return context;
+		});
+
+		RestTemplate restTemplate = new RestTemplate(factory);
+		// 바깥쪽부터 실행: 요청 합치기 → ETag 캐시 → 지표 (지표에는 실제 304 응답이 기록됨) → 요청 한도 (한도 대기 후 재요청)
+		restTemplate.getInterceptors().add(singleFlightInterceptor);
+		restTemplate.getInterceptors().add(conditionalRequestCache);
+		restTemplate.getInterceptors().add(outboundMetricsInterceptor);
+		restTemplate.getInterceptors().add(gitHubRateLimiter);
+		return restTemplate;
+	}
+
+	private RequestConfig requestConfig(long timeoutMs) {
+		return RequestConfig.custom()
+				.setConnectionRequestTimeout(Timeout.ofMilliseconds(poolTimeoutMs))
+				.setResponseTimeout(Timeout.ofMilliseconds(timeoutMs))
+				.build();
+	}
+}
@@ -0,0 +1,21 @@
+package com.example.demo.config;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.example.demo.http.GitHubTeamContextInterceptor;
+
+@Configuration
+public class WebMvcConfig implements WebMvcConfigurer {
+
+	@Autowired
+	private GitHubTeamContextInterceptor gitHubTeamContextInterceptor;
+
+	@Override
+	public void addInterceptors(InterceptorRegistry registry) {
+		// GitHub API를 호출하는 요청에 팀 정보 지정 (요청 한도 팀별 집계)
+		registry.addInterceptor(gitHubTeamContextInterceptor).addPathPatterns("/api/github/**");
+	}
+}
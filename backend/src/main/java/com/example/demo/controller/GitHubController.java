@@ -1,5 +1,6 @@
 package com.example.demo.controller;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -12,12 +13,14 @@ import com.example.demo.dao.MemberDao;
 import com.example.demo.model.Member;
 import com.example.demo.model.Team;
 import com.example.demo.model.TaskCommit;
+import com.example.demo.service.GitHubCommitGraphService;
 import com.example.demo.service.GitHubService;
 import com.example.demo.service.GitHubService.GitHubBranch;
 import com.example.demo.service.GitHubService.GitHubBranchComparison;
 import com.example.demo.service.GitHubService.GitHubCommit;
 import com.example.demo.service.GitHubService.GitHubGraphCommit;
 import com.example.demo.service.GitHubService.RepoInfo;
+import com.example.demo.service.GitHubTokenPoolService;
 import com.example.demo.service.TaskCommitService;
 import com.example.demo.service.TeamService;
 
@@ -37,9 +40,15 @@ public class GitHubController {
     @Autowired
     private TaskCommitService taskCommitService;
 
+    @Autowired
+    private GitHubCommitGraphService commitGraphService;
+
     @Autowired
     private MemberDao memberDao;
 
+    @Autowired
+    private GitHubTokenPoolService tokenPool;
+
     /**
      * 팀 저장소의 브랜치 목록을 조회합니다.
      * GET /api/github/branches/{teamId}
@@ -62,8 +71,8 @@ public class GitHubController {
                 return ResponseEntity.badRequest().body("잘못된 GitHub 저장소 URL입니다.");
             }
 
-            // 팀장의 GitHub 액세스 토큰 조회
-            String accessToken = getLeaderAccessToken(team);
+            // 팀장의 GitHub 액세스 토큰 조회 (없으면 팀 토큰 풀)
+            String accessToken = getLeaderAccessToken(team, repoInfo);
 
             List<GitHubBranch> branches = gitHubService.listBranches(accessToken, repoInfo.owner, repoInfo.repo);
             return ResponseEntity.ok(branches);
@@ -210,8 +219,8 @@ public class GitHubController {
                 return ResponseEntity.badRequest().body("잘못된 GitHub 저장소 URL입니다.");
             }
 
-            // 팀장의 GitHub 액세스 토큰 조회
-            String accessToken = getLeaderAccessToken(team);
+            // 팀장의 GitHub 액세스 토큰 조회 (없으면 팀 토큰 풀)
+            String accessToken = getLeaderAccessToken(team, repoInfo);
 
             String defaultBranch = gitHubService.getDefaultBranch(accessToken, repoInfo.owner, repoInfo.repo);
 
@@ -250,8 +259,8 @@ public class GitHubController {
                 return ResponseEntity.badRequest().body("잘못된 GitHub 저장소 URL입니다.");
             }
 
-            // 팀장의 GitHub 액세스 토큰 조회
-            String accessToken = getLeaderAccessToken(team);
+            // 팀장의 GitHub 액세스 토큰 조회 (없으면 팀 토큰 풀)
+            String accessToken = getLeaderAccessToken(team, repoInfo);
 
             // 브랜치 목록 파싱
             String[] branchList;
@@ -263,17 +272,17 @@ public class GitHubController {
                 branchList = branches.split(",");
             }
 
-            // 각 브랜치의 커밋 조회
-            Map<String, List<GitHubGraphCommit>> commitsByBranch = new HashMap<>();
+            // 각 브랜치의 커밋 조회 (브랜치별 동시 조회, 커밋은 SHA 캐시 사용)
+            List<String> branchNames = new ArrayList<>();
             for (String branch : branchList) {
                 String branchName = branch.trim();
-                if (!branchName.isEmpty()) {
-                    List<GitHubGraphCommit> commits = gitHubService.listCommitsWithParents(
-                        accessToken, repoInfo.owner, repoInfo.repo, branchName, depth
-                    );
-                    commitsByBranch.put(branchName, commits);
+                if (!branchName.isEmpty() && !branchNames.contains(branchName)) {
+                    branchNames.add(branchName);
                 }
             }
+            Map<String, List<GitHubGraphCommit>> commitsByBranch = commitGraphService.getCommitsGraph(
+                teamId, accessToken, repoInfo.owner, repoInfo.repo, branchNames, depth
+            );
 
             Map<String, Object> result = new HashMap<>();
             result.put("commitsByBranch", commitsByBranch);
@@ -318,10 +327,10 @@ public class GitHubController {
                 return ResponseEntity.badRequest().body("head 브랜치가 필요합니다.");
             }
 
-            // 팀장의 GitHub 액세스 토큰 조회
-            String accessToken = getLeaderAccessToken(team);
+            // 팀장의 GitHub 액세스 토큰 조회 (없으면 팀 토큰 풀)
+            String accessToken = getLeaderAccessToken(team, repoInfo);
 
-            GitHubBranchComparison comparison = gitHubService.compareBranches(
+            GitHubBranchComparison comparison = commitGraphService.compareBranches(
                 accessToken, repoInfo.owner, repoInfo.repo, base.trim(), head.trim()
             );
             return ResponseEntity.ok(comparison);
@@ -334,15 +343,19 @@ public class GitHubController {
 
     /**
      * 팀장의 GitHub 액세스 토큰을 조회합니다.
+     * 팀장이 GitHub을 연동하지 않았으면 팀 토큰 풀에서 저장소를 읽을 수 있는 토큰을 사용합니다.
+     * (같은 토큰으로 조회해야 ETag 캐시/요청 합치기가 잘 맞으므로 팀장 토큰을 먼저 사용)
      */
-    private String getLeaderAccessToken(Team team) {
-        if (team == null || team.getLeaderNo() <= 0) {
+    private String getLeaderAccessToken(Team team, RepoInfo repoInfo) {
+        if (team == null) {
             return null;
         }
-        Member leader = memberDao.findByNo(team.getLeaderNo());
-        if (leader != null && leader.getGithubAccessToken() != null && !leader.getGithubAccessToken().isEmpty()) {
-            return leader.getGithubAccessToken();
+        if (team.getLeaderNo() > 0) {
+            Member leader = memberDao.findByNo(team.getLeaderNo());
+            if (leader != null && leader.getGithubAccessToken() != null && !leader.getGithubAccessToken().isEmpty()) {
+                return leader.getGithubAccessToken();
+            }
         }
-        return null;
+        return tokenPool.selectToken(team.getTeamId(), repoInfo.owner, repoInfo.repo);
     }
 }
@@ -2,13 +2,24 @@ package com.example.demo.controller;
 
 import com.example.demo.dao.GitHubUserMappingDao;
 import com.example.demo.dao.TaskGitHubIssueDao;
+import com.example.demo.model.GitHubBulkJob;
+import com.example.demo.model.GitHubSyncOutbox;
 import com.example.demo.model.GitHubUserMapping;
 import com.example.demo.model.TaskGitHubIssue;
+import com.example.demo.model.WebhookInbox;
+import com.example.demo.service.GitHubBulkJobService;
+import com.example.demo.service.GitHubIdentityService;
 import com.example.demo.service.GitHubIssueSyncService;
+import com.example.demo.service.GitHubSyncOutboxService;
+import com.example.demo.service.GitHubWebhookInboxService;
+import com.example.demo.service.TeamService;
 import lombok.Data;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -25,12 +36,27 @@ public class GitHubIssueSyncController {
     @Autowired
     private GitHubIssueSyncService syncService;
 
+    @Autowired
+    private GitHubSyncOutboxService outboxService;
+
+    @Autowired
+    private GitHubWebhookInboxService inboxService;
+
+    @Autowired
+    private GitHubBulkJobService bulkJobService;
+
     @Autowired
     private TaskGitHubIssueDao taskGitHubIssueDao;
 
     @Autowired
     private GitHubUserMappingDao userMappingDao;
 
+    @Autowired
+    private GitHubIdentityService identityService;
+
+    @Autowired
+    private TeamService teamService;
+
     // ==================== Issue Link Management ====================
 
     /**
@@ -123,6 +149,81 @@ public class GitHubIssueSyncController {
         }
     }
 
+    // ==================== Sync Outbox (Dead Letter) ====================
+
+    /**
+     * 최종 실패한 동기화 요청 목록
+     * GET /api/github/issue/outbox/dead/{teamId}
+     */
+    @GetMapping("/outbox/dead/{teamId}")
+    public ResponseEntity<?> getDeadLetters(
+            @PathVariable int teamId,
+            @RequestParam(defaultValue = "50") int limit) {
+        if (!isCurrentMemberOf(teamId)) {
+            return forbidden();
+        }
+        List<GitHubSyncOutbox> deadLetters = outboxService.listDeadLetters(teamId, limit);
+        return ResponseEntity.ok(deadLetters);
+    }
+
+    /**
+     * 최종 실패한 동기화 요청 재시도
+     * POST /api/github/issue/outbox/{outboxId}/retry
+     */
+    @PostMapping("/outbox/{outboxId}/retry")
+    public ResponseEntity<?> retryDeadLetter(@PathVariable int outboxId) {
+        GitHubSyncOutbox item = outboxService.getItem(outboxId);
+        if (item == null) {
+            return ResponseEntity.notFound().build();
+        }
+        if (!isCurrentMemberOf(item.getTeamId())) {
+            return forbidden();
+        }
+        boolean requeued = outboxService.retryDeadLetter(outboxId);
+        return ResponseEntity.ok(Map.of("success", requeued));
+    }
+
+    // ==================== Webhook Inbox (Dead Letter) ====================
+
+    /**
+     * 팀의 최종 실패한 수신 Webhook 목록
+     * GET /api/github/issue/webhooks/dead?teamId=
+     */
+    @GetMapping("/webhooks/dead")
+    public ResponseEntity<?> getWebhookDeadLetters(
+            @RequestParam int teamId,
+            @RequestParam(defaultValue = "50") int limit) {
+        if (!isCurrentMemberOf(teamId)) {
+            return forbidden();
+        }
+        return ResponseEntity.ok(Map.of(
+            "items", inboxService.listDeadLetters(teamId, limit),
+            "stats", inboxService.getStats()
+        ));
+    }
+
+    /**
+     * 최종 실패한 수신 Webhook 재처리
+     * POST /api/github/issue/webhooks/{inboxId}/retry?teamId=
+     */
+    @PostMapping("/webhooks/{inboxId}/retry")
+    public ResponseEntity<?> retryWebhookDeadLetter(
+            @PathVariable long inboxId,
+            @RequestParam int teamId) {
+        if (!isCurrentMemberOf(teamId)) {
+            return forbidden();
+        }
+        if (inboxService.getDeadLetter(teamId, inboxId) == null) {
+            return ResponseEntity.notFound().build();
+        }
+        // 같은 Issue의 이후 Webhook이 이미 반영됐으면 다시 적용하지 않고 닫힘 (status: SUPERSEDED)
+        String status = inboxService.retryDeadLetter(teamId, inboxId);
+        if (status == null) {
+            return ResponseEntity.ok(Map.of("success", false));
+        }
+        return ResponseEntity.ok(Map.of("success", WebhookInbox.STATUS_PENDING.equals(status), "status", status));
+    }
+
     // ==================== Conflict Management ====================
 
     /**
@@ -183,12 +284,14 @@ public class GitHubIssueSyncController {
             if (existing != null) {
                 existing.setGithubUsername(request.getGithubUsername());
                 userMappingDao.update(existing);
+                identityService.invalidateMember(request.getMemberNo(), request.getGithubUsername());
                 return ResponseEntity.ok(userMappingDao.findByMemberNo(request.getMemberNo()));
             } else {
                 GitHubUserMapping mapping = new GitHubUserMapping();
                 mapping.setMemberNo(request.getMemberNo());
                 mapping.setGithubUsername(request.getGithubUsername());
                 userMappingDao.insert(mapping);
+                identityService.invalidateMember(request.getMemberNo(), request.getGithubUsername());
                 return ResponseEntity.ok(userMappingDao.findByMemberNo(request.getMemberNo()));
             }
         } catch (Exception e) {
@@ -227,6 +330,7 @@ public class GitHubIssueSyncController {
     @DeleteMapping("/user/mapping/{memberNo}")
     public ResponseEntity<?> deleteUserMapping(@PathVariable int memberNo) {
         userMappingDao.deleteByMemberNo(memberNo);
+        identityService.invalidateMember(memberNo);
         return ResponseEntity.ok(Map.of("success", true));
     }
 
@@ -243,16 +347,17 @@ public class GitHubIssueSyncController {
     }
 
     /**
-     * 팀의 GitHub Issues 목록 조회 (연결 가능한 Issue 목록)
-     * GET /api/github/issue/team/{teamId}/issues
+     * 팀의 GitHub Issues 목록 조회 (연결 가능한 Issue 목록, Issue 미러에서 조회)
+     * GET /api/github/issue/team/{teamId}/issues?state=open&q=검색어
      */
     @GetMapping("/team/{teamId}/issues")
     public ResponseEntity<?> listGitHubIssues(
             @PathVariable int teamId,
             @RequestParam int memberNo,
-            @RequestParam(defaultValue = "open") String state) {
+            @RequestParam(defaultValue = "open") String state,
+            @RequestParam(required = false) String q) {
         try {
-            var issues = syncService.listGitHubIssues(teamId, memberNo, state);
+            var issues = syncService.listGitHubIssues(teamId, memberNo, state, q);
             return ResponseEntity.ok(issues);
         } catch (Exception e) {
             log.error("Failed to list GitHub issues: {}", e.getMessage());
@@ -263,7 +368,8 @@ public class GitHubIssueSyncController {
     // ==================== Bulk Sync ====================
 
     /**
-     * GitHub Issues 일괄 가져오기
+     * GitHub Issues 일괄 가져오기 (백그라운드 작업으로 실행, 작업 ID를 바로 반환)
+     * 진행 상황은 /topic/team/{teamId}의 GITHUB_JOB_PROGRESS 이벤트 또는 GET /bulk/jobs/{jobId}로 확인
      * POST /api/github/issue/bulk/import/{teamId}
      */
     @PostMapping("/bulk/import/{teamId}")
@@ -272,13 +378,11 @@ public class GitHubIssueSyncController {
             @RequestParam int memberNo) {
         log.info("Bulk importing GitHub issues for team {} by member {}", teamId, memberNo);
         try {
-            GitHubIssueSyncService.BulkSyncResult result = syncService.importAllIssues(teamId, memberNo);
-            return ResponseEntity.ok(Map.of(
+            GitHubBulkJob job = bulkJobService.startImport(teamId, memberNo);
+            return ResponseEntity.accepted().body(Map.of(
                 "success", true,
-                "imported", result.getSuccessCount(),
-                "skipped", result.getSkipCount(),
-                "failed", result.getFailCount(),
-                "errors", result.getErrors()
+                "jobId", job.getJobId(),
+                "job", job
             ));
         } catch (Exception e) {
             log.error("Failed to bulk import issues: {}", e.getMessage());
@@ -287,7 +391,58 @@ public class GitHubIssueSyncController {
     }
 
     /**
-     * Tasks 일괄 내보내기
+     * 일괄 작업 상태 조회
+     * GET /api/github/issue/bulk/jobs/{jobId}
+     */
+    @GetMapping("/bulk/jobs/{jobId}")
+    public ResponseEntity<?> getBulkJob(@PathVariable int jobId) {
+        GitHubBulkJob job = bulkJobService.getJob(jobId);
+        if (job == null) {
+            return ResponseEntity.notFound().build();
+        }
+        if (!isCurrentMemberOf(job.getTeamId())) {
+            return forbidden();
+        }
+        return ResponseEntity.ok(job);
+    }
+
+    /**
+     * 팀의 최근 일괄 작업 목록
+     * GET /api/github/issue/bulk/jobs/team/{teamId}
+     */
+    @GetMapping("/bulk/jobs/team/{teamId}")
+    public ResponseEntity<?> listBulkJobs(
+            @PathVariable int teamId,
+            @RequestParam(defaultValue = "20") int limit) {
+        if (!isCurrentMemberOf(teamId)) {
+            return forbidden();
+        }
+        return ResponseEntity.ok(bulkJobService.listJobs(teamId, limit));
+    }
+
+    /**
+     * 실패한 일괄 작업을 체크포인트부터 재개
+     * POST /api/github/issue/bulk/jobs/{jobId}/resume
+     */
+    @PostMapping("/bulk/jobs/{jobId}/resume")
+    public ResponseEntity<?> resumeBulkJob(@PathVariable int jobId) {
+        GitHubBulkJob job = bulkJobService.getJob(jobId);
+        if (job == null) {
+            return ResponseEntity.notFound().build();
+        }
+        if (!isCurrentMemberOf(job.getTeamId())) {
+            return forbidden();
+        }
+        try {
+            boolean resumed = bulkJobService.resume(jobId);
+            return ResponseEntity.ok(Map.of("success", resumed));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    /**
+     * Tasks 일괄 내보내기 (백그라운드 작업으로 실행, 작업 ID를 바로 반환)
      * POST /api/github/issue/bulk/export/{teamId}
      */
     @PostMapping("/bulk/export/{teamId}")
@@ -296,13 +451,11 @@ public class GitHubIssueSyncController {
             @RequestParam int memberNo) {
         log.info("Bulk exporting tasks to GitHub for team {} by member {}", teamId, memberNo);
         try {
-            GitHubIssueSyncService.BulkSyncResult result = syncService.exportAllTasks(teamId, memberNo);
-            return ResponseEntity.ok(Map.of(
+            GitHubBulkJob job = bulkJobService.startExport(teamId, memberNo);
+            return ResponseEntity.accepted().body(Map.of(
                 "success", true,
-                "exported", result.getSuccessCount(),
-                "skipped", result.getSkipCount(),
-                "failed", result.getFailCount(),
-                "errors", result.getErrors()
+                "jobId", job.getJobId(),
+                "job", job
             ));
         } catch (Exception e) {
             log.error("Failed to bulk export tasks: {}", e.getMessage());
@@ -327,6 +480,31 @@ public class GitHubIssueSyncController {
         }
     }
 
+    // ==================== 권한 확인 ====================
+
+    /**
+     * 인증된 회원 번호 (JwtAuthenticationFilter가 credentials에 저장, 없으면 null)
+     */
+    private Integer getCurrentMemberNo() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth != null && auth.getCredentials() instanceof Integer memberNo) {
+            return memberNo;
+        }
+        return null;
+    }
+
+    /**
+     * 인증된 회원이 팀원인지 확인
+     */
+    private boolean isCurrentMemberOf(int teamId) {
+        Integer memberNo = getCurrentMemberNo();
+        return memberNo != null && teamService.isMember(teamId, memberNo);
+    }
+
+    private ResponseEntity<?> forbidden() {
+        return ResponseEntity.status(HttpStatus.FORBIDDEN).body(Map.of("error", "팀원만 접근할 수 있습니다."));
+    }
+
     // ==================== DTOs ====================
 
     @Data
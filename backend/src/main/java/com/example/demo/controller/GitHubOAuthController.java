@@ -4,7 +4,10 @@ import com.example.demo.dao.MemberDao;
 import com.example.demo.dao.TeamDao;
 import com.example.demo.model.Member;
 import com.example.demo.model.Team;
+import com.example.demo.service.GitHubIdentityService;
+import com.example.demo.service.GitHubRepoRoutingService;
 import com.example.demo.service.GitHubService;
+import com.example.demo.service.GitHubTokenPoolService;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
@@ -35,6 +38,15 @@ public class GitHubOAuthController {
     @Autowired
     private GitHubService gitHubService;
 
+    @Autowired
+    private GitHubRepoRoutingService repoRoutingService;
+
+    @Autowired
+    private GitHubIdentityService identityService;
+
+    @Autowired
+    private GitHubTokenPoolService tokenPool;
+
     @Value("${github.oauth.client-id:}")
     private String clientId;
 
@@ -50,7 +62,9 @@ public class GitHubOAuthController {
     @Value("${github.webhook.base-url:}")
     private String webhookBaseUrl;
 
-    private final RestTemplate restTemplate = new RestTemplate();
+    @Autowired
+    private RestTemplate restTemplate;
+
     private final ObjectMapper objectMapper = new ObjectMapper();
 
     /**
@@ -132,6 +146,8 @@ public class GitHubOAuthController {
             member.setGithubUsername(githubUser.login);
             member.setGithubAccessToken(accessToken);
             memberDao.updateGitHubConnection(member);
+            identityService.invalidateMember(memberNo, githubUser.login);
+            tokenPool.invalidateMember(memberNo);
 
             // 업데이트된 member 다시 조회해서 connectedAt 가져오기
             Member updatedMember = memberDao.findByNo(memberNo);
@@ -165,6 +181,8 @@ public class GitHubOAuthController {
             }
 
             memberDao.disconnectGitHub(memberNo);
+            identityService.invalidateMember(memberNo);
+            tokenPool.invalidateMember(memberNo);
             log.info("GitHub disconnected: member={}", memberNo);
 
             return ResponseEntity.ok(Map.of("success", true));
@@ -290,6 +308,9 @@ public class GitHubOAuthController {
             String owner = parts[0];
             String repo = parts[1];
             String repoUrl = "https://github.com/" + request.getRepoFullName();
+            if (repoRoutingService.isClaimedByOtherTeam(repoUrl, team.getTeamId())) {
+                return ResponseEntity.badRequest().body(Map.of("error", "이미 다른 팀에 연결된 GitHub 저장소입니다."));
+            }
 
             // 5. Webhook URL 결정 (설정된 URL 우선, 없으면 request에서)
             String webhookUrl = request.getWebhookUrl();
@@ -333,6 +354,7 @@ public class GitHubOAuthController {
             team.setGithubRepoUrl(repoUrl);
             team.setGithubIssueSyncEnabled(true);
             teamDao.updateTeam(team);
+            repoRoutingService.onTeamChanged(team);
 
             log.info("Repository connected successfully: {} -> team {}", repoUrl, request.getTeamId());
 
@@ -375,6 +397,7 @@ public class GitHubOAuthController {
             team.setGithubRepoUrl(null);
             team.setGithubIssueSyncEnabled(false);
             teamDao.updateTeam(team);
+            repoRoutingService.onTeamChanged(team);
 
             log.info("Repository disconnected from team {}", teamId);
 
@@ -2,7 +2,6 @@ package com.example.demo.controller;
 
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
-import java.util.HashMap;
 import java.util.Map;
 
 import javax.crypto.Mac;
@@ -14,19 +13,16 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import com.example.demo.dao.TeamDao;
 import com.example.demo.dto.GitHubWebhookPayload;
-import com.example.demo.dto.GitHubIssuePayload;
-import com.example.demo.model.Team;
+import com.example.demo.service.GitHubWebhookInboxService;
 import com.example.demo.service.GitHubWebhookService;
 import com.example.demo.service.GitHubWebhookService.WebhookResult;
-import com.example.demo.service.GitHubIssueSyncService;
-import com.fasterxml.jackson.databind.ObjectMapper;
 
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * GitHub Webhook 수신 컨트롤러
+ * - 서명 검증 후 webhook_inbox에 원본을 기록하고 202 응답 (처리는 GitHubWebhookInboxService 워커)
  *
  * GitHub 저장소 설정:
  * 1. Settings -> Webhooks -> Add webhook
@@ -44,19 +40,13 @@ public class GitHubWebhookController {
     private GitHubWebhookService webhookService;
 
     @Autowired
-    private GitHubIssueSyncService issueSyncService;
-
-    @Autowired
-    private TeamDao teamDao;
-
-    @Autowired
-    private ObjectMapper objectMapper;
+    private GitHubWebhookInboxService inboxService;
 
     @Value("${github.webhook.secret:}")
     private String webhookSecret;
 
     /**
-     * GitHub Webhook 이벤트 수신 (push, issues 등)
+     * GitHub Webhook 이벤트 수신 (push, issues, issue_comment, label)
      * POST /api/webhook/github
      */
     @PostMapping("/github")
@@ -77,165 +67,33 @@ public class GitHubWebhookController {
             }
         }
 
-        // 이벤트 타입별 처리
-        switch (event) {
-            case "push":
-                return handlePushEvent(rawPayload, deliveryId);
-            case "issues":
-                return handleIssuesEvent(rawPayload, deliveryId);
-            case "issue_comment":
-                return handleIssueCommentEvent(rawPayload, deliveryId);
-            case "ping":
-                return ResponseEntity.ok(Map.of("message", "pong", "status", "Webhook configured successfully"));
-            default:
-                log.info("Ignoring event: {}", event);
-                return ResponseEntity.ok(Map.of("message", "Event ignored", "event", event));
-        }
-    }
-
-    /**
-     * Push 이벤트 처리
-     */
-    private ResponseEntity<?> handlePushEvent(String rawPayload, String deliveryId) {
-        GitHubWebhookPayload payload;
-        try {
-            payload = objectMapper.readValue(rawPayload, GitHubWebhookPayload.class);
-        } catch (Exception e) {
-            log.error("Failed to parse push payload: {}", e.getMessage());
-            return ResponseEntity.badRequest()
-                .body(Map.of("error", "Invalid payload format"));
-        }
-
-        try {
-            WebhookResult result = webhookService.processWebhook(payload);
-
-            if (result.getError() != null) {
-                return ResponseEntity.badRequest().body(Map.of(
-                    "success", false,
-                    "error", result.getError()
-                ));
-            }
-
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("event", "push");
-            response.put("teamId", result.getTeamId());
-            response.put("teamName", result.getTeamName());
-            response.put("linked", result.getLinkedCount());
-            response.put("skipped", result.getSkippedCount());
-            response.put("commits", result.getCommitResults());
-
-            return ResponseEntity.ok(response);
-
-        } catch (Exception e) {
-            log.error("Failed to process push webhook: {}", e.getMessage(), e);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                .body(Map.of("error", "Webhook processing failed: " + e.getMessage()));
-        }
-    }
-
-    /**
-     * Issue Comment 이벤트 처리
-     */
-    private ResponseEntity<?> handleIssueCommentEvent(String rawPayload, String deliveryId) {
-        GitHubIssuePayload payload;
-        try {
-            payload = objectMapper.readValue(rawPayload, GitHubIssuePayload.class);
-        } catch (Exception e) {
-            log.error("Failed to parse issue_comment payload: {}", e.getMessage());
-            return ResponseEntity.badRequest()
-                .body(Map.of("error", "Invalid payload format"));
+        if ("ping".equals(event)) {
+            return ResponseEntity.ok(Map.of("message", "pong", "status", "Webhook configured successfully"));
         }
-
-        try {
-            // Repository URL로 팀 찾기
-            String repoUrl = payload.getRepository().getHtmlUrl();
-            Team team = findTeamByRepoUrl(repoUrl);
-
-            if (team == null) {
-                log.info("No team found for repo: {}", repoUrl);
-                return ResponseEntity.ok(Map.of(
-                    "success", false,
-                    "message", "No team configured for this repository"
-                ));
-            }
-
-            // 댓글 동기화 처리
-            issueSyncService.processCommentWebhook(payload, team.getTeamId(), deliveryId);
-
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("event", "issue_comment");
-            response.put("action", payload.getAction());
-            response.put("issueNumber", payload.getIssue().getNumber());
-            response.put("commentId", payload.getComment().getId());
-            response.put("teamId", team.getTeamId());
-
-            return ResponseEntity.ok(response);
-
-        } catch (Exception e) {
-            log.error("Failed to process issue_comment webhook: {}", e.getMessage(), e);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                .body(Map.of("error", "Webhook processing failed: " + e.getMessage()));
+        if (!inboxService.isHandled(event)) {
+            log.info("Ignoring event: {}", event);
+            return ResponseEntity.ok(Map.of("message", "Event ignored", "event", String.valueOf(event)));
         }
-    }
 
-    /**
-     * Issues 이벤트 처리
-     */
-    private ResponseEntity<?> handleIssuesEvent(String rawPayload, String deliveryId) {
-        GitHubIssuePayload payload;
+        // 수신함에 기록만 하고 바로 응답 (처리는 수신함 워커가 Issue별 순서대로 진행)
         try {
-            payload = objectMapper.readValue(rawPayload, GitHubIssuePayload.class);
-        } catch (Exception e) {
-            log.error("Failed to parse issues payload: {}", e.getMessage());
+            boolean stored = inboxService.receive(event, deliveryId, rawPayload);
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(Map.of(
+                "success", true,
+                "event", event,
+                "duplicate", !stored
+            ));
+        } catch (IllegalArgumentException e) {
+            log.error("Failed to parse {} payload: {}", event, e.getMessage());
             return ResponseEntity.badRequest()
                 .body(Map.of("error", "Invalid payload format"));
-        }
-
-        try {
-            // Repository URL로 팀 찾기
-            String repoUrl = payload.getRepository().getHtmlUrl();
-            Team team = findTeamByRepoUrl(repoUrl);
-
-            if (team == null) {
-                log.info("No team found for repo: {}", repoUrl);
-                return ResponseEntity.ok(Map.of(
-                    "success", false,
-                    "message", "No team configured for this repository"
-                ));
-            }
-
-            // Issue 동기화 처리
-            issueSyncService.processIssueWebhook(payload, team.getTeamId(), deliveryId);
-
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("event", "issues");
-            response.put("action", payload.getAction());
-            response.put("issueNumber", payload.getIssue().getNumber());
-            response.put("teamId", team.getTeamId());
-
-            return ResponseEntity.ok(response);
-
         } catch (Exception e) {
-            log.error("Failed to process issues webhook: {}", e.getMessage(), e);
+            log.error("Failed to store {} webhook: {}", event, e.getMessage(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                 .body(Map.of("error", "Webhook processing failed: " + e.getMessage()));
         }
     }
 
-    /**
-     * Repository URL로 팀 찾기
-     */
-    private Team findTeamByRepoUrl(String repoUrl) {
-        if (repoUrl == null) return null;
-        String normalizedUrl = repoUrl
-            .replaceAll("\\.git$", "")
-            .replaceAll("/$", "");
-        return teamDao.findByGithubRepoUrl(normalizedUrl);
-    }
-
     /**
      * Webhook 연결 테스트용 (ping 이벤트)
      */
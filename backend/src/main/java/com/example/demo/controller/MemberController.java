@@ -192,12 +192,20 @@ public class MemberController {
 		return result;
 	}
 
-	// 회원 정보 수정 (마이페이지) - 이름, 전화번호만 수정 (이메일은 별도)
+	// 회원 정보 수정 (마이페이지) - 이름, 전화번호, 시간대만 수정 (이메일은 별도)
 	@PutMapping("member/update")
 	public Map<String, Object> updateProfile(@RequestBody Member member) {
 		System.out.println("회원 정보 수정 요청: " + member);
 		Map<String, Object> result = new HashMap<>();
 
+		// 빈 문자열은 시간대 해제 (서버 기본 시간대 사용)
+		if (member.getTimeZone() != null && !member.getTimeZone().isEmpty()
+				&& !service.isValidTimeZone(member.getTimeZone())) {
+			result.put("success", false);
+			result.put("message", "올바르지 않은 시간대입니다.");
+			return result;
+		}
+
 		int updateResult = service.update(member);
 		if (updateResult == 1) {
 			Member updatedMember = service.findByNo(member.getNo());
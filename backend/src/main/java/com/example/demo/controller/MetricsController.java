@@ -0,0 +1,75 @@
+package com.example.demo.controller;
+
+import java.util.List;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import com.example.demo.http.ConditionalRequestCache;
+import com.example.demo.http.GitHubRateLimiter;
+import com.example.demo.http.OutboundHttpMetrics;
+import com.example.demo.http.SingleFlightInterceptor;
+import com.example.demo.service.GitHubCommitGraphService;
+import com.example.demo.service.GitHubTokenPoolService;
+
+@RestController
+@RequestMapping("/api/metrics")
+public class MetricsController {
+
+    @Autowired
+    private OutboundHttpMetrics outboundHttpMetrics;
+
+    @Autowired
+    private ConditionalRequestCache conditionalRequestCache;
+
+    @Autowired
+    private GitHubRateLimiter gitHubRateLimiter;
+
+    @Autowired
+    private GitHubCommitGraphService commitGraphService;
+
+    @Autowired
+    private SingleFlightInterceptor singleFlightInterceptor;
+
+    @Autowired
+    private GitHubTokenPoolService tokenPool;
+
+    // 외부 API 호출 지표 (엔드포인트별 호출 수, 평균/최대 지연시간, 상태 코드 분포)
+    @GetMapping("/http")
+    public ResponseEntity<List<Map<String, Object>>> getHttpMetrics() {
+        return ResponseEntity.ok(outboundHttpMetrics.snapshot());
+    }
+
+    // GitHub ETag 캐시 지표 (304 적중, 미스, 저장/제거 수)
+    @GetMapping("/github-cache")
+    public ResponseEntity<Map<String, Object>> getGitHubCacheMetrics() {
+        return ResponseEntity.ok(conditionalRequestCache.getStats());
+    }
+
+    // GitHub 요청 한도 예산 (토큰/리소스별 남은 요청 수, 대기 중인 요청, 팀별 합계)
+    @GetMapping("/github-rate-limit")
+    public ResponseEntity<?> getGitHubRateLimit() {
+        return ResponseEntity.ok(Map.of(
+            "budgets", gitHubRateLimiter.getBudgets(),
+            "teams", gitHubRateLimiter.getTeamBudgets()
+        ));
+    }
+
+    // 같은 GitHub GET 요청 합치기 지표 (전체/실제 전송/함께 받은 요청 수, 합친 비율)
+    @GetMapping("/github-single-flight")
+    public ResponseEntity<Map<String, Object>> getGitHubSingleFlightMetrics() {
+        return ResponseEntity.ok(singleFlightInterceptor.getStats());
+    }
+
+    // 브랜치 그래프/비교 캐시 지표 (캐시된 커밋 수, 적중/조회 수, 비교 결과 적중/미스)
+    @GetMapping("/github-graph")
+    public ResponseEntity<Map<String, Object>> getGitHubGraphMetrics() {
+        return ResponseEntity.ok(commitGraphService.getStats());
+    }
+
+    // 팀 토큰 풀 지표 (풀에 있는 팀/토큰 수, 토큰 선택/실패 수, 폐기되어 제외된 토큰 수)
+    @GetMapping("/github-token-pool")
+    public ResponseEntity<Map<String, Object>> getGitHubTokenPoolMetrics() {
+        return ResponseEntity.ok(tokenPool.getStats());
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.demo.controller;
+
+import java.util.List;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.*;
+import com.example.demo.model.ScheduledJobRun;
+import com.example.demo.scheduler.ScheduledJobRunner;
+import com.example.demo.service.DeadlineSchedulerService;
+
+@RestController
+@RequestMapping("/api/jobs")
+public class ScheduledJobController {
+
+    @Autowired
+    private ScheduledJobRunner jobRunner;
+
+    @Autowired
+    private DeadlineSchedulerService deadlineSchedulerService;
+
+    // 관리자 회원 번호 (synodos.admin.member-nos)
+    @Value("${synodos.admin.member-nos:}")
+    private List<Integer> adminMemberNos;
+
+    // 작업 실행 이력 조회 (jobName 생략 시 전체)
+    @GetMapping("/runs")
+    public ResponseEntity<?> getRuns(
+            @RequestParam(required = false) String jobName,
+            @RequestParam(defaultValue = "20") int limit) {
+        if (!isCurrentAdmin()) {
+            return forbidden();
+        }
+        return ResponseEntity.ok(jobRunner.listRuns(jobName, limit));
+    }
+
+    // 마감일 알림 수동 실행
+    @PostMapping("/deadline-notifications/run")
+    public ResponseEntity<?> runDeadlineNotifications() {
+        if (!isCurrentAdmin()) {
+            return forbidden();
+        }
+        ScheduledJobRun run = deadlineSchedulerService.triggerDeadlineNotifications();
+        if (run == null) {
+            return ResponseEntity.ok(Map.of("success", false, "message", "다른 인스턴스에서 실행 중입니다."));
+        }
+        return ResponseEntity.ok(Map.of("success", true, "run", run));
+    }
+
+    private boolean isCurrentAdmin() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        return auth != null && auth.getCredentials() instanceof Integer memberNo
+            && adminMemberNos != null && adminMemberNos.contains(memberNo);
+    }
+
+    private ResponseEntity<?> forbidden() {
+        return ResponseEntity.status(HttpStatus.FORBIDDEN).body(Map.of("error", "관리자만 실행할 수 있습니다."));
+    }
+}
@@ -321,7 +321,14 @@ public class TeamController {
 		Map<String, Object> result = new HashMap<>();
 
 		team.setTeamId(teamId);
-		int updateResult = service.updateTeam(team);
+		int updateResult;
+		try {
+			updateResult = service.updateTeam(team);
+		} catch (RuntimeException e) {
+			result.put("success", false);
+			result.put("message", e.getMessage());
+			return result;
+		}
 		if (updateResult == 1) {
 			result.put("success", true);
 			result.put("message", "팀 정보가 수정되었습니다.");
@@ -2,6 +2,7 @@ package com.example.demo.dao;
 
 import java.util.List;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
 import com.example.demo.model.Comment;
 
 @Mapper
@@ -16,4 +17,7 @@ public interface CommentDao {
 	// GitHub 동기화용
 	Comment findByGithubCommentId(Long githubCommentId);
 	int updateGithubCommentId(int commentId, Long githubCommentId);
+
+	// GitHub 댓글 일괄 저장 (이미 가져온 github_comment_id는 건너뜀, 저장한 행 수 반환)
+	int insertGithubBatch(@Param("comments") List<Comment> comments);
 }
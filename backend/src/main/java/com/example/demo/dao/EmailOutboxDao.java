@@ -0,0 +1,30 @@
+package com.example.demo.dao;
+
+import java.util.List;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import com.example.demo.model.EmailOutbox;
+
+@Mapper
+public interface EmailOutboxDao {
+
+	// 발송 대기열에 추가 (호출한 트랜잭션과 함께 커밋됨)
+	void insert(EmailOutbox outbox);
+
+	// 발송할 메일을 잠그고 가져옴 (다른 인스턴스가 잠근 행은 건너뜀)
+	List<EmailOutbox> claimBatch(@Param("instanceId") String instanceId,
+								 @Param("limit") int limit,
+								 @Param("leaseSeconds") int leaseSeconds);
+
+	// 발송 완료 처리
+	void markSent(@Param("ids") List<Integer> ids);
+
+	// 재시도 예약
+	void markRetry(@Param("id") int id, @Param("delaySeconds") long delaySeconds, @Param("error") String error);
+
+	// 최종 실패 처리
+	void markFailed(@Param("id") int id, @Param("error") String error);
+
+	// 오래된 발송 완료 메일 삭제 (정리용)
+	int deleteSentOlderThan(@Param("days") int days);
+}
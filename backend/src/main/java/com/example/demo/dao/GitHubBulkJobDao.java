@@ -0,0 +1,61 @@
+package com.example.demo.dao;
+
+import com.example.demo.model.GitHubBulkJob;
+import com.example.demo.model.GitHubBulkJobItem;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+
+/**
+ * GitHub 일괄 작업 DAO
+ */
+@Mapper
+public interface GitHubBulkJobDao {
+
+    int insert(GitHubBulkJob job);
+
+    GitHubBulkJob findById(int jobId);
+
+    // 팀의 진행 중(QUEUED/RUNNING) 작업
+    GitHubBulkJob findActive(@Param("teamId") int teamId, @Param("jobType") String jobType);
+
+    // 팀의 가장 최근 작업
+    GitHubBulkJob findLatest(@Param("teamId") int teamId, @Param("jobType") String jobType);
+
+    List<GitHubBulkJob> listByTeam(@Param("teamId") int teamId, @Param("limit") int limit);
+
+    // 대기 중이거나 리스가 만료된(처리 중 인스턴스 중단) 작업을 잠그고 가져옴
+    List<GitHubBulkJob> claim(@Param("instanceId") String instanceId,
+                              @Param("limit") int limit,
+                              @Param("leaseSeconds") int leaseSeconds);
+
+    // 진행 상황 저장 + 리스 연장 (리스를 잃었으면 0 반환)
+    int updateProgress(@Param("job") GitHubBulkJob job,
+                       @Param("instanceId") String instanceId,
+                       @Param("leaseSeconds") int leaseSeconds);
+
+    // 완료/실패 처리
+    int finish(@Param("job") GitHubBulkJob job, @Param("instanceId") String instanceId);
+
+    // ==================== 내보내기 태스크별 상태 ====================
+
+    // 팀의 태스크 목록을 작업 항목으로 기록 (이미 연결된 태스크는 SKIPPED), 기록한 항목 수 반환
+    int insertExportItems(@Param("jobId") int jobId, @Param("teamId") int teamId);
+
+    // 아직 끝나지 않은 항목 (PENDING/CREATING)
+    List<GitHubBulkJobItem> listOpenItems(@Param("jobId") int jobId);
+
+    int updateItem(GitHubBulkJobItem item);
+
+    // 재개 시 실패 항목을 CREATING으로 (Issue가 이미 만들어졌을 수 있으므로 표시로 찾아 연결한 뒤 없으면 다시 생성)
+    int resetFailedItems(@Param("jobId") int jobId);
+
+    // 항목 상태로 진행 카운터 계산 + 리스 연장 (리스를 잃었으면 0 반환)
+    int updateItemProgress(@Param("jobId") int jobId,
+                           @Param("instanceId") String instanceId,
+                           @Param("leaseSeconds") int leaseSeconds);
+
+    // 실패한 작업을 체크포인트부터 다시 실행 (memberNo가 있으면 토큰을 쓸 회원 변경)
+    int requeue(@Param("jobId") int jobId, @Param("memberNo") Integer memberNo);
+}
@@ -0,0 +1,37 @@
+package com.example.demo.dao;
+
+import com.example.demo.model.GitHubIssueMirror;
+import com.example.demo.model.GitHubIssueMirrorState;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * GitHub Issue 미러 DAO
+ */
+@Mapper
+public interface GitHubIssueMirrorDao {
+
+    // 일괄 저장 (이미 더 최신 내용이 있으면 덮어쓰지 않음)
+    int upsertBatch(@Param("issues") List<GitHubIssueMirror> issues);
+
+    int deleteIssue(@Param("teamId") int teamId, @Param("issueNumber") int issueNumber);
+
+    // 전체 수집 후 이번 수집에서 보지 못한 Issue 삭제 (삭제/이전된 Issue, 이전 저장소의 Issue)
+    int deleteNotSyncedSince(@Param("teamId") int teamId, @Param("syncedBefore") LocalDateTime syncedBefore);
+
+    // Issue 목록/검색 (state: open, closed, all / query: 제목 또는 #번호)
+    List<GitHubIssueMirror> search(@Param("teamId") int teamId,
+                                   @Param("state") String state,
+                                   @Param("query") String query,
+                                   @Param("limit") int limit);
+
+    // Task와 연결되지 않은 Issue 수
+    int countUnlinkedIssues(int teamId);
+
+    // 수집 상태
+    GitHubIssueMirrorState findState(int teamId);
+    int saveState(GitHubIssueMirrorState state);
+}
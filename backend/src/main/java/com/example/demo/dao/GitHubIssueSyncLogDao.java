@@ -31,6 +31,9 @@ public interface GitHubIssueSyncLogDao {
     // Webhook delivery ID로 중복 체크
     int countByWebhookDeliveryId(String webhookDeliveryId);
 
+    // 이미 로그가 있는 Webhook delivery ID (묶음 중복 체크)
+    List<String> listLoggedDeliveryIds(@Param("deliveryIds") List<String> deliveryIds);
+
     // 오래된 로그 삭제 (정리용)
     int deleteOlderThan(@Param("days") int days);
 }
@@ -0,0 +1,53 @@
+package com.example.demo.dao;
+
+import com.example.demo.model.GitHubSyncOutbox;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+
+/**
+ * GitHub 동기화 대기열 DAO
+ */
+@Mapper
+public interface GitHubSyncOutboxDao {
+
+    // 대기열에 추가 (호출한 트랜잭션과 함께 커밋됨, delayMs 뒤부터 처리 대상)
+    int insert(GitHubSyncOutbox outbox);
+
+    // 여러 태스크에 같은 동작을 바로 처리 대상으로 추가
+    int insertBatch(@Param("taskIds") List<Integer> taskIds,
+                    @Param("teamId") int teamId,
+                    @Param("action") String action,
+                    @Param("memberNo") Integer memberNo);
+
+    // 대기 중인 같은 태스크의 동기화 요청에 합치고 처리 시각을 미룸 (합친 건수 반환)
+    int deferPendingSync(@Param("taskId") int taskId,
+                         @Param("memberNo") Integer memberNo,
+                         @Param("debounceMs") long debounceMs,
+                         @Param("maxDelayMs") long maxDelayMs);
+
+    // 태스크별 가장 오래된 미처리 항목만 잠그고 가져옴 (같은 태스크는 앞 항목이 끝나야 다음 항목 처리)
+    List<GitHubSyncOutbox> claimBatch(@Param("instanceId") String instanceId,
+                                      @Param("limit") int limit,
+                                      @Param("leaseSeconds") int leaseSeconds);
+
+    int markDone(@Param("id") int id);
+
+    int markRetry(@Param("id") int id, @Param("delaySeconds") long delaySeconds, @Param("error") String error);
+
+    int markDead(@Param("id") int id, @Param("error") String error);
+
+    // 태스크의 미처리 항목 수 (PENDING/PROCESSING)
+    int countActiveByTask(@Param("taskId") int taskId);
+
+    // 데드레터 조회
+    List<GitHubSyncOutbox> listDeadByTeam(@Param("teamId") int teamId, @Param("limit") int limit);
+    GitHubSyncOutbox findById(int id);
+
+    // 데드레터를 SUPERSEDED로 닫음 (재시도는 새 항목으로 기록, 이미 닫혔으면 0)
+    int supersede(@Param("id") int id);
+
+    // 오래된 처리 완료/대체된 항목 삭제 (정리용)
+    int deleteDoneOlderThan(@Param("days") int days);
+}
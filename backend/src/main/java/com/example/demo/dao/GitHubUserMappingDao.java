@@ -33,6 +33,12 @@ public interface GitHubUserMappingDao {
     // GitHub 사용자명 목록으로 Synodos 멤버 번호 조회
     List<GitHubUserMapping> findByGithubUsernames(@Param("usernames") List<String> usernames);
 
+    // 멤버 번호 목록 → GitHub 사용자명 (member.github_username 우선, 없으면 매핑)
+    List<GitHubUserMapping> listIdentitiesByMemberNos(@Param("memberNos") Integer[] memberNos);
+
+    // GitHub 사용자명(소문자) 목록 → 멤버 번호 (매핑 우선, 없으면 member.github_username)
+    List<GitHubUserMapping> listIdentitiesByLogins(@Param("logins") String[] logins);
+
     // 멤버 번호로 삭제
     int deleteByMemberNo(int memberNo);
 
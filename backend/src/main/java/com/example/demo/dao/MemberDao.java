@@ -65,6 +65,9 @@ public interface MemberDao {
 	// GitHub 연동 해제
 	int disconnectGitHub(int no);
 
+	// GitHub 토큰이 있는 팀 멤버 (no, github_username, github_access_token)
+	java.util.List<Member> listGitHubTokensByTeam(int teamId);
+
 	// GitHub 사용자명으로 회원 조회
 	Member findByGithubUsername(String githubUsername);
 
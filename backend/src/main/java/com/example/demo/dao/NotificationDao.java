@@ -1,13 +1,16 @@
 package com.example.demo.dao;
 
+import java.time.LocalDate;
 import java.util.List;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import com.example.demo.model.DeadlineDelivery;
 import com.example.demo.model.Notification;
 
 @Mapper
 public interface NotificationDao {
     int insert(Notification notification);
+    int insertBatch(@Param("notifications") List<Notification> notifications);
     int markAsRead(int notificationId);
     int markAllAsRead(int recipientNo);
     int delete(int notificationId);
@@ -16,4 +19,18 @@ public interface NotificationDao {
     List<Notification> listByRecipient(@Param("recipientNo") int recipientNo, @Param("limit") int limit);
     List<Notification> listUnreadByRecipient(int recipientNo);
     int countUnread(int recipientNo);
+
+    // 마감일 알림 일괄 생성 (task_id 구간 (afterTaskId, upToTaskId] 대상, 생성된 건수 반환)
+    int insertDeadlineApproaching(@Param("runDate") LocalDate runDate, @Param("daysAhead") int daysAhead,
+                                  @Param("afterTaskId") long afterTaskId, @Param("upToTaskId") long upToTaskId);
+    int insertDeadlineOverdue(@Param("runDate") LocalDate runDate,
+                              @Param("afterTaskId") long afterTaskId, @Param("upToTaskId") long upToTaskId);
+
+    // 시간대별 마감일 알림 (발송 시각 구간 조회 / 일괄 저장)
+    List<DeadlineDelivery> listDeadlineDeliveries(@Param("fromMs") long fromMs, @Param("toMs") long toMs,
+                                                  @Param("windowStart") String windowStart,
+                                                  @Param("windowSeconds") int windowSeconds,
+                                                  @Param("daysAhead") int daysAhead,
+                                                  @Param("defaultTimeZone") String defaultTimeZone);
+    int insertDeadlineDeliveries(@Param("deliveries") List<DeadlineDelivery> deliveries);
 }
@@ -0,0 +1,54 @@
+package com.example.demo.dao;
+
+import com.example.demo.model.ScheduledJobLock;
+import com.example.demo.model.ScheduledJobRun;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+
+/**
+ * 스케줄 작업 잠금/실행 이력 DAO
+ */
+@Mapper
+public interface ScheduledJobDao {
+
+    // 리스 획득 (비어 있거나 만료됐거나 이미 내 것이면 1, 다른 인스턴스가 보유 중이면 0)
+    int tryAcquireLock(@Param("jobName") String jobName,
+                       @Param("instanceId") String instanceId,
+                       @Param("leaseSeconds") int leaseSeconds);
+
+    ScheduledJobLock findLock(@Param("jobName") String jobName);
+
+    // 리스가 만료된 미완료 실행 목록 (재개 대상)
+    List<ScheduledJobLock> listStaleRuns();
+
+    // 실행 시작: 같은 runKey면 체크포인트 유지, 다르면 초기화
+    int beginRun(@Param("jobName") String jobName,
+                 @Param("instanceId") String instanceId,
+                 @Param("runKey") String runKey);
+
+    // 청크 완료 시 체크포인트 저장 + 리스 연장 (0이면 리스를 잃은 것)
+    int saveCheckpoint(@Param("jobName") String jobName,
+                       @Param("instanceId") String instanceId,
+                       @Param("checkpointKey") long checkpointKey,
+                       @Param("leaseSeconds") int leaseSeconds);
+
+    // 정상 완료: 체크포인트 정리 후 잠금 해제
+    int completeRun(@Param("jobName") String jobName, @Param("instanceId") String instanceId);
+
+    // 실패: 체크포인트는 남기고 잠금만 해제 (다음 복구 주기에 재개)
+    int releaseLock(@Param("jobName") String jobName, @Param("instanceId") String instanceId);
+
+    // 최대 시도 횟수 초과: 리스가 만료된 미완료 실행을 정리 (0이면 다른 인스턴스가 재개 중)
+    int abandonRun(@Param("jobName") String jobName, @Param("runKey") String runKey);
+
+    // 실행 이력
+    int insertRun(ScheduledJobRun run);
+    int updateRunProgress(ScheduledJobRun run);
+    int finishRun(ScheduledJobRun run);
+    List<ScheduledJobRun> listRuns(@Param("jobName") String jobName, @Param("limit") int limit);
+
+    // 오래된 이력 삭제 (정리용)
+    int deleteRunsOlderThan(@Param("days") int days);
+}
@@ -8,10 +8,15 @@ import com.example.demo.model.TaskAssignee;
 @Mapper
 public interface TaskAssigneeDao {
     int insert(TaskAssignee assignee);
+    int insertBatch(@Param("assignees") List<TaskAssignee> assignees);
     int delete(@Param("taskId") int taskId, @Param("memberNo") int memberNo);
     int deleteByTask(int taskId);
     List<TaskAssignee> listByTask(int taskId);
+    // 여러 태스크의 담당자 (task_id, member_no만)
+    List<TaskAssignee> listByTaskIds(@Param("taskIds") Integer[] taskIds);
     List<TaskAssignee> listByMember(int memberNo);
+    // 팀 전체 태스크의 담당자 (task_id, member_no만, 일괄 내보내기용)
+    List<TaskAssignee> listByTeam(int teamId);
     int countByTask(int taskId);
 
     // 워크플로우 관련 메서드
@@ -19,4 +19,7 @@ public interface TaskCommitDao {
     List<TaskCommit> listByTask(@Param("taskId") int taskId);
 
     int countByTaskAndSha(@Param("taskId") int taskId, @Param("commitSha") String commitSha);
+
+    // 일괄 연결 (이미 연결된 (task_id, commit_sha)는 건너뛰고, 새로 저장된 행의 task_id/commit_sha 반환)
+    List<TaskCommit> insertBatch(@Param("commits") List<TaskCommit> commits);
 }
@@ -18,6 +18,14 @@ public interface TaskDao {
 	int updatePosition(Task task);
 	int getMaxPosition(int columnId);
 
+	// 일괄 생성용 (GitHub 일괄 가져오기)
+	List<Integer> nextTaskIds(@Param("count") int count);
+	int insertBatch(@Param("tasks") List<Task> tasks);
+	int deleteByIds(@Param("taskIds") List<Integer> taskIds);
+
+	// 팀에 속한 태스크만 한 번에 조회 (Push Webhook 커밋 연결 대상 확인, task_id/title/column_id/created_by)
+	List<Task> listByIdsInTeam(@Param("teamId") int teamId, @Param("taskIds") Integer[] taskIds);
+
 	// Issue Tracker 확장 메서드
 	List<Task> listByAssignee(int memberNo);
 	List<Task> listByStatusAndTeam(Map<String, Object> params);
@@ -37,4 +45,7 @@ public interface TaskDao {
 	// 마감일 알림용 메서드
 	List<Task> listTasksApproachingDeadline(@Param("daysAhead") int daysAhead);
 	List<Task> listOverdueTasks();
+
+	// 청크 작업용 task_id 구간 끝 조회 (미완료 마감일 태스크 기준)
+	Integer findOpenDueTaskIdChunkEnd(@Param("afterTaskId") long afterTaskId, @Param("limit") int limit);
 }
@@ -14,6 +14,9 @@ public interface TaskGitHubIssueDao {
 
     // 기본 CRUD
     int insert(TaskGitHubIssue mapping);
+
+    // 일괄 삽입 (이미 연결된 Issue는 건너뛰고, 실제로 삽입된 매핑의 task_id 반환)
+    List<Integer> insertBatch(@Param("mappings") List<TaskGitHubIssue> mappings);
     TaskGitHubIssue findById(int id);
     int update(TaskGitHubIssue mapping);
     int delete(int id);
@@ -24,6 +27,12 @@ public interface TaskGitHubIssueDao {
     // Team + Issue Number 기준 조회
     TaskGitHubIssue findByTeamAndIssue(@Param("teamId") int teamId, @Param("issueNumber") int issueNumber);
 
+    // Team의 연결된 Issue 번호 전체
+    List<Integer> listIssueNumbersByTeam(int teamId);
+
+    // Team의 Issue가 연결되지 않은 태스크 수
+    int countUnlinkedTasksByTeam(int teamId);
+
     // Team별 전체 매핑 조회
     List<TaskGitHubIssue> listByTeam(int teamId);
 
@@ -35,6 +44,7 @@ public interface TaskGitHubIssueDao {
 
     // 동기화 상태 업데이트
     int updateSyncStatus(@Param("id") int id, @Param("syncStatus") String syncStatus);
+    int updateSyncStatusByTaskId(@Param("taskId") int taskId, @Param("syncStatus") String syncStatus);
 
     // Synodos 측 업데이트 시간 갱신
     int updateSynodosTimestamp(int taskId);
@@ -45,6 +55,9 @@ public interface TaskGitHubIssueDao {
     // 마지막 동기화 시간 갱신
     int updateLastSyncedAt(int id);
 
+    // 마지막으로 확인된 GitHub Issue 상태 저장 (known_* 컬럼)
+    int updateKnownState(TaskGitHubIssue mapping);
+
     // Task 기준 삭제
     int deleteByTaskId(int taskId);
 
@@ -2,6 +2,7 @@ package com.example.demo.dao;
 
 import java.util.List;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
 import com.example.demo.model.Team;
 import com.example.demo.model.TeamMember;
 
@@ -46,6 +47,17 @@ public interface TeamDao {
 	// 회원이 리더인 팀 수 조회
 	int countLeaderTeams(int memberNo);
 
-	// GitHub 저장소 URL로 팀 조회
-	Team findByGithubRepoUrl(String githubRepoUrl);
+	// 저장소 키(owner/repo 소문자)로 팀 ID 조회
+	Integer findTeamIdByRepoKey(String repoKey);
+
+	// 저장소가 연결된 팀 전체 (team_id, github_repo_url)
+	List<Team> listRepoRoutes();
+
+	// GitHub Label 레지스트리 조회/저장/무효화
+	Team findLabelRegistry(int teamId);
+	int updateLabelRegistry(@Param("teamId") int teamId, @Param("repoKey") String repoKey, @Param("labels") String labels);
+	int clearLabelRegistryByRepo(String repoKey);
+
+	// GitHub 저장소가 연결된 팀 ID (afterTeamId 다음부터 team_id 순)
+	List<Integer> listGithubTeamIds(@Param("afterTeamId") long afterTeamId, @Param("limit") int limit);
 }
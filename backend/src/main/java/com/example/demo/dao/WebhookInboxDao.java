@@ -0,0 +1,54 @@
+package com.example.demo.dao;
+
+import com.example.demo.model.WebhookInbox;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * GitHub Webhook 수신함 DAO
+ */
+@Mapper
+public interface WebhookInboxDao {
+
+    // 수신 기록 (같은 delivery_id가 이미 있으면 0 반환)
+    int insert(WebhookInbox inbox);
+
+    // 파티션별 가장 오래된 미처리 항목만 잠그고 가져옴 (같은 파티션은 앞 항목이 끝나야 다음 항목 처리)
+    // lockToken: 이번 잠금을 구분하는 토큰 (결과 기록 시 같은 토큰이어야 함)
+    List<WebhookInbox> claimBatch(@Param("lockToken") String lockToken,
+                                  @Param("limit") int limit,
+                                  @Param("leaseSeconds") int leaseSeconds,
+                                  @Param("coalesceMs") long coalesceMs);
+
+    // 선두 항목 뒤에 이어진 같은 Issue의 issues 이벤트를 함께 잠그고 가져옴 (수신 순서)
+    List<WebhookInbox> claimFollowers(@Param("partitionKey") String partitionKey,
+                                      @Param("headId") long headId,
+                                      @Param("lockToken") String lockToken,
+                                      @Param("limit") int limit,
+                                      @Param("leaseSeconds") int leaseSeconds);
+
+    // 처리 결과 기록 (lockToken으로 잠근 항목만, 리스를 잃었으면 0 반환)
+    int markDone(@Param("id") long id, @Param("teamId") Integer teamId, @Param("lockToken") String lockToken);
+
+    int markRetry(@Param("id") long id, @Param("teamId") Integer teamId, @Param("lockToken") String lockToken,
+                  @Param("delaySeconds") long delaySeconds, @Param("error") String error);
+
+    int markDead(@Param("id") long id, @Param("teamId") Integer teamId, @Param("lockToken") String lockToken,
+                 @Param("error") String error);
+
+    // 팀의 데드레터 조회/재시도
+    List<WebhookInbox> listDead(@Param("teamId") int teamId, @Param("limit") int limit);
+    WebhookInbox findDead(@Param("id") long id, @Param("teamId") int teamId);
+    // 같은 파티션의 이후 항목이 이미 반영됐으면 0 반환 (supersede로 닫음)
+    int requeue(@Param("id") long id, @Param("teamId") int teamId);
+    int supersede(@Param("id") long id, @Param("teamId") int teamId);
+
+    // 수신함 상태별 건수 (PENDING/PROCESSING/DEAD)
+    List<Map<String, Object>> countByStatus();
+
+    // 오래된 처리 완료 항목 삭제 (정리용)
+    int deleteDoneOlderThan(@Param("days") int days);
+}
@@ -0,0 +1,238 @@
+package com.example.demo.http;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * GitHub API GET 응답의 ETag 캐시 (조건부 요청)
+ * - 키: URL + Accept + 토큰 식별값(Authorization 헤더의 SHA-256, 토큰 자체는 저장하지 않음)
+ * - 캐시에 있으면 If-None-Match를 붙여 요청하고, 304 응답이면 저장해 둔 본문을 200으로 돌려줌
+ *   (GitHub은 304 응답을 rate limit에 포함하지 않음)
+ * - 항목 수/전체 바이트 기준 LRU 제거
+ *
+ * 공용 RestTemplate(HttpClientConfig)에 등록되므로 GitHub GET 호출 전부에 적용된다.
+ */
+@Slf4j
+@Component
+public class ConditionalRequestCache implements ClientHttpRequestInterceptor {
+
+    private static final String GITHUB_API_HOST = "api.github.com";
+
+    @Value("${synodos.http.etag-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${synodos.http.etag-cache.max-entries:2000}")
+    private int maxEntries;
+
+    @Value("${synodos.http.etag-cache.max-bytes:33554432}")
+    private long maxBytes;
+
+    @Value("${synodos.http.etag-cache.max-entry-bytes:1048576}")
+    private long maxEntryBytes;
+
+    // 접근 순서 LRU (this로 동기화)
+    private final LinkedHashMap<String, CachedResponse> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private long totalBytes;
+
+    private final LongAdder hits = new LongAdder();          // 304 → 캐시 본문 반환
+    private final LongAdder misses = new LongAdder();        // 캐시에 없어 일반 요청
+    private final LongAdder revalidated = new LongAdder();   // 캐시에 있었지만 내용이 바뀌어 200
+    private final LongAdder stores = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        if (!enabled || request.getMethod() != HttpMethod.GET
+                || !GITHUB_API_HOST.equalsIgnoreCase(request.getURI().getHost())) {
+            return execution.execute(request, body);
+        }
+
+        String key = cacheKey(request);
+        CachedResponse cached = get(key);
+        if (cached == null) {
+            misses.increment();
+        } else {
+            request.getHeaders().set(HttpHeaders.IF_NONE_MATCH, cached.etag);
+        }
+
+        ClientHttpResponse response = execution.execute(request, body);
+        HttpStatusCode status = response.getStatusCode();
+
+        if (cached != null && status.value() == HttpStatus.NOT_MODIFIED.value()) {
+            hits.increment();
+            // 304의 최신 rate limit 헤더는 유지하고 본문 관련 헤더는 캐시 값 사용
+            HttpHeaders headers = new HttpHeaders();
+            headers.putAll(cached.headers);
+            response.getHeaders().forEach((name, values) -> {
+                if (name.regionMatches(true, 0, "X-RateLimit-", 0, 12)) {
+                    headers.put(name, values);
+                }
+            });
+            response.close();
+            return new BufferedResponse(HttpStatus.OK, headers, cached.body);
+        }
+
+        String etag = response.getHeaders().getETag();
+        if (!status.is2xxSuccessful() || etag == null) {
+            if (cached != null && status.is4xxClientError()) {
+                remove(key);
+            }
+            return response;
+        }
+
+        if (cached != null) {
+            revalidated.increment();
+        }
+        byte[] responseBody;
+        try (InputStream in = response.getBody()) {
+            responseBody = in.readAllBytes();
+        }
+        HttpHeaders headers = new HttpHeaders();
+        headers.putAll(response.getHeaders());
+        HttpStatusCode responseStatus = response.getStatusCode();
+        response.close();
+
+        if (responseBody.length <= maxEntryBytes) {
+            put(key, new CachedResponse(etag, headers, responseBody));
+        }
+        return new BufferedResponse(responseStatus, headers, responseBody);
+    }
+
+    /**
+     * 캐시 지표
+     */
+    public synchronized Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("entries", entries.size());
+        stats.put("bytes", totalBytes);
+        stats.put("hits304", hits.sum());
+        stats.put("misses", misses.sum());
+        stats.put("revalidated", revalidated.sum());
+        stats.put("stores", stores.sum());
+        stats.put("evictions", evictions.sum());
+        return stats;
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+        totalBytes = 0;
+    }
+
+    private synchronized CachedResponse get(String key) {
+        return entries.get(key);
+    }
+
+    private synchronized void put(String key, CachedResponse response) {
+        CachedResponse previous = entries.put(key, response);
+        if (previous != null) {
+            totalBytes -= previous.body.length;
+        }
+        totalBytes += response.body.length;
+        stores.increment();
+
+        Iterator<CachedResponse> eldest = entries.values().iterator();
+        while ((entries.size() > maxEntries || totalBytes > maxBytes) && eldest.hasNext()) {
+            CachedResponse evicted = eldest.next();
+            eldest.remove();
+            totalBytes -= evicted.body.length;
+            evictions.increment();
+        }
+    }
+
+    private synchronized void remove(String key) {
+        CachedResponse removed = entries.remove(key);
+        if (removed != null) {
+            totalBytes -= removed.body.length;
+        }
+    }
+
+    private String cacheKey(HttpRequest request) {
+        String authorization = request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        String accept = request.getHeaders().getFirst(HttpHeaders.ACCEPT);
+        return request.getURI() + "|" + (accept == null ? "" : accept) + "|"
+            + (authorization == null ? "anonymous" : sha256(authorization));
+    }
+
+    private static String sha256(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static final class CachedResponse {
+        private final String etag;
+        private final HttpHeaders headers;
+        private final byte[] body;
+
+        private CachedResponse(String etag, HttpHeaders headers, byte[] body) {
+            this.etag = etag;
+            this.headers = headers;
+            this.body = body;
+        }
+    }
+
+    /**
+     * 메모리에 읽어 둔 응답
+     */
+    static final class BufferedResponse implements ClientHttpResponse {
+        private final HttpStatusCode status;
+        private final HttpHeaders headers;
+        private final byte[] body;
+
+        BufferedResponse(HttpStatusCode status, HttpHeaders headers, byte[] body) {
+            this.status = status;
+            this.headers = headers;
+            this.body = body;
+        }
+
+        @Override
+        public HttpStatusCode getStatusCode() {
+            return status;
+        }
+
+        @Override
+        public String getStatusText() {
+            return status instanceof HttpStatus httpStatus ? httpStatus.getReasonPhrase() : "";
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+
+        @Override
+        public InputStream getBody() {
+            return new ByteArrayInputStream(body);
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
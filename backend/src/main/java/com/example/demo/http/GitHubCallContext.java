@@ -0,0 +1,77 @@
+package com.example.demo.http;
+
+import java.util.function.Supplier;
+
+/**
+ * 현재 스레드의 GitHub 호출 정보 (우선순위, 팀)
+ * - 기본은 INTERACTIVE (사용자 요청 처리)
+ * - 가져오기/내보내기/동기화 대기열 등 백그라운드 작업은 background(...)로 감싸 호출
+ * GitHubRateLimiter가 대기 순서와 팀별 지표 집계에 사용한다.
+ */
+public final class GitHubCallContext {
+
+    public enum Priority { INTERACTIVE, BACKGROUND }
+
+    private static final ThreadLocal<GitHubCallContext> CURRENT = new ThreadLocal<>();
+    private static final GitHubCallContext DEFAULT = new GitHubCallContext(Priority.INTERACTIVE, null);
+
+    private final Priority priority;
+    private final Integer teamId;
+
+    private GitHubCallContext(Priority priority, Integer teamId) {
+        this.priority = priority;
+        this.teamId = teamId;
+    }
+
+    public static GitHubCallContext current() {
+        GitHubCallContext context = CURRENT.get();
+        return context != null ? context : DEFAULT;
+    }
+
+    /**
+     * 백그라운드 우선순위로 실행 (대화형 요청이 기다리면 뒤로 양보)
+     */
+    public static <T> T background(Integer teamId, Supplier<T> action) {
+        return with(new GitHubCallContext(Priority.BACKGROUND, teamId), action);
+    }
+
+    public static void runInBackground(Integer teamId, Runnable action) {
+        background(teamId, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * 요청 처리 스레드에 팀 지정 (대화형 우선순위 유지)
+     */
+    public static void setInteractiveTeam(Integer teamId) {
+        CURRENT.set(new GitHubCallContext(Priority.INTERACTIVE, teamId));
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    private static <T> T with(GitHubCallContext context, Supplier<T> action) {
+        GitHubCallContext previous = CURRENT.get();
+        CURRENT.set(context);
+        try {
+            return action.get();
+        } finally {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+
+    public Priority getPriority() {
+        return priority;
+    }
+
+    public Integer getTeamId() {
+        return teamId;
+    }
+}
@@ -0,0 +1,371 @@
+package com.example.demo.http;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * GitHub API 요청 한도(rate limit) 관리
+ * - 토큰별 + 리소스별(core/search/graphql) 예산을 X-RateLimit-* 응답 헤더로 추적
+ * - 토큰 버킷으로 남은 예산을 리셋 시각까지 고르게 나눠 요청 간격 조절 (쓰기 요청은 2차 한도용 버킷 추가 적용)
+ * - 한도 소진/Retry-After 응답이면 실패시키지 않고 풀릴 때까지 대기 후 재요청
+ * - 대화형 요청이 우선: 백그라운드 요청(GitHubCallContext.background)은 대화형 요청이 기다리는 동안,
+ *   그리고 남은 예산이 예약분(background-reserve-ratio) 이하이면 대기
+ *
+ * 공용 RestTemplate의 가장 안쪽 인터셉터로 등록된다 (재요청 시 바깥 인터셉터를 다시 거치지 않도록).
+ */
+@Slf4j
+@Component
+public class GitHubRateLimiter implements ClientHttpRequestInterceptor {
+
+    private static final String GITHUB_API_HOST = "api.github.com";
+    private static final int MAX_RATE_LIMIT_RETRIES = 3;
+    private static final double UNKNOWN_RATE_PER_MS = 10 / 1000.0;   // 예산을 모를 때 초당 10건
+    private static final double MAX_RATE_PER_MS = 50 / 1000.0;
+
+    @Value("${synodos.github.rate.burst:20}")
+    private int burst;
+
+    @Value("${synodos.github.rate.background-reserve-ratio:0.1}")
+    private double backgroundReserveRatio;
+
+    @Value("${synodos.github.rate.mutations-per-minute:60}")
+    private int mutationsPerMinute;
+
+    @Value("${synodos.github.rate.interactive-max-wait-ms:30000}")
+    private long interactiveMaxWaitMs;
+
+    @Value("${synodos.github.rate.background-max-wait-ms:3600000}")
+    private long backgroundMaxWaitMs;
+
+    private final Map<String, Budget> budgets = new ConcurrentHashMap<>();
+
+    // 401을 받은 토큰 ID (폐기/만료, 재연동하면 토큰이 바뀜)
+    private final Set<String> unauthorized = ConcurrentHashMap.newKeySet();
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        if (!GITHUB_API_HOST.equalsIgnoreCase(request.getURI().getHost())) {
+            return execution.execute(request, body);
+        }
+
+        GitHubCallContext context = GitHubCallContext.current();
+        boolean interactive = context.getPriority() == GitHubCallContext.Priority.INTERACTIVE;
+        String tokenId = tokenId(request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION));
+        String resource = resourceOf(request.getURI().getPath());
+        // GraphQL 조회는 POST지만 변경 요청이 아니므로 변경 요청 한도에서 제외 (graphql 예산으로만 조절)
+        boolean mutating = request.getMethod() != HttpMethod.GET && request.getMethod() != HttpMethod.HEAD
+            && !"graphql".equals(resource);
+        Budget budget = budgets.computeIfAbsent(tokenId + ":" + resource, k -> new Budget(tokenId, resource));
+        if (context.getTeamId() != null) {
+            budget.teamIds.add(context.getTeamId());
+        }
+
+        long deadline = System.currentTimeMillis() + (interactive ? interactiveMaxWaitMs : backgroundMaxWaitMs);
+        for (int attempt = 0; ; attempt++) {
+            budget.acquire(interactive, mutating, deadline);
+            ClientHttpResponse response = execution.execute(request, body);
+            if (response.getStatusCode().value() == 401) {
+                unauthorized.add(tokenId);
+            }
+            long pauseMs = budget.update(response);
+            if (pauseMs <= 0 || attempt >= MAX_RATE_LIMIT_RETRIES) {
+                return response;
+            }
+            log.warn("GitHub rate limit hit for token {} ({}), waiting {}ms before retrying {} {}",
+                tokenId, resource, pauseMs, request.getMethod(), request.getURI().getPath());
+            response.close();
+        }
+    }
+
+    /**
+     * 토큰의 남은 core 예산 (아직 응답을 받지 못해 모르면 -1, 한도로 대기 중이면 0)
+     */
+    public int remainingCore(String accessToken) {
+        Budget budget = budgets.get(tokenId("Bearer " + accessToken) + ":core");
+        return budget == null ? -1 : budget.available(System.currentTimeMillis());
+    }
+
+    /**
+     * 401(토큰 폐기/만료)을 받은 적 있는 토큰인지
+     */
+    public boolean isUnauthorized(String accessToken) {
+        return unauthorized.contains(tokenId("Bearer " + accessToken));
+    }
+
+    /**
+     * 토큰/리소스별 예산 목록
+     */
+    public List<Map<String, Object>> getBudgets() {
+        List<Map<String, Object>> result = new ArrayList<>();
+        budgets.values().forEach(budget -> result.add(budget.toMap()));
+        return result;
+    }
+
+    /**
+     * 팀별 남은 core 예산 (팀이 사용한 토큰들의 합계)
+     */
+    public Map<Integer, Map<String, Object>> getTeamBudgets() {
+        Map<Integer, long[]> totals = new TreeMap<>();
+        for (Budget budget : budgets.values()) {
+            if (!"core".equals(budget.resource)) {
+                continue;
+            }
+            int[] snapshot = budget.remainingAndLimit();
+            for (Integer teamId : budget.teamIds) {
+                long[] total = totals.computeIfAbsent(teamId, k -> new long[3]);
+                total[0] += Math.max(snapshot[0], 0);
+                total[1] += Math.max(snapshot[1], 0);
+                total[2]++;
+            }
+        }
+        Map<Integer, Map<String, Object>> result = new LinkedHashMap<>();
+        totals.forEach((teamId, total) -> {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("remaining", total[0]);
+            map.put("limit", total[1]);
+            map.put("tokens", total[2]);
+            result.put(teamId, map);
+        });
+        return result;
+    }
+
+    private static String resourceOf(String path) {
+        if (path == null) {
+            return "core";
+        }
+        if (path.startsWith("/search/")) {
+            return "search";
+        }
+        if (path.startsWith("/graphql")) {
+            return "graphql";
+        }
+        return "core";
+    }
+
+    private static String tokenId(String authorization) {
+        if (authorization == null) {
+            return "anonymous";
+        }
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(authorization.getBytes(StandardCharsets.UTF_8))).substring(0, 12);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static long parseLong(HttpHeaders headers, String name) {
+        String value = headers.getFirst(name);
+        if (value == null) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * 토큰 하나의 리소스별 예산 (모든 필드는 this로 동기화)
+     */
+    private final class Budget {
+        private final String tokenId;
+        private final String resource;
+        private final Set<Integer> teamIds = ConcurrentHashMap.newKeySet();
+
+        private int limit = -1;            // 모르면 -1
+        private int remaining = -1;
+        private long resetAtMs;
+        private long pausedUntilMs;        // Retry-After / 한도 소진 시 대기 종료 시각
+        private double tokens;
+        private double mutationTokens;
+        private long lastRefillMs;
+        private int waitingInteractive;
+        private int waitingBackground;
+
+        private Budget(String tokenId, String resource) {
+            this.tokenId = tokenId;
+            this.resource = resource;
+            this.tokens = burst;
+            this.mutationTokens = mutationBurst();
+            this.lastRefillMs = System.currentTimeMillis();
+        }
+
+        private synchronized void acquire(boolean interactive, boolean mutating, long deadline) throws IOException {
+            if (interactive) {
+                waitingInteractive++;
+            } else {
+                waitingBackground++;
+            }
+            try {
+                while (true) {
+                    long now = System.currentTimeMillis();
+                    refill(now);
+                    long waitMs = waitTime(now, interactive, mutating);
+                    if (waitMs <= 0) {
+                        tokens -= 1;
+                        if (mutating) {
+                            mutationTokens -= 1;
+                        }
+                        if (remaining > 0) {
+                            remaining--;
+                        }
+                        return;
+                    }
+                    if (now >= deadline) {
+                        throw new IOException("GitHub API 요청 한도로 대기 시간이 초과되었습니다. (" + resource + ")");
+                    }
+                    wait(Math.max(1, Math.min(waitMs, deadline - now)));
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("GitHub API 요청 대기 중 중단되었습니다.");
+            } finally {
+                if (interactive) {
+                    waitingInteractive--;
+                } else {
+                    waitingBackground--;
+                }
+                notifyAll();
+            }
+        }
+
+        /**
+         * 응답 헤더로 예산 갱신
+         * @return 한도 때문에 거절된 응답이면 다시 요청하기까지 기다릴 시간(ms), 아니면 0
+         */
+        private synchronized long update(ClientHttpResponse response) throws IOException {
+            HttpHeaders headers = response.getHeaders();
+            long now = System.currentTimeMillis();
+
+            long headerLimit = parseLong(headers, "X-RateLimit-Limit");
+            long headerRemaining = parseLong(headers, "X-RateLimit-Remaining");
+            long headerReset = parseLong(headers, "X-RateLimit-Reset");
+            if (headerLimit >= 0) {
+                limit = (int) headerLimit;
+            }
+            if (headerRemaining >= 0) {
+                remaining = (int) headerRemaining;
+            }
+            if (headerReset > 0) {
+                resetAtMs = headerReset * 1000;
+            }
+
+            long pauseMs = 0;
+            int status = response.getStatusCode().value();
+            if (status == 403 || status == 429) {
+                long retryAfter = parseLong(headers, HttpHeaders.RETRY_AFTER);
+                if (retryAfter >= 0) {
+                    // 2차 한도 (Retry-After 초)
+                    pausedUntilMs = now + retryAfter * 1000;
+                    pauseMs = retryAfter * 1000;
+                } else if (headerRemaining == 0 && resetAtMs > now) {
+                    // 1차 한도 소진
+                    pausedUntilMs = resetAtMs;
+                    pauseMs = resetAtMs - now;
+                }
+            }
+            notifyAll();
+            return pauseMs;
+        }
+
+        private void refill(long now) {
+            if (resetAtMs > 0 && now >= resetAtMs && limit > 0) {
+                // 리셋 시각이 지나면 다음 응답 헤더를 받을 때까지 전체 한도로 간주
+                remaining = limit;
+                resetAtMs = 0;
+            }
+            long elapsed = now - lastRefillMs;
+            if (elapsed > 0) {
+                tokens = Math.min(burst, tokens + elapsed * ratePerMs(now));
+                mutationTokens = Math.min(mutationBurst(), mutationTokens + elapsed * mutationsPerMinute / 60000.0);
+                lastRefillMs = now;
+            }
+        }
+
+        private long waitTime(long now, boolean interactive, boolean mutating) {
+            if (pausedUntilMs > now) {
+                return pausedUntilMs - now;
+            }
+            if (remaining == 0) {
+                return resetAtMs > now ? resetAtMs - now : 1000;
+            }
+            if (!interactive) {
+                // 대화형 요청이 먼저 (대기 중인 대화형 요청이 끝나면 notifyAll로 깨어남)
+                if (waitingInteractive > 0) {
+                    return 100;
+                }
+                if (limit > 0 && remaining >= 0 && remaining <= limit * backgroundReserveRatio) {
+                    return resetAtMs > now ? resetAtMs - now : 1000;
+                }
+            }
+            long waitMs = 0;
+            if (tokens < 1) {
+                waitMs = (long) Math.ceil((1 - tokens) / ratePerMs(now));
+            }
+            if (mutating && mutationTokens < 1) {
+                waitMs = Math.max(waitMs, (long) Math.ceil((1 - mutationTokens) * 60000.0 / mutationsPerMinute));
+            }
+            return waitMs;
+        }
+
+        // 남은 예산을 리셋 시각까지 고르게 사용하는 속도
+        private double ratePerMs(long now) {
+            if (remaining < 0 || resetAtMs <= now) {
+                return UNKNOWN_RATE_PER_MS;
+            }
+            return Math.min(MAX_RATE_PER_MS, Math.max(remaining, 1) / (double) (resetAtMs - now));
+        }
+
+        private double mutationBurst() {
+            return Math.max(1, mutationsPerMinute / 6.0);
+        }
+
+        private synchronized int available(long now) {
+            refill(now);
+            return pausedUntilMs > now ? 0 : remaining;
+        }
+
+        private synchronized int[] remainingAndLimit() {
+            return new int[] { remaining, limit };
+        }
+
+        private synchronized Map<String, Object> toMap() {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("token", tokenId);
+            map.put("resource", resource);
+            map.put("limit", limit);
+            map.put("remaining", remaining);
+            map.put("resetAt", resetAtMs > 0 ? resetAtMs : null);
+            map.put("pausedUntil", pausedUntilMs > System.currentTimeMillis() ? pausedUntilMs : null);
+            map.put("waitingInteractive", waitingInteractive);
+            map.put("waitingBackground", waitingBackground);
+            map.put("teams", new ArrayList<>(teamIds));
+            return map;
+        }
+    }
+}
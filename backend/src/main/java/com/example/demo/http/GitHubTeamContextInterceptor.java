@@ -0,0 +1,38 @@
+package com.example.demo.http;
+
+import java.util.Map;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * GitHub API 요청 처리 스레드에 경로의 teamId를 지정 (GitHubRateLimiter 팀별 예산 집계용)
+ */
+@Component
+public class GitHubTeamContextInterceptor implements HandlerInterceptor {
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        Map<String, String> variables =
+            (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        String teamId = variables != null ? variables.get("teamId") : request.getParameter("teamId");
+        if (teamId != null) {
+            try {
+                GitHubCallContext.setInteractiveTeam(Integer.valueOf(teamId));
+            } catch (NumberFormatException e) {
+                // 팀 지정 없이 진행
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        GitHubCallContext.clear();
+    }
+}
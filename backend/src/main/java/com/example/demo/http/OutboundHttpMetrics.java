@@ -0,0 +1,112 @@
+package com.example.demo.http;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * 외부 API 호출 지표 (엔드포인트별 호출 수, 지연시간, 상태 코드 분포)
+ * - 엔드포인트 키는 "메서드 호스트 경로 템플릿" (숫자/SHA/owner/repo는 자리표시자로 치환, 쿼리 문자열 제외)
+ */
+@Component
+public class OutboundHttpMetrics {
+
+    private static final Pattern NUMBER = Pattern.compile("^\\d+$");
+    private static final Pattern SHA = Pattern.compile("^[0-9a-fA-F]{40}$");
+
+    private final Map<String, EndpointStats> endpoints = new ConcurrentHashMap<>();
+
+    /**
+     * 응답을 받은 호출 기록
+     */
+    public void record(String method, URI uri, int status, long elapsedMs) {
+        stats(method, uri).record(statusClass(status), elapsedMs);
+    }
+
+    /**
+     * 응답 없이 실패한 호출 기록 (연결 실패, 타임아웃 등)
+     */
+    public void recordError(String method, URI uri, long elapsedMs) {
+        stats(method, uri).record("IO_ERROR", elapsedMs);
+    }
+
+    /**
+     * 엔드포인트별 지표 스냅샷 (호출 수 내림차순)
+     */
+    public List<Map<String, Object>> snapshot() {
+        List<Map<String, Object>> result = new ArrayList<>();
+        endpoints.forEach((endpoint, stats) -> result.add(stats.toMap(endpoint)));
+        result.sort((a, b) -> Long.compare((long) b.get("count"), (long) a.get("count")));
+        return result;
+    }
+
+    private EndpointStats stats(String method, URI uri) {
+        return endpoints.computeIfAbsent(method + " " + uri.getHost() + normalizePath(uri), k -> new EndpointStats());
+    }
+
+    static String normalizePath(URI uri) {
+        String path = uri.getRawPath();
+        if (path == null || path.isEmpty()) {
+            return "/";
+        }
+        String[] segments = path.split("/");
+        boolean githubRepo = segments.length > 3 && "repos".equals(segments[1]);
+        StringBuilder sb = new StringBuilder();
+        for (int i = 1; i < segments.length; i++) {
+            String segment = segments[i];
+            if (githubRepo && i == 2) {
+                segment = "{owner}";
+            } else if (githubRepo && i == 3) {
+                segment = "{repo}";
+            } else if (NUMBER.matcher(segment).matches()) {
+                segment = "{n}";
+            } else if (SHA.matcher(segment).matches()) {
+                segment = "{sha}";
+            } else if (githubRepo && i > 4 && ("branches".equals(segments[i - 1]) || "compare".equals(segments[i - 1]))) {
+                segment = "{ref}";
+            }
+            sb.append('/').append(segment);
+        }
+        return sb.toString();
+    }
+
+    private static String statusClass(int status) {
+        return (status / 100) + "xx";
+    }
+
+    private static final class EndpointStats {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalMs = new LongAdder();
+        private final AtomicLong maxMs = new AtomicLong();
+        private final Map<String, LongAdder> statuses = new ConcurrentHashMap<>();
+
+        private void record(String status, long elapsedMs) {
+            count.increment();
+            totalMs.add(elapsedMs);
+            maxMs.accumulateAndGet(elapsedMs, Math::max);
+            statuses.computeIfAbsent(status, k -> new LongAdder()).increment();
+        }
+
+        private Map<String, Object> toMap(String endpoint) {
+            long calls = count.sum();
+            Map<String, Long> statusCounts = new LinkedHashMap<>();
+            statuses.forEach((status, n) -> statusCounts.put(status, n.sum()));
+
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("endpoint", endpoint);
+            map.put("count", calls);
+            map.put("avgMs", calls == 0 ? 0 : totalMs.sum() / calls);
+            map.put("maxMs", maxMs.get());
+            map.put("statuses", statusCounts);
+            return map;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.demo.http;
+
+import java.io.IOException;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Component;
+
+/**
+ * 공용 RestTemplate 호출마다 지연시간/상태 코드를 OutboundHttpMetrics에 기록
+ */
+@Component
+public class OutboundMetricsInterceptor implements ClientHttpRequestInterceptor {
+
+    @Autowired
+    private OutboundHttpMetrics metrics;
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        long start = System.nanoTime();
+        try {
+            ClientHttpResponse response = execution.execute(request, body);
+            metrics.record(request.getMethod().name(), request.getURI(), response.getStatusCode().value(), elapsedMs(start));
+            return response;
+        } catch (IOException e) {
+            metrics.recordError(request.getMethod().name(), request.getURI(), elapsedMs(start));
+            throw e;
+        }
+    }
+
+    private long elapsedMs(long start) {
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+}
@@ -0,0 +1,169 @@
+package com.example.demo.http;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 동일한 GitHub GET 요청 합치기 (single-flight)
+ * - 키: URL + Accept + 토큰 식별값 (ConditionalRequestCache와 같은 기준) + 호출 우선순위
+ *   (대화형 요청이 GitHubRateLimiter에서 오래 대기할 수 있는 백그라운드 요청 응답을 기다리지 않도록 우선순위별로 합침)
+ * - 같은 키의 요청이 진행 중이면 새로 보내지 않고 먼저 보낸 요청의 응답을 함께 받음
+ * - 응답이 끝나면 바로 키를 비우므로 캐시가 아님 (다음 요청은 다시 GitHub으로)
+ *
+ * 공용 RestTemplate(HttpClientConfig)의 가장 바깥 인터셉터로 등록된다.
+ */
+@Slf4j
+@Component
+public class SingleFlightInterceptor implements ClientHttpRequestInterceptor {
+
+    private static final String GITHUB_API_HOST = "api.github.com";
+
+    @Value("${synodos.http.single-flight.enabled:true}")
+    private boolean enabled;
+
+    // 진행 중인 요청 (키 → 응답)
+    private final Map<String, CompletableFuture<SharedResponse>> inFlight = new ConcurrentHashMap<>();
+
+    private final LongAdder requests = new LongAdder();   // 합치기 대상 GET 요청
+    private final LongAdder executed = new LongAdder();   // 실제로 보낸 요청
+    private final LongAdder shared = new LongAdder();     // 진행 중인 요청 응답을 함께 받은 요청
+    private final LongAdder failures = new LongAdder();   // 보낸 요청이 예외로 끝난 수
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        if (!enabled || request.getMethod() != HttpMethod.GET
+                || !GITHUB_API_HOST.equalsIgnoreCase(request.getURI().getHost())) {
+            return execution.execute(request, body);
+        }
+        requests.increment();
+
+        String key = flightKey(request);
+        CompletableFuture<SharedResponse> flight = new CompletableFuture<>();
+        CompletableFuture<SharedResponse> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            shared.increment();
+            return await(existing).toResponse();
+        }
+
+        executed.increment();
+        try {
+            SharedResponse response = execute(request, body, execution);
+            inFlight.remove(key, flight);
+            flight.complete(response);
+            return response.toResponse();
+        } catch (IOException | RuntimeException e) {
+            failures.increment();
+            inFlight.remove(key, flight);
+            flight.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * 합치기 지표 (dedupRatio: 전체 요청 중 함께 받은 비율)
+     */
+    public Map<String, Object> getStats() {
+        long total = requests.sum();
+        long sharedCount = shared.sum();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("requests", total);
+        stats.put("executed", executed.sum());
+        stats.put("shared", sharedCount);
+        stats.put("failures", failures.sum());
+        stats.put("inFlight", inFlight.size());
+        stats.put("dedupRatio", total == 0 ? 0.0 : Math.round(sharedCount * 10000.0 / total) / 10000.0);
+        return stats;
+    }
+
+    private SharedResponse execute(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        try (ClientHttpResponse response = execution.execute(request, body)) {
+            byte[] responseBody;
+            try (InputStream in = response.getBody()) {
+                responseBody = in.readAllBytes();
+            }
+            HttpHeaders headers = new HttpHeaders();
+            headers.putAll(response.getHeaders());
+            return new SharedResponse(response.getStatusCode(), headers, responseBody);
+        }
+    }
+
+    private SharedResponse await(CompletableFuture<SharedResponse> flight) throws IOException {
+        try {
+            return flight.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("GitHub 요청 대기가 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException ioException) {
+                throw ioException;
+            }
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    private String flightKey(HttpRequest request) {
+        String authorization = request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        String accept = request.getHeaders().getFirst(HttpHeaders.ACCEPT);
+        return GitHubCallContext.current().getPriority() + "|" + request.getURI() + "|"
+            + (accept == null ? "" : accept) + "|"
+            + (authorization == null ? "anonymous" : sha256(authorization));
+    }
+
+    private static String sha256(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 함께 받는 응답 (요청마다 헤더를 복사해 새 응답으로 돌려줌)
+     */
+    private static final class SharedResponse {
+        private final HttpStatusCode status;
+        private final HttpHeaders headers;
+        private final byte[] body;
+
+        private SharedResponse(HttpStatusCode status, HttpHeaders headers, byte[] body) {
+            this.status = status;
+            this.headers = headers;
+            this.body = body;
+        }
+
+        private ClientHttpResponse toResponse() {
+            HttpHeaders copy = new HttpHeaders();
+            copy.putAll(headers);
+            return new ConditionalRequestCache.BufferedResponse(status, copy, body);
+        }
+    }
+}
@@ -16,4 +16,7 @@ public class Comment {
 	private Date createdAt;
 	private Date updatedAt;
 	private Long githubCommentId;  // GitHub Issue Comment ID (동기화용)
+
+	// GitHub 댓글 가져올 때 작성 시각 (ISO-8601, 일괄 저장 시 created_at으로 사용)
+	private String githubCreatedAt;
 }
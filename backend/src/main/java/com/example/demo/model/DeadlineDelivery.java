@@ -0,0 +1,25 @@
+package com.example.demo.model;
+
+import java.time.LocalDate;
+
+import org.apache.ibatis.type.Alias;
+
+import lombok.Data;
+
+/**
+ * 마감일 알림 발송 예정 항목 (타이밍 휠에 적재)
+ * - deliverAtMs: 회원 시간대의 발송 창 시작 + 회원별 해시 오프셋
+ * - notifyDate: 회원 시간대 기준 날짜 (중복 방지 키)
+ */
+@Data
+@Alias("deadlineDelivery")
+public class DeadlineDelivery {
+	private int memberNo;
+	private int taskId;
+	private Integer teamId;
+	private String notificationType;  // DEADLINE_APPROACHING, DEADLINE_OVERDUE
+	private String title;
+	private String message;
+	private LocalDate notifyDate;
+	private long deliverAtMs;
+}
@@ -0,0 +1,28 @@
+package com.example.demo.model;
+
+import java.time.LocalDateTime;
+import org.apache.ibatis.type.Alias;
+import lombok.Data;
+
+@Data
+@Alias("emailOutbox")
+public class EmailOutbox {
+	private int id;
+	private String recipient;
+	private String subject;
+	private String body;          // HTML 본문
+	private String status;        // PENDING, SENDING, SENT, FAILED
+	private int attempts;
+	private LocalDateTime nextAttemptAt;
+	private String lockedBy;
+	private LocalDateTime lockedUntil;
+	private String lastError;
+	private LocalDateTime createdAt;
+	private LocalDateTime sentAt;
+
+	// 발송 상태 상수
+	public static final String STATUS_PENDING = "PENDING";
+	public static final String STATUS_SENDING = "SENDING";
+	public static final String STATUS_SENT = "SENT";
+	public static final String STATUS_FAILED = "FAILED";
+}
@@ -0,0 +1,45 @@
+package com.example.demo.model;
+
+import lombok.Data;
+import org.apache.ibatis.type.Alias;
+
+import java.time.LocalDateTime;
+
+/**
+ * GitHub 일괄 가져오기/내보내기 작업 엔티티
+ * - 진행 상황(카운터, 체크포인트)은 처리 중에 계속 저장되어 중단돼도 이어서 처리된다
+ */
+@Data
+@Alias("githubBulkJob")
+public class GitHubBulkJob {
+    private int jobId;
+    private int teamId;
+    private int memberNo;
+    private String jobType;           // IMPORT, EXPORT
+    private String status;            // QUEUED, RUNNING, DONE, FAILED
+    private Integer total;
+    private int processed;
+    private int succeeded;
+    private int skipped;
+    private int failed;
+    private int checkpoint;
+    private String checkpointCursor;  // GraphQL로 가져올 때 체크포인트 페이지의 endCursor
+    private String errors;            // JSON 배열
+    private int attempts;
+    private String lockedBy;
+    private LocalDateTime lockedUntil;
+    private LocalDateTime createdAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private LocalDateTime updatedAt;
+
+    // 작업 종류 상수
+    public static final String TYPE_IMPORT = "IMPORT";
+    public static final String TYPE_EXPORT = "EXPORT";
+
+    // 처리 상태 상수
+    public static final String STATUS_QUEUED = "QUEUED";
+    public static final String STATUS_RUNNING = "RUNNING";
+    public static final String STATUS_DONE = "DONE";
+    public static final String STATUS_FAILED = "FAILED";
+}
@@ -0,0 +1,27 @@
+package com.example.demo.model;
+
+import lombok.Data;
+import org.apache.ibatis.type.Alias;
+
+import java.time.LocalDateTime;
+
+/**
+ * 일괄 내보내기 작업의 태스크별 진행 상태
+ */
+@Data
+@Alias("githubBulkJobItem")
+public class GitHubBulkJobItem {
+    private int jobId;
+    private int taskId;
+    private String status;            // PENDING, CREATING, DONE, SKIPPED, FAILED
+    private Integer issueNumber;
+    private String error;
+    private LocalDateTime updatedAt;
+
+    // 처리 상태 상수
+    public static final String STATUS_PENDING = "PENDING";
+    public static final String STATUS_CREATING = "CREATING";
+    public static final String STATUS_DONE = "DONE";
+    public static final String STATUS_SKIPPED = "SKIPPED";
+    public static final String STATUS_FAILED = "FAILED";
+}
@@ -0,0 +1,24 @@
+package com.example.demo.model;
+
+import lombok.Data;
+import org.apache.ibatis.type.Alias;
+
+import java.time.LocalDateTime;
+
+/**
+ * GitHub Issue 미러 엔티티 (팀 저장소 Issue의 로컬 사본)
+ */
+@Data
+@Alias("githubIssueMirror")
+public class GitHubIssueMirror {
+    private int teamId;
+    private int issueNumber;
+    private long issueId;
+    private String title;
+    private String state;
+    private String labels;            // JSON 배열
+    private String assignees;         // JSON 배열
+    private String htmlUrl;
+    private LocalDateTime githubUpdatedAt;
+    private LocalDateTime syncedAt;
+}
@@ -0,0 +1,19 @@
+package com.example.demo.model;
+
+import lombok.Data;
+import org.apache.ibatis.type.Alias;
+
+import java.time.LocalDateTime;
+
+/**
+ * 팀별 GitHub Issue 미러 수집 상태
+ */
+@Data
+@Alias("githubIssueMirrorState")
+public class GitHubIssueMirrorState {
+    private int teamId;
+    private String repoKey;
+    private LocalDateTime sinceAt;
+    private LocalDateTime fullSyncedAt;
+    private LocalDateTime polledAt;
+}
@@ -17,7 +17,7 @@ public class GitHubIssueSyncLog {
     private Integer issueNumber;
     private Integer teamId;
     private String syncDirection;     // PUSH, PULL
-    private String syncType;          // CREATE, UPDATE, LINK, UNLINK
+    private String syncType;          // CREATE, UPDATE, LINK, UNLINK, RECEIVED
     private String fieldChanged;      // workflow_status, priority, assignees, etc.
     private String oldValue;
     private String newValue;
@@ -36,6 +36,7 @@ public class GitHubIssueSyncLog {
     public static final String TYPE_UPDATE = "UPDATE";
     public static final String TYPE_LINK = "LINK";
     public static final String TYPE_UNLINK = "UNLINK";
+    public static final String TYPE_RECEIVED = "RECEIVED";   // 변경 없이 처리된 Webhook (new_value: action)
 
     // 동기화 상태 상수
     public static final String STATUS_SUCCESS = "SUCCESS";
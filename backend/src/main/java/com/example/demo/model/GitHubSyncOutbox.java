@@ -0,0 +1,43 @@
+package com.example.demo.model;
+
+import lombok.Data;
+import org.apache.ibatis.type.Alias;
+
+import java.time.LocalDateTime;
+
+/**
+ * Synodos → GitHub 동기화 대기열 엔티티
+ * - 같은 태스크의 항목은 기록 순서대로 하나씩 처리된다
+ */
+@Data
+@Alias("githubSyncOutbox")
+public class GitHubSyncOutbox {
+    private int id;
+    private int taskId;
+    private int teamId;
+    private String action;            // CREATE_ISSUE, SYNC_ISSUE, BACKFILL_COMMENTS
+    private Integer memberNo;
+    private String status;            // PENDING, PROCESSING, DONE, DEAD, SUPERSEDED
+    private int attempts;
+    private LocalDateTime nextAttemptAt;
+    private String lockedBy;
+    private LocalDateTime lockedUntil;
+    private String lastError;
+    private LocalDateTime createdAt;
+    private LocalDateTime processedAt;
+
+    // 기록 시 처리 지연 (디바운스, 저장되지 않음)
+    private long delayMs;
+
+    // 동작 상수
+    public static final String ACTION_CREATE_ISSUE = "CREATE_ISSUE";
+    public static final String ACTION_SYNC_ISSUE = "SYNC_ISSUE";
+    public static final String ACTION_BACKFILL_COMMENTS = "BACKFILL_COMMENTS";   // 연결/가져온 Issue의 기존 댓글 가져오기
+
+    // 처리 상태 상수
+    public static final String STATUS_PENDING = "PENDING";
+    public static final String STATUS_PROCESSING = "PROCESSING";
+    public static final String STATUS_DONE = "DONE";
+    public static final String STATUS_DEAD = "DEAD";
+    public static final String STATUS_SUPERSEDED = "SUPERSEDED";   // 재시도로 새 항목이 대신 기록된 데드레터
+}
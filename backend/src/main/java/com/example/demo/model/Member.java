@@ -16,6 +16,7 @@ public class Member {
 	private boolean emailVerified;
 	private String profileImage;
 	private Date register;
+	private String timeZone;              // IANA 시간대 (알림 발송 기준), null이면 기본 시간대
 
 	// 소셜 로그인
 	private String provider;              // google, naver, kakao, null(일반)
@@ -0,0 +1,23 @@
+package com.example.demo.model;
+
+import lombok.Data;
+import org.apache.ibatis.type.Alias;
+
+import java.time.LocalDateTime;
+
+/**
+ * 스케줄 작업 리스 잠금 엔티티
+ * - 작업별로 한 인스턴스만 실행하도록 보장
+ * - runKey/checkpointKey가 남아 있으면 중단된 실행이 있다는 뜻 (재개 대상)
+ */
+@Data
+@Alias("scheduledJobLock")
+public class ScheduledJobLock {
+    private String jobName;
+    private String lockedBy;
+    private LocalDateTime lockedUntil;
+    private String runKey;
+    private Long checkpointKey;
+    private int attempts;             // 같은 runKey 실행 시도 횟수
+    private LocalDateTime updatedAt;
+}
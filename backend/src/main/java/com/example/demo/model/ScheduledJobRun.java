@@ -0,0 +1,31 @@
+package com.example.demo.model;
+
+import lombok.Data;
+import org.apache.ibatis.type.Alias;
+
+import java.time.LocalDateTime;
+
+/**
+ * 스케줄 작업 실행 이력 엔티티
+ */
+@Data
+@Alias("scheduledJobRun")
+public class ScheduledJobRun {
+    private int runId;
+    private String jobName;
+    private String runKey;
+    private String instanceId;
+    private String status;            // RUNNING, SUCCESS, FAILED
+    private Long resumedFrom;         // 체크포인트에서 재개한 경우 시작 키
+    private int rowsProcessed;
+    private int chunksProcessed;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private Long durationMs;
+    private String errorMessage;
+
+    // 실행 상태 상수
+    public static final String STATUS_RUNNING = "RUNNING";
+    public static final String STATUS_SUCCESS = "SUCCESS";
+    public static final String STATUS_FAILED = "FAILED";
+}
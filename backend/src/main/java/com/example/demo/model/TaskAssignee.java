@@ -21,4 +21,5 @@ public class TaskAssignee {
     // 조인용 필드
     private String memberName;
     private String memberUserid;
+    private String memberGithubUsername;
 }
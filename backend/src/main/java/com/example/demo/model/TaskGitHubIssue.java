@@ -24,9 +24,20 @@ public class TaskGitHubIssue {
     private LocalDateTime githubUpdatedAt;
     private LocalDateTime createdAt;
 
+    // 마지막으로 확인된 GitHub Issue 상태 (변경분 비교 기준)
+    private String knownTitle;
+    private String knownBodyHash;
+    private String knownState;
+    private String knownLabels;       // JSON 배열
+    private String knownAssignees;    // JSON 배열
+    private LocalDateTime knownAt;
+
     // Join fields
     private String taskTitle;
     private String teamName;
+    private String mirrorTitle;               // 충돌 목록: 미러에 있는 GitHub 쪽 현재 제목
+    private String mirrorState;
+    private LocalDateTime mirrorUpdatedAt;
 
     // 동기화 상태 상수
     public static final String STATUS_SYNCED = "SYNCED";
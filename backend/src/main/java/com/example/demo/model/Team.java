@@ -1,8 +1,12 @@
 package com.example.demo.model;
 
 import java.sql.Date;
+import java.time.LocalDateTime;
 import java.util.HashMap;
+import java.util.Locale;
 import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import org.apache.ibatis.type.Alias;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -11,6 +15,11 @@ import lombok.Data;
 @Data
 @Alias("team")
 public class Team {
+	// https://github.com/Owner/Repo(.git)(/) 형태
+	private static final Pattern REPO_URL_PATTERN = Pattern.compile(
+		"^(?:https?://)?(?:www\\.)?github\\.com/([^/\\s]+)/([^/\\s]+?)(?:\\.git)?/*$",
+		Pattern.CASE_INSENSITIVE);
+
 	private int teamId;
 	private String teamName;
 	private String teamCode;
@@ -22,7 +31,28 @@ public class Team {
 	private Boolean githubIssueSyncEnabled; // GitHub Issue 동기화 활성화 여부
 	private Integer githubDefaultColumnId; // Issue에서 Task 생성 시 기본 컬럼
 	private String githubColumnMappings; // JSON: {"[버그]": 1, "[기능]": 2} 형태로 명령어 → 컬럼ID 매핑
+	private String githubLabelRegistry; // JSON: 저장소에 있는 것으로 확인된 Label 이름 목록
+	private String githubLabelRegistryRepo; // 레지스트리를 확인한 저장소 (owner/repo 소문자)
+	private LocalDateTime githubLabelRegistryAt; // 레지스트리 확인 시각
 	private Date createdAt;
+	private Integer githubRepoConflictTeamId; // 조회용: 같은 저장소를 라우팅 중인 다른 팀 (이 팀은 Webhook을 받지 못함)
+
+	// 저장소 키 (owner/repo 소문자) - github_repo_key 컬럼 저장값, githubRepoUrl에서 계산
+	public String getGithubRepoKey() {
+		return toRepoKey(githubRepoUrl);
+	}
+
+	// 저장소 URL → 저장소 키 (GitHub 저장소 URL이 아니면 null)
+	public static String toRepoKey(String repoUrl) {
+		if (repoUrl == null) {
+			return null;
+		}
+		Matcher matcher = REPO_URL_PATTERN.matcher(repoUrl.trim());
+		if (!matcher.matches()) {
+			return null;
+		}
+		return (matcher.group(1) + "/" + matcher.group(2)).toLowerCase(Locale.ROOT);
+	}
 
 	// JSON 문자열을 Map으로 변환
 	public Map<String, Integer> getColumnMappingsAsMap() {
@@ -0,0 +1,38 @@
+package com.example.demo.model;
+
+import lombok.Data;
+import org.apache.ibatis.type.Alias;
+
+import java.time.LocalDateTime;
+
+/**
+ * GitHub Webhook 수신함 엔티티
+ * - 같은 partitionKey(저장소+Issue 번호 등)의 항목은 수신 순서대로 하나씩 처리된다
+ */
+@Data
+@Alias("webhookInbox")
+public class WebhookInbox {
+    private long id;
+    private String deliveryId;
+    private String event;
+    private String action;
+    private String repoKey;
+    private String partitionKey;
+    private Integer teamId;
+    private String payload;
+    private String status;            // PENDING, PROCESSING, DONE, DEAD, SUPERSEDED
+    private int attempts;
+    private LocalDateTime nextAttemptAt;
+    private String lockedBy;          // 잠근 인스턴스 + 잠금마다 새로 만든 토큰
+    private LocalDateTime lockedUntil;
+    private String lastError;
+    private LocalDateTime receivedAt;
+    private LocalDateTime processedAt;
+
+    // 처리 상태 상수
+    public static final String STATUS_PENDING = "PENDING";
+    public static final String STATUS_PROCESSING = "PROCESSING";
+    public static final String STATUS_DONE = "DONE";
+    public static final String STATUS_DEAD = "DEAD";
+    public static final String STATUS_SUPERSEDED = "SUPERSEDED";
+}
@@ -0,0 +1,51 @@
+package com.example.demo.scheduler;
+
+/**
+ * 청크 단위로 실행되는 스케줄 작업
+ * - 키(예: task_id) 순서로 처리하며, 청크가 끝날 때마다 끝 키가 체크포인트로 저장된다
+ * - 중단된 실행은 같은 runKey로 마지막 체크포인트 다음부터 재개되므로,
+ *   processChunk는 같은 범위를 다시 처리해도 결과가 같아야 한다 (멱등)
+ */
+public interface ChunkedJob {
+
+    /**
+     * 작업 이름 (잠금/이력 키)
+     */
+    String getJobName();
+
+    /**
+     * afterKey 다음부터 최대 chunkSize 분량을 처리한다.
+     * @param runKey 실행 키 (예: 실행 날짜). 재개 시 원래 실행의 키가 그대로 전달된다
+     * @param afterKey 마지막으로 완료한 키 (처음이면 0)
+     */
+    ChunkResult processChunk(String runKey, long afterKey, int chunkSize);
+
+    /**
+     * 청크 처리 결과
+     */
+    final class ChunkResult {
+        private final long lastKey;
+        private final int rows;
+        private final boolean done;
+
+        private ChunkResult(long lastKey, int rows, boolean done) {
+            this.lastKey = lastKey;
+            this.rows = rows;
+            this.done = done;
+        }
+
+        /** 처리할 청크가 더 남아 있음 */
+        public static ChunkResult next(long lastKey, int rows) {
+            return new ChunkResult(lastKey, rows, false);
+        }
+
+        /** 마지막 청크 */
+        public static ChunkResult done(long lastKey, int rows) {
+            return new ChunkResult(lastKey, rows, true);
+        }
+
+        public long getLastKey() { return lastKey; }
+        public int getRows() { return rows; }
+        public boolean isDone() { return done; }
+    }
+}
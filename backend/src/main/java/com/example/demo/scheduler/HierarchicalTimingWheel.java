@@ -0,0 +1,140 @@
+package com.example.demo.scheduler;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 계층형 타이밍 휠
+ * - 0단계: tickMs 간격 버킷 wheelSize개, 상위 단계는 하위 단계 한 바퀴를 한 칸으로 사용
+ * - 먼 항목은 상위 단계에 두었다가 해당 칸에 도달하면 하위 단계로 내려 보낸다
+ * - 추가/만료 모두 O(1)이며, advance 한 번에 만료된 항목을 모아서 반환한다
+ * - 만료 판정은 tickMs 단위 (같은 틱 안의 항목은 함께 만료된다)
+ *
+ * 스레드 안전 (모든 공개 메서드 synchronized)
+ */
+public class HierarchicalTimingWheel<T> {
+
+    private final long tickMs;
+    private final int wheelSize;
+    private final List<Level> levels;
+    private long currentTime;     // tickMs 단위로 내림한 현재 시각
+    private int size;
+
+    /**
+     * @param tickMs 0단계 버킷 간격
+     * @param wheelSize 단계별 버킷 수
+     * @param levelCount 단계 수 (표현 가능 범위 = tickMs * wheelSize^levelCount)
+     * @param startMs 시작 시각
+     */
+    public HierarchicalTimingWheel(long tickMs, int wheelSize, int levelCount, long startMs) {
+        this.tickMs = tickMs;
+        this.wheelSize = wheelSize;
+        this.levels = new ArrayList<>(levelCount);
+        long levelTick = tickMs;
+        for (int i = 0; i < levelCount; i++) {
+            levels.add(new Level(levelTick, wheelSize));
+            levelTick *= wheelSize;
+        }
+        this.currentTime = startMs - (startMs % tickMs);
+    }
+
+    /**
+     * 항목 추가
+     * @return 이미 만료된 시각이면 false (호출자가 바로 처리)
+     */
+    public synchronized boolean add(long expiresAtMs, T item) {
+        if (!place(new Entry<>(expiresAtMs, item))) {
+            return false;
+        }
+        size++;
+        return true;
+    }
+
+    /**
+     * nowMs까지 시계를 진행하고 만료된 항목을 반환
+     */
+    public synchronized List<T> advance(long nowMs) {
+        List<T> expired = new ArrayList<>();
+        while (currentTime + tickMs <= nowMs) {
+            currentTime += tickMs;
+            // 상위 단계부터 현재 칸을 비워 하위 단계로 내려 보낸다
+            for (int i = levels.size() - 1; i >= 0; i--) {
+                Level level = levels.get(i);
+                if (currentTime % level.tickMs != 0) {
+                    continue;
+                }
+                List<Entry<T>> bucket = level.drain(currentTime);
+                for (Entry<T> entry : bucket) {
+                    if (i == 0 || !place(entry)) {
+                        expired.add(entry.item);
+                        size--;
+                    }
+                }
+            }
+        }
+        return expired;
+    }
+
+    /**
+     * 현재 휠이 담을 수 있는 마지막 시각 (이 시각 이후 항목은 추가할 수 없음)
+     */
+    public synchronized long getHorizonMs() {
+        Level top = levels.get(levels.size() - 1);
+        return currentTime - (currentTime % top.tickMs) + top.interval;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    // 만료 시각을 담을 수 있는 가장 낮은 단계에 배치, 이미 만료됐으면 false
+    private boolean place(Entry<T> entry) {
+        if (entry.expiresAtMs < currentTime + tickMs) {
+            return false;
+        }
+        for (Level level : levels) {
+            long levelCurrent = currentTime - (currentTime % level.tickMs);
+            if (entry.expiresAtMs < levelCurrent + level.interval) {
+                level.bucketOf(entry.expiresAtMs).add(entry);
+                return true;
+            }
+        }
+        throw new IllegalArgumentException("타이밍 휠 범위를 벗어났습니다: " + entry.expiresAtMs);
+    }
+
+    private final class Level {
+        private final long tickMs;
+        private final long interval;
+        private final List<List<Entry<T>>> buckets;
+
+        private Level(long tickMs, int wheelSize) {
+            this.tickMs = tickMs;
+            this.interval = tickMs * wheelSize;
+            this.buckets = new ArrayList<>(wheelSize);
+            for (int i = 0; i < wheelSize; i++) {
+                buckets.add(new ArrayList<>());
+            }
+        }
+
+        private List<Entry<T>> bucketOf(long timeMs) {
+            return buckets.get((int) ((timeMs / tickMs) % wheelSize));
+        }
+
+        private List<Entry<T>> drain(long timeMs) {
+            List<Entry<T>> bucket = bucketOf(timeMs);
+            List<Entry<T>> drained = new ArrayList<>(bucket);
+            bucket.clear();
+            return drained;
+        }
+    }
+
+    private static final class Entry<T> {
+        private final long expiresAtMs;
+        private final T item;
+
+        private Entry(long expiresAtMs, T item) {
+            this.expiresAtMs = expiresAtMs;
+            this.item = item;
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package com.example.demo.scheduler;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.example.demo.dao.ScheduledJobDao;
+import com.example.demo.model.ScheduledJobLock;
+import com.example.demo.model.ScheduledJobRun;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 클러스터 안전 스케줄 작업 실행기
+ * - scheduled_job_lock 리스로 작업별 단일 인스턴스 실행 보장
+ * - 청크마다 체크포인트 저장 + 리스 연장, 중단되면 다른 인스턴스가 이어서 실행
+ * - 같은 실행 키로 max-attempts번 실패하면 더 이상 재개하지 않고 FAILED로 끝냄
+ * - 실행마다 scheduled_job_run 이력 기록 (소요 시간, 처리 건수), run-retention-days가 지난 이력은 매일 삭제
+ *
+ * 작업들은 spring.task.scheduling.pool.size 크기의 스케줄러 풀에서 병렬로 실행된다.
+ */
+@Slf4j
+@Component
+public class ScheduledJobRunner {
+
+    @Autowired
+    private ScheduledJobDao scheduledJobDao;
+
+    @Lazy
+    @Autowired
+    private List<ChunkedJob> jobs;
+
+    @Value("${synodos.scheduler.instance-id:}")
+    private String instanceId;
+
+    @Value("${synodos.scheduler.lease-seconds:300}")
+    private int leaseSeconds;
+
+    @Value("${synodos.scheduler.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${synodos.scheduler.run-retention-days:30}")
+    private int runRetentionDays;
+
+    @Value("${synodos.scheduler.max-attempts:5}")
+    private int maxAttempts;
+
+    @PostConstruct
+    public void init() {
+        if (instanceId == null || instanceId.isBlank()) {
+            // pid@hostname
+            instanceId = ManagementFactory.getRuntimeMXBean().getName();
+        }
+        log.info("Scheduled job runner instance: {}", instanceId);
+    }
+
+    /**
+     * 작업 실행 (잠금을 얻지 못하면 다른 인스턴스가 실행 중이므로 건너뜀)
+     * @return 실행 이력, 건너뛴 경우 null
+     */
+    public ScheduledJobRun run(ChunkedJob job, String runKey) {
+        String jobName = job.getJobName();
+        if (scheduledJobDao.tryAcquireLock(jobName, instanceId, leaseSeconds) == 0) {
+            log.info("Job {} is running on another instance, skipping", jobName);
+            return null;
+        }
+
+        scheduledJobDao.beginRun(jobName, instanceId, runKey);
+        ScheduledJobLock lock = scheduledJobDao.findLock(jobName);
+        long afterKey = lock.getCheckpointKey() != null ? lock.getCheckpointKey() : 0L;
+
+        ScheduledJobRun run = new ScheduledJobRun();
+        run.setJobName(jobName);
+        run.setRunKey(runKey);
+        run.setInstanceId(instanceId);
+        run.setStatus(ScheduledJobRun.STATUS_RUNNING);
+        run.setResumedFrom(lock.getCheckpointKey());
+        scheduledJobDao.insertRun(run);
+
+        if (lock.getCheckpointKey() != null) {
+            log.info("Resuming job {} ({}) from checkpoint {}", jobName, runKey, afterKey);
+        }
+
+        long startedAt = System.currentTimeMillis();
+        try {
+            while (true) {
+                ChunkedJob.ChunkResult result = job.processChunk(runKey, afterKey, chunkSize);
+                afterKey = result.getLastKey();
+                run.setRowsProcessed(run.getRowsProcessed() + result.getRows());
+                run.setChunksProcessed(run.getChunksProcessed() + 1);
+
+                if (result.isDone()) {
+                    break;
+                }
+                if (scheduledJobDao.saveCheckpoint(jobName, instanceId, afterKey, leaseSeconds) == 0) {
+                    throw new RuntimeException("작업 잠금을 잃었습니다: " + jobName);
+                }
+                scheduledJobDao.updateRunProgress(run);
+            }
+
+            scheduledJobDao.completeRun(jobName, instanceId);
+            run.setStatus(ScheduledJobRun.STATUS_SUCCESS);
+            log.info("Job {} ({}) complete: {} rows in {} chunks ({} ms)",
+                jobName, runKey, run.getRowsProcessed(), run.getChunksProcessed(),
+                System.currentTimeMillis() - startedAt);
+        } catch (Exception e) {
+            run.setStatus(ScheduledJobRun.STATUS_FAILED);
+            run.setErrorMessage(e.getMessage());
+            if (lock.getAttempts() >= maxAttempts) {
+                // 재시도 횟수 초과 → 체크포인트까지 정리해 복구 대상에서 제외
+                scheduledJobDao.completeRun(jobName, instanceId);
+                run.setErrorMessage(e.getMessage() + " (" + lock.getAttempts() + "회 실패, 재시도 중단)");
+                log.error("Job {} ({}) failed {} times, giving up: {}", jobName, runKey, lock.getAttempts(), e.getMessage());
+            } else {
+                // 체크포인트는 남겨두고 잠금만 해제 → 복구 주기에 이어서 실행
+                scheduledJobDao.releaseLock(jobName, instanceId);
+                log.error("Job {} ({}) failed at checkpoint {}: {}", jobName, runKey, afterKey, e.getMessage());
+            }
+        }
+
+        run.setDurationMs(System.currentTimeMillis() - startedAt);
+        scheduledJobDao.finishRun(run);
+        return run;
+    }
+
+    /**
+     * 중단/실패한 실행 재개
+     * 리스가 만료됐는데 run_key가 남아 있는 작업을 체크포인트부터 다시 실행한다.
+     * 실행 중 인스턴스가 계속 중단되어 시도 횟수를 다 쓴 실행은 재개하지 않고 FAILED 이력만 남긴다.
+     */
+    @Scheduled(fixedDelayString = "${synodos.scheduler.recovery-interval-ms:300000}",
+               initialDelayString = "${synodos.scheduler.recovery-interval-ms:300000}")
+    public void resumeStaleRuns() {
+        List<ScheduledJobLock> staleRuns = scheduledJobDao.listStaleRuns();
+        for (ScheduledJobLock stale : staleRuns) {
+            ChunkedJob job = findJob(stale.getJobName());
+            if (job == null) {
+                continue;
+            }
+            if (stale.getAttempts() >= maxAttempts) {
+                abandon(stale);
+                continue;
+            }
+            log.warn("Found interrupted run of job {} ({}), resuming", stale.getJobName(), stale.getRunKey());
+            run(job, stale.getRunKey());
+        }
+    }
+
+    private void abandon(ScheduledJobLock stale) {
+        if (scheduledJobDao.abandonRun(stale.getJobName(), stale.getRunKey()) == 0) {
+            return;
+        }
+        ScheduledJobRun run = new ScheduledJobRun();
+        run.setJobName(stale.getJobName());
+        run.setRunKey(stale.getRunKey());
+        run.setInstanceId(instanceId);
+        run.setStatus(ScheduledJobRun.STATUS_FAILED);
+        run.setResumedFrom(stale.getCheckpointKey());
+        scheduledJobDao.insertRun(run);
+        run.setDurationMs(0L);
+        run.setErrorMessage("최대 시도 횟수(" + maxAttempts + "회)를 넘겨 재개하지 않습니다.");
+        scheduledJobDao.finishRun(run);
+        log.error("Job {} ({}) was interrupted {} times, giving up", stale.getJobName(), stale.getRunKey(), stale.getAttempts());
+    }
+
+    /**
+     * 오래된 실행 이력 정리 (매일 04:00)
+     */
+    @Scheduled(cron = "${synodos.scheduler.cleanup-cron:0 0 4 * * *}")
+    public void cleanupRuns() {
+        int deleted = scheduledJobDao.deleteRunsOlderThan(runRetentionDays);
+        if (deleted > 0) {
+            log.info("Removed {} scheduled job runs older than {} days", deleted, runRetentionDays);
+        }
+    }
+
+    public String getInstanceId() {
+        return instanceId;
+    }
+
+    /**
+     * 최근 실행 이력 조회
+     */
+    public List<ScheduledJobRun> listRuns(String jobName, int limit) {
+        return scheduledJobDao.listRuns(jobName, limit);
+    }
+
+    private ChunkedJob findJob(String jobName) {
+        for (ChunkedJob job : jobs) {
+            if (job.getJobName().equals(jobName)) {
+                return job;
+            }
+        }
+        return null;
+    }
+}
@@ -18,6 +18,7 @@ import com.example.demo.dao.MemberDao;
 import com.example.demo.dao.MemberSocialLinkDao;
 import com.example.demo.model.Member;
 import com.example.demo.model.MemberSocialLink;
+import com.example.demo.service.GitHubIdentityService;
 
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -29,16 +30,19 @@ public class OAuth2SuccessHandler implements AuthenticationSuccessHandler {
     private final MemberDao memberDao;
     private final MemberSocialLinkDao socialLinkDao;
     private final OAuth2AuthorizedClientService authorizedClientService;
+    private final GitHubIdentityService identityService;
 
     public OAuth2SuccessHandler(
             JwtTokenProvider jwtTokenProvider,
             MemberDao memberDao,
             MemberSocialLinkDao socialLinkDao,
-            OAuth2AuthorizedClientService authorizedClientService) {
+            OAuth2AuthorizedClientService authorizedClientService,
+            GitHubIdentityService identityService) {
         this.jwtTokenProvider = jwtTokenProvider;
         this.memberDao = memberDao;
         this.socialLinkDao = socialLinkDao;
         this.authorizedClientService = authorizedClientService;
+        this.identityService = identityService;
     }
 
     @Override
@@ -244,6 +248,7 @@ public class OAuth2SuccessHandler implements AuthenticationSuccessHandler {
                     member.setGithubUsername(githubUsername);
                     member.setGithubAccessToken(githubAccessToken);
                     int result = memberDao.updateGitHubConnection(member);
+                    identityService.invalidateMember(member.getNo(), githubUsername);
                     System.out.println("[DEBUG] updateGitHubConnection 결과: " + result);
                     System.out.println("GitHub access token 저장 완료: " + githubUsername);
                 } else {
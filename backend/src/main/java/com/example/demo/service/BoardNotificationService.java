@@ -5,6 +5,7 @@ import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 
 import com.example.demo.dto.BoardEvent;
+import com.example.demo.model.GitHubBulkJob;
 import com.example.demo.model.SynodosColumn;
 import com.example.demo.model.Task;
 import com.example.demo.model.Comment;
@@ -69,6 +70,11 @@ public class BoardNotificationService {
 		sendBoardEvent(teamId, "TASK_DATES_CHANGED", "task", task);
 	}
 
+	// GitHub Bulk Job Events (import/export progress)
+	public void notifyGitHubJobProgress(GitHubBulkJob job) {
+		sendBoardEvent(job.getTeamId(), "GITHUB_JOB_PROGRESS", "githubJob", job);
+	}
+
 	private void sendBoardEvent(int teamId, String eventType, String entityType, Object payload) {
 		BoardEvent event = new BoardEvent(
 			eventType,
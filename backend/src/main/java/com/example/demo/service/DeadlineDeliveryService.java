@@ -0,0 +1,163 @@
+package com.example.demo.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.example.demo.dao.NotificationDao;
+import com.example.demo.dao.ScheduledJobDao;
+import com.example.demo.model.DeadlineDelivery;
+import com.example.demo.model.ScheduledJobLock;
+import com.example.demo.scheduler.HierarchicalTimingWheel;
+import com.example.demo.scheduler.ScheduledJobRunner;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 시간대별 마감일 알림 분산 발송 서비스
+ * - 회원 시간대 기준 발송 창(windowStart부터 windowMinutes) 안에서 회원 번호 해시로 발송 시각을 분산
+ * - 다음 slice 구간에 발송할 항목만 DB에서 읽어 계층형 타이밍 휠에 적재
+ * - 휠은 1초마다 진행하며 만료된 항목을 한 번의 INSERT로 저장
+ *
+ * 적재는 scheduled_job_lock 리스를 가진 인스턴스 하나만 수행하고, 적재 완료 시각을 체크포인트로 남겨
+ * 다른 인스턴스가 인계받으면 직전 slice부터 다시 적재한다 (이미 보낸 알림은 유니크 키로 걸러짐).
+ */
+@Slf4j
+@Service
+public class DeadlineDeliveryService {
+
+    public static final String LOADER_JOB_NAME = "deadline-delivery-loader";
+
+    private static final long TICK_MS = 1000;
+    private static final int WHEEL_SIZE = 60;
+    private static final int WHEEL_LEVELS = 3;                        // 1초 / 1분 / 1시간 단위 (최대 60시간)
+    private static final long MAX_CATCH_UP_MS = 24L * 60 * 60 * 1000;  // 장시간 중단 후 재적재 한도
+    private static final long RETRY_DELAY_MS = 30_000;
+
+    @Autowired
+    private NotificationDao notificationDao;
+
+    @Autowired
+    private ScheduledJobDao scheduledJobDao;
+
+    @Autowired
+    private ScheduledJobRunner jobRunner;
+
+    @Value("${synodos.deadline.delivery.enabled:true}")
+    private boolean enabled;
+
+    @Value("${synodos.deadline.delivery.window-start:09:00}")
+    private String windowStart;
+
+    @Value("${synodos.deadline.delivery.window-minutes:120}")
+    private int windowMinutes;
+
+    @Value("${synodos.deadline.delivery.slice-minutes:10}")
+    private int sliceMinutes;
+
+    @Value("${synodos.deadline.delivery.default-time-zone:Asia/Seoul}")
+    private String defaultTimeZone;
+
+    @Value("${synodos.deadline.delivery.batch-size:500}")
+    private int batchSize;
+
+    @Value("${synodos.scheduler.lease-seconds:300}")
+    private int leaseSeconds;
+
+    private HierarchicalTimingWheel<DeadlineDelivery> wheel;
+
+    // 이 인스턴스가 적재를 마친 시각 (null이면 적재 담당이 아님)
+    private Long loadedUntilMs;
+
+    @PostConstruct
+    public void init() {
+        wheel = new HierarchicalTimingWheel<>(TICK_MS, WHEEL_SIZE, WHEEL_LEVELS, System.currentTimeMillis());
+    }
+
+    /**
+     * 다음 slice 구간의 발송 항목을 휠에 적재
+     */
+    @Scheduled(fixedDelayString = "${synodos.deadline.delivery.load-interval-ms:60000}")
+    public void loadNextSlice() {
+        if (!enabled) {
+            return;
+        }
+
+        String instanceId = jobRunner.getInstanceId();
+        if (scheduledJobDao.tryAcquireLock(LOADER_JOB_NAME, instanceId, leaseSeconds) == 0) {
+            loadedUntilMs = null;
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        long sliceMs = sliceMinutes * 60_000L;
+        if (loadedUntilMs == null) {
+            // 새로 인계받음: 이전 담당자의 휠에 남아 있었을 수 있는 직전 slice부터 다시 적재
+            ScheduledJobLock lock = scheduledJobDao.findLock(LOADER_JOB_NAME);
+            long from = lock.getCheckpointKey() != null ? Math.min(lock.getCheckpointKey(), now) - sliceMs : now;
+            loadedUntilMs = Math.max(from, now - MAX_CATCH_UP_MS);
+            log.info("Deadline delivery loader acquired by {}, loading from {}", instanceId, loadedUntilMs);
+        }
+
+        long target = now + sliceMs;
+        if (loadedUntilMs < target) {
+            List<DeadlineDelivery> deliveries = notificationDao.listDeadlineDeliveries(
+                loadedUntilMs, target, windowStart, windowMinutes * 60, 1, defaultTimeZone);
+
+            List<DeadlineDelivery> overdue = new ArrayList<>();
+            for (DeadlineDelivery delivery : deliveries) {
+                if (!wheel.add(delivery.getDeliverAtMs(), delivery)) {
+                    overdue.add(delivery);
+                }
+            }
+            log.debug("Loaded {} deadline deliveries for [{}, {}), {} already due",
+                deliveries.size(), loadedUntilMs, target, overdue.size());
+
+            loadedUntilMs = target;
+            deliver(overdue);
+        }
+
+        if (scheduledJobDao.saveCheckpoint(LOADER_JOB_NAME, instanceId, loadedUntilMs, leaseSeconds) == 0) {
+            loadedUntilMs = null;
+        }
+    }
+
+    /**
+     * 휠 진행: 발송 시각이 된 항목 저장
+     */
+    @Scheduled(fixedRate = TICK_MS)
+    public void tick() {
+        if (!enabled) {
+            return;
+        }
+        deliver(wheel.advance(System.currentTimeMillis()));
+    }
+
+    /**
+     * 휠에 대기 중인 발송 항목 수
+     */
+    public int getPendingCount() {
+        return wheel.size();
+    }
+
+    private void deliver(List<DeadlineDelivery> deliveries) {
+        for (int from = 0; from < deliveries.size(); from += batchSize) {
+            List<DeadlineDelivery> batch = deliveries.subList(from, Math.min(from + batchSize, deliveries.size()));
+            try {
+                notificationDao.insertDeadlineDeliveries(batch);
+            } catch (Exception e) {
+                // 잠시 후 다시 시도 (같은 날 중복은 유니크 키로 걸러짐)
+                log.error("Failed to deliver {} deadline notifications: {}", batch.size(), e.getMessage());
+                long retryAt = System.currentTimeMillis() + RETRY_DELAY_MS;
+                for (DeadlineDelivery delivery : batch) {
+                    wheel.add(retryAt, delivery);
+                }
+            }
+        }
+    }
+}
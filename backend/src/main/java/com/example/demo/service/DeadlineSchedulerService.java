@@ -1,20 +1,16 @@
 package com.example.demo.service;
 
-import java.time.format.DateTimeFormatter;
-import java.util.HashSet;
-import java.util.List;
-import java.util.Set;
+import java.time.LocalDate;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import com.example.demo.dao.NotificationDao;
-import com.example.demo.dao.TaskAssigneeDao;
 import com.example.demo.dao.TaskDao;
-import com.example.demo.model.Notification;
-import com.example.demo.model.Task;
-import com.example.demo.model.TaskAssignee;
+import com.example.demo.model.ScheduledJobRun;
+import com.example.demo.scheduler.ChunkedJob;
+import com.example.demo.scheduler.ScheduledJobRunner;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -22,155 +18,71 @@ import lombok.extern.slf4j.Slf4j;
  * 마감일 알림 스케줄러 서비스
  * - 마감일 임박 태스크 알림 (1일 이내)
  * - 마감일 초과 태스크 알림
+ *
+ * 알림은 open_task_due(미완료 마감일 프로젝션) + task_assignee 조인 결과를 INSERT ... SELECT로 생성하며,
+ * (수신자, 태스크, 타입, 날짜) 유니크 키로 같은 날 중복 알림을 막는다.
+ * ScheduledJobRunner 위에서 task_id 구간 단위로 실행되므로 여러 인스턴스 중 하나만 실행하고,
+ * 중단되면 마지막 구간 다음부터 이어서 실행된다.
+ *
+ * 평상시 발송은 회원 시간대별로 분산하는 DeadlineDeliveryService가 담당하고,
+ * 이 일괄 경로는 synodos.deadline.cron 지정 시 또는 수동 실행에만 사용한다.
  */
 @Slf4j
 @Service
-public class DeadlineSchedulerService {
+public class DeadlineSchedulerService implements ChunkedJob {
 
-    @Autowired
-    private TaskDao taskDao;
+    public static final String JOB_NAME = "deadline-notifications";
 
     @Autowired
-    private TaskAssigneeDao assigneeDao;
+    private NotificationDao notificationDao;
 
     @Autowired
-    private NotificationService notificationService;
+    private TaskDao taskDao;
 
     @Autowired
-    private NotificationDao notificationDao;
-
-    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+    private ScheduledJobRunner jobRunner;
 
     /**
-     * 매일 오전 9시에 마감일 알림 발송
+     * 서버 시각 기준 일괄 발송 (synodos.deadline.cron, 기본 비활성)
      * cron: 초 분 시 일 월 요일
+     * @return 실행 이력 (다른 인스턴스가 실행 중이면 null)
      */
-    @Scheduled(cron = "0 0 9 * * *")
-    public void sendDeadlineNotifications() {
+    @Scheduled(cron = "${synodos.deadline.cron:-}")
+    public ScheduledJobRun sendDeadlineNotifications() {
         log.info("Starting deadline notification scheduler...");
-
-        int approachingCount = sendApproachingDeadlineNotifications();
-        int overdueCount = sendOverdueNotifications();
-
-        log.info("Deadline notification complete. Approaching: {}, Overdue: {}",
-            approachingCount, overdueCount);
+        return jobRunner.run(this, LocalDate.now().toString());
     }
 
-    /**
-     * 마감일 임박 알림 발송 (1일 이내)
-     */
-    public int sendApproachingDeadlineNotifications() {
-        List<Task> tasks = taskDao.listTasksApproachingDeadline(1);
-        int count = 0;
-
-        for (Task task : tasks) {
-            try {
-                // 이미 같은 날 알림을 보냈는지 확인 (중복 방지)
-                if (hasRecentNotification(task.getTaskId(), Notification.TYPE_DEADLINE_APPROACHING)) {
-                    log.debug("Skipping approaching deadline notification for task {} - already notified",
-                        task.getTaskId());
-                    continue;
-                }
-
-                String dueDate = task.getDueDate() != null
-                    ? task.getDueDate().toLocalDate().format(DATE_FORMATTER)
-                    : "미정";
-                int teamId = task.getTeamId() != null ? task.getTeamId() : 0;
-
-                // 담당자들에게 알림 발송
-                Set<Integer> notified = new HashSet<>();
-                List<TaskAssignee> assignees = assigneeDao.listByTask(task.getTaskId());
-
-                for (TaskAssignee assignee : assignees) {
-                    if (!notified.contains(assignee.getMemberNo())) {
-                        notificationService.notifyDeadlineApproaching(
-                            assignee.getMemberNo(),
-                            task.getTaskId(),
-                            task.getTitle(),
-                            dueDate,
-                            teamId
-                        );
-                        notified.add(assignee.getMemberNo());
-                        count++;
-                    }
-                }
-
-                log.debug("Sent approaching deadline notification for task {}: {}",
-                    task.getTaskId(), task.getTitle());
-            } catch (Exception e) {
-                log.error("Failed to send approaching deadline notification for task {}: {}",
-                    task.getTaskId(), e.getMessage());
-            }
-        }
-
-        return count;
+    @Override
+    public String getJobName() {
+        return JOB_NAME;
     }
 
     /**
-     * 마감일 초과 알림 발송
+     * task_id 구간 하나에 대해 임박/초과 알림 생성
+     * 실행 날짜(runKey) 기준으로 계산하므로 자정을 넘겨 재개돼도 같은 날의 알림이 만들어진다.
      */
-    public int sendOverdueNotifications() {
-        List<Task> tasks = taskDao.listOverdueTasks();
-        int count = 0;
-
-        for (Task task : tasks) {
-            try {
-                // 이미 같은 날 알림을 보냈는지 확인 (중복 방지)
-                if (hasRecentNotification(task.getTaskId(), Notification.TYPE_DEADLINE_OVERDUE)) {
-                    log.debug("Skipping overdue notification for task {} - already notified",
-                        task.getTaskId());
-                    continue;
-                }
-
-                String dueDate = task.getDueDate() != null
-                    ? task.getDueDate().toLocalDate().format(DATE_FORMATTER)
-                    : "미정";
-                int teamId = task.getTeamId() != null ? task.getTeamId() : 0;
-
-                // 담당자들에게 알림 발송
-                Set<Integer> notified = new HashSet<>();
-                List<TaskAssignee> assignees = assigneeDao.listByTask(task.getTaskId());
-
-                for (TaskAssignee assignee : assignees) {
-                    if (!notified.contains(assignee.getMemberNo())) {
-                        notificationService.notifyDeadlineOverdue(
-                            assignee.getMemberNo(),
-                            task.getTaskId(),
-                            task.getTitle(),
-                            dueDate,
-                            teamId
-                        );
-                        notified.add(assignee.getMemberNo());
-                        count++;
-                    }
-                }
-
-                log.debug("Sent overdue notification for task {}: {}",
-                    task.getTaskId(), task.getTitle());
-            } catch (Exception e) {
-                log.error("Failed to send overdue notification for task {}: {}",
-                    task.getTaskId(), e.getMessage());
-            }
+    @Override
+    public ChunkResult processChunk(String runKey, long afterKey, int chunkSize) {
+        Integer upToTaskId = taskDao.findOpenDueTaskIdChunkEnd(afterKey, chunkSize);
+        if (upToTaskId == null) {
+            return ChunkResult.done(afterKey, 0);
         }
 
-        return count;
-    }
+        LocalDate runDate = LocalDate.parse(runKey);
+        int approachingCount = notificationDao.insertDeadlineApproaching(runDate, 1, afterKey, upToTaskId);
+        int overdueCount = notificationDao.insertDeadlineOverdue(runDate, afterKey, upToTaskId);
+        log.debug("Deadline chunk ({}, {}]: approaching {}, overdue {}",
+            afterKey, upToTaskId, approachingCount, overdueCount);
 
-    /**
-     * 최근 24시간 이내에 같은 타입의 알림이 발송되었는지 확인
-     */
-    private boolean hasRecentNotification(int taskId, String notificationType) {
-        // NotificationDao에 조회 메서드 추가 필요 시 여기서 체크
-        // 현재는 단순화를 위해 false 반환 (중복 알림 가능)
-        // TODO: 중복 알림 방지 로직 구현
-        return false;
+        return ChunkResult.next(upToTaskId, approachingCount + overdueCount);
     }
 
     /**
      * 수동으로 마감일 알림 발송 (테스트/관리용)
      */
-    public void triggerDeadlineNotifications() {
+    public ScheduledJobRun triggerDeadlineNotifications() {
         log.info("Manually triggering deadline notifications...");
-        sendDeadlineNotifications();
+        return sendDeadlineNotifications();
     }
 }
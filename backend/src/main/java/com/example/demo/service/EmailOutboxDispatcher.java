@@ -0,0 +1,369 @@
+package com.example.demo.service;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.example.demo.dao.EmailOutboxDao;
+import com.example.demo.model.EmailOutbox;
+import com.example.demo.scheduler.ScheduledJobRunner;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.ses.SesClient;
+import software.amazon.awssdk.services.ses.model.BulkEmailDestination;
+import software.amazon.awssdk.services.ses.model.BulkEmailDestinationStatus;
+import software.amazon.awssdk.services.ses.model.BulkEmailStatus;
+import software.amazon.awssdk.services.ses.model.Destination;
+import software.amazon.awssdk.services.ses.model.GetTemplateRequest;
+import software.amazon.awssdk.services.ses.model.SendBulkTemplatedEmailRequest;
+import software.amazon.awssdk.services.ses.model.SendBulkTemplatedEmailResponse;
+import software.amazon.awssdk.services.ses.model.Template;
+import software.amazon.awssdk.services.ses.model.TemplateDoesNotExistException;
+
+/**
+ * 이메일 발송 대기열(email_outbox) 처리기
+ * - 주기적으로 발송할 메일을 잠그고 가져와 워커 풀에 나눠 발송
+ * - SMTP: 워커 스레드마다 Transport 연결을 유지하며 재사용 (끊기면 재연결)
+ * - SES: email.outbox.transport=ses 설정 시 SES 일괄 발송 API로 최대 50건씩 한 번에 발송
+ *   (제목/본문을 그대로 치환하는 템플릿을 사용, 수신자별 결과로 성공/재시도 판단)
+ * - 실패 시 지수 백오프로 재시도, 최대 횟수를 넘으면 FAILED
+ * - 발송 완료 메일은 retention-days가 지나면 매일 삭제
+ */
+@Slf4j
+@Service
+public class EmailOutboxDispatcher {
+
+	private static final long MAX_BACKOFF_SECONDS = 60 * 60;
+	private static final int SES_MAX_DESTINATIONS = 50;   // SendBulkTemplatedEmail 한 번에 보낼 수 있는 수신자 수
+
+	@Autowired
+	private EmailOutboxDao emailOutboxDao;
+
+	@Autowired
+	private JavaMailSenderImpl mailSender;
+
+	@Autowired
+	private ScheduledJobRunner jobRunner;
+
+	@Value("${email.environment:dev}")
+	private String environment;
+
+	@Value("${spring.mail.username:}")
+	private String sender;
+
+	@Value("${email.outbox.transport:smtp}")
+	private String transportType;
+
+	@Value("${email.outbox.workers:4}")
+	private int workerCount;
+
+	@Value("${email.outbox.batch-size:50}")
+	private int batchSize;
+
+	@Value("${email.outbox.max-attempts:5}")
+	private int maxAttempts;
+
+	@Value("${email.outbox.backoff-seconds:30}")
+	private long backoffSeconds;
+
+	@Value("${email.outbox.lease-seconds:120}")
+	private int leaseSeconds;
+
+	@Value("${email.outbox.ses.region:ap-northeast-2}")
+	private String sesRegion;
+
+	@Value("${email.outbox.ses.from:}")
+	private String sesFrom;
+
+	@Value("${email.outbox.ses.template:synodos-outbox}")
+	private String sesTemplate;
+
+	@Value("${email.outbox.retention-days:7}")
+	private int retentionDays;
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	private ExecutorService workers;
+	private SesClient sesClient;
+
+	// 워커 스레드별 SMTP 연결 (스레드가 유지되는 동안 재사용)
+	private final ThreadLocal<Transport> smtpTransport = new ThreadLocal<>();
+	private final Set<Transport> openTransports = ConcurrentHashMap.newKeySet();
+
+	@PostConstruct
+	public void init() {
+		AtomicInteger threadNo = new AtomicInteger();
+		workers = Executors.newFixedThreadPool(workerCount, r -> {
+			Thread thread = new Thread(r, "email-outbox-" + threadNo.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+		if (isSes()) {
+			sesClient = SesClient.builder().region(Region.of(sesRegion)).build();
+			ensureSesTemplate();
+		}
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		workers.shutdown();
+		for (Transport transport : openTransports) {
+			closeQuietly(transport);
+		}
+		if (sesClient != null) {
+			sesClient.close();
+		}
+	}
+
+	/**
+	 * 대기열 처리 (가져온 묶음을 워커 수만큼 나눠 병렬 발송 후 결과 반영)
+	 */
+	@Scheduled(fixedDelayString = "${email.outbox.poll-interval-ms:1000}")
+	public void dispatch() {
+		if ("dev".equals(environment)) {
+			return;
+		}
+
+		List<EmailOutbox> batch = emailOutboxDao.claimBatch(jobRunner.getInstanceId(), batchSize, leaseSeconds);
+		if (batch.isEmpty()) {
+			return;
+		}
+
+		// SES는 일괄 발송 단위(50건)로 묶어 호출 수를 줄이고, SMTP는 워커 수만큼 고르게 나눔
+		int groupCount = isSes()
+			? (batch.size() + SES_MAX_DESTINATIONS - 1) / SES_MAX_DESTINATIONS
+			: batch.size();
+		List<List<EmailOutbox>> groups = new ArrayList<>();
+		for (int i = 0; i < Math.min(workerCount, groupCount); i++) {
+			groups.add(new ArrayList<>());
+		}
+		for (int i = 0; i < batch.size(); i++) {
+			groups.get(i % groups.size()).add(batch.get(i));
+		}
+
+		List<Future<List<Integer>>> futures = new ArrayList<>();
+		for (List<EmailOutbox> group : groups) {
+			futures.add(workers.submit(() -> sendGroup(group)));
+		}
+
+		List<Integer> sentIds = new ArrayList<>();
+		for (Future<List<Integer>> future : futures) {
+			try {
+				sentIds.addAll(future.get());
+			} catch (Exception e) {
+				// 결과를 못 받은 메일은 리스 만료 후 다시 발송 대상이 됨
+				log.error("Email worker failed: {}", e.getMessage());
+			}
+		}
+		if (!sentIds.isEmpty()) {
+			emailOutboxDao.markSent(sentIds);
+		}
+		log.info("Email outbox dispatched: {} sent, {} failed", sentIds.size(), batch.size() - sentIds.size());
+	}
+
+	/**
+	 * 워커 스레드에서 메일 묶음 발송
+	 * @return 발송 성공한 outbox ID 목록 (실패 건은 여기서 재시도/실패 처리)
+	 */
+	private List<Integer> sendGroup(List<EmailOutbox> group) {
+		List<Integer> sentIds = new ArrayList<>();
+		if (isSes()) {
+			for (int from = 0; from < group.size(); from += SES_MAX_DESTINATIONS) {
+				sentIds.addAll(sendViaSes(group.subList(from, Math.min(from + SES_MAX_DESTINATIONS, group.size()))));
+			}
+			return sentIds;
+		}
+		for (EmailOutbox mail : group) {
+			try {
+				sendViaSmtp(mail);
+				sentIds.add(mail.getId());
+			} catch (Exception e) {
+				handleFailure(mail, e);
+			}
+		}
+		return sentIds;
+	}
+
+	private void sendViaSmtp(EmailOutbox mail) throws MessagingException {
+		MimeMessage message = mailSender.createMimeMessage();
+		MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
+		helper.setFrom(sender);
+		helper.setTo(mail.getRecipient());
+		helper.setSubject(mail.getSubject());
+		helper.setText(mail.getBody(), true); // true = HTML
+		message.setSentDate(new Date());
+		message.saveChanges();
+
+		Transport transport = connection();
+		try {
+			transport.sendMessage(message, message.getAllRecipients());
+		} catch (MessagingException e) {
+			// 연결 문제일 수 있으므로 닫고 다음 메일에서 새로 연결
+			smtpTransport.remove();
+			openTransports.remove(transport);
+			closeQuietly(transport);
+			throw e;
+		}
+	}
+
+	/**
+	 * SES 일괄 발송 (최대 50건, 수신자별 제목/본문은 템플릿 치환 데이터로 전달)
+	 * @return 발송 성공한 outbox ID 목록 (실패 건은 여기서 재시도/실패 처리)
+	 */
+	private List<Integer> sendViaSes(List<EmailOutbox> mails) {
+		List<Integer> sentIds = new ArrayList<>();
+		List<BulkEmailDestination> destinations = new ArrayList<>();
+		List<EmailOutbox> requested = new ArrayList<>();
+		for (EmailOutbox mail : mails) {
+			try {
+				destinations.add(BulkEmailDestination.builder()
+					.destination(Destination.builder().toAddresses(mail.getRecipient()).build())
+					.replacementTemplateData(templateData(mail.getSubject(), mail.getBody()))
+					.build());
+				requested.add(mail);
+			} catch (JsonProcessingException e) {
+				handleFailure(mail, e);
+			}
+		}
+		if (requested.isEmpty()) {
+			return sentIds;
+		}
+
+		SendBulkTemplatedEmailResponse response;
+		try {
+			response = sesClient.sendBulkTemplatedEmail(SendBulkTemplatedEmailRequest.builder()
+				.source(sesFrom.isBlank() ? sender : sesFrom)
+				.template(sesTemplate)
+				.defaultTemplateData(templateData("", ""))
+				.destinations(destinations)
+				.build());
+		} catch (Exception e) {
+			for (EmailOutbox mail : requested) {
+				handleFailure(mail, e);
+			}
+			return sentIds;
+		}
+
+		// 결과는 요청한 수신자 순서대로 반환됨
+		List<BulkEmailDestinationStatus> statuses = response.status();
+		for (int i = 0; i < requested.size(); i++) {
+			EmailOutbox mail = requested.get(i);
+			BulkEmailDestinationStatus status = i < statuses.size() ? statuses.get(i) : null;
+			if (status != null && status.status() == BulkEmailStatus.SUCCESS) {
+				sentIds.add(mail.getId());
+			} else {
+				String error = status == null ? "SES 응답에 발송 결과가 없습니다."
+					: status.statusAsString() + (status.error() != null ? ": " + status.error() : "");
+				handleFailure(mail, new IllegalStateException(error));
+			}
+		}
+		return sentIds;
+	}
+
+	private String templateData(String subject, String body) throws JsonProcessingException {
+		Map<String, String> data = new LinkedHashMap<>();
+		data.put("subject", subject);
+		data.put("body", body);
+		return objectMapper.writeValueAsString(data);
+	}
+
+	/**
+	 * 일괄 발송용 SES 템플릿 준비 (제목/본문을 이스케이프 없이 그대로 치환)
+	 */
+	private void ensureSesTemplate() {
+		try {
+			sesClient.getTemplate(GetTemplateRequest.builder().templateName(sesTemplate).build());
+		} catch (TemplateDoesNotExistException e) {
+			try {
+				sesClient.createTemplate(builder -> builder.template(Template.builder()
+					.templateName(sesTemplate)
+					.subjectPart("{{{subject}}}")
+					.htmlPart("{{{body}}}")
+					.build()));
+				log.info("SES template {} created", sesTemplate);
+			} catch (Exception createError) {
+				log.warn("Failed to create SES template {}: {}", sesTemplate, createError.getMessage());
+			}
+		} catch (Exception e) {
+			log.warn("Failed to check SES template {}: {}", sesTemplate, e.getMessage());
+		}
+	}
+
+	/**
+	 * 현재 워커 스레드의 SMTP 연결 (없거나 끊겼으면 새로 연결)
+	 */
+	private Transport connection() throws MessagingException {
+		Transport transport = smtpTransport.get();
+		if (transport != null && transport.isConnected()) {
+			return transport;
+		}
+		if (transport != null) {
+			openTransports.remove(transport);
+			closeQuietly(transport);
+		}
+
+		transport = mailSender.getSession().getTransport(mailSender.getProtocol());
+		transport.connect(mailSender.getHost(), mailSender.getPort(), mailSender.getUsername(), mailSender.getPassword());
+		smtpTransport.set(transport);
+		openTransports.add(transport);
+		return transport;
+	}
+
+	private void handleFailure(EmailOutbox mail, Exception e) {
+		String error = e.getMessage();
+		if (mail.getAttempts() >= maxAttempts) {
+			emailOutboxDao.markFailed(mail.getId(), error);
+			log.error("Email to {} failed permanently after {} attempts: {}", mail.getRecipient(), mail.getAttempts(), error);
+			return;
+		}
+		long delay = Math.min(backoffSeconds << Math.min(mail.getAttempts() - 1, 20), MAX_BACKOFF_SECONDS);
+		emailOutboxDao.markRetry(mail.getId(), delay, error);
+		log.warn("Email to {} failed (attempt {}), retrying in {}s: {}", mail.getRecipient(), mail.getAttempts(), delay, error);
+	}
+
+	/**
+	 * 발송 완료 메일 정리 (매일 04:15)
+	 */
+	@Scheduled(cron = "${email.outbox.cleanup-cron:0 15 4 * * *}")
+	public void cleanup() {
+		int deleted = emailOutboxDao.deleteSentOlderThan(retentionDays);
+		if (deleted > 0) {
+			log.info("Removed {} sent emails older than {} days", deleted, retentionDays);
+		}
+	}
+
+	private boolean isSes() {
+		return "ses".equalsIgnoreCase(transportType);
+	}
+
+	private void closeQuietly(Transport transport) {
+		try {
+			transport.close();
+		} catch (MessagingException e) {
+			log.debug("Failed to close SMTP connection: {}", e.getMessage());
+		}
+	}
+}
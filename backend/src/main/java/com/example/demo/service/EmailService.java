@@ -2,13 +2,12 @@ package com.example.demo.service;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
 import lombok.extern.slf4j.Slf4j;
 
-import jakarta.mail.MessagingException;
-import jakarta.mail.internet.MimeMessage;
+import com.example.demo.dao.EmailOutboxDao;
+import com.example.demo.model.EmailOutbox;
+
 import java.util.Random;
 
 @Slf4j
@@ -16,14 +15,11 @@ import java.util.Random;
 public class EmailService {
 
 	@Autowired
-	private JavaMailSender mailSender;
+	private EmailOutboxDao emailOutboxDao;
 
 	@Value("${email.environment:dev}")
 	private String environment;
 
-	@Value("${spring.mail.username:}")
-	private String sender;
-
 	/**
 	 * 6자리 인증 코드 생성
 	 */
@@ -70,30 +66,22 @@ public class EmailService {
 			log.info("Code: {}", code);
 			log.info("========================================");
 		} else {
-			// 프로덕션 환경: SMTP로 발송
-			sendEmailViaSMTP(to, subject, body);
+			// 프로덕션 환경: 발송 대기열에 기록 (EmailOutboxDispatcher가 비동기 발송)
+			enqueue(to, subject, body);
 		}
 	}
 
 	/**
-	 * SMTP를 통한 이메일 발송
+	 * 이메일 발송 대기열에 추가
+	 * 호출한 트랜잭션과 함께 커밋되며, 실제 발송은 EmailOutboxDispatcher가 담당한다.
 	 */
-	private void sendEmailViaSMTP(String to, String subject, String body) {
-		try {
-			MimeMessage message = mailSender.createMimeMessage();
-			MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
-
-			helper.setFrom(sender);
-			helper.setTo(to);
-			helper.setSubject(subject);
-			helper.setText(body, true); // true = HTML
-
-			mailSender.send(message);
-			log.info("Email sent successfully to: {}", to);
-		} catch (MessagingException e) {
-			log.error("Failed to send email to {}: {}", to, e.getMessage());
-			throw new RuntimeException("이메일 발송에 실패했습니다.", e);
-		}
+	public void enqueue(String to, String subject, String body) {
+		EmailOutbox outbox = new EmailOutbox();
+		outbox.setRecipient(to);
+		outbox.setSubject(subject);
+		outbox.setBody(body);
+		emailOutboxDao.insert(outbox);
+		log.info("Email queued for: {}", to);
 	}
 
 	/**
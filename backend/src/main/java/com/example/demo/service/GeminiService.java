@@ -1,6 +1,7 @@
 package com.example.demo.service;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
@@ -24,7 +25,10 @@ public class GeminiService {
     @Value("${gemini.api.model:gemini-1.5-flash}")
     private String model;
 
-    private final RestTemplate restTemplate;
+    // 공용 HTTP 클라이언트 (HttpClientConfig: 커넥션 풀, 타임아웃, 호출 지표)
+    @Autowired
+    private RestTemplate restTemplate;
+
     private final ObjectMapper objectMapper;
 
     private static final String GEMINI_API_URL = "https://generativelanguage.googleapis.com/v1beta/models/%s:generateContent?key=%s";
@@ -50,7 +54,6 @@ public class GeminiService {
         """;
 
     public GeminiService() {
-        this.restTemplate = new RestTemplate();
         this.objectMapper = new ObjectMapper();
     }
 
@@ -0,0 +1,575 @@
+package com.example.demo.service;
+
+import com.example.demo.dao.GitHubBulkJobDao;
+import com.example.demo.http.GitHubCallContext;
+import com.example.demo.model.GitHubBulkJob;
+import com.example.demo.model.GitHubBulkJobItem;
+import com.example.demo.model.Task;
+import com.example.demo.model.TaskGitHubIssue;
+import com.example.demo.scheduler.ScheduledJobRunner;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * GitHub 일괄 가져오기/내보내기 작업 서비스
+ * - 요청은 github_bulk_job에 작업을 기록하고 작업 ID를 바로 반환
+ * - 작업 스레드가 리스를 잡고 처리 (인스턴스가 중단되면 리스 만료 후 다른 워커가 체크포인트부터 이어서 처리)
+ * - 가져오기: 페이지를 병렬로 미리 받아 두고 순서대로 저장, 연속으로 완료한 마지막 페이지가 체크포인트
+ * - 내보내기: 태스크별 항목(github_bulk_job_item)이 체크포인트, Issue 생성은 병렬
+ * - 진행 상황은 /topic/team/{teamId}로 GITHUB_JOB_PROGRESS 이벤트 전송
+ */
+@Slf4j
+@Service
+public class GitHubBulkJobService {
+
+    private static final int MAX_STORED_ERRORS = 50;
+    private static final long PROGRESS_NOTIFY_INTERVAL_MS = 1000;
+
+    @Autowired
+    private GitHubBulkJobDao jobDao;
+
+    @Autowired
+    private GitHubIssueSyncService gitHubIssueSyncService;
+
+    @Autowired
+    private GitHubIssueService gitHubIssueService;
+
+    @Autowired
+    private GitHubTokenPoolService tokenPool;
+
+    @Autowired
+    private BoardNotificationService boardNotificationService;
+
+    @Autowired
+    private ScheduledJobRunner jobRunner;
+
+    @Value("${github.bulk.workers:2}")
+    private int workerCount;
+
+    // 작업당 동시에 보내는 GitHub 요청 수 (가져오기: 페이지 조회, 내보내기: Issue 생성)
+    @Value("${github.bulk.concurrency:4}")
+    private int concurrency;
+
+    @Value("${github.bulk.page-size:100}")
+    private int pageSize;
+
+    @Value("${github.bulk.lease-seconds:120}")
+    private int leaseSeconds;
+
+    @Value("${github.bulk.max-attempts:3}")
+    private int maxAttempts;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicInteger running = new AtomicInteger();
+
+    private ExecutorService workers;
+    private ExecutorService githubCalls;
+
+    @PostConstruct
+    public void init() {
+        AtomicInteger workerNo = new AtomicInteger();
+        workers = Executors.newFixedThreadPool(workerCount, r -> {
+            Thread thread = new Thread(r, "github-bulk-" + workerNo.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        AtomicInteger callNo = new AtomicInteger();
+        githubCalls = Executors.newFixedThreadPool(concurrency * workerCount, r -> {
+            Thread thread = new Thread(r, "github-bulk-call-" + callNo.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdownNow();
+        githubCalls.shutdownNow();
+    }
+
+    // ==================== 작업 시작/조회 ====================
+
+    /**
+     * 일괄 가져오기 시작
+     */
+    public GitHubBulkJob startImport(int teamId, int memberNo) {
+        // 저장소/토큰 설정 오류는 작업을 만들기 전에 바로 알려줌
+        gitHubIssueSyncService.prepareImport(teamId, memberNo);
+        return start(teamId, memberNo, GitHubBulkJob.TYPE_IMPORT);
+    }
+
+    /**
+     * 일괄 내보내기 시작
+     */
+    public GitHubBulkJob startExport(int teamId, int memberNo) {
+        gitHubIssueSyncService.prepareExport(teamId, memberNo);
+        return start(teamId, memberNo, GitHubBulkJob.TYPE_EXPORT);
+    }
+
+    /**
+     * - 같은 종류의 작업이 진행 중이면 그 작업을 반환
+     * - 마지막 작업이 실패로 끝났으면 새로 만들지 않고 그 작업을 체크포인트부터 재개
+     */
+    private GitHubBulkJob start(int teamId, int memberNo, String jobType) {
+        GitHubBulkJob active = jobDao.findActive(teamId, jobType);
+        if (active != null) {
+            return active;
+        }
+
+        GitHubBulkJob latest = jobDao.findLatest(teamId, jobType);
+        if (latest != null && GitHubBulkJob.STATUS_FAILED.equals(latest.getStatus())
+                && requeue(latest.getJobId(), memberNo)) {
+            log.info("[GitHub Bulk] Resuming failed {} job #{}", jobType, latest.getJobId());
+            return jobDao.findById(latest.getJobId());
+        }
+
+        GitHubBulkJob job = new GitHubBulkJob();
+        job.setTeamId(teamId);
+        job.setMemberNo(memberNo);
+        job.setJobType(jobType);
+        try {
+            jobDao.insert(job);
+        } catch (DuplicateKeyException e) {
+            // 동시에 시작한 요청이 먼저 만든 작업
+            return jobDao.findActive(teamId, jobType);
+        }
+        log.info("[GitHub Bulk] Queued {} job #{} for team {}", jobType, job.getJobId(), teamId);
+
+        dispatch();
+        return jobDao.findById(job.getJobId());
+    }
+
+    public GitHubBulkJob getJob(int jobId) {
+        return jobDao.findById(jobId);
+    }
+
+    public List<GitHubBulkJob> listJobs(int teamId, int limit) {
+        return jobDao.listByTeam(teamId, limit);
+    }
+
+    /**
+     * 실패한 작업을 체크포인트부터 다시 실행
+     */
+    public boolean resume(int jobId) {
+        return requeue(jobId, null);
+    }
+
+    private boolean requeue(int jobId, Integer memberNo) {
+        try {
+            if (jobDao.requeue(jobId, memberNo) == 0) {
+                return false;
+            }
+            jobDao.resetFailedItems(jobId);
+        } catch (DuplicateKeyException e) {
+            throw new RuntimeException("같은 종류의 작업이 이미 진행 중입니다.");
+        }
+        dispatch();
+        return true;
+    }
+
+    // ==================== 처리 ====================
+
+    /**
+     * 대기 중인 작업과 리스가 만료된 작업을 빈 워커 수만큼 가져와 실행
+     */
+    @Scheduled(fixedDelayString = "${github.bulk.poll-interval-ms:10000}")
+    public synchronized void dispatch() {
+        int free = workerCount - running.get();
+        if (free <= 0) {
+            return;
+        }
+        for (GitHubBulkJob job : jobDao.claim(jobRunner.getInstanceId(), free, leaseSeconds)) {
+            running.incrementAndGet();
+            workers.submit(() -> {
+                try {
+                    GitHubCallContext.runInBackground(job.getTeamId(), () -> run(job));
+                } finally {
+                    running.decrementAndGet();
+                }
+            });
+        }
+    }
+
+    private void run(GitHubBulkJob job) {
+        List<String> errors = readErrors(job.getErrors());
+        try {
+            if (job.getAttempts() > maxAttempts) {
+                throw new RuntimeException("최대 재시도 횟수를 넘었습니다.");
+            }
+            if (GitHubBulkJob.TYPE_EXPORT.equals(job.getJobType())) {
+                runExport(job);
+            } else {
+                if (job.getCheckpoint() > 0) {
+                    log.info("[GitHub Bulk] Resuming job #{} after page {}", job.getJobId(), job.getCheckpoint());
+                }
+                runImport(job, errors);
+            }
+            job.setStatus(GitHubBulkJob.STATUS_DONE);
+            log.info("[GitHub Bulk] {} job #{} done: succeeded {}, skipped {}, failed {}",
+                job.getJobType(), job.getJobId(), job.getSucceeded(), job.getSkipped(), job.getFailed());
+        } catch (LeaseLostException e) {
+            log.warn("[GitHub Bulk] Job #{} lease lost, another worker continues it", job.getJobId());
+            return;
+        } catch (InterruptedException e) {
+            // 종료 중: 리스가 만료되면 체크포인트부터 다시 처리됨
+            Thread.currentThread().interrupt();
+            return;
+        } catch (Exception e) {
+            addError(errors, e.getMessage());
+            job.setStatus(GitHubBulkJob.STATUS_FAILED);
+            log.error("[GitHub Bulk] {} job #{} failed: {}", job.getJobType(), job.getJobId(), e.getMessage());
+        }
+
+        if (GitHubBulkJob.TYPE_EXPORT.equals(job.getJobType())) {
+            // 카운터는 항목 상태 기준 (마지막으로 끝난 항목까지 반영)
+            jobDao.updateItemProgress(job.getJobId(), jobRunner.getInstanceId(), leaseSeconds);
+            refreshCounters(job);
+        }
+        job.setErrors(writeErrors(errors));
+        if (jobDao.finish(job, jobRunner.getInstanceId()) > 0) {
+            boardNotificationService.notifyGitHubJobProgress(job);
+        }
+    }
+
+    /**
+     * 체크포인트 다음 페이지부터 가져오기
+     * 첫 페이지로 마지막 페이지 번호를 알아낸 뒤, 나머지 페이지는 최대 concurrency개씩 미리 요청해 두고
+     * 작업 스레드가 페이지 순서대로 저장한다 (저장은 한 스레드만 하므로 position/중복 판단이 단순)
+     */
+    private void runImport(GitHubBulkJob job, List<String> errors) throws InterruptedException {
+        GitHubIssueSyncService.ImportPlan plan = gitHubIssueSyncService.prepareImport(job.getTeamId(), job.getMemberNo());
+        // REST로 진행하던 작업은 커서가 없으므로 GraphQL을 켜도 페이지 번호로 이어서 처리
+        if (gitHubIssueService.isGraphqlEnabled() && (job.getCheckpoint() == 0 || job.getCheckpointCursor() != null)) {
+            runImportByCursor(job, plan, errors);
+            return;
+        }
+
+        int firstPage = job.getCheckpoint() + 1;
+        GitHubIssueService.IssuePage first = fetchPage(plan, firstPage);
+        int lastPage = first.getLastPage();
+        job.setTotal(lastPage);
+        job.setProcessed(job.getCheckpoint());
+
+        Deque<Future<GitHubIssueService.IssuePage>> window = new ArrayDeque<>();
+        int nextPage = firstPage + 1;
+        GitHubIssueService.IssuePage current = first;
+        while (current != null) {
+            while (window.size() < concurrency && nextPage <= lastPage) {
+                int page = nextPage++;
+                window.add(githubCalls.submit(() -> GitHubCallContext.background(job.getTeamId(),
+                    () -> fetchPage(plan, page))));
+            }
+
+            if (current.getRawCount() > 0) {
+                importPage(job, plan, current, errors);
+            }
+            if (current.getRawCount() < pageSize) {
+                break;
+            }
+
+            Future<GitHubIssueService.IssuePage> next = window.poll();
+            current = next == null ? null : await(next, window);
+        }
+        window.forEach(future -> future.cancel(true));
+        job.setTotal(job.getProcessed());
+    }
+
+    private void importPage(GitHubBulkJob job, GitHubIssueSyncService.ImportPlan plan,
+                            GitHubIssueService.IssuePage page, List<String> errors) {
+        GitHubIssueSyncService.BulkSyncResult result;
+        try {
+            result = gitHubIssueSyncService.importIssueBatch(plan, page.getIssues());
+        } catch (Exception e) {
+            // 묶음 저장이 실패하면 문제 Issue만 골라내도록 한 건씩 다시 저장
+            log.warn("[GitHub Bulk] Batch insert failed for page {}, retrying per issue: {}", page.getPage(), e.getMessage());
+            result = new GitHubIssueSyncService.BulkSyncResult();
+            for (GitHubIssueService.GitHubIssue issue : page.getIssues()) {
+                try {
+                    GitHubIssueSyncService.BulkSyncResult single =
+                        gitHubIssueSyncService.importIssueBatch(plan, List.of(issue));
+                    result.setSuccessCount(result.getSuccessCount() + single.getSuccessCount());
+                    result.setSkipCount(result.getSkipCount() + single.getSkipCount());
+                } catch (Exception issueError) {
+                    result.setFailCount(result.getFailCount() + 1);
+                    result.addError("Issue #" + issue.getNumber() + ": " + issueError.getMessage());
+                }
+            }
+        }
+
+        job.setSucceeded(job.getSucceeded() + result.getSuccessCount());
+        job.setSkipped(job.getSkipped() + result.getSkipCount());
+        job.setFailed(job.getFailed() + result.getFailCount());
+        result.getErrors().forEach(error -> addError(errors, error));
+        job.setCheckpoint(page.getPage());
+        job.setProcessed(page.getPage());
+        job.setErrors(writeErrors(errors));
+
+        if (jobDao.updateProgress(job, jobRunner.getInstanceId(), leaseSeconds) == 0) {
+            throw new LeaseLostException();
+        }
+        boardNotificationService.notifyGitHubJobProgress(job);
+    }
+
+    /**
+     * GraphQL 커서로 가져오기 (github.graphql.enabled)
+     * 다음 커서는 앞 페이지 응답으로만 알 수 있으므로, 현재 페이지를 저장하는 동안 다음 페이지 하나만 미리 요청한다
+     * 체크포인트는 페이지 번호와 함께 그 페이지의 endCursor를 저장 (페이지 크기가 같아 REST로도 이어서 처리 가능)
+     */
+    private void runImportByCursor(GitHubBulkJob job, GitHubIssueSyncService.ImportPlan plan, List<String> errors)
+            throws InterruptedException {
+        int pageNumber = job.getCheckpoint();
+        job.setProcessed(pageNumber);
+        GitHubIssueService.IssueBatch current = fetchBatch(plan, job.getCheckpointCursor());
+        while (true) {
+            pageNumber++;
+            job.setTotal(Math.max(current.getTotalPages(), pageNumber));
+
+            Future<GitHubIssueService.IssueBatch> next = null;
+            if (current.isHasNextPage()) {
+                String cursor = current.getEndCursor();
+                next = githubCalls.submit(() -> GitHubCallContext.background(job.getTeamId(),
+                    () -> fetchBatch(plan, cursor)));
+            }
+
+            if (current.getRawCount() > 0) {
+                GitHubIssueService.IssuePage page = new GitHubIssueService.IssuePage();
+                page.setPage(pageNumber);
+                page.setRawCount(current.getRawCount());
+                page.setIssues(current.getIssues());
+                job.setCheckpointCursor(current.getEndCursor());
+                importPage(job, plan, page, errors);
+            }
+
+            if (next == null) {
+                break;
+            }
+            current = await(next, new ArrayDeque<>());
+        }
+        job.setTotal(job.getProcessed());
+    }
+
+    private GitHubIssueService.IssueBatch fetchBatch(GitHubIssueSyncService.ImportPlan plan, String cursor) {
+        return gitHubIssueService.listIssuesBatch(plan.getOwner(), plan.getRepo(), readToken(plan), "all", null,
+            cursor, pageSize);
+    }
+
+    private GitHubIssueService.IssuePage fetchPage(GitHubIssueSyncService.ImportPlan plan, int page) {
+        return gitHubIssueService.listIssuesPage(plan.getOwner(), plan.getRepo(), readToken(plan), "all", page, pageSize);
+    }
+
+    /**
+     * 페이지 조회 토큰: 팀 토큰 풀에서 페이지마다 선택 (쓸 수 있는 토큰이 없으면 작업을 요청한 멤버의 토큰)
+     */
+    private String readToken(GitHubIssueSyncService.ImportPlan plan) {
+        String token = tokenPool.selectToken(plan.getTeamId(), plan.getOwner(), plan.getRepo());
+        return token != null ? token : plan.getToken();
+    }
+
+    /**
+     * 태스크별로 GitHub Issue 생성 (동시 요청은 최대 concurrency개, 요청 속도는 GitHubRateLimiter가 예산에 맞춰 조절)
+     * - 처음 실행할 때 팀의 태스크를 작업 항목으로 기록 (이미 연결된 태스크는 SKIPPED)
+     * - 생성 요청 전에 항목을 CREATING으로 표시하고, Issue가 생기면 매핑을 바로 저장한 뒤 DONE으로 표시
+     * - 재개 시 CREATING 항목과 실패 항목은 이미 만들어진 Issue가 있으면 새로 만들지 않고 연결만 함
+     */
+    private void runExport(GitHubBulkJob job) throws InterruptedException {
+        GitHubIssueSyncService.ExportPlan plan = gitHubIssueSyncService.prepareExport(job.getTeamId(), job.getMemberNo());
+        gitHubIssueSyncService.loadExportTasks(plan);
+
+        if (job.getTotal() == null) {
+            jobDao.insertExportItems(job.getJobId(), job.getTeamId());
+        }
+        long lastNotifiedAt = reportItemProgress(job, 0);
+
+        List<GitHubBulkJobItem> items = jobDao.listOpenItems(job.getJobId());
+        List<GitHubBulkJobItem> interrupted = items.stream()
+            .filter(item -> GitHubBulkJobItem.STATUS_CREATING.equals(item.getStatus()))
+            .collect(Collectors.toList());
+        if (!interrupted.isEmpty()) {
+            log.info("[GitHub Bulk] Job #{} resuming with {} interrupted issue creations", job.getJobId(), interrupted.size());
+            adoptInterrupted(job, plan, interrupted);
+        }
+
+        CompletionService<Void> completions = new ExecutorCompletionService<>(githubCalls);
+        int inFlight = 0;
+        for (GitHubBulkJobItem item : items) {
+            if (!GitHubBulkJobItem.STATUS_PENDING.equals(item.getStatus())) {
+                continue;
+            }
+            if (inFlight >= concurrency) {
+                awaitCompletion(completions);
+                inFlight--;
+                lastNotifiedAt = reportItemProgress(job, lastNotifiedAt);
+            }
+            completions.submit(() -> {
+                GitHubCallContext.runInBackground(job.getTeamId(), () -> exportItem(plan, item));
+                return null;
+            });
+            inFlight++;
+        }
+        while (inFlight > 0) {
+            awaitCompletion(completions);
+            inFlight--;
+            lastNotifiedAt = reportItemProgress(job, lastNotifiedAt);
+        }
+    }
+
+    private void exportItem(GitHubIssueSyncService.ExportPlan plan, GitHubBulkJobItem item) {
+        Task task = plan.getTask(item.getTaskId());
+        if (task == null) {
+            item.setStatus(GitHubBulkJobItem.STATUS_SKIPPED);
+            item.setError("태스크가 삭제되었습니다.");
+            jobDao.updateItem(item);
+            return;
+        }
+
+        item.setStatus(GitHubBulkJobItem.STATUS_CREATING);
+        jobDao.updateItem(item);
+        try {
+            TaskGitHubIssue mapping = gitHubIssueSyncService.exportTask(plan, task);
+            item.setStatus(GitHubBulkJobItem.STATUS_DONE);
+            item.setIssueNumber(mapping.getIssueNumber());
+        } catch (Exception e) {
+            item.setStatus(GitHubBulkJobItem.STATUS_FAILED);
+            item.setError(e.getMessage());
+            log.error("[GitHub Bulk] Failed to export task #{}: {}", task.getTaskId(), e.getMessage());
+        }
+        jobDao.updateItem(item);
+    }
+
+    /**
+     * 중단 전에 생성 요청을 보낸 태스크 처리
+     * 작업 시작 이후 수정된 Issue 중 같은 태스크 표시가 있는 Issue를 찾아 연결하고, 없으면 다시 생성 대상으로 돌림
+     * (작업 시작 시각은 DB 시각이라 시간대 차이를 감안해 하루 앞부터 조회)
+     */
+    private void adoptInterrupted(GitHubBulkJob job, GitHubIssueSyncService.ExportPlan plan,
+                                  List<GitHubBulkJobItem> interrupted) {
+        LocalDateTime startedAt = job.getStartedAt() != null ? job.getStartedAt() : job.getCreatedAt();
+        String since = startedAt.minusDays(1).atZone(ZoneId.systemDefault()).toInstant().toString();
+        Map<Integer, GitHubIssueService.GitHubIssue> exported = gitHubIssueSyncService.findExportedIssues(plan, since);
+
+        for (GitHubBulkJobItem item : interrupted) {
+            Task task = plan.getTask(item.getTaskId());
+            GitHubIssueService.GitHubIssue issue = exported.get(item.getTaskId());
+            if (task == null || issue == null) {
+                item.setStatus(GitHubBulkJobItem.STATUS_PENDING);
+            } else {
+                try {
+                    TaskGitHubIssue mapping = gitHubIssueSyncService.adoptExportedIssue(plan, task, issue);
+                    item.setStatus(GitHubBulkJobItem.STATUS_DONE);
+                    item.setIssueNumber(mapping.getIssueNumber());
+                } catch (Exception e) {
+                    item.setStatus(GitHubBulkJobItem.STATUS_FAILED);
+                    item.setError(e.getMessage());
+                }
+            }
+            jobDao.updateItem(item);
+        }
+    }
+
+    /**
+     * 항목 상태로 진행 카운터 갱신 + 리스 연장, 진행 이벤트는 최대 초당 한 번
+     */
+    private long reportItemProgress(GitHubBulkJob job, long lastNotifiedAt) {
+        if (jobDao.updateItemProgress(job.getJobId(), jobRunner.getInstanceId(), leaseSeconds) == 0) {
+            throw new LeaseLostException();
+        }
+        long now = System.currentTimeMillis();
+        if (now - lastNotifiedAt < PROGRESS_NOTIFY_INTERVAL_MS) {
+            return lastNotifiedAt;
+        }
+        refreshCounters(job);
+        boardNotificationService.notifyGitHubJobProgress(job);
+        return now;
+    }
+
+    private void refreshCounters(GitHubBulkJob job) {
+        GitHubBulkJob saved = jobDao.findById(job.getJobId());
+        if (saved != null) {
+            job.setTotal(saved.getTotal());
+            job.setProcessed(saved.getProcessed());
+            job.setSucceeded(saved.getSucceeded());
+            job.setSkipped(saved.getSkipped());
+            job.setFailed(saved.getFailed());
+        }
+    }
+
+    private void awaitCompletion(CompletionService<Void> completions) throws InterruptedException {
+        try {
+            completions.take().get();
+        } catch (ExecutionException e) {
+            // exportItem이 항목 실패를 기록하므로 여기까지 오는 것은 DB 오류
+            Throwable cause = e.getCause();
+            throw cause instanceof RuntimeException runtime ? runtime : new RuntimeException(cause);
+        }
+    }
+
+    private <T> T await(Future<T> future, Deque<Future<T>> window) throws InterruptedException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            window.forEach(pending -> pending.cancel(true));
+            Throwable cause = e.getCause();
+            throw cause instanceof RuntimeException runtime ? runtime : new RuntimeException(cause);
+        }
+    }
+
+    private void addError(List<String> errors, String error) {
+        errors.add(error);
+        if (errors.size() > MAX_STORED_ERRORS) {
+            errors.remove(0);
+        }
+    }
+
+    private List<String> readErrors(String json) {
+        if (json == null || json.isEmpty()) {
+            return new ArrayList<>();
+        }
+        try {
+            return new ArrayList<>(objectMapper.readValue(json, new TypeReference<List<String>>() {}));
+        } catch (JsonProcessingException e) {
+            return new ArrayList<>();
+        }
+    }
+
+    private String writeErrors(List<String> errors) {
+        try {
+            return objectMapper.writeValueAsString(errors);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 진행 상황 저장 시 리스를 잃은 경우 (리스 만료 후 다른 워커가 작업을 가져감)
+     */
+    private static class LeaseLostException extends RuntimeException {
+        LeaseLostException() {
+            super("lease lost");
+        }
+    }
+}
@@ -4,6 +4,7 @@ import com.example.demo.dao.*;
 import com.example.demo.model.*;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
 
 /**
@@ -13,6 +14,11 @@ import org.springframework.stereotype.Service;
 @Service
 public class GitHubCommentSyncService {
 
+    /**
+     * Synodos에서 보낸 GitHub 댓글 표시 (Webhook/백필에서 이 표시가 있는 댓글은 다시 가져오지 않음)
+     */
+    public static final String SYNODOS_MARKER = "*From Synodos";
+
     @Autowired
     private TaskGitHubIssueDao taskGitHubIssueDao;
 
@@ -90,25 +96,30 @@ public class GitHubCommentSyncService {
 
         // GitHub 댓글 본문 생성
         String body = comment.getContent();
-        if (!body.contains("*From Synodos*")) {
+        if (!body.contains(SYNODOS_MARKER)) {
             body = body + "\n\n---\n*From Synodos - " + authorName + "*";
         }
 
+        GitHubIssueService.GitHubComment githubComment;
         try {
             // GitHub에 댓글 생성
-            GitHubIssueService.GitHubComment githubComment = gitHubIssueService.createComment(
+            githubComment = gitHubIssueService.createComment(
                 ownerRepo[0], ownerRepo[1], leader.getGithubAccessToken(),
                 mapping.getIssueNumber(), body
             );
-
-            // GitHub 댓글 ID 저장
-            commentDao.updateGithubCommentId(comment.getCommentId(), githubComment.getId());
-            log.info("Synced Synodos comment #{} to GitHub comment {}", comment.getCommentId(), githubComment.getId());
-
         } catch (Exception e) {
             log.error("Failed to create GitHub comment: {}", e.getMessage());
             throw new RuntimeException("GitHub 댓글 생성 실패: " + e.getMessage(), e);
         }
+
+        // GitHub 댓글 ID 저장 (이미 다른 댓글에 저장되어 있으면 동기화된 것으로 보고 재시도하지 않음)
+        try {
+            commentDao.updateGithubCommentId(comment.getCommentId(), githubComment.getId());
+            log.info("Synced Synodos comment #{} to GitHub comment {}", comment.getCommentId(), githubComment.getId());
+        } catch (DuplicateKeyException e) {
+            log.info("GitHub comment {} is already linked to another Synodos comment, treating #{} as synced",
+                githubComment.getId(), comment.getCommentId());
+        }
     }
 
     /**
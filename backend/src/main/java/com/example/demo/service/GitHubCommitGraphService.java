@@ -0,0 +1,593 @@
+package com.example.demo.service;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.example.demo.http.GitHubCallContext;
+import com.example.demo.service.GitHubService.GitHubBranch;
+import com.example.demo.service.GitHubService.GitHubBranchComparison;
+import com.example.demo.service.GitHubService.GitHubGraphCommit;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 브랜치 그래프 / 브랜치 비교 캐시
+ * - 커밋은 바뀌지 않으므로 SHA 기준으로 저장 (크기 제한, 넘치면 spill-dir 파일로 내보냄)
+ *   (캐시 잠금을 잡은 채 파일을 쓰지 않도록 밀려난 커밋은 모아 두었다가 잠금 밖에서 씀)
+ * - 요청마다 브랜치 머리(head SHA)만 갱신하고, 캐시에 있는 커밋에 닿을 때까지만 새 커밋 조회
+ * - 여러 브랜치는 동시에 조회
+ * - 비교 결과는 (저장소, baseSha, headSha) 기준으로 저장 (다른 저장소의 비교 결과를 보지 않도록)
+ * - push Webhook을 받으면 해당 브랜치 머리를 바꾸고 백그라운드로 미리 채움
+ *   (대화형 조회 풀과 분리된 warm 풀에서 실행, 대기열이 차면 오래된 요청부터 버림)
+ * - spill 파일은 마지막 사용 후 spill-max-age-hours가 지나거나 spill-max-files를 넘으면 오래된 것부터 삭제
+ */
+@Slf4j
+@Service
+public class GitHubCommitGraphService {
+
+    private static final Pattern SHA_PATTERN = Pattern.compile("^[0-9a-f]{40}$");
+    private static final String ZERO_SHA = "0000000000000000000000000000000000000000";
+
+    // 한 브랜치를 채우는 동안 최대 GitHub 조회 수
+    private static final int MAX_FETCHES_PER_BRANCH = 10;
+
+    // GitHub commits API per_page 최대값
+    private static final int MAX_PAGE_SIZE = 100;
+
+    // push Webhook 미리 채우기 대기열 크기
+    private static final int WARM_QUEUE_SIZE = 200;
+
+    @Autowired
+    private GitHubService gitHubService;
+
+    @Autowired
+    private GitHubTokenPoolService tokenPool;
+
+    @Value("${github.graph.concurrency:4}")
+    private int concurrency;
+
+    @Value("${github.graph.commit-cache-size:20000}")
+    private int commitCacheSize;
+
+    @Value("${github.graph.compare-cache-size:2000}")
+    private int compareCacheSize;
+
+    @Value("${github.graph.head-ttl-seconds:30}")
+    private long headTtlSeconds;
+
+    @Value("${github.graph.refresh-page-size:10}")
+    private int refreshPageSize;
+
+    @Value("${github.graph.warm-depth:50}")
+    private int warmDepth;
+
+    @Value("${github.graph.warm-concurrency:2}")
+    private int warmConcurrency;
+
+    @Value("${github.graph.spill-dir:}")
+    private String spillDir;
+
+    @Value("${github.graph.spill-max-age-hours:72}")
+    private long spillMaxAgeHours;
+
+    @Value("${github.graph.spill-max-files:200000}")
+    private int spillMaxFiles;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    // 커밋 SHA → 커밋 (branch 없이 저장, 최근 사용 순)
+    private Map<String, GitHubGraphCommit> commits;
+
+    // 저장소:baseSha...headSha → 비교 결과
+    private Map<String, GitHubBranchComparison> comparisons;
+
+    // 캐시에서 밀려나 spill 파일로 쓸 커밋 (SHA → 커밋, 파일을 쓰기 전까지 조회도 여기서)
+    private final Map<String, GitHubGraphCommit> pendingSpills = new ConcurrentHashMap<>();
+
+    // 저장소(owner/repo 소문자) → 브랜치 머리
+    private final Map<String, BranchHeads> headsByRepo = new ConcurrentHashMap<>();
+
+    private final AtomicLong commitHits = new AtomicLong();
+    private final AtomicLong commitFetches = new AtomicLong();
+    private final AtomicLong spilledReads = new AtomicLong();
+    private final AtomicLong compareHits = new AtomicLong();
+    private final AtomicLong compareMisses = new AtomicLong();
+
+    private ExecutorService fetchers;
+    private ExecutorService warmers;
+
+    @PostConstruct
+    public void init() {
+        commits = Collections.synchronizedMap(new LinkedHashMap<String, GitHubGraphCommit>(1024, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, GitHubGraphCommit> eldest) {
+                if (size() <= commitCacheSize) {
+                    return false;
+                }
+                if (spillDir != null && !spillDir.isEmpty()) {
+                    pendingSpills.put(eldest.getKey(), eldest.getValue());
+                }
+                return true;
+            }
+        });
+        comparisons = Collections.synchronizedMap(new LinkedHashMap<String, GitHubBranchComparison>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, GitHubBranchComparison> eldest) {
+                return size() > compareCacheSize;
+            }
+        });
+
+        AtomicInteger threadNo = new AtomicInteger();
+        fetchers = Executors.newFixedThreadPool(concurrency, r -> {
+            Thread thread = new Thread(r, "github-graph-" + threadNo.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        AtomicInteger warmerNo = new AtomicInteger();
+        warmers = new ThreadPoolExecutor(warmConcurrency, warmConcurrency, 0L, TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(WARM_QUEUE_SIZE), r -> {
+                Thread thread = new Thread(r, "github-graph-warm-" + warmerNo.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }, new ThreadPoolExecutor.DiscardOldestPolicy());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        fetchers.shutdown();
+        warmers.shutdownNow();
+    }
+
+    // ==================== 브랜치 그래프 ====================
+
+    /**
+     * 브랜치별 커밋 목록 (parent 포함, 최신순 depth개)
+     */
+    public Map<String, List<GitHubGraphCommit>> getCommitsGraph(int teamId, String accessToken,
+                                                                String owner, String repo,
+                                                                List<String> branches, int depth) {
+        BranchHeads heads = resolveHeads(accessToken, owner, repo, branches);
+
+        Map<String, Future<List<GitHubGraphCommit>>> futures = new LinkedHashMap<>();
+        for (String branch : branches) {
+            String head = heads.getHeads().get(branch);
+            String previous = heads.getPrevious().get(branch);
+            futures.put(branch, fetchers.submit(interactive(teamId,
+                () -> walkBranch(accessToken, owner, repo, branch, head, previous, depth))));
+        }
+
+        Map<String, List<GitHubGraphCommit>> commitsByBranch = new HashMap<>();
+        for (Map.Entry<String, Future<List<GitHubGraphCommit>>> entry : futures.entrySet()) {
+            commitsByBranch.put(entry.getKey(), await(entry.getValue()));
+        }
+        return commitsByBranch;
+    }
+
+    /**
+     * 브랜치 머리부터 커밋 날짜 역순으로 depth개 수집
+     * - 캐시에 없는 커밋을 만나면 그 커밋부터 한 페이지 조회해 채운 뒤 다시 수집
+     */
+    private List<GitHubGraphCommit> walkBranch(String accessToken, String owner, String repo,
+                                               String branch, String headSha, String previousHeadSha, int depth) {
+        if (headSha == null) {
+            // 브랜치 머리를 알 수 없으면 브랜치 이름으로 조회 (캐시에는 저장)
+            List<GitHubGraphCommit> fetched = fetchCommits(accessToken, owner, repo, branch, depth);
+            return withBranch(fetched, branch);
+        }
+
+        // 이전 머리가 캐시에 있으면 새 커밋 몇 개만 조회하면 됨
+        int pageSize = previousHeadSha != null && getCommit(previousHeadSha) != null
+            ? Math.min(refreshPageSize, depth) : depth;
+        for (int fetches = 0; ; fetches++) {
+            List<GitHubGraphCommit> result = new ArrayList<>();
+            String missing = collect(headSha, depth, result);
+            if (missing == null) {
+                return withBranch(result, branch);
+            }
+            if (fetches >= MAX_FETCHES_PER_BRANCH) {
+                log.warn("Commit graph for {}/{} {} incomplete after {} fetches", owner, repo, branch, fetches);
+                return withBranch(result, branch);
+            }
+            if (fetchCommits(accessToken, owner, repo, missing, pageSize).isEmpty()) {
+                return withBranch(result, branch);
+            }
+            pageSize = depth;
+        }
+    }
+
+    /**
+     * 캐시만으로 수집
+     * @return 캐시에 없어 더 진행할 수 없는 커밋 SHA (모두 있으면 null)
+     */
+    private String collect(String headSha, int depth, List<GitHubGraphCommit> out) {
+        GitHubGraphCommit head = getCommit(headSha);
+        if (head == null) {
+            return headSha;
+        }
+        PriorityQueue<GitHubGraphCommit> queue = new PriorityQueue<>(
+            Comparator.comparing(GitHubGraphCommit::getDate, Comparator.nullsLast(Comparator.reverseOrder())));
+        Set<String> seen = new HashSet<>();
+        queue.add(head);
+        seen.add(headSha);
+
+        while (!queue.isEmpty() && out.size() < depth) {
+            GitHubGraphCommit commit = queue.poll();
+            out.add(commit);
+            if (out.size() >= depth || commit.getParents() == null) {
+                continue;
+            }
+            for (String parentSha : commit.getParents()) {
+                if (!seen.add(parentSha)) {
+                    continue;
+                }
+                GitHubGraphCommit parent = getCommit(parentSha);
+                if (parent == null) {
+                    return parentSha;
+                }
+                queue.add(parent);
+            }
+        }
+        return null;
+    }
+
+    private List<GitHubGraphCommit> fetchCommits(String accessToken, String owner, String repo, String ref, int pageSize) {
+        commitFetches.incrementAndGet();
+        List<GitHubGraphCommit> fetched = gitHubService.listCommitsWithParents(
+            accessToken, owner, repo, ref, Math.min(pageSize, MAX_PAGE_SIZE));
+        for (GitHubGraphCommit commit : fetched) {
+            commits.put(commit.getSha(), copy(commit, null));
+        }
+        flushSpills();
+        return fetched;
+    }
+
+    private GitHubGraphCommit getCommit(String sha) {
+        GitHubGraphCommit commit = commits.get(sha);
+        if (commit != null) {
+            commitHits.incrementAndGet();
+            return commit;
+        }
+        commit = pendingSpills.get(sha);
+        if (commit == null) {
+            commit = readSpilled(sha);
+        }
+        if (commit != null) {
+            spilledReads.incrementAndGet();
+            commits.put(sha, commit);
+            flushSpills();
+        }
+        return commit;
+    }
+
+    // ==================== 브랜치 비교 ====================
+
+    /**
+     * 두 브랜치 비교 (브랜치 머리 SHA 쌍이 같으면 캐시 결과 사용)
+     */
+    public GitHubBranchComparison compareBranches(String accessToken, String owner, String repo,
+                                                  String base, String head) {
+        BranchHeads heads = resolveHeads(accessToken, owner, repo, List.of(base, head));
+        String baseSha = toSha(base, heads);
+        String headSha = toSha(head, heads);
+        if (baseSha == null || headSha == null) {
+            compareMisses.incrementAndGet();
+            return gitHubService.compareBranches(accessToken, owner, repo, base, head);
+        }
+
+        String key = repoKey(owner, repo) + ":" + baseSha + "..." + headSha;
+        GitHubBranchComparison cached = comparisons.get(key);
+        if (cached != null) {
+            compareHits.incrementAndGet();
+        } else {
+            compareMisses.incrementAndGet();
+            GitHubBranchComparison fetched = gitHubService.compareBranches(accessToken, owner, repo, baseSha, headSha);
+            if (fetched.getMergeBaseSha() == null) {
+                // 비교 실패 결과는 저장하지 않음
+                fetched.setBaseBranch(base);
+                fetched.setHeadBranch(head);
+                return fetched;
+            }
+            comparisons.put(key, fetched);
+            cached = fetched;
+        }
+
+        GitHubBranchComparison result = new GitHubBranchComparison();
+        result.setBaseBranch(base);
+        result.setHeadBranch(head);
+        result.setMergeBaseSha(cached.getMergeBaseSha());
+        result.setAheadBy(cached.getAheadBy());
+        result.setBehindBy(cached.getBehindBy());
+        result.setStatus(cached.getStatus());
+        result.setTotalCommits(cached.getTotalCommits());
+        return result;
+    }
+
+    private String toSha(String ref, BranchHeads heads) {
+        String sha = heads.getHeads().get(ref);
+        if (sha != null) {
+            return sha;
+        }
+        return SHA_PATTERN.matcher(ref).matches() ? ref : null;
+    }
+
+    // ==================== 브랜치 머리 ====================
+
+    /**
+     * 브랜치 머리 조회 (head-ttl-seconds 안에 확인했고 요청 브랜치가 모두 있으면 그대로 사용)
+     */
+    private BranchHeads resolveHeads(String accessToken, String owner, String repo, List<String> branches) {
+        String repoKey = repoKey(owner, repo);
+        BranchHeads current = headsByRepo.get(repoKey);
+        LocalDateTime now = LocalDateTime.now();
+        if (current != null && current.getCheckedAt().plusSeconds(headTtlSeconds).isAfter(now)
+                && current.getHeads().keySet().containsAll(branches)) {
+            return current;
+        }
+
+        List<GitHubBranch> listed;
+        try {
+            listed = gitHubService.listBranches(accessToken, owner, repo);
+        } catch (Exception e) {
+            log.warn("Failed to refresh branch heads for {}: {}", repoKey, e.getMessage());
+            return current != null ? current : new BranchHeads(new ConcurrentHashMap<>(), new ConcurrentHashMap<>(), now);
+        }
+
+        Map<String, String> heads = new ConcurrentHashMap<>();
+        Map<String, String> previous = new ConcurrentHashMap<>();
+        for (GitHubBranch branch : listed) {
+            heads.put(branch.getName(), branch.getSha());
+            String old = current != null ? current.getHeads().get(branch.getName()) : null;
+            if (old != null) {
+                previous.put(branch.getName(), old);
+            }
+        }
+        BranchHeads refreshed = new BranchHeads(heads, previous, now);
+        headsByRepo.put(repoKey, refreshed);
+        return refreshed;
+    }
+
+    /**
+     * push Webhook 반영: 브랜치 머리 갱신 후 새 커밋을 백그라운드로 미리 조회
+     */
+    public void onPush(int teamId, String owner, String repo, String branch, String beforeSha, String afterSha) {
+        if (branch == null) {
+            return;
+        }
+        String repoKey = repoKey(owner, repo);
+        BranchHeads heads = headsByRepo.get(repoKey);
+        if (afterSha == null || ZERO_SHA.equals(afterSha)) {
+            // 브랜치 삭제
+            if (heads != null) {
+                heads.getHeads().remove(branch);
+                heads.getPrevious().remove(branch);
+            }
+            return;
+        }
+        if (heads != null) {
+            heads.getHeads().put(branch, afterSha);
+            if (beforeSha != null && !ZERO_SHA.equals(beforeSha)) {
+                heads.getPrevious().put(branch, beforeSha);
+            }
+        }
+
+        warmers.execute(() -> GitHubCallContext.runInBackground(teamId, () -> {
+            try {
+                String token = tokenPool.selectToken(teamId, owner, repo);
+                walkBranch(token, owner, repo, branch, afterSha, beforeSha, warmDepth);
+                log.debug("Commit graph warmed for {} {} @ {}", repoKey, branch, afterSha);
+            } catch (Exception e) {
+                log.warn("Failed to warm commit graph for {} {}: {}", repoKey, branch, e.getMessage());
+            }
+        }));
+    }
+
+    // ==================== 파일 저장 (spill-dir) ====================
+
+    /**
+     * 캐시에서 밀려난 커밋을 spill 파일로 씀 (캐시 잠금 밖에서 호출)
+     */
+    private void flushSpills() {
+        for (String sha : pendingSpills.keySet()) {
+            GitHubGraphCommit commit = pendingSpills.get(sha);
+            if (commit != null) {
+                spill(commit);
+                pendingSpills.remove(sha, commit);
+            }
+        }
+    }
+
+    private void spill(GitHubGraphCommit commit) {
+        if (spillDir == null || spillDir.isEmpty()) {
+            return;
+        }
+        File file = spillFile(commit.getSha());
+        if (file.exists()) {
+            return;
+        }
+        try {
+            file.getParentFile().mkdirs();
+            objectMapper.writeValue(file, commit);
+        } catch (IOException e) {
+            log.debug("Failed to spill commit {}: {}", commit.getSha(), e.getMessage());
+        }
+    }
+
+    private GitHubGraphCommit readSpilled(String sha) {
+        if (spillDir == null || spillDir.isEmpty() || !SHA_PATTERN.matcher(sha).matches()) {
+            return null;
+        }
+        File file = spillFile(sha);
+        if (!file.exists()) {
+            return null;
+        }
+        try {
+            GitHubGraphCommit commit = objectMapper.readValue(file, GitHubGraphCommit.class);
+            // 정리 기준은 마지막 사용 시각
+            file.setLastModified(System.currentTimeMillis());
+            return commit;
+        } catch (IOException e) {
+            log.debug("Failed to read spilled commit {}: {}", sha, e.getMessage());
+            return null;
+        }
+    }
+
+    private File spillFile(String sha) {
+        return new File(new File(spillDir, sha.substring(0, 2)), sha + ".json");
+    }
+
+    /**
+     * spill 파일 정리: 오래 쓰지 않은 파일 삭제 후, 그래도 최대 개수를 넘으면 오래된 것부터 삭제
+     */
+    @Scheduled(fixedDelayString = "${github.graph.spill-cleanup-interval-ms:3600000}")
+    public void cleanupSpilled() {
+        if (spillDir == null || spillDir.isEmpty() || !new File(spillDir).isDirectory()) {
+            return;
+        }
+        long expireBefore = System.currentTimeMillis() - spillMaxAgeHours * 3600_000L;
+        List<File> kept = new ArrayList<>();
+        int deleted = 0;
+        try (Stream<Path> paths = Files.walk(new File(spillDir).toPath(), 2)) {
+            for (File file : paths.map(Path::toFile)
+                    .filter(file -> file.isFile() && file.getName().endsWith(".json"))
+                    .collect(Collectors.toList())) {
+                if (file.lastModified() < expireBefore) {
+                    deleted += file.delete() ? 1 : 0;
+                } else {
+                    kept.add(file);
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Failed to scan commit spill dir {}: {}", spillDir, e.getMessage());
+            return;
+        }
+
+        if (kept.size() > spillMaxFiles) {
+            kept.sort(Comparator.comparingLong(File::lastModified));
+            for (File file : kept.subList(0, kept.size() - spillMaxFiles)) {
+                deleted += file.delete() ? 1 : 0;
+            }
+        }
+        if (deleted > 0) {
+            log.info("Removed {} spilled commit files from {}", deleted, spillDir);
+        }
+    }
+
+    // ==================== 지표 ====================
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("cachedCommits", commits.size());
+        stats.put("commitHits", commitHits.get());
+        stats.put("commitFetches", commitFetches.get());
+        stats.put("spilledReads", spilledReads.get());
+        stats.put("cachedComparisons", comparisons.size());
+        stats.put("compareHits", compareHits.get());
+        stats.put("compareMisses", compareMisses.get());
+        stats.put("repositories", headsByRepo.size());
+        return stats;
+    }
+
+    // ==================== 유틸리티 ====================
+
+    /**
+     * 요청 스레드의 팀을 유지한 채 풀 스레드에서 실행 (대화형 우선순위)
+     */
+    private <T> Callable<T> interactive(int teamId, Supplier<T> action) {
+        return () -> {
+            GitHubCallContext.setInteractiveTeam(teamId);
+            try {
+                return action.get();
+            } finally {
+                GitHubCallContext.clear();
+            }
+        };
+    }
+
+    private <T> T await(Future<T> future) {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new RuntimeException(cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("커밋 조회가 중단되었습니다.", e);
+        }
+    }
+
+    private List<GitHubGraphCommit> withBranch(List<GitHubGraphCommit> source, String branch) {
+        List<GitHubGraphCommit> result = new ArrayList<>(source.size());
+        for (GitHubGraphCommit commit : source) {
+            result.add(copy(commit, branch));
+        }
+        return result;
+    }
+
+    private GitHubGraphCommit copy(GitHubGraphCommit source, String branch) {
+        GitHubGraphCommit commit = new GitHubGraphCommit();
+        commit.setSha(source.getSha());
+        commit.setShortSha(source.getShortSha());
+        commit.setMessage(source.getMessage());
+        commit.setAuthorName(source.getAuthorName());
+        commit.setAuthorLogin(source.getAuthorLogin());
+        commit.setDate(source.getDate());
+        commit.setHtmlUrl(source.getHtmlUrl());
+        commit.setBranch(branch);
+        commit.setParents(source.getParents());
+        return commit;
+    }
+
+    private String repoKey(String owner, String repo) {
+        return (owner + "/" + repo).toLowerCase(Locale.ROOT);
+    }
+
+    @Data
+    @AllArgsConstructor
+    private static class BranchHeads {
+        private Map<String, String> heads;     // 브랜치 → 머리 SHA
+        private Map<String, String> previous;  // 브랜치 → 직전 머리 SHA (새 커밋만 조회하는 기준)
+        private LocalDateTime checkedAt;       // 브랜치 목록으로 확인한 시각
+    }
+}
@@ -0,0 +1,182 @@
+package com.example.demo.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.example.demo.dao.GitHubUserMappingDao;
+import com.example.demo.model.GitHubUserMapping;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 멤버 ↔ GitHub 사용자 매핑 캐시
+ * - 멤버 → GitHub: member.github_username 우선, 없으면 github_user_mapping
+ * - GitHub → 멤버: github_user_mapping 우선, 없으면 member.github_username (대소문자 무시)
+ * - 캐시에 없는 사람만 ANY() 한 번으로 조회, 매핑이 없는 것도 캐시
+ * - 이 서버에서 연동/해제/매핑 변경 시 즉시 무효화, 다른 서버의 변경은 ttl 후 반영
+ */
+@Slf4j
+@Service
+public class GitHubIdentityService {
+
+    @Autowired
+    private GitHubUserMappingDao userMappingDao;
+
+    @Value("${github.identity.ttl-minutes:30}")
+    private long ttlMinutes;
+
+    // 멤버 번호 → GitHub 사용자명
+    private final Map<Integer, Cached<String>> loginByMember = new ConcurrentHashMap<>();
+
+    // GitHub 사용자명(소문자) → 멤버 번호
+    private final Map<String, Cached<Integer>> memberByLogin = new ConcurrentHashMap<>();
+
+    /**
+     * 멤버 번호 목록 → GitHub 사용자명 (매핑 없는 멤버 제외, 입력 순서 유지)
+     */
+    public List<String> toGitHubLogins(Collection<Integer> memberNos) {
+        Map<Integer, String> logins = findLogins(memberNos);
+        List<String> result = new ArrayList<>();
+        for (Integer memberNo : new LinkedHashSet<>(memberNos)) {
+            String login = logins.get(memberNo);
+            if (login != null) {
+                result.add(login);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 멤버 번호 목록 → GitHub 사용자명
+     */
+    public Map<Integer, String> findLogins(Collection<Integer> memberNos) {
+        Map<Integer, String> result = new HashMap<>();
+        LocalDateTime now = LocalDateTime.now();
+        List<Integer> missing = new ArrayList<>();
+        for (Integer memberNo : new LinkedHashSet<>(memberNos)) {
+            Cached<String> cached = loginByMember.get(memberNo);
+            if (cached != null && !isExpired(cached, now)) {
+                if (cached.getValue() != null) {
+                    result.put(memberNo, cached.getValue());
+                }
+            } else {
+                missing.add(memberNo);
+            }
+        }
+        if (missing.isEmpty()) {
+            return result;
+        }
+
+        Map<Integer, String> loaded = new HashMap<>();
+        for (GitHubUserMapping row : userMappingDao.listIdentitiesByMemberNos(missing.toArray(new Integer[0]))) {
+            if (row.getGithubUsername() != null && !row.getGithubUsername().isEmpty()) {
+                loaded.put(row.getMemberNo(), row.getGithubUsername());
+            }
+        }
+        for (Integer memberNo : missing) {
+            String login = loaded.get(memberNo);
+            loginByMember.put(memberNo, new Cached<>(login, now));
+            if (login != null) {
+                result.put(memberNo, login);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * GitHub 사용자명 목록 → 멤버 번호 (키는 소문자 사용자명)
+     */
+    public Map<String, Integer> findMemberNos(Collection<String> logins) {
+        Map<String, Integer> result = new HashMap<>();
+        LocalDateTime now = LocalDateTime.now();
+        Set<String> missing = new LinkedHashSet<>();
+        for (String login : logins) {
+            if (login == null || login.isEmpty()) {
+                continue;
+            }
+            String key = login.toLowerCase(Locale.ROOT);
+            Cached<Integer> cached = memberByLogin.get(key);
+            if (cached != null && !isExpired(cached, now)) {
+                if (cached.getValue() != null) {
+                    result.put(key, cached.getValue());
+                }
+            } else {
+                missing.add(key);
+            }
+        }
+        if (missing.isEmpty()) {
+            return result;
+        }
+
+        Map<String, Integer> loaded = new HashMap<>();
+        for (GitHubUserMapping row : userMappingDao.listIdentitiesByLogins(missing.toArray(new String[0]))) {
+            loaded.put(row.getGithubUsername().toLowerCase(Locale.ROOT), row.getMemberNo());
+        }
+        for (String key : missing) {
+            Integer memberNo = loaded.get(key);
+            memberByLogin.put(key, new Cached<>(memberNo, now));
+            if (memberNo != null) {
+                result.put(key, memberNo);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * GitHub 사용자명 → 멤버 번호 (없으면 null)
+     */
+    public Integer findMemberNo(String login) {
+        if (login == null || login.isEmpty()) {
+            return null;
+        }
+        return findMemberNos(List.of(login)).get(login.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * GitHub 사용자명 목록 → 멤버 번호 목록 (매핑 없는 사용자 제외, 중복 제거)
+     */
+    public Set<Integer> toMemberNos(Collection<String> logins) {
+        return new LinkedHashSet<>(findMemberNos(logins).values());
+    }
+
+    /**
+     * 멤버의 GitHub 연동/해제/매핑 변경 시 무효화
+     * @param logins 새로 연결된 GitHub 사용자명 (매핑 없음으로 캐시된 항목 제거)
+     */
+    public void invalidateMember(int memberNo, String... logins) {
+        loginByMember.remove(memberNo);
+        memberByLogin.values().removeIf(cached -> Objects.equals(cached.getValue(), memberNo));
+        for (String login : logins) {
+            if (login != null) {
+                memberByLogin.remove(login.toLowerCase(Locale.ROOT));
+            }
+        }
+        log.debug("GitHub identity cache invalidated for member {}", memberNo);
+    }
+
+    private boolean isExpired(Cached<?> cached, LocalDateTime now) {
+        return cached.getLoadedAt().plusMinutes(ttlMinutes).isBefore(now);
+    }
+
+    @Data
+    @AllArgsConstructor
+    private static class Cached<T> {
+        private T value;
+        private LocalDateTime loadedAt;
+    }
+}
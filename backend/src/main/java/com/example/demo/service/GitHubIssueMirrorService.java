@@ -0,0 +1,472 @@
+package com.example.demo.service;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.example.demo.dao.GitHubIssueMirrorDao;
+import com.example.demo.dao.TeamDao;
+import com.example.demo.dto.GitHubIssuePayload;
+import com.example.demo.http.GitHubCallContext;
+import com.example.demo.model.GitHubIssueMirror;
+import com.example.demo.model.GitHubIssueMirrorState;
+import com.example.demo.model.ScheduledJobRun;
+import com.example.demo.model.Team;
+import com.example.demo.scheduler.ChunkedJob;
+import com.example.demo.scheduler.ScheduledJobRunner;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * GitHub Issue 미러 서비스
+ * - 팀 저장소 Issue(번호, 제목, 상태, Label, 담당자, 수정 시각)를 github_issue_mirror에 보관
+ * - 최초(또는 저장소 변경, full-resync-hours 경과) 전체 수집 후 보지 못한 행 삭제
+ * - issues Webhook으로 즉시 갱신하고, 주기적으로 ?since= 증분 조회해 놓친 Webhook 보정
+ *   (삭제/이전된 Issue는 since 조회에 나오지 않으므로 주기적 전체 수집에서 정리)
+ * - Issue 선택/검색, 연결 안 된 Issue 수, 충돌 목록은 GitHub 호출 없이 미러에서 조회
+ *   (미러가 없으면 요청 스레드에서 수집하지 않고 백그라운드로 수집을 걸어 두고, 호출한 쪽은 준비 전임을 알림)
+ * - 수집이 실패하면 crawl-retry-seconds부터 두 배씩(최대 1시간) 기다린 뒤 다시 걸어 둠
+ *
+ * 주기 조회는 ScheduledJobRunner 위에서 team_id 구간 단위로 실행되므로 여러 인스턴스 중 하나만 실행한다.
+ */
+@Slf4j
+@Service
+public class GitHubIssueMirrorService implements ChunkedJob {
+
+    public static final String JOB_NAME = "github-issue-mirror";
+
+    private static final long MAX_CRAWL_RETRY_SECONDS = 60 * 60;
+
+    @Autowired
+    private GitHubIssueMirrorDao mirrorDao;
+
+    @Autowired
+    private TeamDao teamDao;
+
+    @Autowired
+    private GitHubTokenPoolService tokenPool;
+
+    @Autowired
+    private GitHubService gitHubService;
+
+    @Autowired
+    private GitHubIssueService gitHubIssueService;
+
+    @Autowired
+    private ScheduledJobRunner jobRunner;
+
+    @Value("${github.mirror.enabled:true}")
+    private boolean enabled;
+
+    @Value("${github.mirror.full-resync-hours:24}")
+    private long fullResyncHours;
+
+    @Value("${github.mirror.page-size:100}")
+    private int pageSize;
+
+    @Value("${github.mirror.teams-per-chunk:20}")
+    private int teamsPerChunk;
+
+    // 요청에서 시작한 전체 수집을 실행하는 스레드 수
+    @Value("${github.mirror.crawl-workers:2}")
+    private int crawlWorkers;
+
+    // 요청에서 시작한 전체 수집이 실패했을 때 다시 걸기까지 기다리는 시간 (연속 실패마다 두 배)
+    @Value("${github.mirror.crawl-retry-seconds:60}")
+    private long crawlRetrySeconds;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    // 같은 인스턴스에서 한 팀을 동시에 수집하지 않도록 (첫 조회 요청과 주기 조회가 겹치는 경우)
+    private final Map<Integer, Object> teamLocks = new ConcurrentHashMap<>();
+
+    // 백그라운드 수집이 대기/진행 중인 팀 (같은 팀을 중복으로 걸지 않음)
+    private final Set<Integer> pendingCrawls = ConcurrentHashMap.newKeySet();
+
+    // 전체 수집이 실패한 팀 (성공하면 제거)
+    private final Map<Integer, CrawlFailure> crawlFailures = new ConcurrentHashMap<>();
+
+    private ExecutorService crawlers;
+
+    @PostConstruct
+    public void init() {
+        AtomicInteger crawlerNo = new AtomicInteger();
+        crawlers = Executors.newFixedThreadPool(crawlWorkers, r -> {
+            Thread thread = new Thread(r, "github-mirror-crawl-" + crawlerNo.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        crawlers.shutdownNow();
+    }
+
+    /**
+     * 주기적 미러 갱신 (github.mirror.poll-interval-ms)
+     * @return 실행 이력 (다른 인스턴스가 실행 중이면 null)
+     */
+    @Scheduled(fixedDelayString = "${github.mirror.poll-interval-ms:300000}",
+               initialDelayString = "${github.mirror.initial-delay-ms:60000}")
+    public ScheduledJobRun pollMirrors() {
+        if (!enabled) {
+            return null;
+        }
+        return jobRunner.run(this, LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES).toString());
+    }
+
+    @Override
+    public String getJobName() {
+        return JOB_NAME;
+    }
+
+    /**
+     * 저장소가 연결된 팀 teamsPerChunk개씩 갱신 (팀별 실패는 다음 주기에 다시 시도)
+     */
+    @Override
+    public ChunkResult processChunk(String runKey, long afterKey, int chunkSize) {
+        List<Integer> teamIds = teamDao.listGithubTeamIds(afterKey, Math.min(chunkSize, teamsPerChunk));
+        if (teamIds.isEmpty()) {
+            return ChunkResult.done(afterKey, 0);
+        }
+
+        int rows = 0;
+        for (Integer teamId : teamIds) {
+            try {
+                rows += GitHubCallContext.background(teamId, () -> syncTeam(teamId, null));
+            } catch (Exception e) {
+                log.warn("Issue mirror sync failed for team {}: {}", teamId, e.getMessage());
+            }
+        }
+
+        long lastKey = teamIds.get(teamIds.size() - 1);
+        return teamIds.size() < Math.min(chunkSize, teamsPerChunk)
+            ? ChunkResult.done(lastKey, rows)
+            : ChunkResult.next(lastKey, rows);
+    }
+
+    /**
+     * 미러가 없거나 다른 저장소 기준이면 백그라운드 전체 수집을 걸어 둠 (Issue 선택 화면 첫 조회 등)
+     * 요청 스레드는 수집을 기다리지 않는다. 직전 수집이 실패했으면 재시도 시각까지 다시 걸지 않는다.
+     * @param token 요청한 멤버의 토큰 (null이면 팀 토큰 풀에서 선택)
+     * @return 미러가 현재 저장소 기준이면 true (false면 미러 조회 결과가 비어 있거나 이전 저장소 기준이므로 쓰지 않음)
+     */
+    public boolean ensureMirror(int teamId, String token) {
+        Team team = teamDao.findById(teamId);
+        GitHubService.RepoInfo repoInfo = team != null ? gitHubService.parseRepoUrl(team.getGithubRepoUrl()) : null;
+        if (repoInfo == null) {
+            return false;
+        }
+        GitHubIssueMirrorState state = mirrorDao.findState(teamId);
+        if (state != null && repoKey(repoInfo).equals(state.getRepoKey())) {
+            return true;
+        }
+        CrawlFailure failure = crawlFailures.get(teamId);
+        if (failure != null && failure.retryAt.isAfter(LocalDateTime.now())) {
+            return false;
+        }
+        if (pendingCrawls.add(teamId)) {
+            log.info("Queued issue mirror crawl for team {}", teamId);
+            crawlers.submit(() -> {
+                try {
+                    GitHubCallContext.background(teamId, () -> syncTeam(teamId, token));
+                } catch (Exception e) {
+                    CrawlFailure failed = crawlFailures.merge(teamId, new CrawlFailure(1, e.getMessage()),
+                        (prev, next) -> new CrawlFailure(prev.failures + 1, next.error));
+                    log.warn("Issue mirror crawl failed for team {} ({} in a row, retry after {}): {}",
+                        teamId, failed.failures, failed.retryAt, e.getMessage());
+                } finally {
+                    pendingCrawls.remove(teamId);
+                }
+            });
+        }
+        return false;
+    }
+
+    /**
+     * 직전 전체 수집 실패 사유 (실패하지 않았거나 이후 성공했으면 null)
+     */
+    public String getCrawlError(int teamId) {
+        CrawlFailure failure = crawlFailures.get(teamId);
+        return failure != null ? failure.error : null;
+    }
+
+    /**
+     * 팀 미러 갱신 (전체 수집이 필요하면 전체, 아니면 since 증분 조회)
+     * @param token 사용할 토큰 (null이면 팀 토큰 풀에서 선택)
+     * @return 반영한 Issue 수
+     */
+    public int syncTeam(int teamId, String token) {
+        Team team = teamDao.findById(teamId);
+        if (team == null || team.getGithubRepoUrl() == null) {
+            return 0;
+        }
+        GitHubService.RepoInfo repoInfo = gitHubService.parseRepoUrl(team.getGithubRepoUrl());
+        if (repoInfo == null) {
+            return 0;
+        }
+        if (token == null) {
+            token = resolveToken(teamId, repoInfo);
+            if (token == null) {
+                log.debug("No GitHub token for team {}, skipping issue mirror", teamId);
+                return 0;
+            }
+        }
+
+        synchronized (teamLocks.computeIfAbsent(teamId, id -> new Object())) {
+            String repoKey = repoKey(repoInfo);
+            GitHubIssueMirrorState state = mirrorDao.findState(teamId);
+            boolean full = state == null || !repoKey.equals(state.getRepoKey())
+                || state.getSinceAt() == null || state.getFullSyncedAt() == null
+                || state.getFullSyncedAt().isBefore(LocalDateTime.now().minusHours(fullResyncHours));
+            return full
+                ? crawl(teamId, repoInfo, repoKey, token)
+                : poll(state, repoInfo, token);
+        }
+    }
+
+    /**
+     * 전체 수집: 모든 Issue를 저장한 뒤 이번 수집에서 보지 못한 행(삭제/이전된 Issue, 이전 저장소 Issue) 삭제
+     */
+    private int crawl(int teamId, GitHubService.RepoInfo repoInfo, String repoKey, String token) {
+        LocalDateTime crawlStart = LocalDateTime.now();
+        LocalDateTime latest = null;
+        int count = 0;
+        String cursor = null;
+        while (true) {
+            GitHubIssueService.IssueBatch result = gitHubIssueService.listIssuesBatch(
+                repoInfo.owner, repoInfo.repo, token, "all", null, cursor, pageSize);
+            latest = later(latest, store(teamId, result.getIssues(), crawlStart));
+            count += result.getIssues().size();
+            if (!result.isHasNextPage()) {
+                break;
+            }
+            cursor = result.getEndCursor();
+        }
+
+        int removed = mirrorDao.deleteNotSyncedSince(teamId, crawlStart);
+
+        GitHubIssueMirrorState state = new GitHubIssueMirrorState();
+        state.setTeamId(teamId);
+        state.setRepoKey(repoKey);
+        state.setSinceAt(latest != null ? latest : toUtc(crawlStart));
+        state.setFullSyncedAt(crawlStart);
+        state.setPolledAt(crawlStart);
+        mirrorDao.saveState(state);
+        crawlFailures.remove(teamId);
+
+        log.info("Issue mirror crawl for team {} ({}): {} issues, {} removed", teamId, repoKey, count, removed);
+        return count;
+    }
+
+    /**
+     * 증분 조회: 마지막으로 본 updated_at 이후 수정된 Issue만 조회
+     * (since는 같은 시각을 포함하므로 경계의 Issue는 다시 받지만 저장은 멱등)
+     */
+    private int poll(GitHubIssueMirrorState state, GitHubService.RepoInfo repoInfo, String token) {
+        LocalDateTime now = LocalDateTime.now();
+        String since = state.getSinceAt().toInstant(ZoneOffset.UTC).toString();
+        LocalDateTime latest = state.getSinceAt();
+        int count = 0;
+        String cursor = null;
+        while (true) {
+            GitHubIssueService.IssueBatch result = gitHubIssueService.listIssuesBatch(
+                repoInfo.owner, repoInfo.repo, token, "all", since, cursor, pageSize);
+            latest = later(latest, store(state.getTeamId(), result.getIssues(), now));
+            count += result.getIssues().size();
+            if (!result.isHasNextPage()) {
+                break;
+            }
+            cursor = result.getEndCursor();
+        }
+
+        state.setSinceAt(latest);
+        state.setPolledAt(now);
+        mirrorDao.saveState(state);
+
+        if (count > 0) {
+            log.debug("Issue mirror poll for team {}: {} issues updated since {}", state.getTeamId(), count, since);
+        }
+        return count;
+    }
+
+    /**
+     * issues Webhook 반영 (삭제/이전은 행 삭제, 그 외는 저장)
+     */
+    public void applyWebhook(int teamId, String action, GitHubIssuePayload.Issue issue) {
+        try {
+            if ("deleted".equals(action) || "transferred".equals(action)) {
+                mirrorDao.deleteIssue(teamId, issue.getNumber());
+                return;
+            }
+            GitHubIssueMirror row = new GitHubIssueMirror();
+            row.setTeamId(teamId);
+            row.setIssueNumber(issue.getNumber());
+            row.setIssueId(issue.getId());
+            row.setTitle(issue.getTitle());
+            row.setState(issue.getState());
+            row.setLabels(toJson(issue.getLabels() == null ? Collections.<String>emptyList()
+                : issue.getLabels().stream().map(GitHubIssuePayload.Label::getName).collect(Collectors.toList())));
+            row.setAssignees(toJson(issue.getAssignees() == null ? Collections.<String>emptyList()
+                : issue.getAssignees().stream().map(GitHubIssuePayload.User::getLogin).collect(Collectors.toList())));
+            row.setHtmlUrl(issue.getHtmlUrl());
+            row.setGithubUpdatedAt(parseTime(issue.getUpdatedAt()));
+            row.setSyncedAt(LocalDateTime.now());
+            mirrorDao.upsertBatch(List.of(row));
+        } catch (Exception e) {
+            // 미러는 다음 증분 조회에서 보정되므로 Webhook 처리는 계속
+            log.warn("Failed to apply issue #{} to mirror for team {}: {}", issue.getNumber(), teamId, e.getMessage());
+        }
+    }
+
+    /**
+     * 미러에서 Issue 목록/검색
+     * @param state open, closed, all
+     * @param query 제목 일부 또는 #번호 (null이면 전체)
+     */
+    public List<GitHubIssueService.GitHubIssue> search(int teamId, String state, String query, int limit) {
+        String trimmed = query != null && !query.isBlank() ? query.trim() : null;
+        return mirrorDao.search(teamId, state, trimmed, limit).stream()
+            .map(this::toGitHubIssue)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Task와 연결되지 않은 Issue 수
+     */
+    public int countUnlinkedIssues(int teamId) {
+        return mirrorDao.countUnlinkedIssues(teamId);
+    }
+
+    // ==================== Helper Methods ====================
+
+    /**
+     * 연속 실패 횟수와 다음 재시도 시각
+     */
+    private class CrawlFailure {
+        private final int failures;
+        private final String error;
+        private final LocalDateTime retryAt;
+
+        private CrawlFailure(int failures, String error) {
+            this.failures = failures;
+            this.error = error;
+            long delay = Math.min(crawlRetrySeconds << Math.min(failures - 1, 20), MAX_CRAWL_RETRY_SECONDS);
+            this.retryAt = LocalDateTime.now().plusSeconds(delay);
+        }
+    }
+
+    private LocalDateTime store(int teamId, List<GitHubIssueService.GitHubIssue> issues, LocalDateTime syncedAt) {
+        if (issues.isEmpty()) {
+            return null;
+        }
+        LocalDateTime latest = null;
+        List<GitHubIssueMirror> rows = new ArrayList<>(issues.size());
+        for (GitHubIssueService.GitHubIssue issue : issues) {
+            GitHubIssueMirror row = new GitHubIssueMirror();
+            row.setTeamId(teamId);
+            row.setIssueNumber(issue.getNumber());
+            row.setIssueId(issue.getId());
+            row.setTitle(issue.getTitle());
+            row.setState(issue.getState());
+            row.setLabels(toJson(issue.getLabels()));
+            row.setAssignees(toJson(issue.getAssignees()));
+            row.setHtmlUrl(issue.getHtmlUrl());
+            row.setGithubUpdatedAt(parseTime(issue.getUpdatedAt()));
+            row.setSyncedAt(syncedAt);
+            rows.add(row);
+            latest = later(latest, row.getGithubUpdatedAt());
+        }
+        mirrorDao.upsertBatch(rows);
+        return latest;
+    }
+
+    private GitHubIssueService.GitHubIssue toGitHubIssue(GitHubIssueMirror row) {
+        GitHubIssueService.GitHubIssue issue = new GitHubIssueService.GitHubIssue();
+        issue.setId(row.getIssueId());
+        issue.setNumber(row.getIssueNumber());
+        issue.setTitle(row.getTitle());
+        issue.setState(row.getState());
+        issue.setHtmlUrl(row.getHtmlUrl());
+        issue.setLabels(fromJson(row.getLabels()));
+        issue.setAssignees(fromJson(row.getAssignees()));
+        if (row.getGithubUpdatedAt() != null) {
+            issue.setUpdatedAt(row.getGithubUpdatedAt().toInstant(ZoneOffset.UTC).toString());
+        }
+        return issue;
+    }
+
+    /**
+     * 주기 조회용 토큰 (팀 토큰 풀에서 남은 예산이 가장 많은 토큰)
+     */
+    private String resolveToken(int teamId, GitHubService.RepoInfo repoInfo) {
+        return tokenPool.selectToken(teamId, repoInfo.owner, repoInfo.repo);
+    }
+
+    private String repoKey(GitHubService.RepoInfo repoInfo) {
+        return (repoInfo.owner + "/" + repoInfo.repo).toLowerCase();
+    }
+
+    private LocalDateTime parseTime(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return LocalDateTime.ofInstant(Instant.parse(value), ZoneOffset.UTC);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private LocalDateTime toUtc(LocalDateTime local) {
+        return LocalDateTime.ofInstant(local.atZone(ZoneId.systemDefault()).toInstant(), ZoneOffset.UTC);
+    }
+
+    private static LocalDateTime later(LocalDateTime a, LocalDateTime b) {
+        if (a == null) return b;
+        if (b == null) return a;
+        return a.isAfter(b) ? a : b;
+    }
+
+    private String toJson(List<String> values) {
+        try {
+            return objectMapper.writeValueAsString(values != null ? values : Collections.emptyList());
+        } catch (Exception e) {
+            return "[]";
+        }
+    }
+
+    private List<String> fromJson(String json) {
+        if (json == null || json.isEmpty()) {
+            return new ArrayList<>();
+        }
+        try {
+            return objectMapper.readValue(json, new TypeReference<List<String>>() {});
+        } catch (Exception e) {
+            return new ArrayList<>();
+        }
+    }
+}
@@ -6,15 +6,19 @@ import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import lombok.Data;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 /**
  * GitHub Issues API 서비스
@@ -23,14 +27,43 @@ import java.util.Map;
 @Service
 public class GitHubIssueService {
 
-    private final RestTemplate restTemplate;
+    // 공용 HTTP 클라이언트 (Apache HttpClient 기반이라 PATCH 지원, HttpClientConfig 참고)
+    @Autowired
+    private RestTemplate restTemplate;
+
     private final ObjectMapper objectMapper;
 
+    // 일괄 조회(listIssuesBatch)를 GraphQL로 할지 여부 (끄면 REST 페이지 조회)
+    @Value("${github.graphql.enabled:false}")
+    private boolean graphqlEnabled;
+
     private static final String GITHUB_API_BASE = "https://api.github.com";
+    private static final String GITHUB_GRAPHQL_URL = GITHUB_API_BASE + "/graphql";
+    private static final Pattern PAGE_PARAM = Pattern.compile("[?&]page=(\\d+)");
+    private static final int GRAPHQL_MAX_PAGE_SIZE = 100;
+
+    // 생성 순(오래된 것부터) Issue 목록 + 라벨/담당자/마일스톤 (PR은 issues 연결에 포함되지 않음)
+    private static final String ISSUES_QUERY = """
+        query($owner: String!, $name: String!, $first: Int!, $after: String, $states: [IssueState!], $since: DateTime) {
+          repository(owner: $owner, name: $name) {
+            issues(first: $first, after: $after, states: $states, filterBy: {since: $since},
+                   orderBy: {field: CREATED_AT, direction: ASC}) {
+              totalCount
+              pageInfo { endCursor hasNextPage }
+              nodes {
+                databaseId number title body state url createdAt updatedAt
+                author { login }
+                comments { totalCount }
+                labels(first: 100) { nodes { name } }
+                assignees(first: 10) { nodes { login } }
+                milestone { number title dueOn }
+              }
+            }
+          }
+        }
+        """;
 
     public GitHubIssueService() {
-        // PATCH 메서드 지원을 위해 Apache HttpClient 사용
-        this.restTemplate = new RestTemplate(new HttpComponentsClientHttpRequestFactory());
         this.objectMapper = new ObjectMapper();
     }
 
@@ -135,6 +168,148 @@ public class GitHubIssueService {
         }
     }
 
+    /**
+     * Issue 목록 한 페이지 조회 (일괄 가져오기용)
+     * - 생성 순(오래된 것부터) 정렬이라 가져오는 도중 새 Issue가 생겨도 앞 페이지 내용이 밀리지 않음
+     * - Link 헤더의 rel="last"로 전체 페이지 수를 알려줌 (페이지를 병렬로 요청할 수 있도록)
+     * - rawCount는 PR을 제외하기 전 개수 (마지막 페이지 판단용)
+     */
+    public IssuePage listIssuesPage(String owner, String repo, String token, String state, int page, int perPage) {
+        return listIssuesPage(owner, repo, token, state, null, page, perPage);
+    }
+
+    /**
+     * since(ISO-8601) 이후 수정된 Issue만 조회
+     */
+    public IssuePage listIssuesPage(String owner, String repo, String token, String state, String since,
+                                    int page, int perPage) {
+        String apiUrl = String.format("%s/repos/%s/%s/issues?state=%s&sort=created&direction=asc&page=%d&per_page=%d",
+            GITHUB_API_BASE, owner, repo, state != null ? state : "open", page, perPage);
+        if (since != null) {
+            apiUrl += "&since=" + since;
+        }
+
+        try {
+            HttpEntity<String> entity = new HttpEntity<>(createHeaders(token));
+            ResponseEntity<String> response = restTemplate.exchange(apiUrl, HttpMethod.GET, entity, String.class);
+
+            IssuePage result = new IssuePage();
+            result.setPage(page);
+            result.setIssues(new ArrayList<>());
+            JsonNode jsonArray = objectMapper.readTree(response.getBody());
+            for (JsonNode node : jsonArray) {
+                if (!node.has("pull_request")) {
+                    result.getIssues().add(parseIssue(node));
+                }
+            }
+            result.setRawCount(jsonArray.size());
+            result.setLastPage(parseLastPage(response.getHeaders().getFirst(HttpHeaders.LINK), page));
+            return result;
+        } catch (Exception e) {
+            log.error("Failed to list issues page {}: {}", page, e.getMessage());
+            throw new RuntimeException("Issue 목록 조회 실패 (page " + page + "): " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Issue 목록 커서 조회 (일괄 가져오기/미러 수집/내보낸 Issue 찾기용)
+     * - github.graphql.enabled면 GraphQL 요청 한 번에 최대 100개를 라벨/담당자/마일스톤까지 함께 조회
+     * - 꺼져 있으면 REST 페이지 조회로 대신함 (이때 커서는 마지막으로 받은 페이지 번호)
+     * - cursor가 null이면 처음부터, 결과의 endCursor를 다음 호출에 넘김
+     */
+    public IssueBatch listIssuesBatch(String owner, String repo, String token, String state, String since,
+                                      String cursor, int perPage) {
+        if (graphqlEnabled) {
+            return listIssuesGraphql(owner, repo, token, state, since, cursor, Math.min(perPage, GRAPHQL_MAX_PAGE_SIZE));
+        }
+
+        int page = cursor == null ? 1 : Integer.parseInt(cursor) + 1;
+        IssuePage result = listIssuesPage(owner, repo, token, state, since, page, perPage);
+        IssueBatch batch = new IssueBatch();
+        batch.setIssues(result.getIssues());
+        batch.setRawCount(result.getRawCount());
+        batch.setEndCursor(String.valueOf(page));
+        batch.setHasNextPage(page < result.getLastPage());
+        batch.setTotalPages(result.getLastPage());
+        return batch;
+    }
+
+    public boolean isGraphqlEnabled() {
+        return graphqlEnabled;
+    }
+
+    private IssueBatch listIssuesGraphql(String owner, String repo, String token, String state, String since,
+                                         String cursor, int first) {
+        try {
+            ObjectNode variables = objectMapper.createObjectNode();
+            variables.put("owner", owner);
+            variables.put("name", repo);
+            variables.put("first", first);
+            variables.put("after", cursor);
+            variables.put("since", since);
+            String issueState = state != null ? state : "open";
+            if ("all".equals(issueState)) {
+                variables.putNull("states");
+            } else {
+                variables.putArray("states").add(issueState.toUpperCase(Locale.ROOT));
+            }
+            ObjectNode request = objectMapper.createObjectNode();
+            request.put("query", ISSUES_QUERY);
+            request.set("variables", variables);
+
+            HttpEntity<String> entity = new HttpEntity<>(objectMapper.writeValueAsString(request), createHeaders(token));
+            ResponseEntity<String> response = restTemplate.exchange(GITHUB_GRAPHQL_URL, HttpMethod.POST, entity, String.class);
+
+            // GraphQL은 오류도 200으로 응답하므로 errors 필드 확인
+            JsonNode root = objectMapper.readTree(response.getBody());
+            JsonNode errors = root.path("errors");
+            if (errors.isArray() && errors.size() > 0) {
+                throw new RuntimeException(errors.get(0).path("message").asText());
+            }
+            JsonNode repository = root.path("data").path("repository");
+            if (repository.isMissingNode() || repository.isNull()) {
+                throw new RuntimeException("저장소를 찾을 수 없습니다: " + owner + "/" + repo);
+            }
+
+            JsonNode connection = repository.path("issues");
+            IssueBatch batch = new IssueBatch();
+            batch.setIssues(new ArrayList<>());
+            for (JsonNode node : connection.path("nodes")) {
+                batch.getIssues().add(parseGraphqlIssue(node));
+            }
+            batch.setRawCount(batch.getIssues().size());
+            JsonNode pageInfo = connection.path("pageInfo");
+            batch.setEndCursor(pageInfo.path("endCursor").asText(cursor));
+            batch.setHasNextPage(pageInfo.path("hasNextPage").asBoolean(false));
+            batch.setTotalPages(Math.max(1, (connection.path("totalCount").asInt() + first - 1) / first));
+            return batch;
+        } catch (Exception e) {
+            log.error("Failed to list issues via GraphQL after {}: {}", cursor, e.getMessage());
+            throw new RuntimeException("Issue 목록 조회 실패 (GraphQL): " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Link 헤더에서 마지막 페이지 번호 추출 (없으면 현재 페이지가 마지막)
+     * 예: <https://api.github.com/...&page=5&per_page=100>; rel="last"
+     */
+    private int parseLastPage(String linkHeader, int currentPage) {
+        if (linkHeader == null) {
+            return currentPage;
+        }
+        for (String part : linkHeader.split(",")) {
+            if (!part.contains("rel=\"last\"")) {
+                continue;
+            }
+            Matcher matcher = PAGE_PARAM.matcher(part);
+            if (matcher.find()) {
+                return Math.max(Integer.parseInt(matcher.group(1)), currentPage);
+            }
+        }
+        // rel="last"가 없으면 마지막 페이지를 요청한 것
+        return currentPage;
+    }
+
     /**
      * Issue 업데이트
      */
@@ -354,6 +529,7 @@ public class GitHubIssueService {
         issue.setHtmlUrl(node.path("html_url").asText());
         issue.setCreatedAt(node.path("created_at").asText());
         issue.setUpdatedAt(node.path("updated_at").asText());
+        issue.setComments(node.path("comments").asInt());
 
         // Labels
         List<String> labels = new ArrayList<>();
@@ -386,6 +562,49 @@ public class GitHubIssueService {
         return issue;
     }
 
+    /**
+     * GraphQL Issue 노드 → GitHubIssue (REST 응답과 같은 형태로 맞춤)
+     */
+    private GitHubIssue parseGraphqlIssue(JsonNode node) {
+        GitHubIssue issue = new GitHubIssue();
+        issue.setId(node.path("databaseId").asLong());
+        issue.setNumber(node.path("number").asInt());
+        issue.setTitle(node.path("title").asText());
+        issue.setBody(node.path("body").asText(null));
+        issue.setState(node.path("state").asText().toLowerCase(Locale.ROOT));
+        issue.setHtmlUrl(node.path("url").asText());
+        issue.setCreatedAt(node.path("createdAt").asText());
+        issue.setUpdatedAt(node.path("updatedAt").asText());
+        issue.setComments(node.path("comments").path("totalCount").asInt());
+
+        List<String> labels = new ArrayList<>();
+        for (JsonNode labelNode : node.path("labels").path("nodes")) {
+            labels.add(labelNode.path("name").asText());
+        }
+        issue.setLabels(labels);
+
+        List<String> assignees = new ArrayList<>();
+        for (JsonNode assigneeNode : node.path("assignees").path("nodes")) {
+            assignees.add(assigneeNode.path("login").asText());
+        }
+        issue.setAssignees(assignees);
+
+        JsonNode milestoneNode = node.path("milestone");
+        if (!milestoneNode.isMissingNode() && !milestoneNode.isNull()) {
+            issue.setMilestoneNumber(milestoneNode.path("number").asInt());
+            issue.setMilestoneTitle(milestoneNode.path("title").asText());
+            issue.setMilestoneDueOn(milestoneNode.path("dueOn").asText(null));
+        }
+
+        // 탈퇴한 사용자가 만든 Issue는 author가 null
+        JsonNode authorNode = node.path("author");
+        if (!authorNode.isMissingNode() && !authorNode.isNull()) {
+            issue.setCreatorLogin(authorNode.path("login").asText());
+        }
+
+        return issue;
+    }
+
     // ==================== DTOs ====================
 
     @Data
@@ -404,6 +623,24 @@ public class GitHubIssueService {
         private String milestoneTitle;
         private String milestoneDueOn;
         private String creatorLogin;
+        private int comments;             // 댓글 수
+    }
+
+    @Data
+    public static class IssuePage {
+        private int page;
+        private int lastPage;
+        private int rawCount;
+        private List<GitHubIssue> issues;
+    }
+
+    @Data
+    public static class IssueBatch {
+        private List<GitHubIssue> issues;
+        private int rawCount;
+        private String endCursor;
+        private boolean hasNextPage;
+        private int totalPages;
     }
 
     @Data
@@ -443,23 +680,29 @@ public class GitHubIssueService {
     // ==================== Issue Comments ====================
 
     /**
-     * Issue 댓글 목록 조회
+     * Issue 댓글 목록 조회 (100개씩 마지막 페이지까지, 작성 순)
      */
     public List<GitHubComment> listComments(String owner, String repo, String token, int issueNumber) {
-        String apiUrl = String.format("%s/repos/%s/%s/issues/%d/comments?per_page=100",
-            GITHUB_API_BASE, owner, repo, issueNumber);
         log.debug("Listing comments from {}/{} issue #{}", owner, repo, issueNumber);
 
         try {
             HttpEntity<String> entity = new HttpEntity<>(createHeaders(token));
-            ResponseEntity<String> response = restTemplate.exchange(apiUrl, HttpMethod.GET, entity, String.class);
-
             List<GitHubComment> comments = new ArrayList<>();
-            JsonNode jsonArray = objectMapper.readTree(response.getBody());
-            for (JsonNode node : jsonArray) {
-                comments.add(parseComment(node));
+            int page = 1;
+            while (true) {
+                String apiUrl = String.format("%s/repos/%s/%s/issues/%d/comments?per_page=100&page=%d",
+                    GITHUB_API_BASE, owner, repo, issueNumber, page);
+                ResponseEntity<String> response = restTemplate.exchange(apiUrl, HttpMethod.GET, entity, String.class);
+
+                JsonNode jsonArray = objectMapper.readTree(response.getBody());
+                for (JsonNode node : jsonArray) {
+                    comments.add(parseComment(node));
+                }
+                if (page >= parseLastPage(response.getHeaders().getFirst(HttpHeaders.LINK), page)) {
+                    return comments;
+                }
+                page++;
             }
-            return comments;
         } catch (Exception e) {
             log.error("Failed to list comments: {}", e.getMessage());
             throw new RuntimeException("댓글 목록 조회 실패: " + e.getMessage(), e);
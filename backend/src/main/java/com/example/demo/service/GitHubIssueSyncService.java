@@ -3,14 +3,25 @@ package com.example.demo.service;
 import com.example.demo.dao.*;
 import com.example.demo.model.*;
 import com.example.demo.dto.GitHubIssuePayload;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntUnaryOperator;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 /**
@@ -24,7 +35,7 @@ public class GitHubIssueSyncService {
     private TaskGitHubIssueDao taskGitHubIssueDao;
 
     @Autowired
-    private GitHubUserMappingDao gitHubUserMappingDao;
+    private GitHubIdentityService identityService;
 
     @Autowired
     private GitHubIssueSyncLogDao syncLogDao;
@@ -65,6 +76,33 @@ public class GitHubIssueSyncService {
     @Autowired
     private CommentDao commentDao;
 
+    @Autowired
+    private GitHubIssueMirrorService issueMirrorService;
+
+    @Autowired
+    private GitHubSyncOutboxDao outboxDao;
+
+    @Autowired
+    private GitHubTokenPoolService tokenPool;
+
+    // 마지막으로 확인된 Issue 상태를 비교 기준으로 믿는 시간 (지나면 동기화 전에 Issue를 다시 조회)
+    @Value("${github.sync.known-state-ttl-minutes:60}")
+    private long knownStateTtlMinutes;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    // Issue 선택 목록 최대 개수 (미러에서 최신 번호 순)
+    private static final int ISSUE_LIST_LIMIT = 200;
+
+    // buildIssueBody가 본문 끝에 붙이는 표시 (내보내기 재개 시 이미 만든 Issue 찾기)
+    private static final Pattern EXPORT_MARKER = Pattern.compile("\\*Synced from Synodos Task #(\\d+)\\*\\s*$");
+
+    // comment.content 최대 길이
+    private static final int MAX_COMMENT_LENGTH = 2000;
+
+    // 댓글 일괄 저장 한 번에 넣는 행 수
+    private static final int COMMENT_BATCH_SIZE = 500;
+
     // ==================== Synodos → GitHub ====================
 
     /**
@@ -101,7 +139,7 @@ public class GitHubIssueSyncService {
         String token = member.getGithubAccessToken();
 
         // Label 자동 생성 확인
-        labelService.ensureAllLabels(repoInfo.owner, repoInfo.repo, token);
+        labelService.ensureAllLabels(teamId, repoInfo.owner, repoInfo.repo, token);
 
         // Issue 생성 요청 구성
         GitHubIssueService.CreateIssueRequest request = new GitHubIssueService.CreateIssueRequest();
@@ -112,7 +150,7 @@ public class GitHubIssueSyncService {
         // Assignees 매핑
         List<TaskAssignee> assignees = taskAssigneeDao.listByTask(taskId);
         if (!assignees.isEmpty()) {
-            List<String> githubAssignees = mapMembersToGitHubUsers(
+            List<String> githubAssignees = identityService.toGitHubLogins(
                 assignees.stream().map(TaskAssignee::getMemberNo).collect(Collectors.toList())
             );
             if (!githubAssignees.isEmpty()) {
@@ -139,6 +177,9 @@ public class GitHubIssueSyncService {
         mapping.setGithubUpdatedAt(LocalDateTime.now());
 
         taskGitHubIssueDao.insert(mapping);
+        applyKnownState(mapping, issue.getTitle(), request.getBody(), issue.getState(),
+            issue.getLabels(), issue.getAssignees());
+        taskGitHubIssueDao.updateKnownState(mapping);
 
         // 로그 기록
         logSync(mapping.getId(), taskId, issue.getNumber(), teamId,
@@ -151,6 +192,10 @@ public class GitHubIssueSyncService {
 
     /**
      * Task 변경을 GitHub Issue에 동기화
+     * - Task로부터 원하는 Issue 상태(제목, 본문, 열림/닫힘, 전체 Label, 담당자)를 계산
+     * - 마지막으로 확인된 상태(known_*)와 비교해 달라진 필드만 한 번의 PATCH로 전송 (Label/담당자는 전체 배열)
+     * - Label/담당자는 Synodos가 관리하는 항목만 바꾸고 GitHub에서 직접 붙인 항목은 유지
+     * - 달라진 것이 없으면 GitHub API를 호출하지 않음
      */
     @Transactional
     public void syncTaskToGitHub(int taskId, int memberNo) {
@@ -182,36 +227,76 @@ public class GitHubIssueSyncService {
         String token = member.getGithubAccessToken();
 
         try {
-            // 상태 Label 업데이트
-            labelService.updateIssueStatusLabel(repoInfo.owner, repoInfo.repo, token,
-                mapping.getIssueNumber(), task.getWorkflowStatus());
+            // 비교 기준이 없거나 오래됐으면 현재 Issue를 한 번 조회
+            boolean fetched = !hasFreshKnownState(mapping);
+            if (fetched) {
+                GitHubIssueService.GitHubIssue current = gitHubIssueService.getIssue(
+                    repoInfo.owner, repoInfo.repo, token, mapping.getIssueNumber());
+                if (current == null) {
+                    throw new RuntimeException("GitHub Issue를 찾을 수 없습니다: #" + mapping.getIssueNumber());
+                }
+                applyKnownState(mapping, current.getTitle(), current.getBody(), current.getState(),
+                    current.getLabels(), current.getAssignees());
+            }
+
+            List<String> knownLabels = readList(mapping.getKnownLabels());
+            List<String> knownAssignees = readList(mapping.getKnownAssignees());
 
-            // 우선순위 Label 업데이트
-            labelService.updateIssuePriorityLabel(repoInfo.owner, repoInfo.repo, token,
-                mapping.getIssueNumber(), task.getPriority());
+            // 원하는 상태 계산
+            String title = task.getTitle();
+            String body = buildIssueBody(task);
+            String state = "DONE".equals(task.getWorkflowStatus()) ? "closed" : "open";
+            List<String> labels = buildDesiredLabels(knownLabels, task);
+            List<String> assignees = buildDesiredAssignees(knownAssignees, identityService.toGitHubLogins(
+                taskAssigneeDao.listByTask(taskId).stream().map(TaskAssignee::getMemberNo).collect(Collectors.toList())
+            ));
 
-            // Issue 제목/본문 업데이트
+            // 달라진 필드만 요청에 포함
             GitHubIssueService.UpdateIssueRequest request = new GitHubIssueService.UpdateIssueRequest();
-            request.setTitle(task.getTitle());
-            request.setBody(buildIssueBody(task));
+            boolean changed = false;
+            if (!Objects.equals(title, mapping.getKnownTitle())) {
+                request.setTitle(title);
+                changed = true;
+            }
+            if (!Objects.equals(hashBody(body), mapping.getKnownBodyHash())) {
+                request.setBody(body);
+                changed = true;
+            }
+            if (!state.equals(mapping.getKnownState())) {
+                request.setState(state);
+                changed = true;
+            }
+            if (!sameSet(labels, knownLabels, false)) {
+                request.setLabels(labels);
+                changed = true;
+            }
+            if (!sameSet(assignees, knownAssignees, true)) {
+                request.setAssignees(assignees);
+                changed = true;
+            }
+
+            if (changed) {
+                GitHubIssueService.GitHubIssue updated = gitHubIssueService.updateIssue(
+                    repoInfo.owner, repoInfo.repo, token, mapping.getIssueNumber(), request);
 
-            // DONE 상태면 Issue 닫기
-            if ("DONE".equals(task.getWorkflowStatus())) {
-                request.setState("closed");
+                // 본문은 보낸 값(또는 이미 같았던 값) 기준으로 기록 (응답 본문 정규화로 인한 재전송 방지)
+                applyKnownState(mapping, updated.getTitle(), body, updated.getState(),
+                    updated.getLabels(), updated.getAssignees());
+                taskGitHubIssueDao.updateKnownState(mapping);
+                mapping.setIssueTitle(updated.getTitle());
+                log.info("Synced Task #{} to GitHub Issue #{} ({})", taskId, mapping.getIssueNumber(), describeChanges(request));
             } else {
-                request.setState("open");
+                if (fetched) {
+                    taskGitHubIssueDao.updateKnownState(mapping);
+                }
+                log.debug("Task #{} already matches GitHub Issue #{}, skipping update", taskId, mapping.getIssueNumber());
             }
 
-            gitHubIssueService.updateIssue(repoInfo.owner, repoInfo.repo, token,
-                mapping.getIssueNumber(), request);
-
             // 동기화 시간 갱신
             mapping.setLastSyncedAt(LocalDateTime.now());
             mapping.setSynodosUpdatedAt(LocalDateTime.now());
             mapping.setSyncStatus(TaskGitHubIssue.STATUS_SYNCED);
             taskGitHubIssueDao.update(mapping);
-
-            log.info("Synced Task #{} to GitHub Issue #{}", taskId, mapping.getIssueNumber());
         } catch (Exception e) {
             log.error("Failed to sync task #{} to GitHub: {}", taskId, e.getMessage());
             mapping.setSyncStatus(TaskGitHubIssue.STATUS_ERROR);
@@ -227,47 +312,70 @@ public class GitHubIssueSyncService {
      */
     @Transactional
     public void processIssueWebhook(GitHubIssuePayload payload, int teamId, String webhookDeliveryId) {
+        processIssueWebhooks(List.of(payload), teamId, Collections.singletonList(webhookDeliveryId));
+    }
+
+    /**
+     * 같은 Issue에 연달아 들어온 Webhook 묶음 처리 (수신 순서)
+     * - Webhook의 issue는 발송 시점의 전체 상태이므로 마지막 상태를 목표로 한 번에 반영
+     * - 묶음에 포함된 action 종류로 비교할 항목(제목/본문, Label, 열림/닫힘, 담당자, Milestone)을 정함
+     * - 매핑/Task 조회, Task 수정, 매핑 시각 갱신, 보드 이벤트는 묶음당 한 번
+     * - delivery ID는 모두 로그에 남겨 재전송 시 건너뜀
+     */
+    @Transactional
+    public void processIssueWebhooks(List<GitHubIssuePayload> payloads, int teamId, List<String> webhookDeliveryIds) {
         // 중복 처리 방지
-        if (webhookDeliveryId != null && syncLogDao.countByWebhookDeliveryId(webhookDeliveryId) > 0) {
-            log.debug("Webhook {} already processed, skipping", webhookDeliveryId);
+        List<String> ids = webhookDeliveryIds.stream().filter(Objects::nonNull).collect(Collectors.toList());
+        Set<String> processed = ids.isEmpty() ? Set.of() : new HashSet<>(syncLogDao.listLoggedDeliveryIds(ids));
+
+        List<String> actions = new ArrayList<>();
+        List<String> pendingIds = new ArrayList<>();
+        GitHubIssuePayload latest = null;
+        for (int i = 0; i < payloads.size(); i++) {
+            String deliveryId = webhookDeliveryIds.get(i);
+            if (deliveryId != null && processed.contains(deliveryId)) {
+                log.debug("Webhook {} already processed, skipping", deliveryId);
+                continue;
+            }
+            actions.add(payloads.get(i).getAction());
+            pendingIds.add(deliveryId);
+            latest = payloads.get(i);
+        }
+        if (latest == null) {
             return;
         }
 
-        String action = payload.getAction();
-        int issueNumber = payload.getIssue().getNumber();
+        GitHubIssuePayload.Issue issue = latest.getIssue();
+        String lastDeliveryId = pendingIds.get(pendingIds.size() - 1);
 
-        log.info("Processing issue webhook: action={}, issue=#{}, team={}", action, issueNumber, teamId);
+        log.info("Processing issue webhook: actions={}, issue=#{}, team={}", actions, issue.getNumber(), teamId);
+        issueMirrorService.applyWebhook(teamId, latest.getAction(), issue);
 
         // 매핑 조회
-        TaskGitHubIssue mapping = taskGitHubIssueDao.findByTeamAndIssue(teamId, issueNumber);
+        TaskGitHubIssue mapping = taskGitHubIssueDao.findByTeamAndIssue(teamId, issue.getNumber());
+        boolean removed = "deleted".equals(latest.getAction()) || "transferred".equals(latest.getAction());
 
-        switch (action) {
-            case "opened":
-                handleIssueOpened(payload, teamId, mapping, webhookDeliveryId);
-                break;
-            case "edited":
-                handleIssueEdited(payload, mapping, webhookDeliveryId);
-                break;
-            case "closed":
-                handleIssueClosed(payload, mapping, webhookDeliveryId);
-                break;
-            case "reopened":
-                handleIssueReopened(payload, mapping, webhookDeliveryId);
-                break;
-            case "labeled":
-            case "unlabeled":
-                handleIssueLabelChanged(payload, mapping, webhookDeliveryId);
-                break;
-            case "assigned":
-            case "unassigned":
-                handleIssueAssignmentChanged(payload, mapping, webhookDeliveryId);
-                break;
-            case "milestoned":
-            case "demilestoned":
-                handleIssueMilestoneChanged(payload, mapping, webhookDeliveryId);
-                break;
-            default:
-                log.debug("Ignoring issue action: {}", action);
+        if (mapping == null) {
+            if (actions.contains("opened") && !removed) {
+                handleIssueOpened(latest, teamId, null, lastDeliveryId);
+            }
+        } else {
+            applyIssueState(issue, new HashSet<>(actions), mapping, lastDeliveryId);
+            // Webhook의 Issue 상태를 다음 Push의 비교 기준으로 기록
+            rememberIssueState(mapping, issue);
+        }
+
+        // 변경 로그가 남지 않은 delivery도 기록 (재전송 중복 처리 방지)
+        List<String> pendingNonNull = pendingIds.stream().filter(Objects::nonNull).collect(Collectors.toList());
+        Set<String> logged = pendingNonNull.isEmpty() ? Set.of()
+            : new HashSet<>(syncLogDao.listLoggedDeliveryIds(pendingNonNull));
+        for (int i = 0; i < pendingIds.size(); i++) {
+            String deliveryId = pendingIds.get(i);
+            if (deliveryId != null && !logged.contains(deliveryId)) {
+                logSync(mapping != null ? mapping.getId() : null, mapping != null ? mapping.getTaskId() : null,
+                    issue.getNumber(), teamId, GitHubIssueSyncLog.DIRECTION_PULL, GitHubIssueSyncLog.TYPE_RECEIVED,
+                    null, null, actions.get(i), GitHubIssueSyncLog.STATUS_SUCCESS, deliveryId);
+            }
         }
     }
 
@@ -318,13 +426,19 @@ public class GitHubIssueSyncService {
             return;
         }
 
+        // Synodos에서 보낸 댓글은 원본이 이미 있으므로 가져오지 않음
+        if (isFromSynodos(githubComment.getBody())) {
+            log.debug("Comment {} was posted from Synodos, skipping", githubComment.getId());
+            return;
+        }
+
         // GitHub 사용자 → Synodos 멤버 매핑
         String githubLogin = githubComment.getUser().getLogin();
-        GitHubUserMapping userMapping = gitHubUserMappingDao.findByGithubUsername(githubLogin);
+        Integer mappedMemberNo = identityService.findMemberNo(githubLogin);
 
         int authorNo;
-        if (userMapping != null) {
-            authorNo = userMapping.getMemberNo();
+        if (mappedMemberNo != null) {
+            authorNo = mappedMemberNo;
         } else {
             // 매핑된 사용자가 없으면 팀 리더로 설정
             Team team = teamDao.findById(teamId);
@@ -332,17 +446,11 @@ public class GitHubIssueSyncService {
             log.info("No user mapping for GitHub user {}, using team leader", githubLogin);
         }
 
-        // 댓글 내용에 GitHub 출처 표시
-        String body = githubComment.getBody();
-        if (!body.contains("*From GitHub*")) {
-            body = body + "\n\n---\n*From GitHub @" + githubLogin + "*";
-        }
-
-        // Synodos 댓글 생성
+        // Synodos 댓글 생성 (내용에 GitHub 출처 표시)
         Comment comment = new Comment();
         comment.setTaskId(mapping.getTaskId());
         comment.setAuthorNo(authorNo);
-        comment.setContent(body);
+        comment.setContent(toSynodosCommentBody(githubComment.getBody(), githubLogin));
         comment.setGithubCommentId(githubComment.getId());
 
         commentDao.insert(comment);
@@ -362,12 +470,7 @@ public class GitHubIssueSyncService {
         }
 
         String githubLogin = githubComment.getUser().getLogin();
-        String body = githubComment.getBody();
-        if (!body.contains("*From GitHub*")) {
-            body = body + "\n\n---\n*From GitHub @" + githubLogin + "*";
-        }
-
-        comment.setContent(body);
+        comment.setContent(toSynodosCommentBody(githubComment.getBody(), githubLogin));
         commentDao.update(comment);
         log.info("Updated Synodos comment #{} from GitHub comment {}", comment.getCommentId(), githubComment.getId());
     }
@@ -388,6 +491,93 @@ public class GitHubIssueSyncService {
         log.info("Deleted Synodos comment #{} (GitHub comment {})", comment.getCommentId(), githubComment.getId());
     }
 
+    /**
+     * GitHub 댓글 본문에 출처 표시 (comment.content 길이를 넘으면 본문을 자름)
+     */
+    private String toSynodosCommentBody(String body, String githubLogin) {
+        String text = body != null ? body : "";
+        String footer = text.contains("*From GitHub*") ? "" : "\n\n---\n*From GitHub @" + githubLogin + "*";
+        if (text.length() + footer.length() > MAX_COMMENT_LENGTH) {
+            text = text.substring(0, MAX_COMMENT_LENGTH - footer.length());
+        }
+        return text + footer;
+    }
+
+    private boolean isFromSynodos(String body) {
+        return body != null && body.contains(GitHubCommentSyncService.SYNODOS_MARKER);
+    }
+
+    /**
+     * 연결된 Issue의 기존 댓글 가져오기 (GitHubSyncOutboxService의 BACKFILL_COMMENTS 처리)
+     * - 댓글을 100개씩 끝까지 조회하고, 작성자는 한 번에 멤버로 변환 (매핑이 없으면 팀 리더)
+     * - 한 번의 INSERT로 저장, 이미 있는 댓글(Webhook으로 먼저 들어온 댓글)은 건너뜀
+     * - Synodos에서 보낸 댓글(SYNODOS_MARKER)은 원본이 있으므로 가져오지 않음
+     * @param memberNo 연결/가져오기를 요청한 멤버 (팀 토큰 풀에 쓸 토큰이 없을 때 사용)
+     * @return 새로 저장한 댓글 수
+     */
+    public int backfillComments(int taskId, int memberNo) {
+        TaskGitHubIssue mapping = taskGitHubIssueDao.findByTaskId(taskId);
+        if (mapping == null) {
+            log.debug("Task #{} is no longer linked, skipping comment backfill", taskId);
+            return 0;
+        }
+        Team team = teamDao.findById(mapping.getTeamId());
+        if (team == null || team.getGithubRepoUrl() == null) {
+            return 0;
+        }
+        GitHubService.RepoInfo repoInfo = gitHubService.parseRepoUrl(team.getGithubRepoUrl());
+        if (repoInfo == null) {
+            return 0;
+        }
+
+        String token = tokenPool.selectToken(team.getTeamId(), repoInfo.owner, repoInfo.repo);
+        if (token == null) {
+            Member member = memberDao.findByNo(memberNo);
+            if (member == null || member.getGithubAccessToken() == null) {
+                throw new RuntimeException("GitHub 계정이 연결되지 않았습니다.");
+            }
+            token = member.getGithubAccessToken();
+        }
+
+        List<GitHubIssueService.GitHubComment> githubComments = gitHubIssueService.listComments(
+            repoInfo.owner, repoInfo.repo, token, mapping.getIssueNumber());
+        if (githubComments.isEmpty()) {
+            return 0;
+        }
+
+        Set<String> logins = new HashSet<>();
+        githubComments.forEach(githubComment -> {
+            if (githubComment.getUserLogin() != null) logins.add(githubComment.getUserLogin());
+        });
+        Map<String, Integer> memberByLogin = identityService.findMemberNos(logins);
+
+        List<Comment> comments = new ArrayList<>();
+        for (GitHubIssueService.GitHubComment githubComment : githubComments) {
+            if (isFromSynodos(githubComment.getBody())) {
+                continue;
+            }
+            String login = githubComment.getUserLogin();
+            Integer authorNo = login != null ? memberByLogin.get(login.toLowerCase(Locale.ROOT)) : null;
+
+            Comment comment = new Comment();
+            comment.setTaskId(taskId);
+            comment.setAuthorNo(authorNo != null ? authorNo : team.getLeaderNo());
+            comment.setContent(toSynodosCommentBody(githubComment.getBody(), login));
+            comment.setGithubCommentId(githubComment.getId());
+            comment.setGithubCreatedAt(githubComment.getCreatedAt());
+            comments.add(comment);
+        }
+
+        int inserted = 0;
+        for (int from = 0; from < comments.size(); from += COMMENT_BATCH_SIZE) {
+            inserted += commentDao.insertGithubBatch(
+                comments.subList(from, Math.min(from + COMMENT_BATCH_SIZE, comments.size())));
+        }
+        log.info("Backfilled {} of {} GitHub comments for Task #{} (Issue #{})",
+            inserted, githubComments.size(), taskId, mapping.getIssueNumber());
+        return inserted;
+    }
+
     /**
      * Issue 생성 → Task 자동 생성
      */
@@ -495,11 +685,10 @@ public class GitHubIssueSyncService {
             .collect(Collectors.toList());
 
         if (!githubAssignees.isEmpty()) {
-            List<GitHubUserMapping> mappings = gitHubUserMappingDao.findByGithubUsernames(githubAssignees);
-            for (GitHubUserMapping mapping : mappings) {
+            for (Integer memberNo : identityService.toMemberNos(githubAssignees)) {
                 TaskAssignee assignee = new TaskAssignee();
                 assignee.setTaskId(task.getTaskId());
-                assignee.setMemberNo(mapping.getMemberNo());
+                assignee.setMemberNo(memberNo);
                 // accepted, completed는 기본값 false
                 taskAssigneeDao.insert(assignee);
             }
@@ -509,146 +698,108 @@ public class GitHubIssueSyncService {
     }
 
     /**
-     * Issue 편집 → Task 업데이트
-     */
-    private void handleIssueEdited(GitHubIssuePayload payload, TaskGitHubIssue mapping, String webhookDeliveryId) {
-        if (mapping == null) return;
-
-        Task task = taskDao.content(mapping.getTaskId());
-        if (task == null) return;
-
-        GitHubIssuePayload.Issue issue = payload.getIssue();
-        boolean changed = false;
-
-        // 제목 변경
-        if (!Objects.equals(task.getTitle(), issue.getTitle())) {
-            String oldTitle = task.getTitle();
-            task.setTitle(issue.getTitle());
-            changed = true;
-            logSync(mapping.getId(), task.getTaskId(), issue.getNumber(), mapping.getTeamId(),
-                GitHubIssueSyncLog.DIRECTION_PULL, GitHubIssueSyncLog.TYPE_UPDATE,
-                "title", oldTitle, issue.getTitle(), GitHubIssueSyncLog.STATUS_SUCCESS, webhookDeliveryId);
-        }
-
-        // 본문 변경
-        if (!Objects.equals(task.getDescription(), issue.getBody())) {
-            task.setDescription(issue.getBody());
-            changed = true;
-        }
-
-        if (changed) {
-            taskDao.update(task);
-            taskGitHubIssueDao.updateGithubTimestamp(mapping.getTeamId(), issue.getNumber());
-            taskGitHubIssueDao.updateLastSyncedAt(mapping.getId());
-
-            // WebSocket 알림 (relations 포함된 완전한 Task 전송)
-            Task fullTask = getTaskWithRelations(task.getTaskId());
-            boardNotificationService.notifyTaskUpdated(fullTask, mapping.getTeamId());
-        }
-    }
-
-    /**
-     * Issue 닫힘 → DONE 상태
+     * Issue 최종 상태를 Task에 반영 (actions에 해당하는 항목만 비교)
+     * - 편집 → 제목/본문, Label 변경 → 상태/우선순위, 닫힘/재오픈 → DONE/WAITING,
+     *   담당자 변경 → 담당자, Milestone 변경 → 마감일
+     * - Label과 열림/닫힘이 함께 바뀌면 열림/닫힘을 나중에 적용 (닫힌 Issue는 DONE)
      */
-    private void handleIssueClosed(GitHubIssuePayload payload, TaskGitHubIssue mapping, String webhookDeliveryId) {
-        if (mapping == null) return;
-
+    private void applyIssueState(GitHubIssuePayload.Issue issue, Set<String> actions,
+                                 TaskGitHubIssue mapping, String webhookDeliveryId) {
         Task task = taskDao.content(mapping.getTaskId());
         if (task == null) return;
 
-        if (!"DONE".equals(task.getWorkflowStatus())) {
-            String oldStatus = task.getWorkflowStatus();
-            task.setWorkflowStatus("DONE");
-            taskDao.updateWorkflowStatus(task);
-
-            taskGitHubIssueDao.updateGithubTimestamp(mapping.getTeamId(), payload.getIssue().getNumber());
-            taskGitHubIssueDao.updateLastSyncedAt(mapping.getId());
-
-            logSync(mapping.getId(), task.getTaskId(), payload.getIssue().getNumber(), mapping.getTeamId(),
-                GitHubIssueSyncLog.DIRECTION_PULL, GitHubIssueSyncLog.TYPE_UPDATE,
-                "workflow_status", oldStatus, "DONE", GitHubIssueSyncLog.STATUS_SUCCESS, webhookDeliveryId);
-
-            // WebSocket 알림 (relations 포함된 완전한 Task 전송)
-            Task fullTask = getTaskWithRelations(task.getTaskId());
-            boardNotificationService.notifyTaskUpdated(fullTask, mapping.getTeamId());
-        }
-    }
-
-    /**
-     * Issue 재오픈 → WAITING 상태
-     */
-    private void handleIssueReopened(GitHubIssuePayload payload, TaskGitHubIssue mapping, String webhookDeliveryId) {
-        if (mapping == null) return;
-
-        Task task = taskDao.content(mapping.getTaskId());
-        if (task == null) return;
-
-        if ("DONE".equals(task.getWorkflowStatus())) {
-            String oldStatus = task.getWorkflowStatus();
-            task.setWorkflowStatus("WAITING");
-            taskDao.updateWorkflowStatus(task);
-
-            taskGitHubIssueDao.updateGithubTimestamp(mapping.getTeamId(), payload.getIssue().getNumber());
-            taskGitHubIssueDao.updateLastSyncedAt(mapping.getId());
-
-            logSync(mapping.getId(), task.getTaskId(), payload.getIssue().getNumber(), mapping.getTeamId(),
-                GitHubIssueSyncLog.DIRECTION_PULL, GitHubIssueSyncLog.TYPE_UPDATE,
-                "workflow_status", oldStatus, "WAITING", GitHubIssueSyncLog.STATUS_SUCCESS, webhookDeliveryId);
-
-            // WebSocket 알림 (relations 포함된 완전한 Task 전송)
-            Task fullTask = getTaskWithRelations(task.getTaskId());
-            boardNotificationService.notifyTaskUpdated(fullTask, mapping.getTeamId());
+        boolean fieldsChanged = false;
+        boolean statusChanged = false;
+        boolean assigneesChanged = false;
+        String originalStatus = task.getWorkflowStatus();
+
+        // 제목/본문
+        if (actions.contains("edited")) {
+            if (!Objects.equals(task.getTitle(), issue.getTitle())) {
+                String oldTitle = task.getTitle();
+                task.setTitle(issue.getTitle());
+                fieldsChanged = true;
+                logSync(mapping.getId(), task.getTaskId(), issue.getNumber(), mapping.getTeamId(),
+                    GitHubIssueSyncLog.DIRECTION_PULL, GitHubIssueSyncLog.TYPE_UPDATE,
+                    "title", oldTitle, issue.getTitle(), GitHubIssueSyncLog.STATUS_SUCCESS, webhookDeliveryId);
+            }
+            if (!Objects.equals(task.getDescription(), issue.getBody())) {
+                task.setDescription(issue.getBody());
+                fieldsChanged = true;
+            }
         }
-    }
-
-    /**
-     * Label 변경 → 상태/우선순위 동기화
-     */
-    private void handleIssueLabelChanged(GitHubIssuePayload payload, TaskGitHubIssue mapping, String webhookDeliveryId) {
-        if (mapping == null) return;
 
-        Task task = taskDao.content(mapping.getTaskId());
-        if (task == null) return;
-
-        GitHubIssuePayload.Issue issue = payload.getIssue();
-        List<String> labels = issue.getLabels().stream()
-            .map(GitHubIssuePayload.Label::getName)
-            .collect(Collectors.toList());
-
-        boolean changed = false;
+        // 상태/우선순위 Label (충돌 체크: 최신 우선)
+        if ((actions.contains("labeled") || actions.contains("unlabeled")) && shouldApplyGitHubChange(mapping)) {
+            List<String> labels = issue.getLabels().stream()
+                .map(GitHubIssuePayload.Label::getName)
+                .collect(Collectors.toList());
 
-        // 상태 Label 확인
-        String newStatus = labelService.extractStatusFromLabels(labels);
-        if (newStatus != null && !newStatus.equals(task.getWorkflowStatus())) {
-            // 충돌 체크 (최신 우선)
-            if (shouldApplyGitHubChange(mapping)) {
-                String oldStatus = task.getWorkflowStatus();
+            String newStatus = labelService.extractStatusFromLabels(labels);
+            if (newStatus != null && !newStatus.equals(task.getWorkflowStatus())) {
                 task.setWorkflowStatus(newStatus);
-                taskDao.updateWorkflowStatus(task);
-                changed = true;
-
-                logSync(mapping.getId(), task.getTaskId(), issue.getNumber(), mapping.getTeamId(),
-                    GitHubIssueSyncLog.DIRECTION_PULL, GitHubIssueSyncLog.TYPE_UPDATE,
-                    "workflow_status", oldStatus, newStatus, GitHubIssueSyncLog.STATUS_SUCCESS, webhookDeliveryId);
+                statusChanged = true;
             }
-        }
 
-        // 우선순위 Label 확인
-        String newPriority = labelService.extractPriorityFromLabels(labels);
-        if (newPriority != null && !newPriority.equals(task.getPriority())) {
-            if (shouldApplyGitHubChange(mapping)) {
+            String newPriority = labelService.extractPriorityFromLabels(labels);
+            if (newPriority != null && !newPriority.equals(task.getPriority())) {
                 String oldPriority = task.getPriority();
                 task.setPriority(newPriority);
-                taskDao.update(task);
-                changed = true;
-
+                fieldsChanged = true;
                 logSync(mapping.getId(), task.getTaskId(), issue.getNumber(), mapping.getTeamId(),
                     GitHubIssueSyncLog.DIRECTION_PULL, GitHubIssueSyncLog.TYPE_UPDATE,
                     "priority", oldPriority, newPriority, GitHubIssueSyncLog.STATUS_SUCCESS, webhookDeliveryId);
             }
         }
 
-        if (changed) {
+        // 닫힘 → DONE, 재오픈 → WAITING
+        if (actions.contains("closed") || actions.contains("reopened")) {
+            if ("closed".equals(issue.getState()) && !"DONE".equals(task.getWorkflowStatus())) {
+                task.setWorkflowStatus("DONE");
+                statusChanged = true;
+            } else if ("open".equals(issue.getState()) && actions.contains("reopened")
+                    && "DONE".equals(task.getWorkflowStatus())) {
+                task.setWorkflowStatus("WAITING");
+                statusChanged = true;
+            }
+        }
+
+        // Milestone → 마감일
+        if (actions.contains("milestoned") || actions.contains("demilestoned")) {
+            GitHubIssuePayload.Milestone milestone = issue.getMilestone();
+            java.sql.Date newDueDate = null;
+            if (milestone != null && milestone.getDueOn() != null) {
+                try {
+                    newDueDate = java.sql.Date.valueOf(milestone.getDueOn().substring(0, 10));
+                } catch (Exception e) {
+                    log.warn("Failed to parse milestone due date: {}", milestone.getDueOn());
+                }
+            }
+            if (!Objects.equals(task.getDueDate(), newDueDate)) {
+                task.setDueDate(newDueDate);
+                fieldsChanged = true;
+            }
+        }
+
+        // 담당자
+        if (actions.contains("assigned") || actions.contains("unassigned")) {
+            assigneesChanged = applyIssueAssignees(issue, mapping);
+        }
+
+        if (fieldsChanged) {
+            taskDao.update(task);
+        }
+        if (statusChanged && !Objects.equals(originalStatus, task.getWorkflowStatus())) {
+            taskDao.updateWorkflowStatus(task);
+            logSync(mapping.getId(), task.getTaskId(), issue.getNumber(), mapping.getTeamId(),
+                GitHubIssueSyncLog.DIRECTION_PULL, GitHubIssueSyncLog.TYPE_UPDATE,
+                "workflow_status", originalStatus, task.getWorkflowStatus(),
+                GitHubIssueSyncLog.STATUS_SUCCESS, webhookDeliveryId);
+        } else {
+            statusChanged = false;
+        }
+
+        if (fieldsChanged || statusChanged || assigneesChanged) {
             taskGitHubIssueDao.updateGithubTimestamp(mapping.getTeamId(), issue.getNumber());
             taskGitHubIssueDao.updateLastSyncedAt(mapping.getId());
 
@@ -659,21 +810,16 @@ public class GitHubIssueSyncService {
     }
 
     /**
-     * Assignee 변경 → 담당자 동기화
+     * Issue 담당자 → Task 담당자 동기화
+     * @return 담당자가 바뀌었으면 true
      */
-    private void handleIssueAssignmentChanged(GitHubIssuePayload payload, TaskGitHubIssue mapping, String webhookDeliveryId) {
-        if (mapping == null) return;
-
-        GitHubIssuePayload.Issue issue = payload.getIssue();
+    private boolean applyIssueAssignees(GitHubIssuePayload.Issue issue, TaskGitHubIssue mapping) {
         List<String> githubAssignees = issue.getAssignees().stream()
             .map(GitHubIssuePayload.User::getLogin)
             .collect(Collectors.toList());
 
         // GitHub 사용자 → Synodos 멤버 매핑
-        List<GitHubUserMapping> mappings = gitHubUserMappingDao.findByGithubUsernames(githubAssignees);
-        Set<Integer> newAssigneeNos = mappings.stream()
-            .map(GitHubUserMapping::getMemberNo)
-            .collect(Collectors.toSet());
+        Set<Integer> newAssigneeNos = identityService.toMemberNos(githubAssignees);
 
         // 기존 담당자 조회
         List<TaskAssignee> currentAssignees = taskAssigneeDao.listByTask(mapping.getTaskId());
@@ -681,6 +827,8 @@ public class GitHubIssueSyncService {
             .map(TaskAssignee::getMemberNo)
             .collect(Collectors.toSet());
 
+        boolean changed = false;
+
         // 추가된 담당자
         for (Integer memberNo : newAssigneeNos) {
             if (!currentAssigneeNos.contains(memberNo)) {
@@ -689,6 +837,7 @@ public class GitHubIssueSyncService {
                 assignee.setMemberNo(memberNo);
                 // accepted, completed는 기본값 false
                 taskAssigneeDao.insert(assignee);
+                changed = true;
             }
         }
 
@@ -696,50 +845,10 @@ public class GitHubIssueSyncService {
         for (TaskAssignee assignee : currentAssignees) {
             if (!newAssigneeNos.contains(assignee.getMemberNo())) {
                 taskAssigneeDao.delete(assignee.getTaskId(), assignee.getMemberNo());
+                changed = true;
             }
         }
-
-        taskGitHubIssueDao.updateGithubTimestamp(mapping.getTeamId(), issue.getNumber());
-        taskGitHubIssueDao.updateLastSyncedAt(mapping.getId());
-
-        // WebSocket 알림 (relations 포함된 완전한 Task 전송)
-        Task fullTask = getTaskWithRelations(mapping.getTaskId());
-        if (fullTask != null) {
-            boardNotificationService.notifyTaskUpdated(fullTask, mapping.getTeamId());
-        }
-    }
-
-    /**
-     * Milestone 변경 → 마감일 동기화
-     */
-    private void handleIssueMilestoneChanged(GitHubIssuePayload payload, TaskGitHubIssue mapping, String webhookDeliveryId) {
-        if (mapping == null) return;
-
-        Task task = taskDao.content(mapping.getTaskId());
-        if (task == null) return;
-
-        GitHubIssuePayload.Milestone milestone = payload.getIssue().getMilestone();
-        java.sql.Date newDueDate = null;
-
-        if (milestone != null && milestone.getDueOn() != null) {
-            try {
-                newDueDate = java.sql.Date.valueOf(milestone.getDueOn().substring(0, 10));
-            } catch (Exception e) {
-                log.warn("Failed to parse milestone due date: {}", milestone.getDueOn());
-            }
-        }
-
-        if (!Objects.equals(task.getDueDate(), newDueDate)) {
-            task.setDueDate(newDueDate);
-            taskDao.updateDates(task);
-
-            taskGitHubIssueDao.updateGithubTimestamp(mapping.getTeamId(), payload.getIssue().getNumber());
-            taskGitHubIssueDao.updateLastSyncedAt(mapping.getId());
-
-            // WebSocket 알림 (relations 포함된 완전한 Task 전송)
-            Task fullTask = getTaskWithRelations(task.getTaskId());
-            boardNotificationService.notifyTaskUpdated(fullTask, mapping.getTeamId());
-        }
+        return changed;
     }
 
     // ==================== Helper Methods ====================
@@ -784,31 +893,126 @@ public class GitHubIssueSyncService {
     }
 
     /**
-     * Synodos 멤버 → GitHub 사용자명 변환
+     * 원하는 Label 전체 목록: 직접 붙인 Label은 유지하고 상태/우선순위 Label만 Task 기준으로 교체
      */
-    private List<String> mapMembersToGitHubUsers(List<Integer> memberNos) {
-        List<String> githubUsers = new ArrayList<>();
-        for (Integer memberNo : memberNos) {
-            Member member = memberDao.findByNo(memberNo);
-            if (member != null && member.getGithubUsername() != null) {
-                githubUsers.add(member.getGithubUsername());
+    private List<String> buildDesiredLabels(List<String> knownLabels, Task task) {
+        Set<String> managed = new HashSet<>(labelService.getAllStatusLabels());
+        managed.addAll(labelService.getAllPriorityLabels());
+
+        Set<String> labels = new LinkedHashSet<>();
+        for (String label : knownLabels) {
+            if (!managed.contains(label)) {
+                labels.add(label);
             }
         }
-        return githubUsers;
+        labels.addAll(labelService.buildLabelsFromTask(task.getWorkflowStatus(), task.getPriority()));
+        return new ArrayList<>(labels);
     }
 
     /**
-     * GitHub 사용자명 → Synodos 멤버 변환
+     * 원하는 담당자 전체 목록: Synodos 멤버와 연결되지 않은 GitHub 담당자는 유지하고,
+     * 멤버와 연결된 사용자만 Task 담당자 기준으로 추가/제거
      */
-    private List<Member> mapGitHubUsersToMembers(List<String> githubUsernames) {
-        List<Member> members = new ArrayList<>();
-        for (String username : githubUsernames) {
-            Member member = memberDao.findByGithubUsername(username);
-            if (member != null) {
-                members.add(member);
+    private List<String> buildDesiredAssignees(List<String> knownAssignees, List<String> taskLogins) {
+        Map<String, Integer> mappedMembers = identityService.findMemberNos(knownAssignees);
+
+        Map<String, String> assignees = new LinkedHashMap<>();
+        for (String login : knownAssignees) {
+            String key = login.toLowerCase(Locale.ROOT);
+            if (!mappedMembers.containsKey(key)) {
+                assignees.put(key, login);
             }
         }
-        return members;
+        for (String login : taskLogins) {
+            assignees.putIfAbsent(login.toLowerCase(Locale.ROOT), login);
+        }
+        return new ArrayList<>(assignees.values());
+    }
+
+    /**
+     * 비교 기준이 있고 TTL 이내인지 확인
+     */
+    private boolean hasFreshKnownState(TaskGitHubIssue mapping) {
+        return mapping.getKnownAt() != null && mapping.getKnownState() != null
+            && mapping.getKnownAt().isAfter(LocalDateTime.now().minusMinutes(knownStateTtlMinutes));
+    }
+
+    /**
+     * 매핑 객체에 확인된 Issue 상태 반영 (저장은 호출자가 updateKnownState로)
+     */
+    private void applyKnownState(TaskGitHubIssue mapping, String title, String body, String state,
+                                 List<String> labels, List<String> assignees) {
+        mapping.setKnownTitle(title);
+        mapping.setKnownBodyHash(hashBody(body));
+        mapping.setKnownState(state);
+        mapping.setKnownLabels(writeList(labels));
+        mapping.setKnownAssignees(writeList(assignees));
+        mapping.setKnownAt(LocalDateTime.now());
+    }
+
+    /**
+     * Webhook payload의 Issue 상태를 비교 기준으로 저장
+     */
+    private void rememberIssueState(TaskGitHubIssue mapping, GitHubIssuePayload.Issue issue) {
+        List<String> labels = issue.getLabels() == null ? List.of() : issue.getLabels().stream()
+            .map(GitHubIssuePayload.Label::getName)
+            .collect(Collectors.toList());
+        List<String> assignees = issue.getAssignees() == null ? List.of() : issue.getAssignees().stream()
+            .map(GitHubIssuePayload.User::getLogin)
+            .collect(Collectors.toList());
+        applyKnownState(mapping, issue.getTitle(), issue.getBody(), issue.getState(), labels, assignees);
+        taskGitHubIssueDao.updateKnownState(mapping);
+    }
+
+    /**
+     * 순서와 무관하게 같은 항목인지 비교 (GitHub 사용자명은 대소문자 구분 없음)
+     */
+    private boolean sameSet(List<String> a, List<String> b, boolean ignoreCase) {
+        Set<String> left = new HashSet<>();
+        Set<String> right = new HashSet<>();
+        a.forEach(v -> left.add(ignoreCase ? v.toLowerCase() : v));
+        b.forEach(v -> right.add(ignoreCase ? v.toLowerCase() : v));
+        return left.equals(right);
+    }
+
+    private String describeChanges(GitHubIssueService.UpdateIssueRequest request) {
+        List<String> fields = new ArrayList<>();
+        if (request.getTitle() != null) fields.add("title");
+        if (request.getBody() != null) fields.add("body");
+        if (request.getState() != null) fields.add("state");
+        if (request.getLabels() != null) fields.add("labels");
+        if (request.getAssignees() != null) fields.add("assignees");
+        return String.join(", ", fields);
+    }
+
+    private String hashBody(String body) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest((body == null ? "" : body).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private String writeList(List<String> values) {
+        try {
+            return objectMapper.writeValueAsString(values == null ? List.of() : values);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private List<String> readList(String json) {
+        if (json == null || json.isEmpty()) {
+            return new ArrayList<>();
+        }
+        try {
+            return objectMapper.readValue(json, new TypeReference<List<String>>() {});
+        } catch (JsonProcessingException e) {
+            log.warn("Invalid stored list: {}", json);
+            return new ArrayList<>();
+        }
     }
 
     /**
@@ -876,6 +1080,14 @@ public class GitHubIssueSyncService {
         mapping.setLastSyncedAt(LocalDateTime.now());
 
         taskGitHubIssueDao.insert(mapping);
+        applyKnownState(mapping, issue.getTitle(), issue.getBody(), issue.getState(),
+            issue.getLabels(), issue.getAssignees());
+        taskGitHubIssueDao.updateKnownState(mapping);
+
+        // 기존 댓글은 대기열에서 가져옴 (연결과 함께 커밋)
+        if (issue.getComments() > 0) {
+            outboxDao.insertBatch(List.of(taskId), teamId, GitHubSyncOutbox.ACTION_BACKFILL_COMMENTS, memberNo);
+        }
 
         logSync(mapping.getId(), taskId, issueNumber, teamId,
             GitHubIssueSyncLog.DIRECTION_PUSH, GitHubIssueSyncLog.TYPE_LINK,
@@ -916,9 +1128,11 @@ public class GitHubIssueSyncService {
     }
 
     /**
-     * 팀의 GitHub Issues 목록 조회
+     * 팀의 GitHub Issues 목록 조회 (Issue 미러에서 조회)
+     * 첫 수집이 끝나기 전(또는 실패 중)에는 백그라운드 수집을 걸어 두고 GitHub 첫 페이지를 직접 조회해 응답
+     * @param query 제목 일부 또는 #번호 (null이면 전체)
      */
-    public List<GitHubIssueService.GitHubIssue> listGitHubIssues(int teamId, int memberNo, String state) {
+    public List<GitHubIssueService.GitHubIssue> listGitHubIssues(int teamId, int memberNo, String state, String query) {
         // 멤버의 GitHub 토큰 확인
         Member member = memberDao.findByNo(memberNo);
         if (member == null || member.getGithubAccessToken() == null) {
@@ -935,9 +1149,22 @@ public class GitHubIssueSyncService {
             throw new RuntimeException("잘못된 GitHub 저장소 URL입니다.");
         }
 
-        return gitHubIssueService.listIssues(
-            repoInfo.owner, repoInfo.repo, member.getGithubAccessToken(), state, 1
-        );
+        if (issueMirrorService.ensureMirror(teamId, member.getGithubAccessToken())) {
+            return issueMirrorService.search(teamId, state, query, ISSUE_LIST_LIMIT);
+        }
+
+        // 미러 준비 전: 이전 저장소 Issue가 섞인 미러 대신 GitHub 첫 페이지에서 검색
+        List<GitHubIssueService.GitHubIssue> issues = gitHubIssueService.listIssues(
+            repoInfo.owner, repoInfo.repo, member.getGithubAccessToken(), state, 1);
+        if (query == null || query.isBlank()) {
+            return issues;
+        }
+        String keyword = query.trim().toLowerCase(Locale.ROOT);
+        String number = keyword.startsWith("#") ? keyword.substring(1) : keyword;
+        return issues.stream()
+            .filter(issue -> String.valueOf(issue.getNumber()).equals(number)
+                || (issue.getTitle() != null && issue.getTitle().toLowerCase(Locale.ROOT).contains(keyword)))
+            .collect(Collectors.toList());
     }
 
     // ==================== Bulk Sync ====================
@@ -1016,41 +1243,31 @@ public class GitHubIssueSyncService {
     }
 
     /**
-     * GitHub의 모든 Issues를 Synodos Tasks로 가져오기
-     * (이미 연결된 Issue는 건너뜀)
+     * GitHub Issues 일괄 가져오기 준비 (GitHubBulkJobService에서 작업 시작/재개 시 호출)
+     * - 저장소/토큰/컬럼 검증
+     * - 이미 연결된 Issue 번호를 한 번에 읽어 두어 Issue마다 조회하지 않음
      */
-    @Transactional
-    public BulkSyncResult importAllIssues(int teamId, int memberNo) {
-        BulkSyncResult result = new BulkSyncResult();
-
-        // 멤버 및 팀 검증
+    public ImportPlan prepareImport(int teamId, int memberNo) {
         Member member = memberDao.findByNo(memberNo);
         if (member == null || member.getGithubAccessToken() == null) {
-            result.addError("GitHub 계정이 연결되지 않았습니다.");
-            return result;
+            throw new RuntimeException("GitHub 계정이 연결되지 않았습니다.");
         }
 
         Team team = teamDao.findById(teamId);
         if (team == null || team.getGithubRepoUrl() == null) {
-            result.addError("팀 또는 GitHub 저장소 설정을 찾을 수 없습니다.");
-            return result;
+            throw new RuntimeException("팀 또는 GitHub 저장소 설정을 찾을 수 없습니다.");
         }
 
         GitHubService.RepoInfo repoInfo = gitHubService.parseRepoUrl(team.getGithubRepoUrl());
         if (repoInfo == null) {
-            result.addError("잘못된 GitHub 저장소 URL입니다.");
-            return result;
+            throw new RuntimeException("잘못된 GitHub 저장소 URL입니다.");
         }
 
         // 팀의 컬럼 목록 로드 (github_prefix 포함)
         List<SynodosColumn> columns = columnDao.listByTeam(teamId);
         if (columns.isEmpty()) {
-            result.addError("팀에 컬럼이 없습니다. 먼저 컬럼을 생성해주세요.");
-            return result;
+            throw new RuntimeException("팀에 컬럼이 없습니다. 먼저 컬럼을 생성해주세요.");
         }
-        log.info("Columns for team {}: {}", teamId, columns.stream()
-            .map(c -> c.getTitle() + "=" + c.getGithubPrefix())
-            .collect(Collectors.joining(", ")));
 
         // 기본 컬럼 확인
         Integer defaultColumnId = team.getGithubDefaultColumnId();
@@ -1058,221 +1275,352 @@ public class GitHubIssueSyncService {
             defaultColumnId = columns.get(0).getColumnId();
         }
 
-        String token = member.getGithubAccessToken();
+        ImportPlan plan = new ImportPlan();
+        plan.teamId = teamId;
+        plan.memberNo = memberNo;
+        plan.owner = repoInfo.owner;
+        plan.repo = repoInfo.repo;
+        plan.token = member.getGithubAccessToken();
+        plan.columns = columns;
+        plan.defaultColumnId = defaultColumnId;
+        plan.linkedIssueNumbers.addAll(taskGitHubIssueDao.listIssueNumbersByTeam(teamId));
+        return plan;
+    }
 
-        // 모든 open issues 가져오기 (여러 페이지)
-        List<GitHubIssueService.GitHubIssue> allIssues = new ArrayList<>();
-        int page = 1;
-        while (true) {
-            List<GitHubIssueService.GitHubIssue> issues =
-                gitHubIssueService.listIssues(repoInfo.owner, repoInfo.repo, token, "all", page);
-            if (issues.isEmpty()) break;
-            allIssues.addAll(issues);
-            if (issues.size() < 30) break; // GitHub API default per_page
-            page++;
-            if (page > 10) break; // 최대 300개 제한
+    /**
+     * GitHub Issue 묶음(한 페이지)을 Tasks로 가져오기
+     * - 태스크/담당자/매핑을 각각 한 번의 INSERT로 저장
+     * - 처리 도중 Webhook 등으로 먼저 연결된 Issue는 매핑 삽입이 건너뛰어지므로, 그 태스크는 지우고 건너뜀으로 집계
+     */
+    @Transactional
+    public BulkSyncResult importIssueBatch(ImportPlan plan, List<GitHubIssueService.GitHubIssue> issues) {
+        BulkSyncResult result = new BulkSyncResult();
+
+        List<GitHubIssueService.GitHubIssue> toImport = new ArrayList<>();
+        for (GitHubIssueService.GitHubIssue issue : issues) {
+            if (plan.linkedIssueNumbers.contains(issue.getNumber())) {
+                result.setSkipCount(result.getSkipCount() + 1);
+            } else {
+                toImport.add(issue);
+            }
+        }
+        if (toImport.isEmpty()) {
+            return result;
         }
 
-        log.info("Found {} GitHub issues for team {}", allIssues.size(), teamId);
+        // GitHub 사용자명 → Synodos 멤버 (묶음 전체를 한 번에 조회)
+        Set<String> logins = new HashSet<>();
+        toImport.forEach(issue -> {
+            if (issue.getAssignees() != null) logins.addAll(issue.getAssignees());
+        });
+        Map<String, Integer> memberByLogin = identityService.findMemberNos(logins);
 
-        for (GitHubIssueService.GitHubIssue issue : allIssues) {
-            try {
-                // 이미 연결된 Issue인지 확인
-                if (taskGitHubIssueDao.countByTeamAndIssue(teamId, issue.getNumber()) > 0) {
-                    result.setSkipCount(result.getSkipCount() + 1);
-                    continue;
-                }
+        List<Integer> taskIds = taskDao.nextTaskIds(toImport.size());
+        List<Task> tasks = new ArrayList<>();
+        List<TaskAssignee> assignees = new ArrayList<>();
+        List<TaskGitHubIssue> mappings = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
 
-                // 제목에서 명령어로 컬럼 결정
-                Integer targetColumnId = findColumnByTitlePrefix(issue.getTitle(), columns);
-                if (targetColumnId == null) {
-                    targetColumnId = defaultColumnId;
+        for (int i = 0; i < toImport.size(); i++) {
+            GitHubIssueService.GitHubIssue issue = toImport.get(i);
+            int taskId = taskIds.get(i);
+
+            // 제목에서 명령어로 컬럼 결정
+            Integer targetColumnId = findColumnByTitlePrefix(issue.getTitle(), plan.columns);
+            if (targetColumnId == null) {
+                targetColumnId = plan.defaultColumnId;
+            }
+
+            Task task = new Task();
+            task.setTaskId(taskId);
+            task.setColumnId(targetColumnId);
+            task.setTitle(removePrefixFromTitle(issue.getTitle(), plan.columns));
+            task.setDescription(issue.getBody());
+            task.setPosition(plan.nextPosition(targetColumnId, taskDao::getMaxPosition));
+            task.setWorkflowStatus("closed".equals(issue.getState()) ? "DONE" : "WAITING");
+            // Label에서 우선순위 추출 (없으면 null)
+            task.setPriority(labelService.extractPriorityFromLabels(issue.getLabels()));
+            tasks.add(task);
+
+            if (issue.getAssignees() != null) {
+                for (String login : issue.getAssignees()) {
+                    Integer assigneeNo = memberByLogin.get(login.toLowerCase(Locale.ROOT));
+                    if (assigneeNo != null) {
+                        TaskAssignee assignee = new TaskAssignee();
+                        assignee.setTaskId(taskId);
+                        assignee.setMemberNo(assigneeNo);
+                        assignee.setAssignedBy(plan.memberNo);
+                        assignees.add(assignee);
+                    }
                 }
+            }
 
-                // 제목에서 명령어 제거 (선택적)
-                String cleanTitle = removePrefixFromTitle(issue.getTitle(), columns);
+            TaskGitHubIssue mapping = new TaskGitHubIssue();
+            mapping.setTaskId(taskId);
+            mapping.setTeamId(plan.teamId);
+            mapping.setIssueNumber(issue.getNumber());
+            mapping.setIssueId(issue.getId());
+            mapping.setIssueTitle(issue.getTitle());
+            mapping.setIssueUrl(issue.getHtmlUrl());
+            mapping.setSyncStatus(TaskGitHubIssue.STATUS_SYNCED);
+            mapping.setLastSyncedAt(now);
+            mapping.setGithubUpdatedAt(now);
+            applyKnownState(mapping, issue.getTitle(), issue.getBody(), issue.getState(),
+                issue.getLabels(), issue.getAssignees());
+            mappings.add(mapping);
+        }
 
-                // Task 생성
-                Task task = new Task();
-                task.setColumnId(targetColumnId);
-                task.setTitle(cleanTitle);
-                task.setDescription(issue.getBody());
-                task.setPosition(taskDao.getMaxPosition(targetColumnId) + 1);
-                task.setWorkflowStatus("closed".equals(issue.getState()) ? "DONE" : "WAITING");
-                // Label에서 우선순위 추출 (없으면 null)
-                String priority = labelService.extractPriorityFromLabels(issue.getLabels());
-                task.setPriority(priority);
-
-                taskDao.insert(task);
-
-                // 매핑 생성
-                TaskGitHubIssue mapping = new TaskGitHubIssue();
-                mapping.setTaskId(task.getTaskId());
-                mapping.setTeamId(teamId);
-                mapping.setIssueNumber(issue.getNumber());
-                mapping.setIssueId(issue.getId());
-                mapping.setIssueTitle(issue.getTitle());
-                mapping.setIssueUrl(issue.getHtmlUrl());
-                mapping.setSyncStatus(TaskGitHubIssue.STATUS_SYNCED);
-                mapping.setLastSyncedAt(LocalDateTime.now());
-                mapping.setGithubUpdatedAt(LocalDateTime.now());
-
-                taskGitHubIssueDao.insert(mapping);
-
-                // WebSocket 알림 (relations 포함된 완전한 Task 전송)
-                Task fullTask = getTaskWithRelations(task.getTaskId());
-                boardNotificationService.notifyTaskCreated(fullTask, teamId);
-
-                result.setSuccessCount(result.getSuccessCount() + 1);
-                log.info("Imported GitHub Issue #{} as Task #{}", issue.getNumber(), task.getTaskId());
+        taskDao.insertBatch(tasks);
+        if (!assignees.isEmpty()) {
+            taskAssigneeDao.insertBatch(assignees);
+        }
+        Set<Integer> linkedTaskIds = new HashSet<>(taskGitHubIssueDao.insertBatch(mappings));
 
-            } catch (Exception e) {
-                result.setFailCount(result.getFailCount() + 1);
-                result.addError("Issue #" + issue.getNumber() + ": " + e.getMessage());
-                log.error("Failed to import issue #{}: {}", issue.getNumber(), e.getMessage());
+        if (linkedTaskIds.size() < taskIds.size()) {
+            List<Integer> orphanTaskIds = taskIds.stream()
+                .filter(id -> !linkedTaskIds.contains(id))
+                .collect(Collectors.toList());
+            taskDao.deleteByIds(orphanTaskIds);
+            result.setSkipCount(result.getSkipCount() + orphanTaskIds.size());
+        }
+        result.setSuccessCount(linkedTaskIds.size());
+
+        // 댓글이 있는 Issue는 기존 댓글 가져오기를 대기열에 한 번에 추가 (묶음과 함께 커밋)
+        List<Integer> backfillTaskIds = new ArrayList<>();
+        for (int i = 0; i < toImport.size(); i++) {
+            if (toImport.get(i).getComments() > 0 && linkedTaskIds.contains(taskIds.get(i))) {
+                backfillTaskIds.add(taskIds.get(i));
             }
         }
+        if (!backfillTaskIds.isEmpty()) {
+            outboxDao.insertBatch(backfillTaskIds, plan.teamId, GitHubSyncOutbox.ACTION_BACKFILL_COMMENTS, plan.memberNo);
+        }
 
+        toImport.forEach(issue -> plan.linkedIssueNumbers.add(issue.getNumber()));
         return result;
     }
 
     /**
-     * Synodos의 모든 Tasks를 GitHub Issues로 내보내기
-     * (이미 연결된 Task는 건너뜀)
+     * 일괄 가져오기 작업 상태 (작업 스레드 하나만 사용)
      */
-    @Transactional
-    public BulkSyncResult exportAllTasks(int teamId, int memberNo) {
-        BulkSyncResult result = new BulkSyncResult();
+    public static class ImportPlan {
+        private int teamId;
+        private int memberNo;
+        private String owner;
+        private String repo;
+        private String token;
+        private List<SynodosColumn> columns;
+        private Integer defaultColumnId;
+        private final Set<Integer> linkedIssueNumbers = new HashSet<>();
+        private final Map<Integer, Integer> nextPositions = new HashMap<>();
+
+        // 컬럼별 다음 position (컬럼마다 처음 한 번만 조회)
+        private int nextPosition(int columnId, IntUnaryOperator maxPosition) {
+            int position = nextPositions.computeIfAbsent(columnId, id -> maxPosition.applyAsInt(id) + 1);
+            nextPositions.put(columnId, position + 1);
+            return position;
+        }
+
+        public int getTeamId() { return teamId; }
+        public String getOwner() { return owner; }
+        public String getRepo() { return repo; }
+        public String getToken() { return token; }
+    }
 
-        // 멤버 및 팀 검증
+    /**
+     * Synodos Tasks 일괄 내보내기 준비 (GitHubBulkJobService에서 작업 시작/재개 시 호출)
+     * - 저장소/토큰 검증 및 Label 확인은 작업당 한 번
+     * - 태스크와 담당자의 GitHub 계정을 한 번에 읽어 두어 태스크마다 조회하지 않음
+     */
+    public ExportPlan prepareExport(int teamId, int memberNo) {
         Member member = memberDao.findByNo(memberNo);
         if (member == null || member.getGithubAccessToken() == null) {
-            result.addError("GitHub 계정이 연결되지 않았습니다.");
-            return result;
+            throw new RuntimeException("GitHub 계정이 연결되지 않았습니다.");
         }
 
         Team team = teamDao.findById(teamId);
         if (team == null || team.getGithubRepoUrl() == null) {
-            result.addError("팀 또는 GitHub 저장소 설정을 찾을 수 없습니다.");
-            return result;
+            throw new RuntimeException("팀 또는 GitHub 저장소 설정을 찾을 수 없습니다.");
         }
 
         GitHubService.RepoInfo repoInfo = gitHubService.parseRepoUrl(team.getGithubRepoUrl());
         if (repoInfo == null) {
-            result.addError("잘못된 GitHub 저장소 URL입니다.");
-            return result;
+            throw new RuntimeException("잘못된 GitHub 저장소 URL입니다.");
         }
 
-        String token = member.getGithubAccessToken();
-
-        // Label 자동 생성 확인
-        labelService.ensureAllLabels(repoInfo.owner, repoInfo.repo, token);
+        ExportPlan plan = new ExportPlan();
+        plan.teamId = teamId;
+        plan.owner = repoInfo.owner;
+        plan.repo = repoInfo.repo;
+        plan.token = member.getGithubAccessToken();
+        return plan;
+    }
 
-        // 팀의 모든 태스크 조회
-        List<Task> tasks = taskDao.listByTeam(teamId);
-        log.info("Found {} tasks for team {}", tasks.size(), teamId);
+    /**
+     * 내보낼 태스크, 기존 매핑, 담당자 GitHub 계정 로드 (작업 실행 시 한 번)
+     */
+    public void loadExportTasks(ExportPlan plan) {
+        labelService.ensureAllLabels(plan.teamId, plan.owner, plan.repo, plan.token);
 
-        for (Task task : tasks) {
-            try {
-                // 이미 연결된 Task인지 확인
-                if (taskGitHubIssueDao.countByTaskId(task.getTaskId()) > 0) {
-                    result.setSkipCount(result.getSkipCount() + 1);
-                    continue;
-                }
+        for (Task task : taskDao.listByTeam(plan.teamId)) {
+            plan.tasks.put(task.getTaskId(), task);
+        }
+        // 이미 연결된 태스크는 태스크마다 조회하지 않고 팀 매핑을 한 번에 읽어 둠
+        for (TaskGitHubIssue mapping : taskGitHubIssueDao.listByTeam(plan.teamId)) {
+            plan.mappings.put(mapping.getTaskId(), mapping);
+        }
+        // 담당자 GitHub 계정은 태스크 단건 동기화와 같이 GitHubIdentityService 기준 (github_user_mapping 포함)
+        List<TaskAssignee> assignees = taskAssigneeDao.listByTeam(plan.teamId);
+        Map<Integer, String> logins = identityService.findLogins(assignees.stream()
+            .map(TaskAssignee::getMemberNo)
+            .collect(Collectors.toSet()));
+        for (TaskAssignee assignee : assignees) {
+            String login = logins.get(assignee.getMemberNo());
+            if (login != null) {
+                plan.assigneeLogins.computeIfAbsent(assignee.getTaskId(), id -> new ArrayList<>()).add(login);
+            }
+        }
+    }
 
-                // Issue 생성 요청 구성
-                GitHubIssueService.CreateIssueRequest request = new GitHubIssueService.CreateIssueRequest();
-                request.setTitle(task.getTitle());
-                request.setBody(buildIssueBody(task));
-                request.setLabels(labelService.buildLabelsFromTask(task.getWorkflowStatus(), task.getPriority()));
-
-                // Assignees 매핑
-                List<TaskAssignee> assignees = taskAssigneeDao.listByTask(task.getTaskId());
-                if (!assignees.isEmpty()) {
-                    List<String> githubAssignees = mapMembersToGitHubUsers(
-                        assignees.stream().map(TaskAssignee::getMemberNo).collect(Collectors.toList())
-                    );
-                    if (!githubAssignees.isEmpty()) {
-                        request.setAssignees(githubAssignees);
-                    }
-                }
+    /**
+     * 태스크 하나를 GitHub Issue로 생성하고 매핑을 바로 저장 (생성된 Issue마다 즉시 커밋)
+     * REST API는 Issue 생성 시 상태를 지정할 수 없어 DONE 태스크는 생성 후 닫기 요청을 한 번 더 보냄
+     * - 닫기가 실패해도 재시도 때 Issue를 다시 만들지 않도록 매핑을 먼저 저장하고 닫음
+     * - 이미 매핑이 있으면 (이전 시도에서 닫기만 실패) 닫기만 다시 요청
+     */
+    public TaskGitHubIssue exportTask(ExportPlan plan, Task task) {
+        TaskGitHubIssue existing = plan.mappings.get(task.getTaskId());
+        if (existing != null) {
+            closeExportedIssue(plan, task, existing);
+            return existing;
+        }
 
-                // GitHub Issue 생성
-                GitHubIssueService.GitHubIssue issue = gitHubIssueService.createIssue(
-                    repoInfo.owner, repoInfo.repo, token, request
-                );
+        GitHubIssueService.CreateIssueRequest request = new GitHubIssueService.CreateIssueRequest();
+        request.setTitle(task.getTitle());
+        request.setBody(buildIssueBody(task));
+        request.setLabels(labelService.buildLabelsFromTask(task.getWorkflowStatus(), task.getPriority()));
+        List<String> assignees = plan.assigneeLogins.getOrDefault(task.getTaskId(), List.of());
+        if (!assignees.isEmpty()) {
+            request.setAssignees(assignees);
+        }
 
-                // DONE 상태면 Issue 닫기
-                if ("DONE".equals(task.getWorkflowStatus())) {
-                    GitHubIssueService.UpdateIssueRequest closeRequest = new GitHubIssueService.UpdateIssueRequest();
-                    closeRequest.setState("closed");
-                    gitHubIssueService.updateIssue(repoInfo.owner, repoInfo.repo, token, issue.getNumber(), closeRequest);
-                }
+        GitHubIssueService.GitHubIssue issue = gitHubIssueService.createIssue(plan.owner, plan.repo, plan.token, request);
+        TaskGitHubIssue mapping = saveExportMapping(plan, task, issue, request.getBody());
+        log.info("Exported Task #{} as GitHub Issue #{}", task.getTaskId(), issue.getNumber());
 
-                // 매핑 저장
-                TaskGitHubIssue mapping = new TaskGitHubIssue();
-                mapping.setTaskId(task.getTaskId());
-                mapping.setTeamId(teamId);
-                mapping.setIssueNumber(issue.getNumber());
-                mapping.setIssueId(issue.getId());
-                mapping.setIssueTitle(issue.getTitle());
-                mapping.setIssueUrl(issue.getHtmlUrl());
-                mapping.setSyncStatus(TaskGitHubIssue.STATUS_SYNCED);
-                mapping.setLastSyncedAt(LocalDateTime.now());
-                mapping.setSynodosUpdatedAt(LocalDateTime.now());
-                mapping.setGithubUpdatedAt(LocalDateTime.now());
+        closeExportedIssue(plan, task, mapping);
+        return mapping;
+    }
 
-                taskGitHubIssueDao.insert(mapping);
+    /**
+     * 중단 전에 이미 만들어진 Issue를 태스크에 연결 (재개 시 중복 생성 방지)
+     * DONE 태스크인데 닫기 전에 중단됐으면 닫기만 다시 요청
+     */
+    public TaskGitHubIssue adoptExportedIssue(ExportPlan plan, Task task, GitHubIssueService.GitHubIssue issue) {
+        // 매핑 저장 직후 중단된 경우
+        TaskGitHubIssue mapping = plan.mappings.get(task.getTaskId());
+        if (mapping == null) {
+            log.info("Linked previously exported GitHub Issue #{} to Task #{}", issue.getNumber(), task.getTaskId());
+            mapping = saveExportMapping(plan, task, issue, issue.getBody());
+        }
+        closeExportedIssue(plan, task, mapping);
+        return mapping;
+    }
 
-                result.setSuccessCount(result.getSuccessCount() + 1);
-                log.info("Exported Task #{} as GitHub Issue #{}", task.getTaskId(), issue.getNumber());
+    /**
+     * DONE 태스크의 Issue가 아직 열려 있으면 닫고 비교 기준 상태 갱신
+     */
+    private void closeExportedIssue(ExportPlan plan, Task task, TaskGitHubIssue mapping) {
+        if (!"DONE".equals(task.getWorkflowStatus()) || "closed".equals(mapping.getKnownState())) {
+            return;
+        }
+        GitHubIssueService.UpdateIssueRequest closeRequest = new GitHubIssueService.UpdateIssueRequest();
+        closeRequest.setState("closed");
+        GitHubIssueService.GitHubIssue issue = gitHubIssueService.updateIssue(
+            plan.owner, plan.repo, plan.token, mapping.getIssueNumber(), closeRequest);
+        applyKnownState(mapping, issue.getTitle(), issue.getBody(), issue.getState(), issue.getLabels(), issue.getAssignees());
+        taskGitHubIssueDao.updateKnownState(mapping);
+    }
 
-            } catch (Exception e) {
-                result.setFailCount(result.getFailCount() + 1);
-                result.addError("Task #" + task.getTaskId() + ": " + e.getMessage());
-                log.error("Failed to export task #{}: {}", task.getTaskId(), e.getMessage());
+    /**
+     * since 이후 생성/수정된 Issue 중 Synodos에서 내보낸 Issue를 태스크 ID별로 찾음
+     * (본문 끝의 "Synced from Synodos Task #id" 표시 기준)
+     */
+    public Map<Integer, GitHubIssueService.GitHubIssue> findExportedIssues(ExportPlan plan, String since) {
+        Map<Integer, GitHubIssueService.GitHubIssue> found = new HashMap<>();
+        String cursor = null;
+        while (true) {
+            GitHubIssueService.IssueBatch result =
+                gitHubIssueService.listIssuesBatch(plan.owner, plan.repo, plan.token, "all", since, cursor, 100);
+            for (GitHubIssueService.GitHubIssue issue : result.getIssues()) {
+                Matcher matcher = EXPORT_MARKER.matcher(issue.getBody() == null ? "" : issue.getBody());
+                if (matcher.find()) {
+                    found.putIfAbsent(Integer.parseInt(matcher.group(1)), issue);
+                }
+            }
+            if (!result.isHasNextPage()) {
+                return found;
             }
+            cursor = result.getEndCursor();
         }
+    }
 
-        return result;
+    private TaskGitHubIssue saveExportMapping(ExportPlan plan, Task task, GitHubIssueService.GitHubIssue issue, String body) {
+        LocalDateTime now = LocalDateTime.now();
+        TaskGitHubIssue mapping = new TaskGitHubIssue();
+        mapping.setTaskId(task.getTaskId());
+        mapping.setTeamId(plan.teamId);
+        mapping.setIssueNumber(issue.getNumber());
+        mapping.setIssueId(issue.getId());
+        mapping.setIssueTitle(issue.getTitle());
+        mapping.setIssueUrl(issue.getHtmlUrl());
+        mapping.setSyncStatus(TaskGitHubIssue.STATUS_SYNCED);
+        mapping.setLastSyncedAt(now);
+        mapping.setSynodosUpdatedAt(now);
+        mapping.setGithubUpdatedAt(now);
+        taskGitHubIssueDao.insert(mapping);
+        plan.mappings.put(task.getTaskId(), mapping);
+
+        applyKnownState(mapping, issue.getTitle(), body, issue.getState(), issue.getLabels(), issue.getAssignees());
+        taskGitHubIssueDao.updateKnownState(mapping);
+        return mapping;
+    }
+
+    /**
+     * 일괄 내보내기 작업 상태 (여러 스레드가 읽음, 매핑만 태스크별로 추가됨)
+     */
+    public static class ExportPlan {
+        private int teamId;
+        private String owner;
+        private String repo;
+        private String token;
+        private final Map<Integer, Task> tasks = new HashMap<>();
+        private final Map<Integer, List<String>> assigneeLogins = new HashMap<>();
+        private final Map<Integer, TaskGitHubIssue> mappings = new ConcurrentHashMap<>();
+
+        public Task getTask(int taskId) { return tasks.get(taskId); }
     }
 
     /**
      * 연결되지 않은 Issue/Task 개수 조회
+     * Issue 수는 미러 기준이므로 첫 수집이 끝나기 전에는 mirrorReady=false로 알림 (수집 실패 중이면 mirrorError 포함)
      */
-    public Map<String, Integer> getUnlinkedCounts(int teamId, int memberNo) {
-        Map<String, Integer> counts = new HashMap<>();
+    public Map<String, Object> getUnlinkedCounts(int teamId, int memberNo) {
+        Map<String, Object> counts = new HashMap<>();
+        boolean mirrorReady = false;
 
         try {
-            // 연결되지 않은 Tasks 수
-            List<Task> allTasks = taskDao.listByTeam(teamId);
-            int unlinkedTasks = 0;
-            for (Task task : allTasks) {
-                if (taskGitHubIssueDao.countByTaskId(task.getTaskId()) == 0) {
-                    unlinkedTasks++;
-                }
-            }
-            counts.put("unlinkedTasks", unlinkedTasks);
+            // 연결되지 않은 Tasks 수 (매핑 anti-join 한 번)
+            counts.put("unlinkedTasks", taskGitHubIssueDao.countUnlinkedTasksByTeam(teamId));
 
-            // 연결되지 않은 Issues 수
+            // 연결되지 않은 Issues 수 (Issue 미러 anti-join, 미러가 없으면 백그라운드 수집을 걸어 둠)
             Member member = memberDao.findByNo(memberNo);
-            Team team = teamDao.findById(teamId);
-            if (member != null && member.getGithubAccessToken() != null &&
-                team != null && team.getGithubRepoUrl() != null) {
-
-                GitHubService.RepoInfo repoInfo = gitHubService.parseRepoUrl(team.getGithubRepoUrl());
-                if (repoInfo != null) {
-                    List<GitHubIssueService.GitHubIssue> issues =
-                        gitHubIssueService.listIssues(repoInfo.owner, repoInfo.repo,
-                            member.getGithubAccessToken(), "all", 1);
-
-                    int unlinkedIssues = 0;
-                    for (GitHubIssueService.GitHubIssue issue : issues) {
-                        if (taskGitHubIssueDao.countByTeamAndIssue(teamId, issue.getNumber()) == 0) {
-                            unlinkedIssues++;
-                        }
-                    }
-                    counts.put("unlinkedIssues", unlinkedIssues);
+            if (member != null && member.getGithubAccessToken() != null) {
+                mirrorReady = issueMirrorService.ensureMirror(teamId, member.getGithubAccessToken());
+                if (mirrorReady) {
+                    counts.put("unlinkedIssues", issueMirrorService.countUnlinkedIssues(teamId));
+                } else if (issueMirrorService.getCrawlError(teamId) != null) {
+                    counts.put("mirrorError", issueMirrorService.getCrawlError(teamId));
                 }
             }
         } catch (Exception e) {
@@ -1281,6 +1629,7 @@ public class GitHubIssueSyncService {
 
         counts.putIfAbsent("unlinkedTasks", 0);
         counts.putIfAbsent("unlinkedIssues", 0);
+        counts.put("mirrorReady", mirrorReady);
         return counts;
     }
 }
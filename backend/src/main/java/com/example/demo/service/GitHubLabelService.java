@@ -1,17 +1,32 @@
 package com.example.demo.service;
 
+import com.example.demo.dao.TeamDao;
+import com.example.demo.model.Team;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 /**
  * GitHub Label 관리 서비스
  * - Synodos 상태/우선순위 ↔ GitHub Label 매핑
+ * - 저장소별 Label 레지스트리: 필요한 Label이 있는 것으로 확인되면 메모리와 team 테이블에 기록해
+ *   이후 ensureAllLabels는 GitHub을 호출하지 않음 (label Webhook 또는 TTL 경과 시 다시 확인)
  */
 @Slf4j
 @Service
@@ -20,6 +35,43 @@ public class GitHubLabelService {
     @Autowired
     private GitHubIssueService gitHubIssueService;
 
+    @Autowired
+    private TeamDao teamDao;
+
+    @Autowired
+    private GitHubService gitHubService;
+
+    @Value("${github.label.registry-ttl-hours:24}")
+    private long registryTtlHours;
+
+    @Value("${github.label.create-concurrency:4}")
+    private int createConcurrency;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    // 저장소(owner/repo 소문자)별 확인된 Label 레지스트리
+    private final Map<String, LabelRegistry> registries = new ConcurrentHashMap<>();
+
+    // Webhook 이벤트를 확인한 저장소 (label 이벤트 추가 전에 등록된 Webhook 갱신, 프로세스당 한 번)
+    private final Set<String> webhookChecked = ConcurrentHashMap.newKeySet();
+
+    private ExecutorService labelCreators;
+
+    @PostConstruct
+    public void init() {
+        AtomicInteger threadNo = new AtomicInteger();
+        labelCreators = Executors.newFixedThreadPool(createConcurrency, r -> {
+            Thread thread = new Thread(r, "github-label-" + threadNo.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        labelCreators.shutdown();
+    }
+
     // ==================== Status Labels ====================
 
     private static final Map<String, LabelConfig> STATUS_LABELS = new LinkedHashMap<>();
@@ -128,39 +180,132 @@ public class GitHubLabelService {
 
     /**
      * Repository에 필요한 모든 Label 생성 (없는 것만)
+     * 레지스트리로 이미 확인된 저장소면 GitHub 호출 없이 반환하고,
+     * 아니면 Label 목록을 한 번 조회한 뒤 없는 Label을 동시에 생성한다.
      */
-    public void ensureAllLabels(String owner, String repo, String token) {
+    public void ensureAllLabels(int teamId, String owner, String repo, String token) {
+        String repoKey = repoKey(owner, repo);
+        List<LabelConfig> required = new ArrayList<>(STATUS_LABELS.values());
+        required.addAll(PRIORITY_LABELS.values());
+
+        Set<String> known = knownLabels(teamId, repoKey);
+        if (known != null && required.stream().allMatch(config -> known.contains(config.getName()))) {
+            return;
+        }
+
         log.info("Ensuring all status/priority labels exist in {}/{}", owner, repo);
 
         // 기존 Label 조회
-        List<GitHubIssueService.GitHubLabel> existingLabels = gitHubIssueService.listLabels(owner, repo, token);
-        Set<String> existingNames = existingLabels.stream()
+        Set<String> existingNames = ConcurrentHashMap.newKeySet();
+        gitHubIssueService.listLabels(owner, repo, token).stream()
             .map(GitHubIssueService.GitHubLabel::getName)
-            .collect(Collectors.toSet());
+            .forEach(existingNames::add);
 
-        // Status Labels 생성
-        for (LabelConfig config : STATUS_LABELS.values()) {
-            if (!existingNames.contains(config.getName())) {
+        // 없는 Label 동시 생성
+        List<Future<?>> futures = new ArrayList<>();
+        for (LabelConfig config : required) {
+            if (existingNames.contains(config.getName())) {
+                continue;
+            }
+            futures.add(labelCreators.submit(() -> {
                 try {
+                    // 그 사이 다른 곳에서 만들어졌으면(422) null이 오지만, 어느 쪽이든 저장소에 있음
                     gitHubIssueService.createLabel(owner, repo, token, config.getName(), config.getColor(), config.getDescription());
+                    existingNames.add(config.getName());
                     log.info("Created label: {}", config.getName());
                 } catch (Exception e) {
                     log.warn("Failed to create label {}: {}", config.getName(), e.getMessage());
                 }
+            }));
+        }
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (Exception e) {
+                log.warn("Label creation interrupted: {}", e.getMessage());
             }
         }
 
-        // Priority Labels 생성
-        for (LabelConfig config : PRIORITY_LABELS.values()) {
-            if (!existingNames.contains(config.getName())) {
-                try {
-                    gitHubIssueService.createLabel(owner, repo, token, config.getName(), config.getColor(), config.getDescription());
-                    log.info("Created label: {}", config.getName());
-                } catch (Exception e) {
-                    log.warn("Failed to create label {}: {}", config.getName(), e.getMessage());
+        rememberLabels(teamId, repoKey, existingNames);
+        ensureLabelWebhookEvent(owner, repo, token, repoKey);
+    }
+
+    /**
+     * label 이벤트 없이 등록된 기존 Synodos Webhook에 이벤트 추가
+     * 없으면 GitHub에서 Label을 지우거나 바꿔도 레지스트리가 TTL이 지날 때까지 무효화되지 않는다.
+     * 실패하면(권한 부족 등) 저장소 연결을 다시 하면 새 이벤트 목록으로 등록된다.
+     */
+    private void ensureLabelWebhookEvent(String owner, String repo, String token, String repoKey) {
+        if (!webhookChecked.add(repoKey)) {
+            return;
+        }
+        try {
+            for (GitHubService.GitHubWebhook hook : gitHubService.listWebhooks(token, owner, repo)) {
+                if (hook.getUrl() != null && hook.getUrl().contains("/api/webhook/github")
+                        && hook.getEvents() != null && !hook.getEvents().contains("label")) {
+                    gitHubService.addWebhookEvents(token, owner, repo, hook.getId(), List.of("label"));
                 }
             }
+        } catch (Exception e) {
+            log.warn("Could not add label event to webhook of {}/{}, reconnect the repository to re-register it: {}",
+                owner, repo, e.getMessage());
+        }
+    }
+
+    /**
+     * 저장소의 Label 레지스트리 무효화 (label Webhook 수신 시)
+     */
+    public void invalidateLabelRegistry(String owner, String repo) {
+        String repoKey = repoKey(owner, repo);
+        registries.remove(repoKey);
+        teamDao.clearLabelRegistryByRepo(repoKey);
+        log.debug("Label registry invalidated for {}", repoKey);
+    }
+
+    // 메모리 → team 테이블 순으로 TTL 이내의 확인된 Label 조회 (없으면 null)
+    private Set<String> knownLabels(int teamId, String repoKey) {
+        LocalDateTime freshAfter = LocalDateTime.now().minusHours(registryTtlHours);
+
+        LabelRegistry registry = registries.get(repoKey);
+        if (registry != null && registry.getCheckedAt().isAfter(freshAfter)) {
+            return registry.getLabels();
+        }
+
+        Team team = teamDao.findLabelRegistry(teamId);
+        if (team == null || team.getGithubLabelRegistry() == null || team.getGithubLabelRegistryAt() == null
+                || !repoKey.equals(team.getGithubLabelRegistryRepo())
+                || !team.getGithubLabelRegistryAt().isAfter(freshAfter)) {
+            return null;
         }
+        try {
+            Set<String> labels = Set.copyOf(objectMapper.readValue(team.getGithubLabelRegistry(),
+                new TypeReference<List<String>>() {}));
+            registries.put(repoKey, new LabelRegistry(labels, team.getGithubLabelRegistryAt()));
+            return labels;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private void rememberLabels(int teamId, String repoKey, Set<String> labels) {
+        Set<String> snapshot = Set.copyOf(labels);
+        registries.put(repoKey, new LabelRegistry(snapshot, LocalDateTime.now()));
+        try {
+            teamDao.updateLabelRegistry(teamId, repoKey, objectMapper.writeValueAsString(new TreeSet<>(snapshot)));
+        } catch (Exception e) {
+            log.warn("Failed to persist label registry for {}: {}", repoKey, e.getMessage());
+        }
+    }
+
+    private String repoKey(String owner, String repo) {
+        return (owner + "/" + repo).toLowerCase(Locale.ROOT);
+    }
+
+    @Data
+    @AllArgsConstructor
+    private static class LabelRegistry {
+        private Set<String> labels;
+        private LocalDateTime checkedAt;
     }
 
     /**
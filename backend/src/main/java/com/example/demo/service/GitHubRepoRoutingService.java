@@ -0,0 +1,137 @@
+package com.example.demo.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.example.demo.dao.TeamDao;
+import com.example.demo.model.Team;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 저장소 → 팀 라우팅 테이블
+ * - Webhook의 저장소(owner/repo 소문자)를 메모리 맵에서 바로 팀 ID로 변환
+ * - 이 서버에서 팀 저장소가 바뀌면 즉시 반영, 다른 서버의 변경은 주기적 전체 갱신으로 반영
+ * - 맵에 없으면 team.github_repo_key 인덱스로 조회 후 채움
+ */
+@Slf4j
+@Service
+public class GitHubRepoRoutingService {
+
+    @Autowired
+    private TeamDao teamDao;
+
+    // 저장소 키 → 팀 ID
+    private volatile Map<String, Integer> routes = new ConcurrentHashMap<>();
+
+    /**
+     * 라우팅 테이블 전체 갱신 (시작 시 + 주기적)
+     */
+    @Scheduled(initialDelay = 0, fixedDelayString = "${github.repo-routing.refresh-ms:60000}")
+    public void refresh() {
+        try {
+            List<Team> teams = teamDao.listRepoRoutes();
+            Map<String, Integer> loaded = new ConcurrentHashMap<>();
+            for (Team team : teams) {
+                String repoKey = team.getGithubRepoKey();
+                if (repoKey != null) {
+                    loaded.put(repoKey, team.getTeamId());
+                }
+            }
+            routes = loaded;
+            log.debug("Repo routing table refreshed: {} repositories", loaded.size());
+        } catch (Exception e) {
+            log.warn("Failed to refresh repo routing table: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 저장소 키(owner/repo)로 팀 ID 조회
+     */
+    public Integer resolveTeamId(String repoKey) {
+        if (repoKey == null || repoKey.isEmpty()) {
+            return null;
+        }
+        String key = repoKey.toLowerCase();
+        Integer teamId = routes.get(key);
+        if (teamId != null) {
+            return teamId;
+        }
+        teamId = teamDao.findTeamIdByRepoKey(key);
+        if (teamId != null) {
+            routes.put(key, teamId);
+        }
+        return teamId;
+    }
+
+    /**
+     * 저장소 URL로 팀 조회
+     * - 다른 서버에서 저장소 연결이 바뀌어 맵이 오래된 경우 DB 기준으로 한 번 더 확인
+     */
+    public Team findTeamByRepoUrl(String repoUrl) {
+        String repoKey = Team.toRepoKey(repoUrl);
+        Integer teamId = resolveTeamId(repoKey);
+        if (teamId == null) {
+            return null;
+        }
+        Team team = teamDao.findById(teamId);
+        if (team != null && repoKey.equals(team.getGithubRepoKey())) {
+            return team;
+        }
+
+        routes.remove(repoKey, teamId);
+        teamId = teamDao.findTeamIdByRepoKey(repoKey);
+        if (teamId == null) {
+            return null;
+        }
+        routes.put(repoKey, teamId);
+        return teamDao.findById(teamId);
+    }
+
+    /**
+     * 다른 팀이 이미 연결한 저장소인지 확인 (github_repo_key 고유)
+     */
+    public boolean isClaimedByOtherTeam(String repoUrl, int teamId) {
+        String repoKey = Team.toRepoKey(repoUrl);
+        if (repoKey == null) {
+            return false;
+        }
+        Integer owner = teamDao.findTeamIdByRepoKey(repoKey);
+        return owner != null && owner != teamId;
+    }
+
+    /**
+     * 팀 저장소를 라우팅 중인 다른 팀 ID (같은 저장소를 먼저 연결한 팀이 있어 이 팀은 Webhook을 받지 못하는 경우, 없으면 null)
+     */
+    public Integer findConflictingTeamId(Team team) {
+        String repoKey = team.getGithubRepoKey();
+        if (repoKey == null) {
+            return null;
+        }
+        Integer owner = teamDao.findTeamIdByRepoKey(repoKey);
+        return owner != null && owner != team.getTeamId() ? owner : null;
+    }
+
+    /**
+     * 팀 생성/저장소 연결 변경 반영 (저장소 키를 받은 팀만 라우팅, 다른 팀이 라우팅 중인 저장소면 그대로 둠)
+     */
+    public void onTeamChanged(Team team) {
+        routes.values().removeIf(id -> id == team.getTeamId());
+        String repoKey = team.getGithubRepoKey();
+        if (repoKey != null && Integer.valueOf(team.getTeamId()).equals(teamDao.findTeamIdByRepoKey(repoKey))) {
+            routes.put(repoKey, team.getTeamId());
+        }
+    }
+
+    /**
+     * 팀 삭제 반영
+     */
+    public void onTeamDeleted(int teamId) {
+        routes.values().removeIf(id -> id == teamId);
+    }
+}
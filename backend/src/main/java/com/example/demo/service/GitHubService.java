@@ -1,7 +1,9 @@
 package com.example.demo.service;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpEntity;
@@ -22,11 +24,16 @@ import java.util.regex.Pattern;
 @Service
 public class GitHubService {
 
-    private final RestTemplate restTemplate;
+    // Synodos Webhook 수신 이벤트 (label: Label 레지스트리 무효화)
+    public static final List<String> WEBHOOK_EVENTS = List.of("issues", "push", "issue_comment", "label");
+
+    // 공용 HTTP 클라이언트 (HttpClientConfig: 커넥션 풀, 타임아웃, 호출 지표)
+    @Autowired
+    private RestTemplate restTemplate;
+
     private final ObjectMapper objectMapper;
 
     public GitHubService() {
-        this.restTemplate = new RestTemplate();
         this.objectMapper = new ObjectMapper();
     }
 
@@ -369,7 +376,7 @@ public class GitHubService {
             Map<String, Object> body = Map.of(
                 "name", "web",
                 "active", true,
-                "events", List.of("issues", "push", "issue_comment"),
+                "events", WEBHOOK_EVENTS,
                 "config", config
             );
 
@@ -421,6 +428,9 @@ public class GitHubService {
                 webhook.setId(node.path("id").asLong());
                 webhook.setUrl(node.path("config").path("url").asText());
                 webhook.setActive(node.path("active").asBoolean());
+                List<String> events = new ArrayList<>();
+                node.path("events").forEach(event -> events.add(event.asText()));
+                webhook.setEvents(events);
                 webhooks.add(webhook);
             }
 
@@ -431,6 +441,24 @@ public class GitHubService {
         }
     }
 
+    /**
+     * 기존 Webhook에 수신 이벤트를 추가합니다. (이벤트 목록이 바뀌기 전에 등록된 Webhook 갱신용)
+     */
+    public void addWebhookEvents(String accessToken, String owner, String repo, long hookId, List<String> events) {
+        String apiUrl = String.format("https://api.github.com/repos/%s/%s/hooks/%d", owner, repo, hookId);
+        log.info("Adding events {} to webhook {} for {}/{}", events, hookId, owner, repo);
+
+        try {
+            HttpHeaders headers = createAuthHeaders(accessToken);
+            headers.set("Content-Type", "application/json");
+            String jsonBody = objectMapper.writeValueAsString(Map.of("add_events", events));
+            restTemplate.exchange(apiUrl, HttpMethod.PATCH, new HttpEntity<>(jsonBody, headers), String.class);
+        } catch (Exception e) {
+            log.error("Failed to update webhook events: {}", e.getMessage());
+            throw new RuntimeException("Webhook 이벤트 갱신에 실패했습니다.", e);
+        }
+    }
+
     /**
      * Webhook을 삭제합니다.
      */
@@ -545,6 +573,7 @@ public class GitHubService {
         private long id;
         private String url;
         private boolean active;
+        private List<String> events;
     }
 
     // ==================== 브랜치 그래프 시각화 API ====================
@@ -572,6 +601,32 @@ public class GitHubService {
         }
     }
 
+    /**
+     * 토큰으로 저장소를 읽을 수 있는지 확인합니다 (팀 토큰 풀 권한 확인용).
+     * @return 읽기 가능 여부, 네트워크 오류 등으로 확인하지 못하면 null
+     */
+    public Boolean canReadRepository(String accessToken, String owner, String repo) {
+        String apiUrl = String.format("https://api.github.com/repos/%s/%s", owner, repo);
+
+        try {
+            HttpEntity<String> entity = new HttpEntity<>(createAuthHeaders(accessToken));
+            ResponseEntity<String> response = restTemplate.exchange(
+                apiUrl, HttpMethod.GET, entity, String.class
+            );
+
+            // permissions는 토큰 사용자의 저장소 권한 (공개 저장소는 권한 범위가 없어도 pull 가능)
+            JsonNode node = objectMapper.readTree(response.getBody());
+            return node.path("permissions").path("pull").asBoolean(true);
+        } catch (HttpClientErrorException e) {
+            // 401: 폐기/만료된 토큰, 403/404: 저장소 권한(scope) 없음
+            log.debug("Token cannot read {}/{}: {}", owner, repo, e.getStatusCode());
+            return false;
+        } catch (Exception e) {
+            log.warn("Failed to check repository access for {}/{}: {}", owner, repo, e.getMessage());
+            return null;
+        }
+    }
+
     /**
      * 커밋 목록을 parent 정보와 함께 조회합니다 (그래프 시각화용).
      */
@@ -0,0 +1,259 @@
+package com.example.demo.service;
+
+import com.example.demo.dao.GitHubSyncOutboxDao;
+import com.example.demo.dao.TaskGitHubIssueDao;
+import com.example.demo.http.GitHubCallContext;
+import com.example.demo.model.GitHubSyncOutbox;
+import com.example.demo.model.TaskGitHubIssue;
+import com.example.demo.scheduler.ScheduledJobRunner;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Synodos → GitHub 동기화 대기열 서비스
+ * - 태스크 변경 트랜잭션 안에서 github_sync_outbox에 동기화 요청을 기록 (HTTP 요청은 GitHub 호출을 기다리지 않음)
+ * - 워커 풀이 태스크별로 기록 순서대로 처리 (같은 태스크는 앞 항목이 끝나야 다음 항목을 가져옴)
+ * - 동기화(SYNC_ISSUE) 요청은 디바운스: 대기 중인 요청이 있으면 합치고 처리 시각만 미룸
+ * - Issue 연결/일괄 가져오기 시 기존 댓글 가져오기(BACKFILL_COMMENTS)도 같은 대기열로 처리
+ * - 실패 시 지수 백오프로 재시도, 최대 횟수를 넘으면 DEAD(데드레터)로 남기고 매핑 상태를 ERROR로 표시
+ * - 처리 완료(DONE) 항목은 retention-days가 지나면 매일 삭제
+ *
+ * 매핑(task_github_issue)의 sync_status: 대기 중 PENDING → 성공 SYNCED / 최종 실패 ERROR
+ */
+@Slf4j
+@Service
+public class GitHubSyncOutboxService {
+
+    private static final long MAX_BACKOFF_SECONDS = 30 * 60;
+
+    @Autowired
+    private GitHubSyncOutboxDao outboxDao;
+
+    @Autowired
+    private TaskGitHubIssueDao taskGitHubIssueDao;
+
+    @Autowired
+    private GitHubIssueSyncService gitHubIssueSyncService;
+
+    @Autowired
+    private ScheduledJobRunner jobRunner;
+
+    @Value("${github.sync.outbox.workers:4}")
+    private int workerCount;
+
+    @Value("${github.sync.outbox.batch-size:20}")
+    private int batchSize;
+
+    @Value("${github.sync.outbox.max-attempts:6}")
+    private int maxAttempts;
+
+    @Value("${github.sync.outbox.backoff-seconds:10}")
+    private long backoffSeconds;
+
+    @Value("${github.sync.outbox.lease-seconds:120}")
+    private int leaseSeconds;
+
+    @Value("${github.sync.outbox.debounce-ms:2000}")
+    private long debounceMs;
+
+    @Value("${github.sync.outbox.max-debounce-ms:15000}")
+    private long maxDebounceMs;
+
+    @Value("${github.sync.outbox.retention-days:7}")
+    private int retentionDays;
+
+    private ExecutorService workers;
+
+    @PostConstruct
+    public void init() {
+        AtomicInteger threadNo = new AtomicInteger();
+        workers = Executors.newFixedThreadPool(workerCount, r -> {
+            Thread thread = new Thread(r, "github-sync-" + threadNo.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdown();
+    }
+
+    // ==================== 요청 기록 ====================
+
+    /**
+     * 연결된 Issue 동기화 요청 (호출한 트랜잭션과 함께 커밋됨)
+     * 짧은 시간 안의 연속 수정은 대기 중인 요청 하나로 합쳐 한 번만 Push 한다
+     * (동기화는 처리 시점의 Task 상태를 보내므로 합쳐도 마지막 수정이 반영됨)
+     */
+    public void enqueueSync(int taskId, int teamId, Integer memberNo) {
+        if (outboxDao.deferPendingSync(taskId, memberNo, debounceMs, maxDebounceMs) > 0) {
+            log.debug("[GitHub Outbox] Coalesced sync for task #{}", taskId);
+        } else {
+            enqueue(taskId, teamId, GitHubSyncOutbox.ACTION_SYNC_ISSUE, memberNo, debounceMs);
+        }
+        taskGitHubIssueDao.updateSyncStatusByTaskId(taskId, TaskGitHubIssue.STATUS_PENDING);
+    }
+
+    /**
+     * Issue 생성 요청 (호출한 트랜잭션과 함께 커밋됨)
+     */
+    public void enqueueCreate(int taskId, int teamId, Integer memberNo) {
+        enqueue(taskId, teamId, GitHubSyncOutbox.ACTION_CREATE_ISSUE, memberNo, 0);
+    }
+
+    private void enqueue(int taskId, int teamId, String action, Integer memberNo, long delayMs) {
+        GitHubSyncOutbox outbox = new GitHubSyncOutbox();
+        outbox.setTaskId(taskId);
+        outbox.setTeamId(teamId);
+        outbox.setAction(action);
+        outbox.setMemberNo(memberNo);
+        outbox.setDelayMs(delayMs);
+        outboxDao.insert(outbox);
+        log.debug("[GitHub Outbox] Queued {} for task #{} (outbox #{})", action, taskId, outbox.getId());
+    }
+
+    // ==================== 처리 ====================
+
+    /**
+     * 대기열 처리 (가져온 항목은 모두 다른 태스크이므로 병렬 처리해도 태스크별 순서가 유지됨)
+     */
+    @Scheduled(fixedDelayString = "${github.sync.outbox.poll-interval-ms:1000}")
+    public void dispatch() {
+        List<GitHubSyncOutbox> batch = outboxDao.claimBatch(jobRunner.getInstanceId(), batchSize, leaseSeconds);
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        List<Future<?>> futures = new ArrayList<>();
+        for (GitHubSyncOutbox item : batch) {
+            futures.add(workers.submit(() -> GitHubCallContext.runInBackground(item.getTeamId(), () -> process(item))));
+        }
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (Exception e) {
+                // 처리 결과를 못 남긴 항목은 리스 만료 후 다시 처리됨
+                log.error("[GitHub Outbox] Worker failed: {}", e.getMessage());
+            }
+        }
+    }
+
+    private void process(GitHubSyncOutbox item) {
+        try {
+            if (item.getMemberNo() == null) {
+                throw new RuntimeException("GitHub 토큰을 사용할 회원 정보가 없습니다.");
+            }
+
+            if (GitHubSyncOutbox.ACTION_CREATE_ISSUE.equals(item.getAction())) {
+                // 재시도 중 이미 생성됐으면 건너뜀
+                if (taskGitHubIssueDao.countByTaskId(item.getTaskId()) == 0) {
+                    gitHubIssueSyncService.createIssueFromTask(item.getTaskId(), item.getTeamId(), item.getMemberNo());
+                }
+            } else if (GitHubSyncOutbox.ACTION_BACKFILL_COMMENTS.equals(item.getAction())) {
+                // 재시도해도 이미 가져온 댓글은 건너뜀 (uq_comment_github)
+                gitHubIssueSyncService.backfillComments(item.getTaskId(), item.getMemberNo());
+            } else {
+                gitHubIssueSyncService.syncTaskToGitHub(item.getTaskId(), item.getMemberNo());
+            }
+
+            outboxDao.markDone(item.getId());
+            // 처리 중에 새 요청이 들어왔으면 아직 대기 상태
+            if (tracksSyncStatus(item) && outboxDao.countActiveByTask(item.getTaskId()) > 0) {
+                taskGitHubIssueDao.updateSyncStatusByTaskId(item.getTaskId(), TaskGitHubIssue.STATUS_PENDING);
+            }
+            log.info("[GitHub Outbox] {} done for task #{} (attempt {})",
+                item.getAction(), item.getTaskId(), item.getAttempts());
+        } catch (Exception e) {
+            handleFailure(item, e);
+        }
+    }
+
+    private void handleFailure(GitHubSyncOutbox item, Exception e) {
+        String error = e.getMessage();
+        if (item.getAttempts() >= maxAttempts) {
+            outboxDao.markDead(item.getId(), error);
+            if (tracksSyncStatus(item)) {
+                taskGitHubIssueDao.updateSyncStatusByTaskId(item.getTaskId(), TaskGitHubIssue.STATUS_ERROR);
+            }
+            log.error("[GitHub Outbox] {} for task #{} moved to dead letter after {} attempts: {}",
+                item.getAction(), item.getTaskId(), item.getAttempts(), error);
+            return;
+        }
+
+        long delay = Math.min(backoffSeconds << Math.min(item.getAttempts() - 1, 20), MAX_BACKOFF_SECONDS);
+        outboxDao.markRetry(item.getId(), delay, error);
+        if (tracksSyncStatus(item)) {
+            taskGitHubIssueDao.updateSyncStatusByTaskId(item.getTaskId(), TaskGitHubIssue.STATUS_PENDING);
+        }
+        log.warn("[GitHub Outbox] {} for task #{} failed (attempt {}), retrying in {}s: {}",
+            item.getAction(), item.getTaskId(), item.getAttempts(), delay, error);
+    }
+
+    /**
+     * 매핑의 sync_status에 반영하는 항목인지 (댓글 가져오기는 Issue 동기화 상태와 무관)
+     */
+    private boolean tracksSyncStatus(GitHubSyncOutbox item) {
+        return !GitHubSyncOutbox.ACTION_BACKFILL_COMMENTS.equals(item.getAction());
+    }
+
+    // ==================== 데드레터 ====================
+
+    public List<GitHubSyncOutbox> listDeadLetters(int teamId, int limit) {
+        return outboxDao.listDeadByTeam(teamId, limit);
+    }
+
+    /**
+     * 대기열 항목 조회 (없으면 null)
+     */
+    public GitHubSyncOutbox getItem(int outboxId) {
+        return outboxDao.findById(outboxId);
+    }
+
+    /**
+     * 데드레터 항목 재시도
+     * 옛 항목을 되살리면 그 사이 처리된 새 항목보다 늦게 실행되므로, 옛 항목은 SUPERSEDED로 닫고
+     * 같은 동작을 대기열 끝에 새로 기록한다 (처리 시점의 Task 상태를 보냄).
+     * Issue 생성이 실패했던 항목이라도 이미 연결됐으면 동기화로 바꿔 기록한다.
+     */
+    @Transactional
+    public boolean retryDeadLetter(int outboxId) {
+        GitHubSyncOutbox item = outboxDao.findById(outboxId);
+        if (item == null || outboxDao.supersede(outboxId) == 0) {
+            return false;
+        }
+        String action = item.getAction();
+        if (GitHubSyncOutbox.ACTION_CREATE_ISSUE.equals(action) && taskGitHubIssueDao.countByTaskId(item.getTaskId()) > 0) {
+            action = GitHubSyncOutbox.ACTION_SYNC_ISSUE;
+        }
+        enqueue(item.getTaskId(), item.getTeamId(), action, item.getMemberNo(), 0);
+        if (tracksSyncStatus(item)) {
+            taskGitHubIssueDao.updateSyncStatusByTaskId(item.getTaskId(), TaskGitHubIssue.STATUS_PENDING);
+        }
+        return true;
+    }
+
+    /**
+     * 처리 완료 항목 정리 (매일 04:45)
+     */
+    @Scheduled(cron = "${github.sync.outbox.cleanup-cron:0 45 4 * * *}")
+    public void cleanup() {
+        int deleted = outboxDao.deleteDoneOlderThan(retentionDays);
+        if (deleted > 0) {
+            log.info("[GitHub Outbox] Removed {} processed items older than {} days", deleted, retentionDays);
+        }
+    }
+}
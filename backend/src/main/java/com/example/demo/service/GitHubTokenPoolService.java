@@ -0,0 +1,221 @@
+package com.example.demo.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.example.demo.dao.MemberDao;
+import com.example.demo.dao.TeamDao;
+import com.example.demo.http.GitHubRateLimiter;
+import com.example.demo.model.Member;
+import com.example.demo.model.Team;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 팀별 GitHub 토큰 풀 (백그라운드 조회용)
+ * - 후보: 팀 토큰 + GitHub 계정을 연결한 팀 멤버들의 토큰 (ttl마다 다시 읽음)
+ * - 조회마다 남은 core 예산(GitHubRateLimiter)이 가장 많은 토큰을 골라 여러 토큰에 고르게 분산
+ * - 저장소마다 토큰의 읽기 권한을 확인해 두고 (access-check-hours마다 재확인) 권한 없는 토큰은 건너뜀
+ * - 401(폐기/만료)을 받은 토큰은 풀에서 제외
+ * - 쓰기 요청은 풀을 쓰지 않음 (GitHub에 작성자가 남도록 요청한 사용자의 토큰 사용)
+ */
+@Slf4j
+@Service
+public class GitHubTokenPoolService {
+
+    private static final int TEAM_TOKEN = 0;   // 후보의 memberNo (팀 토큰)
+
+    @Autowired
+    private MemberDao memberDao;
+
+    @Autowired
+    private TeamDao teamDao;
+
+    @Autowired
+    private GitHubService gitHubService;
+
+    @Autowired
+    private GitHubRateLimiter rateLimiter;
+
+    @Value("${github.token-pool.ttl-minutes:5}")
+    private long ttlMinutes;
+
+    @Value("${github.token-pool.access-check-hours:6}")
+    private long accessCheckHours;
+
+    // 팀 ID → 토큰 후보
+    private final Map<Integer, Pool> pools = new ConcurrentHashMap<>();
+
+    // 토큰 ID:저장소(owner/repo 소문자) → 읽기 가능 여부
+    private final Map<String, Access> access = new ConcurrentHashMap<>();
+
+    private final LongAdder selections = new LongAdder();
+    private final LongAdder misses = new LongAdder();      // 쓸 수 있는 토큰이 없던 조회
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * 팀 저장소 조회에 쓸 토큰 (읽을 수 있는 후보 중 남은 예산이 가장 많은 토큰, 없으면 null)
+     * 아직 응답을 받지 못해 예산을 모르는 토큰을 먼저 써서 예산을 알아냄
+     */
+    public String selectToken(int teamId, String owner, String repo) {
+        Pool pool = loadPool(teamId);
+        String repoKey = (owner + "/" + repo).toLowerCase();
+        String best = null;
+        long bestRemaining = Long.MIN_VALUE;
+        for (Candidate candidate : pool.getCandidates()) {
+            if (rateLimiter.isUnauthorized(candidate.getToken())) {
+                evict(teamId, pool, candidate);
+                continue;
+            }
+            if (!canRead(candidate.getToken(), owner, repo, repoKey)) {
+                continue;
+            }
+            int remaining = rateLimiter.remainingCore(candidate.getToken());
+            long score = remaining < 0 ? Long.MAX_VALUE : remaining;
+            if (score > bestRemaining) {
+                best = candidate.getToken();
+                bestRemaining = score;
+            }
+        }
+
+        selections.increment();
+        if (best == null) {
+            misses.increment();
+        }
+        return best;
+    }
+
+    /**
+     * 멤버의 GitHub 연동/해제 반영 (그 멤버가 들어 있는 풀을 다시 읽음, 새로 연동한 토큰은 ttl 안에 반영)
+     */
+    public void invalidateMember(int memberNo) {
+        pools.values().removeIf(pool -> pool.getCandidates().stream()
+            .anyMatch(candidate -> candidate.getMemberNo() == memberNo));
+    }
+
+    /**
+     * 풀 지표 (팀 수, 후보 토큰 수, 조회/실패/제외 수)
+     */
+    public Map<String, Object> getStats() {
+        int tokens = 0;
+        for (Pool pool : pools.values()) {
+            tokens += pool.getCandidates().size();
+        }
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("teams", pools.size());
+        stats.put("tokens", tokens);
+        stats.put("selections", selections.sum());
+        stats.put("misses", misses.sum());
+        stats.put("evictions", evictions.sum());
+        stats.put("accessChecks", access.size());
+        return stats;
+    }
+
+    private Pool loadPool(int teamId) {
+        LocalDateTime now = LocalDateTime.now();
+        Pool pool = pools.get(teamId);
+        if (pool != null && pool.getLoadedAt().plusMinutes(ttlMinutes).isAfter(now)) {
+            return pool;
+        }
+
+        // 팀 토큰 → 팀장 → 나머지 멤버 순 (예산을 모를 때는 앞쪽 토큰부터 사용)
+        Set<String> tokens = new LinkedHashSet<>();
+        List<Candidate> candidates = new ArrayList<>();
+        Team team = teamDao.findById(teamId);
+        if (team != null && team.getGithubAccessToken() != null && !team.getGithubAccessToken().isEmpty()
+                && tokens.add(team.getGithubAccessToken())) {
+            candidates.add(new Candidate(TEAM_TOKEN, team.getGithubAccessToken()));
+        }
+        List<Member> members = memberDao.listGitHubTokensByTeam(teamId);
+        if (team != null) {
+            members.sort((a, b) -> Boolean.compare(b.getNo() == team.getLeaderNo(), a.getNo() == team.getLeaderNo()));
+        }
+        for (Member member : members) {
+            if (tokens.add(member.getGithubAccessToken()) && !rateLimiter.isUnauthorized(member.getGithubAccessToken())) {
+                candidates.add(new Candidate(member.getNo(), member.getGithubAccessToken()));
+            }
+        }
+
+        pool = new Pool(new CopyOnWriteArrayList<>(candidates), now);
+        pools.put(teamId, pool);
+        log.debug("GitHub token pool loaded for team {}: {} tokens", teamId, candidates.size());
+        return pool;
+    }
+
+    private boolean canRead(String token, String owner, String repo, String repoKey) {
+        String key = tokenId(token) + ":" + repoKey;
+        LocalDateTime now = LocalDateTime.now();
+        Access cached = access.get(key);
+        if (cached != null && cached.getCheckedAt().plusHours(accessCheckHours).isAfter(now)) {
+            return cached.isReadable();
+        }
+
+        Boolean readable = gitHubService.canReadRepository(token, owner, repo);
+        if (readable == null) {
+            // 확인하지 못하면 이전 결과 유지 (처음이면 일단 사용)
+            return cached == null || cached.isReadable();
+        }
+        access.put(key, new Access(readable, now));
+        if (!readable) {
+            log.info("GitHub token cannot read {}, skipped in token pool", repoKey);
+        }
+        return readable;
+    }
+
+    private void evict(int teamId, Pool pool, Candidate candidate) {
+        if (pool.getCandidates().remove(candidate)) {
+            evictions.increment();
+            access.keySet().removeIf(key -> key.startsWith(tokenId(candidate.getToken()) + ":"));
+            log.info("Revoked GitHub token of {} evicted from team {} token pool",
+                candidate.getMemberNo() == TEAM_TOKEN ? "team" : "member " + candidate.getMemberNo(), teamId);
+        }
+    }
+
+    private static String tokenId(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8))).substring(0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Data
+    @AllArgsConstructor
+    private static class Pool {
+        private List<Candidate> candidates;
+        private LocalDateTime loadedAt;
+    }
+
+    @Data
+    @AllArgsConstructor
+    private static class Candidate {
+        private int memberNo;
+        private String token;
+    }
+
+    @Data
+    @AllArgsConstructor
+    private static class Access {
+        private boolean readable;
+        private LocalDateTime checkedAt;
+    }
+}
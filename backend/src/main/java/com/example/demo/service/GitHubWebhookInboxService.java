@@ -0,0 +1,359 @@
+package com.example.demo.service;
+
+import com.example.demo.dao.WebhookInboxDao;
+import com.example.demo.dto.GitHubIssuePayload;
+import com.example.demo.dto.GitHubWebhookPayload;
+import com.example.demo.model.WebhookInbox;
+import com.example.demo.scheduler.ScheduledJobRunner;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * GitHub Webhook 수신함 서비스
+ * - 서명 검증을 통과한 Webhook 원본을 webhook_inbox에 기록하고 바로 202 응답 (요청 스레드는 처리를 기다리지 않음)
+ * - X-GitHub-Delivery가 같은 재전송은 한 번만 기록
+ * - 워커 풀이 파티션(저장소+Issue 번호, 저장소+브랜치 등)별로 수신 순서대로 처리
+ * - 같은 Issue의 issues 이벤트는 coalesce-ms 동안 모아 한 번에 처리 (Label 여러 개 + 담당자 지정 등 UI 동작 한 번에 여러 건)
+ * - 실패 시 지수 백오프로 재시도, 최대 횟수를 넘거나 본문을 해석할 수 없으면 DEAD(데드레터)로 남김
+ * - 잠글 때마다 새 토큰을 기록하고 같은 토큰으로만 결과를 남김 (리스 만료 후 다시 잠긴 항목을 이전 처리가 덮어쓰지 않음)
+ */
+@Slf4j
+@Service
+public class GitHubWebhookInboxService {
+
+    private static final long MAX_BACKOFF_SECONDS = 30 * 60;
+
+    // 수신함에 기록해 처리하는 이벤트 (그 외 이벤트는 응답만 함)
+    private static final Set<String> HANDLED_EVENTS = Set.of("push", "issues", "issue_comment", "label");
+
+    @Autowired
+    private WebhookInboxDao inboxDao;
+
+    @Autowired
+    private GitHubRepoRoutingService repoRoutingService;
+
+    @Autowired
+    private GitHubWebhookService webhookService;
+
+    @Autowired
+    private GitHubIssueSyncService issueSyncService;
+
+    @Autowired
+    private GitHubLabelService labelService;
+
+    @Autowired
+    private ScheduledJobRunner jobRunner;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${github.webhook.inbox.workers:4}")
+    private int workerCount;
+
+    @Value("${github.webhook.inbox.batch-size:20}")
+    private int batchSize;
+
+    @Value("${github.webhook.inbox.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${github.webhook.inbox.backoff-seconds:5}")
+    private long backoffSeconds;
+
+    @Value("${github.webhook.inbox.lease-seconds:120}")
+    private int leaseSeconds;
+
+    // 같은 Issue의 issues 이벤트를 모으는 시간 / 한 번에 합칠 최대 건수
+    @Value("${github.webhook.inbox.coalesce-ms:300}")
+    private long coalesceMs;
+
+    @Value("${github.webhook.inbox.max-coalesce:50}")
+    private int maxCoalesce;
+
+    @Value("${github.webhook.inbox.retention-days:7}")
+    private int retentionDays;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private ExecutorService workers;
+
+    @PostConstruct
+    public void init() {
+        AtomicInteger threadNo = new AtomicInteger();
+        workers = Executors.newFixedThreadPool(workerCount, r -> {
+            Thread thread = new Thread(r, "github-webhook-" + threadNo.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdown();
+    }
+
+    // ==================== 수신 ====================
+
+    public boolean isHandled(String event) {
+        return event != null && HANDLED_EVENTS.contains(event);
+    }
+
+    /**
+     * Webhook 원본 기록
+     * @return 새로 기록했으면 true, 이미 받은 delivery면 false
+     * @throws IllegalArgumentException 본문이 JSON이 아닌 경우
+     */
+    public boolean receive(String event, String deliveryId, String rawPayload) {
+        JsonNode root;
+        try {
+            root = objectMapper.readTree(rawPayload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Invalid payload format");
+        }
+
+        String repoKey = root.path("repository").path("full_name").asText("").toLowerCase();
+
+        WebhookInbox inbox = new WebhookInbox();
+        inbox.setDeliveryId(deliveryId != null && !deliveryId.isEmpty() ? deliveryId : "local-" + UUID.randomUUID());
+        inbox.setEvent(event);
+        inbox.setAction(root.path("action").asText(null));
+        inbox.setRepoKey(repoKey.isEmpty() ? null : repoKey);
+        inbox.setPartitionKey(partitionKey(event, repoKey, root, inbox.getDeliveryId()));
+        inbox.setPayload(rawPayload);
+        return inboxDao.insert(inbox) > 0;
+    }
+
+    /**
+     * 순서 보장 단위
+     * - issues, issue_comment: 저장소 + Issue 번호 (같은 Issue의 열림/수정/닫힘 순서 유지)
+     * - push: 저장소 + 브랜치
+     * - label: 저장소
+     */
+    private String partitionKey(String event, String repoKey, JsonNode root, String deliveryId) {
+        switch (event) {
+            case "issues":
+            case "issue_comment":
+                return repoKey + "#" + root.path("issue").path("number").asInt();
+            case "push":
+                return repoKey + "@" + root.path("ref").asText("");
+            case "label":
+                return repoKey + ":label";
+            default:
+                return "delivery:" + deliveryId;
+        }
+    }
+
+    // ==================== 처리 ====================
+
+    /**
+     * 수신함 처리 (가져온 항목은 모두 다른 파티션이므로 병렬 처리해도 Issue별 순서가 유지됨)
+     * 묶음 전체가 끝나기를 기다리지 않고, 처리 중인 항목이 batchSize보다 적은 만큼만 더 가져온다
+     * (처리 중인 파티션의 다음 항목은 claimBatch가 건너뜀)
+     */
+    @Scheduled(fixedDelayString = "${github.webhook.inbox.poll-interval-ms:500}")
+    public synchronized void dispatch() {
+        int free = batchSize - inFlight.get();
+        if (free <= 0) {
+            return;
+        }
+        for (WebhookInbox item : inboxDao.claimBatch(newLockToken(), free, leaseSeconds, coalesceMs)) {
+            inFlight.incrementAndGet();
+            workers.submit(() -> {
+                try {
+                    process(item);
+                } catch (Exception e) {
+                    // 처리 결과를 못 남긴 항목은 리스 만료 후 다시 처리됨
+                    log.error("[Webhook Inbox] Worker failed: {}", e.getMessage());
+                } finally {
+                    inFlight.decrementAndGet();
+                }
+            });
+        }
+    }
+
+    private void process(WebhookInbox head) {
+        // 같은 Issue에 이어서 들어온 issues 이벤트는 함께 처리
+        List<WebhookInbox> items = new ArrayList<>();
+        items.add(head);
+        String lockToken = head.getLockedBy();
+        if ("issues".equals(head.getEvent())) {
+            items.addAll(inboxDao.claimFollowers(head.getPartitionKey(), head.getId(),
+                lockToken, maxCoalesce, leaseSeconds));
+        }
+
+        Integer teamId = null;
+        try {
+            teamId = resolveTeamId(head);
+            handle(items, teamId);
+            for (WebhookInbox item : items) {
+                inboxDao.markDone(item.getId(), teamId, lockToken);
+            }
+            log.debug("[Webhook Inbox] {} {} done ({} deliveries, attempt {})",
+                head.getEvent(), head.getPartitionKey(), items.size(), head.getAttempts());
+        } catch (JsonProcessingException e) {
+            // 다시 시도해도 해석할 수 없음
+            for (WebhookInbox item : items) {
+                inboxDao.markDead(item.getId(), teamId, lockToken, "Invalid payload: " + e.getOriginalMessage());
+            }
+            log.error("[Webhook Inbox] Unreadable {} payload (delivery {}) moved to dead letter",
+                head.getEvent(), head.getDeliveryId());
+        } catch (Exception e) {
+            handleFailure(items, teamId, lockToken, e);
+        }
+    }
+
+    private void handle(List<WebhookInbox> items, Integer teamId) throws JsonProcessingException {
+        WebhookInbox head = items.get(0);
+        switch (head.getEvent()) {
+            case "push": {
+                GitHubWebhookPayload payload = objectMapper.readValue(head.getPayload(), GitHubWebhookPayload.class);
+                GitHubWebhookService.WebhookResult result = webhookService.processWebhook(payload);
+                if (result.getError() != null) {
+                    log.info("[Webhook Inbox] push {} skipped: {}", head.getPartitionKey(), result.getError());
+                }
+                break;
+            }
+            case "issues": {
+                if (teamId == null) {
+                    log.info("No team found for repo: {}", head.getRepoKey());
+                    break;
+                }
+                List<GitHubIssuePayload> payloads = new ArrayList<>();
+                List<String> deliveryIds = new ArrayList<>();
+                for (WebhookInbox item : items) {
+                    payloads.add(objectMapper.readValue(item.getPayload(), GitHubIssuePayload.class));
+                    deliveryIds.add(item.getDeliveryId());
+                }
+                issueSyncService.processIssueWebhooks(payloads, teamId, deliveryIds);
+                break;
+            }
+            case "issue_comment": {
+                if (teamId == null) {
+                    log.info("No team found for repo: {}", head.getRepoKey());
+                    break;
+                }
+                GitHubIssuePayload payload = objectMapper.readValue(head.getPayload(), GitHubIssuePayload.class);
+                issueSyncService.processCommentWebhook(payload, teamId, head.getDeliveryId());
+                break;
+            }
+            case "label": {
+                // 저장소 Label 레지스트리 무효화
+                String[] parts = head.getRepoKey() != null ? head.getRepoKey().split("/", 2) : new String[0];
+                if (parts.length == 2) {
+                    labelService.invalidateLabelRegistry(parts[0], parts[1]);
+                }
+                break;
+            }
+            default:
+                log.info("Ignoring event: {}", head.getEvent());
+        }
+    }
+
+    /**
+     * 실패 처리 (함께 처리한 항목은 선두 항목의 시도 횟수 기준으로 함께 재시도/데드레터)
+     */
+    private void handleFailure(List<WebhookInbox> items, Integer teamId, String lockToken, Exception e) {
+        WebhookInbox head = items.get(0);
+        String error = e.getMessage();
+        if (head.getAttempts() >= maxAttempts) {
+            for (WebhookInbox item : items) {
+                inboxDao.markDead(item.getId(), teamId, lockToken, error);
+            }
+            log.error("[Webhook Inbox] {} {} moved to dead letter after {} attempts: {}",
+                head.getEvent(), head.getPartitionKey(), head.getAttempts(), error);
+            return;
+        }
+
+        long delay = Math.min(backoffSeconds << Math.min(head.getAttempts() - 1, 20), MAX_BACKOFF_SECONDS);
+        for (WebhookInbox item : items) {
+            inboxDao.markRetry(item.getId(), teamId, lockToken, delay, error);
+        }
+        log.warn("[Webhook Inbox] {} {} failed (attempt {}), retrying in {}s: {}",
+            head.getEvent(), head.getPartitionKey(), head.getAttempts(), delay, error);
+    }
+
+    /**
+     * 잠금 토큰 (인스턴스 ID + 잠금마다 새 UUID)
+     */
+    private String newLockToken() {
+        return jobRunner.getInstanceId() + ":" + UUID.randomUUID();
+    }
+
+    /**
+     * 저장소(owner/repo)로 팀 찾기 (라우팅 테이블)
+     */
+    private Integer resolveTeamId(WebhookInbox item) {
+        return repoRoutingService.resolveTeamId(item.getRepoKey());
+    }
+
+    // ==================== 데드레터 ====================
+
+    public List<WebhookInbox> listDeadLetters(int teamId, int limit) {
+        return inboxDao.listDead(teamId, limit);
+    }
+
+    /**
+     * 팀의 데드레터 항목 (다른 팀 항목이거나 데드레터가 아니면 null)
+     */
+    public WebhookInbox getDeadLetter(int teamId, long inboxId) {
+        return inboxDao.findDead(inboxId, teamId);
+    }
+
+    /**
+     * 데드레터 항목 재시도 (팀 항목만)
+     * 같은 파티션의 이후 Webhook이 이미 반영됐으면 옛 본문을 다시 적용하지 않고 SUPERSEDED로 닫는다.
+     * @return 처리 후 상태 (PENDING: 다시 대기열에 들어감, SUPERSEDED: 재시도하지 않고 닫음, null: 데드레터 아님)
+     */
+    public String retryDeadLetter(int teamId, long inboxId) {
+        if (inboxDao.requeue(inboxId, teamId) > 0) {
+            return WebhookInbox.STATUS_PENDING;
+        }
+        if (inboxDao.supersede(inboxId, teamId) > 0) {
+            log.info("[Webhook Inbox] Dead letter #{} superseded by later deliveries, not replayed", inboxId);
+            return WebhookInbox.STATUS_SUPERSEDED;
+        }
+        return null;
+    }
+
+    /**
+     * 수신함 상태별 건수 (대기/처리 중/데드레터)
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("PENDING", 0L);
+        stats.put("PROCESSING", 0L);
+        stats.put("DEAD", 0L);
+        for (Map<String, Object> row : inboxDao.countByStatus()) {
+            stats.put(String.valueOf(row.get("status")), row.get("count"));
+        }
+        return stats;
+    }
+
+    /**
+     * 처리 완료 항목 정리 (매일 04:30)
+     */
+    @Scheduled(cron = "${github.webhook.inbox.cleanup-cron:0 30 4 * * *}")
+    public void cleanup() {
+        int deleted = inboxDao.deleteDoneOlderThan(retentionDays);
+        if (deleted > 0) {
+            log.info("[Webhook Inbox] Removed {} processed deliveries older than {} days", deleted, retentionDays);
+        }
+    }
+}
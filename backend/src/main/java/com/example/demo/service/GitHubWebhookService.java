@@ -2,8 +2,12 @@ package com.example.demo.service;
 
 import java.sql.Timestamp;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -14,15 +18,13 @@ import org.springframework.stereotype.Service;
 import com.example.demo.dao.TaskAssigneeDao;
 import com.example.demo.dao.TaskCommitDao;
 import com.example.demo.dao.TaskDao;
-import com.example.demo.dao.TeamDao;
-import com.example.demo.dao.SynodosColumnDao;
 import com.example.demo.dto.GitHubWebhookPayload;
 import com.example.demo.dto.GitHubWebhookPayload.Commit;
+import com.example.demo.model.Notification;
 import com.example.demo.model.Task;
 import com.example.demo.model.TaskAssignee;
 import com.example.demo.model.TaskCommit;
 import com.example.demo.model.Team;
-import com.example.demo.model.SynodosColumn;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -30,6 +32,7 @@ import lombok.extern.slf4j.Slf4j;
  * GitHub Webhook 처리 서비스
  * - 브랜치명에서 태스크 ID 파싱 (우선)
  * - 커밋 메시지에서 태스크 ID 파싱 (폴백)
+ * - Push 한 번의 (태스크, 커밋) 쌍을 모아 태스크 확인/저장/알림을 일괄 처리
  */
 @Slf4j
 @Service
@@ -47,8 +50,8 @@ public class GitHubWebhookService {
         Pattern.CASE_INSENSITIVE
     );
 
-    @Autowired
-    private TeamDao teamDao;
+    // 커밋 일괄 저장 한 번에 보내는 최대 행 수
+    private static final int INSERT_BATCH_SIZE = 500;
 
     @Autowired
     private TaskDao taskDao;
@@ -60,10 +63,13 @@ public class GitHubWebhookService {
     private TaskAssigneeDao assigneeDao;
 
     @Autowired
-    private SynodosColumnDao columnDao;
+    private NotificationService notificationService;
 
     @Autowired
-    private NotificationService notificationService;
+    private GitHubRepoRoutingService repoRoutingService;
+
+    @Autowired
+    private GitHubCommitGraphService commitGraphService;
 
     /**
      * GitHub Webhook push 이벤트 처리
@@ -72,7 +78,7 @@ public class GitHubWebhookService {
     public WebhookResult processWebhook(GitHubWebhookPayload payload) {
         WebhookResult result = new WebhookResult();
 
-        if (payload == null || payload.getCommits() == null || payload.getCommits().isEmpty()) {
+        if (payload == null || payload.getRepository() == null) {
             log.info("No commits to process");
             return result;
         }
@@ -81,9 +87,6 @@ public class GitHubWebhookService {
         String repoUrl = payload.getRepository().getHtmlUrl();
         String branchName = payload.getBranchName();
 
-        log.info("Processing webhook for repo: {}, branch: {}, commits: {}",
-            repoFullName, branchName, payload.getCommits().size());
-
         // 저장소 URL로 팀 찾기
         Team team = findTeamByRepoUrl(repoUrl);
         if (team == null) {
@@ -95,16 +98,103 @@ public class GitHubWebhookService {
         result.setTeamId(team.getTeamId());
         result.setTeamName(team.getTeamName());
 
+        // 브랜치 그래프 캐시: 브랜치 머리 갱신 + 새 커밋 미리 조회 (삭제/강제 push 포함)
+        if (payload.getRef() != null && payload.getRef().startsWith("refs/heads/") && repoFullName != null) {
+            String[] ownerRepo = repoFullName.split("/", 2);
+            if (ownerRepo.length == 2) {
+                commitGraphService.onPush(team.getTeamId(), ownerRepo[0], ownerRepo[1],
+                    branchName, payload.getBefore(), payload.getAfter());
+            }
+        }
+
+        if (payload.getCommits() == null || payload.getCommits().isEmpty()) {
+            log.info("No commits to process");
+            return result;
+        }
+
+        log.info("Processing webhook for repo: {}, branch: {}, commits: {}",
+            repoFullName, branchName, payload.getCommits().size());
+
         // 1. 브랜치명에서 태스크 ID 추출 (우선순위 높음)
         Set<Integer> branchTaskIds = parseTaskIdsFromBranch(branchName);
         log.info("Task IDs from branch '{}': {}", branchName, branchTaskIds);
 
-        // 각 커밋 처리
-        for (Commit commit : payload.getCommits()) {
-            CommitLinkResult linkResult = processCommit(commit, branchTaskIds, team.getTeamId(), repoUrl);
+        // 2. 커밋별 연결 후보 태스크 수집 (브랜치 + 커밋 메시지)
+        List<Commit> commits = payload.getCommits();
+        List<Set<Integer>> candidates = new ArrayList<>();
+        Set<Integer> allTaskIds = new HashSet<>();
+        for (Commit commit : commits) {
+            CommitLinkResult linkResult = new CommitLinkResult();
+            linkResult.setCommitSha(commit.getId());
+            linkResult.setCommitMessage(truncateMessage(commit.getMessage()));
             result.addCommitResult(linkResult);
+
+            Set<Integer> taskIds = collectTaskIds(commit, branchTaskIds, linkResult);
+            candidates.add(taskIds);
+            allTaskIds.addAll(taskIds);
         }
 
+        // 3. 팀에 속한 태스크인지 한 번에 확인
+        Map<Integer, Task> tasks = new HashMap<>();
+        if (!allTaskIds.isEmpty()) {
+            for (Task task : taskDao.listByIdsInTeam(team.getTeamId(), allTaskIds.toArray(new Integer[0]))) {
+                tasks.put(task.getTaskId(), task);
+            }
+        }
+
+        // 4. (태스크, 커밋) 일괄 저장 - 이미 연결된 쌍은 ON CONFLICT로 건너뜀
+        List<TaskCommit> rows = new ArrayList<>();
+        Set<String> pending = new HashSet<>();
+        for (int i = 0; i < commits.size(); i++) {
+            Commit commit = commits.get(i);
+            for (Integer taskId : candidates.get(i)) {
+                if (tasks.containsKey(taskId)) {
+                    if (pending.add(taskId + ":" + commit.getId())) {
+                        rows.add(toTaskCommit(commit, taskId));
+                    }
+                } else {
+                    log.debug("Task {} not found in team {}", taskId, team.getTeamId());
+                }
+            }
+        }
+        Set<String> inserted = new HashSet<>();
+        for (int from = 0; from < rows.size(); from += INSERT_BATCH_SIZE) {
+            List<TaskCommit> chunk = rows.subList(from, Math.min(from + INSERT_BATCH_SIZE, rows.size()));
+            for (TaskCommit saved : taskCommitDao.insertBatch(chunk)) {
+                inserted.add(saved.getTaskId() + ":" + saved.getCommitSha());
+            }
+        }
+
+        // 5. 커밋별 결과 정리
+        Map<Integer, Integer> linkedCommitsByTask = new LinkedHashMap<>();
+        boolean linkedFromBranch = false;
+        for (int i = 0; i < commits.size(); i++) {
+            Commit commit = commits.get(i);
+            CommitLinkResult linkResult = result.getCommitResults().get(i);
+            if (candidates.get(i).isEmpty()) {
+                continue;
+            }
+            List<Integer> linkedTasks = new ArrayList<>();
+            for (Integer taskId : candidates.get(i)) {
+                if (inserted.remove(taskId + ":" + commit.getId())) {
+                    linkedTasks.add(taskId);
+                    linkedCommitsByTask.merge(taskId, 1, Integer::sum);
+                }
+            }
+            if (!linkedTasks.isEmpty()) {
+                linkResult.setStatus("linked");
+                linkResult.setLinkedTaskIds(linkedTasks);
+                linkedFromBranch |= !"commit".equals(linkResult.getSource());
+                log.info("Linked commit {} to tasks {}", commit.getId(), linkedTasks);
+            } else {
+                linkResult.setStatus("skipped");
+                linkResult.setReason("이미 연결되었거나 태스크가 존재하지 않음");
+            }
+        }
+
+        // 6. 담당자/생성자에게 Push당 한 번 알림
+        notifyCommitsLinked(linkedCommitsByTask, tasks, linkedFromBranch ? branchName : null, team.getTeamId());
+
         log.info("Webhook processing complete. Linked: {}, Skipped: {}, Failed: {}",
             result.getLinkedCount(), result.getSkippedCount(), result.getFailedCount());
 
@@ -112,15 +202,10 @@ public class GitHubWebhookService {
     }
 
     /**
-     * 개별 커밋 처리
+     * 커밋의 연결 후보 태스크 ID (브랜치 + 커밋 메시지)
      */
-    private CommitLinkResult processCommit(Commit commit, Set<Integer> branchTaskIds, int teamId, String repoUrl) {
-        CommitLinkResult result = new CommitLinkResult();
-        result.setCommitSha(commit.getId());
-        result.setCommitMessage(truncateMessage(commit.getMessage()));
-
-        // 연결할 태스크 ID 결정
-        Set<Integer> taskIds = new HashSet<>();
+    private Set<Integer> collectTaskIds(Commit commit, Set<Integer> branchTaskIds, CommitLinkResult result) {
+        Set<Integer> taskIds = new LinkedHashSet<>();
 
         // 브랜치에서 추출한 태스크 ID가 있으면 사용
         if (!branchTaskIds.isEmpty()) {
@@ -142,57 +227,16 @@ public class GitHubWebhookService {
         if (taskIds.isEmpty()) {
             result.setStatus("skipped");
             result.setReason("태스크 ID를 찾을 수 없음");
-            return result;
         }
-
-        // 각 태스크에 커밋 연결
-        List<Integer> linkedTasks = new ArrayList<>();
-        for (Integer taskId : taskIds) {
-            try {
-                boolean linked = linkCommitToTask(commit, taskId, teamId, repoUrl, result.getSource());
-                if (linked) {
-                    linkedTasks.add(taskId);
-                }
-            } catch (Exception e) {
-                log.error("Failed to link commit {} to task {}: {}",
-                    commit.getId().substring(0, 7), taskId, e.getMessage());
-            }
-        }
-
-        if (!linkedTasks.isEmpty()) {
-            result.setStatus("linked");
-            result.setLinkedTaskIds(linkedTasks);
-        } else {
-            result.setStatus("skipped");
-            result.setReason("이미 연결되었거나 태스크가 존재하지 않음");
-        }
-
-        return result;
+        return taskIds;
     }
 
-    /**
-     * 커밋을 태스크에 연결
-     */
-    private boolean linkCommitToTask(Commit commit, int taskId, int teamId, String repoUrl, String source) {
-        // 태스크 존재 확인 (해당 팀의 태스크인지도 확인)
-        Task task = taskDao.content(taskId);
-        if (task == null) {
-            log.debug("Task {} not found", taskId);
-            return false;
-        }
-
-        // 중복 체크
-        if (taskCommitDao.countByTaskAndSha(taskId, commit.getId()) > 0) {
-            log.debug("Commit {} already linked to task {}", commit.getId().substring(0, 7), taskId);
-            return false;
-        }
-
-        // 커밋 저장
+    private TaskCommit toTaskCommit(Commit commit, int taskId) {
         TaskCommit taskCommit = new TaskCommit();
         taskCommit.setTaskId(taskId);
         taskCommit.setCommitSha(commit.getId());
         taskCommit.setCommitMessage(truncateMessage(commit.getMessage()));
-        taskCommit.setCommitAuthor(commit.getAuthor().getName());
+        taskCommit.setCommitAuthor(commit.getAuthor() != null ? commit.getAuthor().getName() : null);
         taskCommit.setGithubUrl(commit.getUrl());
         taskCommit.setLinkedBy(null);  // Webhook에 의한 자동 연결
 
@@ -205,54 +249,42 @@ public class GitHubWebhookService {
                 log.debug("Failed to parse commit timestamp: {}", commit.getTimestamp());
             }
         }
-
-        taskCommitDao.insert(taskCommit);
-        log.info("Linked commit {} to task {}", commit.getId().substring(0, 7), taskId);
-
-        // 담당자들에게 커밋 연결 알림 발송
-        notifyAssigneesForCommit(task, commit, source);
-
-        return true;
+        return taskCommit;
     }
 
     /**
-     * 담당자들에게 커밋 연결 알림 발송
+     * 담당자들(담당자가 아닌 생성자 포함)에게 커밋 연결 알림 발송
+     * - 수신자별로 이번 Push에서 연결된 태스크/커밋 수를 합쳐 1건
      */
-    private void notifyAssigneesForCommit(Task task, Commit commit, String source) {
-        SynodosColumn column = columnDao.content(task.getColumnId());
-        if (column == null) return;
-
-        int teamId = column.getTeamId();
-        String branchName = "branch".equals(source) || "both".equals(source) ? source : null;
-
-        // 담당자들에게 알림
-        List<TaskAssignee> assignees = assigneeDao.listByTask(task.getTaskId());
-        for (TaskAssignee assignee : assignees) {
-            notificationService.notifyCommitLinked(
-                assignee.getMemberNo(),
-                task.getTaskId(),
-                task.getTitle(),
-                truncateMessage(commit.getMessage()),
-                branchName,
-                teamId
-            );
+    private void notifyCommitsLinked(Map<Integer, Integer> linkedCommitsByTask, Map<Integer, Task> tasks,
+                                     String branchName, int teamId) {
+        if (linkedCommitsByTask.isEmpty()) {
+            return;
         }
 
-        // 태스크 생성자에게도 알림 (담당자가 아닌 경우)
-        if (task.getCreatedBy() != null) {
-            boolean isAssignee = assignees.stream()
-                .anyMatch(a -> a.getMemberNo() == task.getCreatedBy());
-            if (!isAssignee) {
-                notificationService.notifyCommitLinked(
-                    task.getCreatedBy(),
-                    task.getTaskId(),
-                    task.getTitle(),
-                    truncateMessage(commit.getMessage()),
-                    branchName,
-                    teamId
-                );
+        // 수신자 → 연결된 태스크 ID (연결 순서)
+        Map<Integer, Set<Integer>> tasksByRecipient = new LinkedHashMap<>();
+        Integer[] taskIds = linkedCommitsByTask.keySet().toArray(new Integer[0]);
+        for (TaskAssignee assignee : assigneeDao.listByTaskIds(taskIds)) {
+            tasksByRecipient.computeIfAbsent(assignee.getMemberNo(), k -> new LinkedHashSet<>()).add(assignee.getTaskId());
+        }
+        for (Integer taskId : taskIds) {
+            Integer createdBy = tasks.get(taskId).getCreatedBy();
+            if (createdBy != null) {
+                tasksByRecipient.computeIfAbsent(createdBy, k -> new LinkedHashSet<>()).add(taskId);
             }
         }
+
+        List<Notification> notifications = new ArrayList<>();
+        for (Map.Entry<Integer, Set<Integer>> entry : tasksByRecipient.entrySet()) {
+            Set<Integer> recipientTasks = entry.getValue();
+            Task first = tasks.get(recipientTasks.iterator().next());
+            int commitCount = recipientTasks.stream().mapToInt(linkedCommitsByTask::get).sum();
+            notifications.add(notificationService.buildCommitsLinked(
+                entry.getKey(), first.getTaskId(), first.getTitle(), recipientTasks.size(),
+                commitCount, branchName, teamId));
+        }
+        notificationService.createNotifications(notifications);
     }
 
     /**
@@ -296,17 +328,11 @@ public class GitHubWebhookService {
     }
 
     /**
-     * 저장소 URL로 팀 찾기
+     * 저장소 URL로 팀 찾기 (라우팅 테이블)
      */
     private Team findTeamByRepoUrl(String repoUrl) {
         if (repoUrl == null) return null;
-
-        // URL 정규화 (끝에 .git 제거, 슬래시 정리)
-        String normalizedUrl = repoUrl
-            .replaceAll("\\.git$", "")
-            .replaceAll("/$", "");
-
-        return teamDao.findByGithubRepoUrl(normalizedUrl);
+        return repoRoutingService.findTeamByRepoUrl(repoUrl);
     }
 
     /**
@@ -4,6 +4,8 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.DateTimeException;
+import java.time.ZoneId;
 import java.util.UUID;
 
 import org.springframework.beans.factory.annotation.Value;
@@ -19,13 +21,18 @@ public class MemberService {
 
 	private final MemberDao dao;
 	private final PasswordEncoder passwordEncoder;
+	private final GitHubIdentityService identityService;
+	private final GitHubTokenPoolService tokenPool;
 
 	@Value("${synodos.upload.path:uploads}")
 	private String uploadPath;
 
-	public MemberService(MemberDao dao, PasswordEncoder passwordEncoder) {
+	public MemberService(MemberDao dao, PasswordEncoder passwordEncoder, GitHubIdentityService identityService,
+			GitHubTokenPoolService tokenPool) {
 		this.dao = dao;
 		this.passwordEncoder = passwordEncoder;
+		this.identityService = identityService;
+		this.tokenPool = tokenPool;
 	}
 
 	// 회원가입 (비밀번호 암호화)
@@ -92,6 +99,16 @@ public class MemberService {
 		return dao.update(member);
 	}
 
+	// 시간대 ID 검증 (예: Asia/Seoul)
+	public boolean isValidTimeZone(String timeZone) {
+		try {
+			ZoneId.of(timeZone);
+			return true;
+		} catch (DateTimeException e) {
+			return false;
+		}
+	}
+
 	// 이메일 중복 체크 (본인 제외)
 	public int checkEmailExcludeSelf(Member member) {
 		return dao.checkEmailExcludeSelf(member);
@@ -126,7 +143,10 @@ public class MemberService {
 
 	// 회원 삭제
 	public int delete(int no) {
-		return dao.delete(no);
+		int result = dao.delete(no);
+		identityService.invalidateMember(no);
+		tokenPool.invalidateMember(no);
+		return result;
 	}
 
 	// 프로필 이미지 업로드
@@ -198,6 +218,9 @@ public class MemberService {
 
 	// GitHub 연동 정보 업데이트
 	public int updateGitHubConnection(Member member) {
-		return dao.updateGitHubConnection(member);
+		int result = dao.updateGitHubConnection(member);
+		identityService.invalidateMember(member.getNo(), member.getGithubUsername());
+		tokenPool.invalidateMember(member.getNo());
+		return result;
 	}
 }
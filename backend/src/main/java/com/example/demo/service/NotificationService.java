@@ -17,6 +17,11 @@ public class NotificationService {
         return dao.insert(notification);
     }
 
+    // 알림 일괄 생성
+    public int createNotifications(List<Notification> notifications) {
+        return notifications.isEmpty() ? 0 : dao.insertBatch(notifications);
+    }
+
     // 팀 초대 알림
     public void notifyTeamInvite(int recipientNo, int senderNo, int teamId, String teamName) {
         Notification n = new Notification();
@@ -255,20 +260,24 @@ public class NotificationService {
 
     // ============ GitHub 연동 관련 알림 ============
 
-    // 커밋 연결 알림
-    public void notifyCommitLinked(int recipientNo, int taskId, String taskTitle, String commitMessage, String branchName, int teamId) {
+    // 커밋 일괄 연결 알림 (Push 한 번에 수신자별 1건, createNotifications로 저장)
+    public Notification buildCommitsLinked(int recipientNo, int taskId, String taskTitle, int taskCount,
+                                           int commitCount, String branchName, int teamId) {
         Notification n = new Notification();
         n.setRecipientNo(recipientNo);
         n.setSenderNo(null);  // 시스템 알림
         n.setNotificationType(Notification.TYPE_COMMIT_LINKED);
         n.setTitle("커밋 연결됨");
-        String msg = "'" + taskTitle + "' 태스크에 커밋이 연결되었습니다.";
+        String target = taskCount > 1
+            ? "'" + taskTitle + "' 외 " + (taskCount - 1) + "개 태스크에"
+            : "'" + taskTitle + "' 태스크에";
+        String msg = target + (commitCount > 1 ? " 커밋 " + commitCount + "개가" : " 커밋이") + " 연결되었습니다.";
         if (branchName != null) {
             msg += " (브랜치: " + branchName + ")";
         }
         n.setMessage(msg);
         n.setTaskId(taskId);
         n.setTeamId(teamId);
-        dao.insert(n);
+        return n;
     }
 }
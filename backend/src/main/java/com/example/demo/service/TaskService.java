@@ -6,6 +6,7 @@ import java.util.Map;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import com.example.demo.dao.TaskDao;
 import com.example.demo.dao.SynodosColumnDao;
 import com.example.demo.dao.TaskAssigneeDao;
@@ -48,7 +49,7 @@ public class TaskService {
 	private TaskGitHubIssueDao taskGitHubIssueDao;
 
 	@Autowired
-	private GitHubIssueSyncService gitHubIssueSyncService;
+	private GitHubSyncOutboxService gitHubSyncOutboxService;
 
 	@Autowired
 	private MemberDao memberDao;
@@ -69,41 +70,32 @@ public class TaskService {
 		return null;
 	}
 
-	// Helper method to sync task to GitHub if linked
+	// Helper method to queue GitHub sync if linked (github_sync_outbox, 같은 트랜잭션에서 기록)
 	private void syncToGitHubIfLinked(int taskId) {
-		log.info("[GitHub Sync] Starting sync check for task #{}", taskId);
-		try {
-			// Check if task has linked GitHub issue
-			TaskGitHubIssue mapping = taskGitHubIssueDao.findByTaskId(taskId);
-			if (mapping == null) {
-				log.info("[GitHub Sync] No GitHub issue linked to task #{}, skipping", taskId);
-				return; // No linked issue, nothing to sync
-			}
-			log.info("[GitHub Sync] Found mapping: task #{} -> issue #{}", taskId, mapping.getIssueNumber());
-
-			// Get current member's no
-			Integer memberNo = getCurrentMemberNo();
-			if (memberNo == null) {
-				log.warn("[GitHub Sync] No authenticated member, skipping GitHub sync for task #{}", taskId);
-				return;
-			}
-			log.info("[GitHub Sync] Current member: #{}", memberNo);
+		// Check if task has linked GitHub issue
+		TaskGitHubIssue mapping = taskGitHubIssueDao.findByTaskId(taskId);
+		if (mapping == null) {
+			log.debug("[GitHub Sync] No GitHub issue linked to task #{}, skipping", taskId);
+			return; // No linked issue, nothing to sync
+		}
 
-			// Check if member has GitHub account linked
-			Member member = memberDao.findByNo(memberNo);
-			if (member == null || member.getGithubAccessToken() == null) {
-				log.warn("[GitHub Sync] Member #{} has no GitHub account linked, skipping sync", memberNo);
-				return;
-			}
-			log.info("[GitHub Sync] Member has GitHub token, proceeding with sync");
+		// Get current member's no
+		Integer memberNo = getCurrentMemberNo();
+		if (memberNo == null) {
+			log.warn("[GitHub Sync] No authenticated member, skipping GitHub sync for task #{}", taskId);
+			return;
+		}
 
-			// Sync to GitHub
-			gitHubIssueSyncService.syncTaskToGitHub(taskId, memberNo);
-			log.info("[GitHub Sync] SUCCESS: Synced Task #{} to GitHub Issue #{}", taskId, mapping.getIssueNumber());
-		} catch (Exception e) {
-			// Log but don't fail the main operation
-			log.error("[GitHub Sync] FAILED to sync task #{} to GitHub: {}", taskId, e.getMessage(), e);
+		// Check if member has GitHub account linked
+		Member member = memberDao.findByNo(memberNo);
+		if (member == null || member.getGithubAccessToken() == null) {
+			log.warn("[GitHub Sync] Member #{} has no GitHub account linked, skipping sync", memberNo);
+			return;
 		}
+
+		// 동기화 요청 기록 (GitHubSyncOutboxService 워커가 처리)
+		gitHubSyncOutboxService.enqueueSync(taskId, mapping.getTeamId(), memberNo);
+		log.info("[GitHub Sync] Queued sync: Task #{} -> GitHub Issue #{}", taskId, mapping.getIssueNumber());
 	}
 
 	// Helper method to populate assignees for a single task
@@ -150,6 +142,7 @@ public class TaskService {
 		populateVerifiers(tasks);
 	}
 
+	@Transactional
 	public int insert(Task task) {
 		int result = dao.insert(task);
 		if (result == 1) {
@@ -172,47 +165,39 @@ public class TaskService {
 	}
 
 	/**
-	 * 팀 설정이 활성화된 경우 GitHub Issue 자동 생성
+	 * 팀 설정이 활성화된 경우 GitHub Issue 자동 생성 요청 기록
 	 */
 	private void createGitHubIssueIfEnabled(int taskId, int teamId) {
-		log.info("[GitHub Auto-Sync] Task #{} 생성됨, GitHub Issue 자동 생성 시도...", taskId);
-		try {
-			// 팀 설정 확인
-			Team team = teamDao.findById(teamId);
-			if (team == null || !Boolean.TRUE.equals(team.getGithubIssueSyncEnabled())) {
-				log.info("[GitHub Auto-Sync] 스킵: 팀 #{} - githubIssueSyncEnabled={}",
-					teamId, team != null ? team.getGithubIssueSyncEnabled() : "null");
-				return;
-			}
-
-			if (team.getGithubRepoUrl() == null || team.getGithubRepoUrl().isEmpty()) {
-				log.info("[GitHub Auto-Sync] 스킵: 팀 #{} - githubRepoUrl 없음", teamId);
-				return;
-			}
+		// 팀 설정 확인
+		Team team = teamDao.findById(teamId);
+		if (team == null || !Boolean.TRUE.equals(team.getGithubIssueSyncEnabled())) {
+			log.debug("[GitHub Auto-Sync] 스킵: 팀 #{} - githubIssueSyncEnabled={}",
+				teamId, team != null ? team.getGithubIssueSyncEnabled() : "null");
+			return;
+		}
 
-			// 현재 사용자 확인
-			Integer memberNo = getCurrentMemberNo();
-			if (memberNo == null) {
-				log.info("[GitHub Auto-Sync] 스킵: 인증된 사용자 없음 (memberNo=null)");
-				return;
-			}
+		if (team.getGithubRepoUrl() == null || team.getGithubRepoUrl().isEmpty()) {
+			log.info("[GitHub Auto-Sync] 스킵: 팀 #{} - githubRepoUrl 없음", teamId);
+			return;
+		}
 
-			// 사용자의 GitHub 연동 확인
-			Member member = memberDao.findByNo(memberNo);
-			if (member == null || member.getGithubAccessToken() == null) {
-				log.info("[GitHub Auto-Sync] 스킵: 멤버 #{} - GitHub 연동 안됨 (token={})",
-					memberNo, member != null ? (member.getGithubAccessToken() != null ? "있음" : "없음") : "null");
-				return;
-			}
+		// 현재 사용자 확인
+		Integer memberNo = getCurrentMemberNo();
+		if (memberNo == null) {
+			log.info("[GitHub Auto-Sync] 스킵: 인증된 사용자 없음 (memberNo=null)");
+			return;
+		}
 
-			log.info("[GitHub Auto-Sync] 조건 충족! Task #{} → GitHub Issue 생성 시작", taskId);
-			// GitHub Issue 생성
-			gitHubIssueSyncService.createIssueFromTask(taskId, teamId, memberNo);
-			log.info("[GitHub Auto-Sync] 성공: Task #{} → GitHub Issue 생성 완료", taskId);
-		} catch (Exception e) {
-			// 실패해도 태스크 생성은 성공으로 처리
-			log.warn("[GitHub Auto-Sync] 실패: Task #{} - {}", taskId, e.getMessage());
+		// 사용자의 GitHub 연동 확인
+		Member member = memberDao.findByNo(memberNo);
+		if (member == null || member.getGithubAccessToken() == null) {
+			log.info("[GitHub Auto-Sync] 스킵: 멤버 #{} - GitHub 연동 안됨", memberNo);
+			return;
 		}
+
+		// GitHub Issue 생성 요청 기록 (GitHubSyncOutboxService 워커가 처리)
+		gitHubSyncOutboxService.enqueueCreate(taskId, teamId, memberNo);
+		log.info("[GitHub Auto-Sync] Task #{} → GitHub Issue 생성 요청 기록", taskId);
 	}
 
 	public List<Task> listByColumn(int columnId) {
@@ -239,6 +224,7 @@ public class TaskService {
 		return task;
 	}
 
+	@Transactional
 	public int update(Task task) {
 		int result = dao.update(task);
 		if (result == 1) {
@@ -256,6 +242,7 @@ public class TaskService {
 	}
 
 	// 태스크 업데이트 + 담당자에게 알림 발송
+	@Transactional
 	public int updateWithNotification(Task task, int senderNo, String changeDescription) {
 		int result = dao.update(task);
 		if (result == 1) {
@@ -332,6 +319,7 @@ public class TaskService {
 		return tasks;
 	}
 
+	@Transactional
 	public int updateWorkflowStatus(Task task) {
 		int result = dao.updateWorkflowStatus(task);
 		if (result == 1) {
@@ -350,6 +338,7 @@ public class TaskService {
 	}
 
 	// 반려 처리
+	@Transactional
 	public int updateRejection(Task task) {
 		int result = dao.updateRejection(task);
 		if (result == 1) {
@@ -367,6 +356,7 @@ public class TaskService {
 		return result;
 	}
 
+	@Transactional
 	public int updateAssignee(Task task) {
 		int result = dao.updateAssignee(task);
 		if (result == 1) {
@@ -384,6 +374,7 @@ public class TaskService {
 	}
 
 	// 담당자 지정 + 알림 발송
+	@Transactional
 	public int updateAssigneeWithNotification(Task task, int senderNo) {
 		// 기존 담당자 확인
 		Task existingTask = dao.content(task.getTaskId());
@@ -437,6 +428,7 @@ public class TaskService {
 	}
 
 	// 날짜 변경 (타임라인용)
+	@Transactional
 	public int updateDates(Task task) {
 		int result = dao.updateDates(task);
 		if (result == 1) {
@@ -3,6 +3,7 @@ package com.example.demo.service;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
@@ -31,6 +32,9 @@ public class TeamService {
 	@Autowired
 	private GitHubService gitHubService;
 
+	@Autowired
+	private GitHubRepoRoutingService repoRoutingService;
+
 	@Value("${github.webhook.base-url:}")
 	private String webhookBaseUrl;
 
@@ -46,7 +50,12 @@ public class TeamService {
 		if (team.getGithubIssueSyncEnabled() == null) {
 			team.setGithubIssueSyncEnabled(true);
 		}
-		return dao.insertTeam(team);
+		if (repoRoutingService.isClaimedByOtherTeam(team.getGithubRepoUrl(), 0)) {
+			throw new RuntimeException("이미 다른 팀에 연결된 GitHub 저장소입니다.");
+		}
+		int result = dao.insertTeam(team);
+		repoRoutingService.onTeamChanged(team);
+		return result;
 	}
 
 	// 팀 멤버 추가
@@ -78,12 +87,20 @@ public class TeamService {
 
 	// 팀 ID로 팀 조회
 	public Team findById(int teamId) {
-		return dao.findById(teamId);
+		Team team = dao.findById(teamId);
+		if (team != null) {
+			team.setGithubRepoConflictTeamId(repoRoutingService.findConflictingTeamId(team));
+		}
+		return team;
 	}
 
 	// 내가 속한 팀 목록
 	public List<Team> findMyTeams(int memberNo) {
-		return dao.findMyTeams(memberNo);
+		List<Team> teams = dao.findMyTeams(memberNo);
+		for (Team team : teams) {
+			team.setGithubRepoConflictTeamId(repoRoutingService.findConflictingTeamId(team));
+		}
+		return teams;
 	}
 
 	// 팀 멤버 목록
@@ -106,7 +123,9 @@ public class TeamService {
 
 	// 팀 삭제
 	public int deleteTeam(int teamId) {
-		return dao.deleteTeam(teamId);
+		int result = dao.deleteTeam(teamId);
+		repoRoutingService.onTeamDeleted(teamId);
+		return result;
 	}
 
 	// 팀 정보 수정
@@ -120,7 +139,19 @@ public class TeamService {
 			team.setGithubIssueSyncEnabled(true);
 		}
 		// 그 외에는 전달된 값을 그대로 사용 (사용자가 on/off 토글한 값)
-		return dao.updateTeam(team);
+		// 저장소를 바꾸지 않은 저장(팀 이름/설정 수정)은 연결 중복 확인 생략
+		if (isRepoChanged(team) && repoRoutingService.isClaimedByOtherTeam(team.getGithubRepoUrl(), team.getTeamId())) {
+			throw new RuntimeException("이미 다른 팀에 연결된 GitHub 저장소입니다.");
+		}
+		int result = dao.updateTeam(team);
+		repoRoutingService.onTeamChanged(team);
+		return result;
+	}
+
+	// 저장된 팀과 다른 저장소로 바꾸는지 확인
+	private boolean isRepoChanged(Team team) {
+		Team saved = dao.findById(team.getTeamId());
+		return saved == null || !Objects.equals(saved.getGithubRepoKey(), team.getGithubRepoKey());
 	}
 
 	// 팀 설명 수정
@@ -160,10 +191,16 @@ public class TeamService {
 			team.setGithubIssueSyncEnabled(true);
 		}
 
+		// 같은 저장소는 한 팀에만 연결 (Webhook 라우팅)
+		if (repoRoutingService.isClaimedByOtherTeam(team.getGithubRepoUrl(), 0)) {
+			throw new RuntimeException("이미 다른 팀에 연결된 GitHub 저장소입니다.");
+		}
+
 		// 2. 팀 생성 (기존 로직)
 		String code = UUID.randomUUID().toString().substring(0, 8).toUpperCase();
 		team.setTeamCode(code);
 		int insertResult = dao.insertTeam(team);
+		repoRoutingService.onTeamChanged(team);
 
 		if (insertResult != 1) {
 			result.put("teamCreated", false);
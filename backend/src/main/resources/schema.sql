@@ -45,9 +45,13 @@ CREATE TABLE IF NOT EXISTS member (
     github_username VARCHAR(100),
     github_access_token VARCHAR(500),
     github_connected_at TIMESTAMP,
+    time_zone VARCHAR(50),              -- IANA 시간대 (예: Asia/Seoul), NULL이면 기본 시간대
     register TIMESTAMP DEFAULT CURRENT_TIMESTAMP
 );
 
+-- 알림 발송 시간대 컬럼 추가 (없는 경우)
+ALTER TABLE member ADD COLUMN IF NOT EXISTS time_zone VARCHAR(50);
+
 -- 기존 테이블에 email_verified 컬럼 추가 (없는 경우)
 DO $$
 BEGIN
@@ -184,6 +188,12 @@ BEGIN
     END IF;
 END $$;
 
+-- GitHub Label 레지스트리: 저장소에 있는 것으로 확인된 Label 이름 (Issue 생성 때마다 Label 목록 조회 생략)
+-- label Webhook 수신 또는 TTL 경과 시 다시 조회
+ALTER TABLE team ADD COLUMN IF NOT EXISTS github_label_registry TEXT;               -- JSON 배열
+ALTER TABLE team ADD COLUMN IF NOT EXISTS github_label_registry_repo VARCHAR(300);  -- 확인한 저장소 (owner/repo 소문자)
+ALTER TABLE team ADD COLUMN IF NOT EXISTS github_label_registry_at TIMESTAMP;
+
 CREATE INDEX IF NOT EXISTS idx_team_leader ON team(leader_no);
 CREATE INDEX IF NOT EXISTS idx_team_code ON team(team_code);
 
@@ -281,6 +291,57 @@ CREATE INDEX IF NOT EXISTS idx_task_priority ON task(priority);
 CREATE INDEX IF NOT EXISTS idx_task_due_date ON task(due_date);
 CREATE INDEX IF NOT EXISTS idx_task_start_date ON task(start_date);
 
+-- ========================================
+-- 태스크 마감일 프로젝션 (마감일 알림 / 캘린더 조회용)
+-- ========================================
+-- 마감일이 있는 태스크만 팀 ID와 함께 보관하며, task 트리거로 갱신된다
+CREATE TABLE IF NOT EXISTS task_due (
+    task_id INTEGER PRIMARY KEY REFERENCES task(task_id) ON DELETE CASCADE,
+    team_id INTEGER NOT NULL,
+    due_date TIMESTAMP NOT NULL,
+    is_open BOOLEAN NOT NULL            -- DONE, DECLINED가 아니면 true
+);
+
+CREATE INDEX IF NOT EXISTS idx_task_due_open ON task_due(due_date, task_id) WHERE is_open;
+CREATE INDEX IF NOT EXISTS idx_task_due_team ON task_due(team_id, due_date);
+
+-- 미완료 태스크 마감일 (부분 인덱스 idx_task_due_open 사용)
+CREATE OR REPLACE VIEW open_task_due AS
+SELECT task_id, team_id, due_date FROM task_due WHERE is_open;
+
+-- 프로젝션 갱신 트리거
+-- (스키마 스크립트가 ';' 단위로 분리되므로 $$ 대신 작은따옴표 본문 사용)
+CREATE OR REPLACE FUNCTION sync_task_due() RETURNS TRIGGER AS '
+BEGIN
+    IF NEW.due_date IS NULL THEN
+        DELETE FROM task_due WHERE task_id = NEW.task_id;
+    ELSE
+        INSERT INTO task_due (task_id, team_id, due_date, is_open)
+        SELECT NEW.task_id, c.team_id, NEW.due_date,
+               COALESCE(NEW.workflow_status, ''WAITING'') NOT IN (''DONE'', ''DECLINED'')
+        FROM columns c
+        WHERE c.column_id = NEW.column_id
+        ON CONFLICT (task_id) DO UPDATE
+        SET team_id = EXCLUDED.team_id, due_date = EXCLUDED.due_date, is_open = EXCLUDED.is_open;
+    END IF;
+    RETURN NULL;
+END;
+' LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS trg_task_due ON task;
+CREATE TRIGGER trg_task_due
+    AFTER INSERT OR UPDATE OF column_id, due_date, workflow_status ON task
+    FOR EACH ROW EXECUTE FUNCTION sync_task_due();
+
+-- 기존 태스크 채우기 (트리거 도입 전 데이터)
+INSERT INTO task_due (task_id, team_id, due_date, is_open)
+SELECT t.task_id, c.team_id, t.due_date,
+       COALESCE(t.workflow_status, 'WAITING') NOT IN ('DONE', 'DECLINED')
+FROM task t
+JOIN columns c ON t.column_id = c.column_id
+WHERE t.due_date IS NOT NULL
+ON CONFLICT (task_id) DO NOTHING;
+
 -- priority 컬럼의 기본값 제거 (기존 DB 마이그레이션)
 ALTER TABLE task ALTER COLUMN priority DROP DEFAULT;
 
@@ -299,7 +360,15 @@ CREATE TABLE IF NOT EXISTS comment (
 
 CREATE INDEX IF NOT EXISTS idx_comment_task ON comment(task_id);
 CREATE INDEX IF NOT EXISTS idx_comment_created ON comment(created_at DESC);
-CREATE INDEX IF NOT EXISTS idx_comment_github ON comment(github_comment_id) WHERE github_comment_id IS NOT NULL;
+
+-- GitHub 댓글 중복 방지 (기존 댓글 일괄 가져오기 시 ON CONFLICT 대상, 예전 일반 인덱스 대체)
+-- 중복 정리는 유니크 인덱스를 만들기 전 한 번만 (task_commit과 같은 방식)
+DELETE FROM comment a USING comment b
+WHERE a.github_comment_id = b.github_comment_id AND a.comment_id > b.comment_id
+AND NOT EXISTS (SELECT 1 FROM pg_indexes
+                WHERE schemaname = current_schema() AND indexname = 'uq_comment_github');
+CREATE UNIQUE INDEX IF NOT EXISTS uq_comment_github ON comment(github_comment_id) WHERE github_comment_id IS NOT NULL;
+DROP INDEX IF EXISTS idx_comment_github;
 
 -- ========================================
 -- 채팅 메시지 테이블
@@ -367,14 +436,22 @@ CREATE TABLE IF NOT EXISTS notification (
     column_id INTEGER REFERENCES columns(column_id) ON DELETE CASCADE,
     task_id INTEGER REFERENCES task(task_id) ON DELETE CASCADE,
     is_read BOOLEAN DEFAULT FALSE,
-    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    notify_date DATE -- 일 단위 중복 방지 키 (마감일 알림 등 스케줄러 알림에서만 사용)
 );
 
+-- notify_date 컬럼 추가 (기존 DB 마이그레이션)
+ALTER TABLE notification ADD COLUMN IF NOT EXISTS notify_date DATE;
+
 CREATE INDEX IF NOT EXISTS idx_notification_recipient ON notification(recipient_no);
 CREATE INDEX IF NOT EXISTS idx_notification_type ON notification(notification_type);
 CREATE INDEX IF NOT EXISTS idx_notification_read ON notification(is_read);
 CREATE INDEX IF NOT EXISTS idx_notification_created ON notification(created_at DESC);
 
+-- 같은 날 같은 수신자/태스크/타입 알림은 한 번만 생성 (notify_date가 NULL인 일반 알림은 대상 아님)
+CREATE UNIQUE INDEX IF NOT EXISTS uq_notification_daily
+    ON notification(recipient_no, task_id, notification_type, notify_date);
+
 -- ========================================
 -- 태스크 담당자 테이블 (복수 담당자 지원)
 -- ========================================
@@ -448,6 +525,29 @@ CREATE INDEX IF NOT EXISTS idx_email_verification_email ON email_verification(em
 CREATE INDEX IF NOT EXISTS idx_email_verification_code ON email_verification(code);
 CREATE INDEX IF NOT EXISTS idx_email_verification_expires ON email_verification(expires_at);
 
+-- ========================================
+-- 이메일 발송 대기열 (outbox)
+-- ========================================
+-- 요청 트랜잭션에서 기록하고 EmailOutboxDispatcher가 비동기로 발송
+CREATE SEQUENCE IF NOT EXISTS email_outbox_seq START WITH 1 INCREMENT BY 1;
+
+CREATE TABLE IF NOT EXISTS email_outbox (
+    id INTEGER PRIMARY KEY DEFAULT nextval('email_outbox_seq'),
+    recipient VARCHAR(100) NOT NULL,
+    subject VARCHAR(200) NOT NULL,
+    body TEXT NOT NULL,                 -- HTML 본문
+    status VARCHAR(20) DEFAULT 'PENDING', -- PENDING, SENDING, SENT, FAILED
+    attempts INTEGER DEFAULT 0,
+    next_attempt_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    locked_by VARCHAR(200),             -- 발송 중인 인스턴스
+    locked_until TIMESTAMP,             -- 발송 리스 만료 (만료되면 다시 발송 대상)
+    last_error TEXT,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    sent_at TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_email_outbox_pending ON email_outbox(next_attempt_at) WHERE status IN ('PENDING', 'SENDING');
+
 -- ========================================
 -- 태스크-커밋 연결 테이블
 -- ========================================
@@ -468,6 +568,14 @@ CREATE TABLE IF NOT EXISTS task_commit (
 CREATE INDEX IF NOT EXISTS idx_task_commit_task ON task_commit(task_id);
 CREATE INDEX IF NOT EXISTS idx_task_commit_sha ON task_commit(commit_sha);
 
+-- 태스크-커밋 중복 연결 방지 (Push Webhook 일괄 저장 시 ON CONFLICT 대상)
+-- 중복 정리는 유니크 인덱스를 만들기 전 한 번만 (인덱스가 있으면 One-Time Filter로 조인 없이 끝남)
+DELETE FROM task_commit a USING task_commit b
+WHERE a.task_id = b.task_id AND a.commit_sha = b.commit_sha AND a.id > b.id
+AND NOT EXISTS (SELECT 1 FROM pg_indexes
+                WHERE schemaname = current_schema() AND indexname = 'uq_task_commit_task_sha');
+CREATE UNIQUE INDEX IF NOT EXISTS uq_task_commit_task_sha ON task_commit(task_id, commit_sha);
+
 -- ========================================
 -- GitHub Issue 동기화 관련 테이블
 -- ========================================
@@ -496,6 +604,15 @@ CREATE INDEX IF NOT EXISTS idx_task_github_issue_task ON task_github_issue(task_
 CREATE INDEX IF NOT EXISTS idx_task_github_issue_team ON task_github_issue(team_id);
 CREATE INDEX IF NOT EXISTS idx_task_github_issue_status ON task_github_issue(sync_status);
 
+-- 마지막으로 확인된 GitHub Issue 상태 (동기화 시 달라진 필드만 한 번의 PATCH로 전송하기 위한 비교 기준)
+-- Push 응답, Webhook 수신, Issue 조회 시 갱신
+ALTER TABLE task_github_issue ADD COLUMN IF NOT EXISTS known_title VARCHAR(500);
+ALTER TABLE task_github_issue ADD COLUMN IF NOT EXISTS known_body_hash VARCHAR(64);    -- 본문 SHA-256
+ALTER TABLE task_github_issue ADD COLUMN IF NOT EXISTS known_state VARCHAR(10);        -- open, closed
+ALTER TABLE task_github_issue ADD COLUMN IF NOT EXISTS known_labels TEXT;              -- JSON 배열
+ALTER TABLE task_github_issue ADD COLUMN IF NOT EXISTS known_assignees TEXT;           -- JSON 배열
+ALTER TABLE task_github_issue ADD COLUMN IF NOT EXISTS known_at TIMESTAMP;
+
 -- GitHub 사용자 매핑 테이블
 CREATE SEQUENCE IF NOT EXISTS github_user_mapping_seq START WITH 1 INCREMENT BY 1;
 
@@ -536,3 +653,213 @@ CREATE INDEX IF NOT EXISTS idx_github_sync_log_mapping ON github_issue_sync_log(
 CREATE INDEX IF NOT EXISTS idx_github_sync_log_task ON github_issue_sync_log(task_id);
 CREATE INDEX IF NOT EXISTS idx_github_sync_log_created ON github_issue_sync_log(created_at DESC);
 CREATE INDEX IF NOT EXISTS idx_github_sync_log_webhook ON github_issue_sync_log(webhook_delivery_id);
+
+-- GitHub 동기화 대기열 (outbox) 테이블
+-- 태스크 변경 트랜잭션에서 기록하고 GitHubSyncOutboxService 워커가 태스크 단위 순서대로 처리
+CREATE SEQUENCE IF NOT EXISTS github_sync_outbox_seq START WITH 1 INCREMENT BY 1;
+
+CREATE TABLE IF NOT EXISTS github_sync_outbox (
+    id INTEGER PRIMARY KEY DEFAULT nextval('github_sync_outbox_seq'),
+    task_id INTEGER NOT NULL,           -- 순서 보장 단위 (Task와 Issue는 1:1)
+    team_id INTEGER NOT NULL,
+    action VARCHAR(20) NOT NULL,        -- CREATE_ISSUE, SYNC_ISSUE, BACKFILL_COMMENTS
+    member_no INTEGER,                  -- GitHub 토큰을 사용할 회원
+    status VARCHAR(20) DEFAULT 'PENDING', -- PENDING, PROCESSING, DONE, DEAD, SUPERSEDED
+    attempts INTEGER DEFAULT 0,
+    next_attempt_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    locked_by VARCHAR(200),
+    locked_until TIMESTAMP,
+    last_error TEXT,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    processed_at TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_github_sync_outbox_active ON github_sync_outbox(task_id, id) WHERE status IN ('PENDING', 'PROCESSING');
+CREATE INDEX IF NOT EXISTS idx_github_sync_outbox_due ON github_sync_outbox(next_attempt_at) WHERE status IN ('PENDING', 'PROCESSING');
+CREATE INDEX IF NOT EXISTS idx_github_sync_outbox_dead ON github_sync_outbox(team_id, created_at DESC) WHERE status = 'DEAD';
+
+-- ========================================
+-- 스케줄 작업 (클러스터 잠금 / 실행 이력)
+-- ========================================
+-- 작업별 리스 잠금 + 체크포인트 (여러 인스턴스 중 하나만 실행)
+CREATE TABLE IF NOT EXISTS scheduled_job_lock (
+    job_name VARCHAR(100) PRIMARY KEY,
+    locked_by VARCHAR(200),             -- 잠금 보유 인스턴스 ID
+    locked_until TIMESTAMP,             -- 리스 만료 시각 (만료 시 다른 인스턴스가 인계)
+    run_key VARCHAR(100),               -- 진행 중(미완료) 실행 키 (예: 실행 날짜)
+    checkpoint_key BIGINT,              -- 마지막으로 완료한 청크의 끝 키
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+ALTER TABLE scheduled_job_lock ADD COLUMN IF NOT EXISTS attempts INTEGER DEFAULT 0;  -- 같은 run_key 실행 시도 횟수
+
+-- 작업 실행 이력
+CREATE SEQUENCE IF NOT EXISTS scheduled_job_run_seq START WITH 1 INCREMENT BY 1;
+
+CREATE TABLE IF NOT EXISTS scheduled_job_run (
+    run_id INTEGER PRIMARY KEY DEFAULT nextval('scheduled_job_run_seq'),
+    job_name VARCHAR(100) NOT NULL,
+    run_key VARCHAR(100),
+    instance_id VARCHAR(200),
+    status VARCHAR(20) NOT NULL,        -- RUNNING, SUCCESS, FAILED
+    resumed_from BIGINT,                -- 체크포인트에서 재개한 경우 시작 키
+    rows_processed INTEGER DEFAULT 0,
+    chunks_processed INTEGER DEFAULT 0,
+    started_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    finished_at TIMESTAMP,
+    duration_ms BIGINT,
+    error_message TEXT
+);
+
+CREATE INDEX IF NOT EXISTS idx_scheduled_job_run_job ON scheduled_job_run(job_name, started_at DESC);
+
+-- ========================================
+-- GitHub 일괄 가져오기/내보내기 작업
+-- ========================================
+-- 요청은 작업 ID만 받고 바로 반환, 처리는 백그라운드 워커가 리스를 잡고 진행
+CREATE SEQUENCE IF NOT EXISTS github_bulk_job_seq START WITH 1 INCREMENT BY 1;
+
+CREATE TABLE IF NOT EXISTS github_bulk_job (
+    job_id INTEGER PRIMARY KEY DEFAULT nextval('github_bulk_job_seq'),
+    team_id INTEGER NOT NULL,
+    member_no INTEGER NOT NULL,         -- GitHub 토큰을 사용할 회원
+    job_type VARCHAR(20) NOT NULL,      -- IMPORT, EXPORT
+    status VARCHAR(20) DEFAULT 'QUEUED', -- QUEUED, RUNNING, DONE, FAILED
+    total INTEGER,                      -- 전체 진행 단위 수 (가져오기: 페이지, 알게 된 뒤부터)
+    processed INTEGER DEFAULT 0,        -- 완료한 진행 단위 수
+    succeeded INTEGER DEFAULT 0,
+    skipped INTEGER DEFAULT 0,
+    failed INTEGER DEFAULT 0,
+    checkpoint INTEGER DEFAULT 0,       -- 재개 위치 (가져오기: 연속으로 완료한 마지막 페이지)
+    errors TEXT,                        -- 최근 오류 메시지 (JSON 배열)
+    attempts INTEGER DEFAULT 0,
+    locked_by VARCHAR(200),
+    locked_until TIMESTAMP,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    started_at TIMESTAMP,
+    finished_at TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+-- 팀별로 같은 종류의 작업은 하나만 진행
+CREATE UNIQUE INDEX IF NOT EXISTS uq_github_bulk_job_active ON github_bulk_job(team_id, job_type) WHERE status IN ('QUEUED', 'RUNNING');
+CREATE INDEX IF NOT EXISTS idx_github_bulk_job_team ON github_bulk_job(team_id, created_at DESC);
+
+-- 내보내기 작업의 태스크별 진행 상태 (태스크 단위 체크포인트)
+-- CREATING: Issue 생성 요청을 보냄 (중단 후 재개 시 이미 만들어진 Issue가 있는지 먼저 확인)
+CREATE TABLE IF NOT EXISTS github_bulk_job_item (
+    job_id INTEGER NOT NULL REFERENCES github_bulk_job(job_id) ON DELETE CASCADE,
+    task_id INTEGER NOT NULL,
+    status VARCHAR(20) DEFAULT 'PENDING', -- PENDING, CREATING, DONE, SKIPPED, FAILED
+    issue_number INTEGER,
+    error TEXT,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (job_id, task_id)
+);
+
+-- ========================================
+-- GitHub Issue 미러 (팀 저장소 Issue 목록 로컬 사본)
+-- ========================================
+-- Issue 선택/검색/충돌 목록을 GitHub 호출 없이 조회
+-- 최초 전체 수집 → issues Webhook으로 갱신 → 주기적 ?since= 조회로 놓친 Webhook 보정
+CREATE TABLE IF NOT EXISTS github_issue_mirror (
+    team_id INTEGER NOT NULL REFERENCES team(team_id) ON DELETE CASCADE,
+    issue_number INTEGER NOT NULL,
+    issue_id BIGINT,
+    title VARCHAR(500),
+    state VARCHAR(10),                  -- open, closed
+    labels TEXT,                        -- JSON 배열
+    assignees TEXT,                     -- JSON 배열 (GitHub 사용자명)
+    html_url VARCHAR(500),
+    github_updated_at TIMESTAMP,        -- GitHub updated_at (UTC)
+    synced_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP, -- 마지막으로 확인한 시각 (전체 수집 후 남은 오래된 행 정리용)
+    PRIMARY KEY (team_id, issue_number)
+);
+
+CREATE INDEX IF NOT EXISTS idx_github_issue_mirror_state ON github_issue_mirror(team_id, state, issue_number DESC);
+
+-- 팀별 미러 수집 상태
+CREATE TABLE IF NOT EXISTS github_issue_mirror_state (
+    team_id INTEGER PRIMARY KEY REFERENCES team(team_id) ON DELETE CASCADE,
+    repo_key VARCHAR(200) NOT NULL,     -- 수집한 저장소 (owner/repo 소문자)
+    since_at TIMESTAMP,                 -- 다음 증분 조회 기준 (본 Issue 중 가장 늦은 updated_at, UTC)
+    full_synced_at TIMESTAMP,           -- 마지막 전체 수집 시각
+    polled_at TIMESTAMP                 -- 마지막 증분 조회 시각
+);
+
+-- ========================================
+-- GitHub Webhook 수신함 (수신 즉시 저장 후 202 응답, 워커가 비동기 처리)
+-- ========================================
+CREATE SEQUENCE IF NOT EXISTS webhook_inbox_seq START WITH 1 INCREMENT BY 1;
+
+CREATE TABLE IF NOT EXISTS webhook_inbox (
+    id BIGINT PRIMARY KEY DEFAULT nextval('webhook_inbox_seq'),
+    delivery_id VARCHAR(100) NOT NULL UNIQUE, -- X-GitHub-Delivery (재전송 중복 제거)
+    event VARCHAR(50) NOT NULL,         -- push, issues, issue_comment, label
+    action VARCHAR(50),
+    repo_key VARCHAR(200),              -- owner/repo (소문자)
+    partition_key VARCHAR(300) NOT NULL, -- 순서 보장 단위 (저장소#Issue번호, 저장소@브랜치 등)
+    team_id INTEGER,                    -- 처리 시 확인한 팀 (데드레터 조회용)
+    payload TEXT NOT NULL,              -- 원본 본문
+    status VARCHAR(20) DEFAULT 'PENDING', -- PENDING, PROCESSING, DONE, DEAD, SUPERSEDED(이후 항목이 반영돼 재시도하지 않은 데드레터)
+    attempts INTEGER DEFAULT 0,
+    next_attempt_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    locked_by VARCHAR(200),             -- 인스턴스 ID + 잠금 토큰 (잠글 때마다 새로 만듦)
+    locked_until TIMESTAMP,
+    last_error TEXT,
+    received_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    processed_at TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_webhook_inbox_active ON webhook_inbox(partition_key, id) WHERE status IN ('PENDING', 'PROCESSING');
+CREATE INDEX IF NOT EXISTS idx_webhook_inbox_due ON webhook_inbox(next_attempt_at) WHERE status IN ('PENDING', 'PROCESSING');
+CREATE INDEX IF NOT EXISTS idx_webhook_inbox_dead ON webhook_inbox(repo_key, received_at DESC) WHERE status = 'DEAD';
+
+-- ========================================
+-- 팀 저장소 키 (owner/repo 소문자, Webhook → 팀 라우팅용)
+-- ========================================
+ALTER TABLE team ADD COLUMN IF NOT EXISTS github_repo_key VARCHAR(200);
+
+-- 이전 버전 마이그레이션이 저장소 중복 팀의 연결을 해제하며 남긴 기록: 아직 다시 연결하지 않은 팀은 URL 복원
+CREATE TABLE IF NOT EXISTS team_repo_demotion (
+    team_id INTEGER PRIMARY KEY REFERENCES team(team_id) ON DELETE CASCADE,
+    github_repo_url VARCHAR(500),
+    kept_team_id INTEGER,
+    demoted_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+UPDATE team SET github_repo_url = d.github_repo_url
+FROM team_repo_demotion d
+WHERE team.team_id = d.team_id AND (team.github_repo_url IS NULL OR team.github_repo_url = '');
+
+DROP TABLE IF EXISTS team_repo_demotion;
+
+-- 기존 github_repo_url에서 채우기 (https://github.com/Owner/Repo.git/ → owner/repo)
+-- 같은 저장소를 연결한 팀이 여럿이면 이미 라우팅 중인 팀(없으면 가장 먼저 만든 팀)만 키를 받고,
+-- 나머지 팀은 URL과 동기화 설정을 그대로 둔 채 키만 비워 둠 (Webhook은 한 팀으로만 라우팅, 팀 설정에서 충돌 표시)
+UPDATE team SET github_repo_key = k.repo_key
+FROM (
+    SELECT team_id, repo_key, ROW_NUMBER() OVER (PARTITION BY repo_key ORDER BY team_id) AS rn
+    FROM (
+        SELECT team_id,
+               LOWER(regexp_replace(regexp_replace(TRIM(github_repo_url), '(\.git)?/*$', ''), '^.*github\.com/', '')) AS repo_key
+        FROM team
+        WHERE github_repo_url IS NOT NULL
+    ) u
+    WHERE repo_key ~ '^[^/]+/[^/]+$'
+) k
+WHERE team.team_id = k.team_id AND k.rn = 1 AND team.github_repo_key IS NULL
+AND NOT EXISTS (SELECT 1 FROM team o WHERE o.github_repo_key = k.repo_key);
+
+CREATE UNIQUE INDEX IF NOT EXISTS uq_team_github_repo_key ON team(github_repo_key);
+
+-- ========================================
+-- 멤버 ↔ GitHub 사용자 일괄 조회 (대소문자 무시 ANY 조회용)
+-- ========================================
+CREATE INDEX IF NOT EXISTS idx_member_github_lower ON member(LOWER(github_username));
+CREATE INDEX IF NOT EXISTS idx_github_user_mapping_lower ON github_user_mapping(LOWER(github_username));
+
+-- ========================================
+-- GitHub 일괄 가져오기 GraphQL 커서 체크포인트
+-- ========================================
+ALTER TABLE github_bulk_job ADD COLUMN IF NOT EXISTS checkpoint_cursor VARCHAR(200);   -- 체크포인트 페이지의 endCursor
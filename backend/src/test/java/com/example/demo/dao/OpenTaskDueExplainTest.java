@@ -0,0 +1,147 @@
+package com.example.demo.dao;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.support.EncodedResource;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+
+/**
+ * 마감일 조회 실행 계획 회귀 테스트
+ * - 별도 스키마에 schema.sql을 적용하고 완료 태스크가 대부분인 데이터를 채운 뒤 EXPLAIN 결과 확인
+ * - 미완료 마감일 조회는 idx_task_due_open 인덱스만으로 처리되어야 함 (task 테이블 스캔 없음)
+ *
+ * PostgreSQL이 필요하다. 접속 정보는 SYNODOS_TEST_DB_URL / _USER / _PASSWORD 환경 변수
+ * (없으면 application.properties의 로컬 DB), 접속할 수 없으면 건너뛴다.
+ */
+class OpenTaskDueExplainTest {
+
+    private static final String SCHEMA = "synodos_explain_test";
+    private static final int TASKS = 50_000;
+
+    private static Connection connection;
+
+    @BeforeAll
+    static void setUp() throws SQLException {
+        String url = env("SYNODOS_TEST_DB_URL", "jdbc:postgresql://localhost:5432/synodos");
+        try {
+            connection = DriverManager.getConnection(url,
+                env("SYNODOS_TEST_DB_USER", "flow"), env("SYNODOS_TEST_DB_PASSWORD", "flow123"));
+        } catch (SQLException e) {
+            Assumptions.abort("PostgreSQL not available: " + e.getMessage());
+        }
+
+        execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+        execute("CREATE SCHEMA " + SCHEMA);
+        execute("SET search_path TO " + SCHEMA);
+
+        // 애플리케이션 시작 시와 같은 방식으로 적용 (spring.sql.init.continue-on-error=true)
+        ScriptUtils.executeSqlScript(connection,
+            new EncodedResource(new ClassPathResource("schema.sql"), StandardCharsets.UTF_8),
+            true, true, ScriptUtils.DEFAULT_COMMENT_PREFIX, ScriptUtils.DEFAULT_STATEMENT_SEPARATOR,
+            ScriptUtils.DEFAULT_BLOCK_COMMENT_START_DELIMITER, ScriptUtils.DEFAULT_BLOCK_COMMENT_END_DELIMITER);
+
+        // 5%만 미완료, 마감일은 전후 1년에 분산 (task_due는 트리거로 채워짐)
+        execute("INSERT INTO member (no, userid, password, name, email) "
+            + "VALUES (1, 'explain', 'x', 'explain', 'explain@test.local')");
+        execute("INSERT INTO team (team_id, team_name, team_code, leader_no) VALUES (1, 'explain', 'EXPLAIN1', 1)");
+        execute("INSERT INTO columns (column_id, title, position, team_id) VALUES (1, 'todo', 0, 1)");
+        execute("INSERT INTO task (task_id, column_id, title, due_date, workflow_status) "
+            + "SELECT g, 1, 'task ' || g, CURRENT_DATE + (g % 730 - 365), "
+            + "CASE WHEN g % 20 = 0 THEN 'WAITING' ELSE 'DONE' END "
+            + "FROM generate_series(1, " + TASKS + ") g");
+        execute("VACUUM ANALYZE task_due");
+        execute("ANALYZE task");
+    }
+
+    @AfterAll
+    static void tearDown() throws SQLException {
+        if (connection != null) {
+            execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+            connection.close();
+        }
+    }
+
+    @Test
+    void projectionIsFilledByTrigger() throws SQLException {
+        assertThat(queryLong("SELECT COUNT(*) FROM task_due")).isEqualTo(TASKS);
+        assertThat(queryLong("SELECT COUNT(*) FROM open_task_due")).isEqualTo(TASKS / 20);
+    }
+
+    @Test
+    void openDueLookupIsIndexOnly() throws SQLException {
+        // 청크 작업/알림 적재가 읽는 형태 (task_id, due_date만 사용)
+        String plan = explain("SELECT task_id, due_date FROM open_task_due "
+            + "WHERE due_date BETWEEN CURRENT_DATE AND CURRENT_DATE + 3");
+
+        assertThat(plan).contains("Index Only Scan using idx_task_due_open");
+        assertThat(plan).doesNotContain("Seq Scan");
+    }
+
+    @Test
+    void approachingDeadlineUsesOpenIndex() throws SQLException {
+        // TaskDao.listTasksApproachingDeadline
+        String plan = explain("SELECT t.task_id, t.title, t.due_date, d.team_id "
+            + "FROM open_task_due d JOIN task t ON t.task_id = d.task_id "
+            + "LEFT JOIN member m ON t.assignee_no = m.no "
+            + "WHERE d.due_date BETWEEN CURRENT_DATE AND CURRENT_DATE + 3 "
+            + "ORDER BY d.due_date ASC");
+
+        assertThat(plan).contains("idx_task_due_open");
+        assertThat(plan).doesNotContain("Seq Scan on task_due").doesNotContain("Seq Scan on task ");
+    }
+
+    @Test
+    void calendarRangeUsesTeamIndex() throws SQLException {
+        // TaskDao.listByDateRange
+        String plan = explain("SELECT t.task_id, t.title, t.due_date "
+            + "FROM task_due d JOIN task t ON t.task_id = d.task_id "
+            + "LEFT JOIN member m ON t.assignee_no = m.no "
+            + "WHERE d.team_id = 1 AND d.due_date BETWEEN CURRENT_DATE AND CURRENT_DATE + 7 "
+            + "ORDER BY t.due_date ASC, t.priority ASC");
+
+        assertThat(plan).contains("idx_task_due_team");
+        assertThat(plan).doesNotContain("Seq Scan on task_due");
+    }
+
+    private static String explain(String sql) throws SQLException {
+        StringBuilder plan = new StringBuilder();
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("EXPLAIN " + sql)) {
+            while (rs.next()) {
+                plan.append(rs.getString(1)).append('\n');
+            }
+        }
+        return plan.toString();
+    }
+
+    private static long queryLong(String sql) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(sql)) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    private static void execute(String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    private static String env(String name, String defaultValue) {
+        String value = System.getenv(name);
+        return value == null || value.isEmpty() ? defaultValue : value;
+    }
+}
@@ -0,0 +1,210 @@
+package com.example.demo.http;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.headerDoesNotExist;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * ConditionalRequestCache 테스트 (MockRestServiceServer를 GitHub API 대역으로 사용)
+ * - 첫 요청 저장 → 재요청에 If-None-Match → 304면 저장된 본문 반환
+ * - 토큰별 키 분리, 항목 수/바이트/항목 크기 한도, 4xx 시 항목 제거
+ */
+class ConditionalRequestCacheTest {
+
+    private static final String BRANCHES = "https://api.github.com/repos/octo/repo/branches";
+    private static final String TOKEN_A = "Bearer token-a";
+    private static final String TOKEN_B = "Bearer token-b";
+
+    private ConditionalRequestCache cache;
+    private RestTemplate restTemplate;
+    private MockRestServiceServer server;
+
+    @BeforeEach
+    void setUp() {
+        cache = new ConditionalRequestCache();
+        configure(2000, 32L * 1024 * 1024, 1024 * 1024);
+
+        restTemplate = new RestTemplate();
+        restTemplate.getInterceptors().add(cache);
+        server = MockRestServiceServer.bindTo(restTemplate).build();
+    }
+
+    @Test
+    void notModifiedIsServedFromCache() {
+        server.expect(requestTo(BRANCHES)).andExpect(method(HttpMethod.GET))
+            .andExpect(headerDoesNotExist(HttpHeaders.IF_NONE_MATCH))
+            .andRespond(withSuccess("[{\"name\":\"main\"}]", MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.ETAG, "\"v1\"")
+                .header("X-RateLimit-Remaining", "4999"));
+        server.expect(requestTo(BRANCHES))
+            .andExpect(header(HttpHeaders.IF_NONE_MATCH, "\"v1\""))
+            .andRespond(withStatus(HttpStatus.NOT_MODIFIED)
+                .header(HttpHeaders.ETAG, "\"v1\"")
+                .header("X-RateLimit-Remaining", "4998"));
+
+        ResponseEntity<String> first = get(BRANCHES, TOKEN_A);
+        ResponseEntity<String> second = get(BRANCHES, TOKEN_A);
+
+        server.verify();
+        assertThat(first.getBody()).isEqualTo("[{\"name\":\"main\"}]");
+        assertThat(second.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(second.getBody()).isEqualTo(first.getBody());
+        // 304의 최신 rate limit 헤더 유지
+        assertThat(second.getHeaders().getFirst("X-RateLimit-Remaining")).isEqualTo("4998");
+        assertThat(cache.getStats())
+            .containsEntry("hits304", 1L)
+            .containsEntry("misses", 1L)
+            .containsEntry("stores", 1L)
+            .containsEntry("entries", 1);
+    }
+
+    @Test
+    void changedResourceReplacesEntry() {
+        server.expect(requestTo(BRANCHES))
+            .andRespond(withSuccess("old", MediaType.APPLICATION_JSON).header(HttpHeaders.ETAG, "\"v1\""));
+        server.expect(requestTo(BRANCHES)).andExpect(header(HttpHeaders.IF_NONE_MATCH, "\"v1\""))
+            .andRespond(withSuccess("new", MediaType.APPLICATION_JSON).header(HttpHeaders.ETAG, "\"v2\""));
+        server.expect(requestTo(BRANCHES)).andExpect(header(HttpHeaders.IF_NONE_MATCH, "\"v2\""))
+            .andRespond(withStatus(HttpStatus.NOT_MODIFIED));
+
+        get(BRANCHES, TOKEN_A);
+        assertThat(get(BRANCHES, TOKEN_A).getBody()).isEqualTo("new");
+        assertThat(get(BRANCHES, TOKEN_A).getBody()).isEqualTo("new");
+
+        server.verify();
+        assertThat(cache.getStats())
+            .containsEntry("revalidated", 1L)
+            .containsEntry("hits304", 1L)
+            .containsEntry("bytes", 3L);
+    }
+
+    @Test
+    void tokensDoNotShareEntries() {
+        server.expect(requestTo(BRANCHES))
+            .andRespond(withSuccess("a", MediaType.APPLICATION_JSON).header(HttpHeaders.ETAG, "\"a\""));
+        server.expect(requestTo(BRANCHES)).andExpect(headerDoesNotExist(HttpHeaders.IF_NONE_MATCH))
+            .andRespond(withSuccess("b", MediaType.APPLICATION_JSON).header(HttpHeaders.ETAG, "\"b\""));
+
+        get(BRANCHES, TOKEN_A);
+        assertThat(get(BRANCHES, TOKEN_B).getBody()).isEqualTo("b");
+
+        server.verify();
+        assertThat(cache.getStats()).containsEntry("entries", 2).containsEntry("misses", 2L);
+    }
+
+    @Test
+    void entryLimitEvictsLeastRecentlyUsed() {
+        configure(2, 32L * 1024 * 1024, 1024 * 1024);
+        for (int i = 1; i <= 3; i++) {
+            server.expect(requestTo(BRANCHES + "?page=" + i))
+                .andRespond(withSuccess("page" + i, MediaType.APPLICATION_JSON).header(HttpHeaders.ETAG, "\"p" + i + "\""));
+        }
+        // 가장 오래된 page=1은 제거되어 조건 없이 다시 요청
+        server.expect(requestTo(BRANCHES + "?page=1")).andExpect(headerDoesNotExist(HttpHeaders.IF_NONE_MATCH))
+            .andRespond(withSuccess("page1", MediaType.APPLICATION_JSON).header(HttpHeaders.ETAG, "\"p1\""));
+
+        for (int i = 1; i <= 3; i++) {
+            get(BRANCHES + "?page=" + i, TOKEN_A);
+        }
+        get(BRANCHES + "?page=1", TOKEN_A);
+
+        server.verify();
+        assertThat(cache.getStats()).containsEntry("entries", 2).containsEntry("evictions", 2L);
+    }
+
+    @Test
+    void byteLimitEvictsOldestEntries() {
+        configure(2000, 10, 1024);
+        server.expect(requestTo(BRANCHES + "?page=1"))
+            .andRespond(withSuccess("123456", MediaType.APPLICATION_JSON).header(HttpHeaders.ETAG, "\"p1\""));
+        server.expect(requestTo(BRANCHES + "?page=2"))
+            .andRespond(withSuccess("abcdef", MediaType.APPLICATION_JSON).header(HttpHeaders.ETAG, "\"p2\""));
+
+        get(BRANCHES + "?page=1", TOKEN_A);
+        get(BRANCHES + "?page=2", TOKEN_A);
+
+        server.verify();
+        assertThat(cache.getStats())
+            .containsEntry("entries", 1)
+            .containsEntry("bytes", 6L)
+            .containsEntry("evictions", 1L);
+    }
+
+    @Test
+    void oversizedResponseIsNotStored() {
+        configure(2000, 32L * 1024 * 1024, 4);
+        server.expect(requestTo(BRANCHES))
+            .andRespond(withSuccess("0123456789", MediaType.APPLICATION_JSON).header(HttpHeaders.ETAG, "\"big\""));
+        server.expect(requestTo(BRANCHES)).andExpect(headerDoesNotExist(HttpHeaders.IF_NONE_MATCH))
+            .andRespond(withSuccess("0123456789", MediaType.APPLICATION_JSON).header(HttpHeaders.ETAG, "\"big\""));
+
+        assertThat(get(BRANCHES, TOKEN_A).getBody()).isEqualTo("0123456789");
+        get(BRANCHES, TOKEN_A);
+
+        server.verify();
+        assertThat(cache.getStats()).containsEntry("entries", 0).containsEntry("stores", 0L);
+    }
+
+    @Test
+    void clientErrorDropsEntry() {
+        server.expect(requestTo(BRANCHES))
+            .andRespond(withSuccess("[]", MediaType.APPLICATION_JSON).header(HttpHeaders.ETAG, "\"v1\""));
+        server.expect(requestTo(BRANCHES)).andExpect(header(HttpHeaders.IF_NONE_MATCH, "\"v1\""))
+            .andRespond(withStatus(HttpStatus.NOT_FOUND));
+
+        get(BRANCHES, TOKEN_A);
+        assertThrows(HttpClientErrorException.NotFound.class, () -> get(BRANCHES, TOKEN_A));
+
+        server.verify();
+        assertThat(cache.getStats()).containsEntry("entries", 0).containsEntry("bytes", 0L);
+    }
+
+    @Test
+    void otherHostsAreNotCached() {
+        String url = "https://generativelanguage.googleapis.com/v1/models";
+        server.expect(requestTo(url))
+            .andRespond(withSuccess("{}", MediaType.APPLICATION_JSON).header(HttpHeaders.ETAG, "\"g\""));
+        server.expect(requestTo(url)).andExpect(headerDoesNotExist(HttpHeaders.IF_NONE_MATCH))
+            .andRespond(withSuccess("{}", MediaType.APPLICATION_JSON));
+
+        get(url, TOKEN_A);
+        get(url, TOKEN_A);
+
+        server.verify();
+        assertThat(cache.getStats()).containsEntry("entries", 0).containsEntry("misses", 0L);
+    }
+
+    private ResponseEntity<String> get(String url, String authorization) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.AUTHORIZATION, authorization);
+        headers.setAccept(List.of(MediaType.APPLICATION_JSON));
+        return restTemplate.exchange(url, HttpMethod.GET, new HttpEntity<>(headers), String.class);
+    }
+
+    private void configure(int maxEntries, long maxBytes, long maxEntryBytes) {
+        ReflectionTestUtils.setField(cache, "enabled", true);
+        ReflectionTestUtils.setField(cache, "maxEntries", maxEntries);
+        ReflectionTestUtils.setField(cache, "maxBytes", maxBytes);
+        ReflectionTestUtils.setField(cache, "maxEntryBytes", maxEntryBytes);
+    }
+}
@@ -0,0 +1,193 @@
+package com.example.demo.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.mockito.ArgumentCaptor;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.example.demo.dao.EmailOutboxDao;
+import com.example.demo.model.EmailOutbox;
+import com.example.demo.scheduler.ScheduledJobRunner;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+
+import jakarta.mail.Address;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+
+/**
+ * EmailOutboxDispatcher 발송 테스트 (GreenMail 로컬 SMTP 서버 사용)
+ * - 대기열 묶음이 워커 풀을 통해 모두 발송되고 발송 완료 처리되는지
+ * - SMTP 실패 시 백오프 재시도 / 최대 횟수 초과 시 FAILED
+ * - 여러 묶음을 연결 재사용으로 제한 시간 안에 발송하는지
+ */
+class EmailOutboxDispatcherTest {
+
+    private static final String INSTANCE_ID = "test-instance";
+    private static final int BATCH_SIZE = 50;
+    private static final int LEASE_SECONDS = 120;
+
+    @RegisterExtension
+    static final GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    private EmailOutboxDao emailOutboxDao;
+    private JavaMailSenderImpl mailSender;
+    private EmailOutboxDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        emailOutboxDao = mock(EmailOutboxDao.class);
+        ScheduledJobRunner jobRunner = mock(ScheduledJobRunner.class);
+        when(jobRunner.getInstanceId()).thenReturn(INSTANCE_ID);
+
+        mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("localhost");
+        mailSender.setPort(ServerSetupTest.SMTP.getPort());
+
+        dispatcher = new EmailOutboxDispatcher();
+        ReflectionTestUtils.setField(dispatcher, "emailOutboxDao", emailOutboxDao);
+        ReflectionTestUtils.setField(dispatcher, "mailSender", mailSender);
+        ReflectionTestUtils.setField(dispatcher, "jobRunner", jobRunner);
+        ReflectionTestUtils.setField(dispatcher, "environment", "prod");
+        ReflectionTestUtils.setField(dispatcher, "sender", "noreply@synodos.local");
+        ReflectionTestUtils.setField(dispatcher, "transportType", "smtp");
+        ReflectionTestUtils.setField(dispatcher, "workerCount", 4);
+        ReflectionTestUtils.setField(dispatcher, "batchSize", BATCH_SIZE);
+        ReflectionTestUtils.setField(dispatcher, "maxAttempts", 5);
+        ReflectionTestUtils.setField(dispatcher, "backoffSeconds", 30L);
+        ReflectionTestUtils.setField(dispatcher, "leaseSeconds", LEASE_SECONDS);
+        ReflectionTestUtils.setField(dispatcher, "retentionDays", 7);
+        dispatcher.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.shutdown();
+    }
+
+    @Test
+    void deliversClaimedBatchAndMarksSent() throws MessagingException {
+        List<EmailOutbox> batch = mails(1, 20, 1);
+        when(emailOutboxDao.claimBatch(INSTANCE_ID, BATCH_SIZE, LEASE_SECONDS)).thenReturn(batch);
+
+        dispatcher.dispatch();
+
+        MimeMessage[] received = greenMail.getReceivedMessages();
+        assertThat(received).hasSize(20);
+        assertThat(recipients(received)).containsExactlyInAnyOrderElementsOf(
+            batch.stream().map(EmailOutbox::getRecipient).collect(Collectors.toList()));
+        assertThat(received[0].getSubject()).startsWith("[Synodos]");
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Integer>> sentIds = ArgumentCaptor.forClass(List.class);
+        verify(emailOutboxDao).markSent(sentIds.capture());
+        assertThat(sentIds.getValue()).containsExactlyInAnyOrderElementsOf(
+            batch.stream().map(EmailOutbox::getId).collect(Collectors.toList()));
+        verify(emailOutboxDao, never()).markRetry(anyInt(), anyLong(), any());
+    }
+
+    @Test
+    void schedulesRetryWithBackoffWhenSmtpIsUnavailable() throws IOException {
+        mailSender.setPort(unusedPort());
+        when(emailOutboxDao.claimBatch(INSTANCE_ID, BATCH_SIZE, LEASE_SECONDS)).thenReturn(mails(1, 1, 2));
+
+        dispatcher.dispatch();
+
+        // 두 번째 시도 실패 → 30s << 1
+        verify(emailOutboxDao).markRetry(eq(1), eq(60L), any());
+        verify(emailOutboxDao, never()).markSent(any());
+        assertThat(greenMail.getReceivedMessages()).isEmpty();
+    }
+
+    @Test
+    void marksFailedAfterMaxAttempts() throws IOException {
+        mailSender.setPort(unusedPort());
+        when(emailOutboxDao.claimBatch(INSTANCE_ID, BATCH_SIZE, LEASE_SECONDS)).thenReturn(mails(1, 1, 5));
+
+        dispatcher.dispatch();
+
+        verify(emailOutboxDao).markFailed(eq(1), any());
+        verify(emailOutboxDao, never()).markRetry(anyInt(), anyLong(), any());
+    }
+
+    @Test
+    void cleanupRemovesSentMailPastRetention() {
+        dispatcher.cleanup();
+
+        verify(emailOutboxDao).deleteSentOlderThan(7);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void deliversRepeatedBatchesOverPooledConnections() {
+        int rounds = 10;
+        List<List<EmailOutbox>> batches = new ArrayList<>();
+        for (int round = 0; round < rounds; round++) {
+            batches.add(mails(round * BATCH_SIZE + 1, BATCH_SIZE, 1));
+        }
+        when(emailOutboxDao.claimBatch(INSTANCE_ID, BATCH_SIZE, LEASE_SECONDS))
+            .thenReturn(batches.get(0), batches.subList(1, rounds).toArray(new List[0]));
+
+        long startedAt = System.nanoTime();
+        for (int round = 0; round < rounds; round++) {
+            dispatcher.dispatch();
+        }
+        long elapsedMs = (System.nanoTime() - startedAt) / 1_000_000;
+
+        assertThat(greenMail.getReceivedMessages()).hasSize(rounds * BATCH_SIZE);
+        verify(emailOutboxDao, times(rounds)).markSent(any());
+        // 500건을 30초 안에 발송 (느려지면 연결 재사용이 깨졌는지 확인)
+        assertThat(elapsedMs).isLessThan(30_000);
+    }
+
+    private static List<EmailOutbox> mails(int firstId, int count, int attempts) {
+        List<EmailOutbox> mails = new ArrayList<>();
+        for (int id = firstId; id < firstId + count; id++) {
+            EmailOutbox mail = new EmailOutbox();
+            mail.setId(id);
+            mail.setRecipient("user" + id + "@synodos.local");
+            mail.setSubject("[Synodos] 회원가입 이메일 인증");
+            mail.setBody("<p>인증 코드: " + (100000 + id) + "</p>");
+            mail.setStatus(EmailOutbox.STATUS_SENDING);
+            mail.setAttempts(attempts);
+            mails.add(mail);
+        }
+        return mails;
+    }
+
+    private static List<String> recipients(MimeMessage[] messages) throws MessagingException {
+        List<String> recipients = new ArrayList<>();
+        for (MimeMessage message : messages) {
+            Address[] to = message.getAllRecipients();
+            recipients.addAll(Arrays.stream(to).map(Address::toString).collect(Collectors.toList()));
+        }
+        return recipients;
+    }
+
+    private static int unusedPort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package com.example.demo.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.jsonPath;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * GitHubIssueService 일괄 조회 테스트 (녹화한 GitHub 응답을 MockRestServiceServer로 재생)
+ * - GraphQL ISSUES_QUERY 응답 → GitHubIssue 변환 (REST 응답과 같은 형태인지)
+ * - endCursor로 다음 페이지 요청, hasNextPage가 false면 끝
+ * - github.graphql.enabled가 꺼져 있으면 REST 페이지 조회로 대신함
+ */
+class GitHubIssueServiceGraphqlTest {
+
+    private static final String GRAPHQL_URL = "https://api.github.com/graphql";
+    private static final String REST_ISSUES_URL = "https://api.github.com/repos/octo/repo/issues";
+    private static final String PAGE1_CURSOR = "Y3Vyc29yOnYyOpHOAAAAAg==";
+    private static final String PAGE2_CURSOR = "Y3Vyc29yOnYyOpHOAAAAAw==";
+
+    private GitHubIssueService service;
+    private MockRestServiceServer server;
+
+    @BeforeEach
+    void setUp() {
+        RestTemplate restTemplate = new RestTemplate();
+        server = MockRestServiceServer.bindTo(restTemplate).build();
+
+        service = new GitHubIssueService();
+        ReflectionTestUtils.setField(service, "restTemplate", restTemplate);
+        ReflectionTestUtils.setField(service, "graphqlEnabled", true);
+    }
+
+    @Test
+    void mapsGraphqlIssueNodes() {
+        server.expect(requestTo(GRAPHQL_URL)).andExpect(method(HttpMethod.POST))
+            .andExpect(header(HttpHeaders.AUTHORIZATION, "Bearer token"))
+            .andExpect(jsonPath("$.query").value(containsString("issues(first: $first, after: $after")))
+            .andExpect(jsonPath("$.variables.owner").value("octo"))
+            .andExpect(jsonPath("$.variables.name").value("repo"))
+            .andExpect(jsonPath("$.variables.first").value(2))
+            .andExpect(jsonPath("$.variables.states[0]").value("OPEN"))
+            .andRespond(withSuccess(recorded("graphql-issues-page1.json"), MediaType.APPLICATION_JSON));
+
+        GitHubIssueService.IssueBatch batch = service.listIssuesBatch("octo", "repo", "token", "open", null, null, 2);
+
+        server.verify();
+        assertThat(batch.getRawCount()).isEqualTo(2);
+        assertThat(batch.getEndCursor()).isEqualTo(PAGE1_CURSOR);
+        assertThat(batch.isHasNextPage()).isTrue();
+        assertThat(batch.getTotalPages()).isEqualTo(2);
+
+        GitHubIssueService.GitHubIssue open = batch.getIssues().get(0);
+        assertThat(open.getId()).isEqualTo(1984001201L);
+        assertThat(open.getNumber()).isEqualTo(1);
+        assertThat(open.getTitle()).isEqualTo("[버그] 로그인 오류");
+        assertThat(open.getBody()).endsWith("*Synced from Synodos Task #42*");
+        assertThat(open.getState()).isEqualTo("open");
+        assertThat(open.getHtmlUrl()).isEqualTo("https://github.com/octo/repo/issues/1");
+        assertThat(open.getCreatedAt()).isEqualTo("2024-11-02T01:15:09Z");
+        assertThat(open.getUpdatedAt()).isEqualTo("2024-11-05T08:41:33Z");
+        // 기존 댓글 가져오기(BACKFILL_COMMENTS) 대상 판단용 댓글 수
+        assertThat(open.getComments()).isEqualTo(3);
+        assertThat(open.getLabels()).containsExactly("bug", "priority:high");
+        assertThat(open.getAssignees()).containsExactly("octocat", "Hubot");
+        assertThat(open.getMilestoneNumber()).isEqualTo(2);
+        assertThat(open.getMilestoneTitle()).isEqualTo("v1.1");
+        assertThat(open.getMilestoneDueOn()).isEqualTo("2024-12-01T00:00:00Z");
+        assertThat(open.getCreatorLogin()).isEqualTo("octocat");
+
+        // 본문 없음, 마일스톤 없음, 탈퇴한 작성자(author: null)
+        GitHubIssueService.GitHubIssue closed = batch.getIssues().get(1);
+        assertThat(closed.getState()).isEqualTo("closed");
+        assertThat(closed.getBody()).isNull();
+        assertThat(closed.getComments()).isZero();
+        assertThat(closed.getLabels()).isEmpty();
+        assertThat(closed.getAssignees()).isEmpty();
+        assertThat(closed.getMilestoneNumber()).isNull();
+        assertThat(closed.getCreatorLogin()).isNull();
+    }
+
+    @Test
+    void followsEndCursorUntilLastPage() {
+        server.expect(requestTo(GRAPHQL_URL))
+            .andExpect(jsonPath("$.variables.after").isEmpty())
+            .andExpect(jsonPath("$.variables.states").isEmpty())
+            .andExpect(jsonPath("$.variables.since").value("2024-11-01T00:00:00Z"))
+            .andRespond(withSuccess(recorded("graphql-issues-page1.json"), MediaType.APPLICATION_JSON));
+        server.expect(requestTo(GRAPHQL_URL))
+            .andExpect(jsonPath("$.variables.after").value(PAGE1_CURSOR))
+            .andRespond(withSuccess(recorded("graphql-issues-page2.json"), MediaType.APPLICATION_JSON));
+
+        // GitHubIssueMirrorService.crawl / findExportedIssues와 같은 방식으로 순회
+        List<Integer> numbers = new ArrayList<>();
+        String cursor = null;
+        int requests = 0;
+        while (true) {
+            GitHubIssueService.IssueBatch batch =
+                service.listIssuesBatch("octo", "repo", "token", "all", "2024-11-01T00:00:00Z", cursor, 2);
+            requests++;
+            batch.getIssues().forEach(issue -> numbers.add(issue.getNumber()));
+            if (!batch.isHasNextPage()) {
+                assertThat(batch.getEndCursor()).isEqualTo(PAGE2_CURSOR);
+                break;
+            }
+            cursor = batch.getEndCursor();
+        }
+
+        server.verify();
+        assertThat(requests).isEqualTo(2);
+        assertThat(numbers).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    void graphqlErrorsAreRaised() {
+        server.expect(requestTo(GRAPHQL_URL))
+            .andRespond(withSuccess(recorded("graphql-repository-not-found.json"), MediaType.APPLICATION_JSON));
+
+        assertThatThrownBy(() -> service.listIssuesBatch("octo", "missing", "token", "all", null, null, 100))
+            .isInstanceOf(RuntimeException.class)
+            .hasMessageContaining("Could not resolve to a Repository");
+        server.verify();
+    }
+
+    @Test
+    void fallsBackToRestPagesWhenGraphqlIsDisabled() {
+        ReflectionTestUtils.setField(service, "graphqlEnabled", false);
+        String link = "<" + REST_ISSUES_URL + "?state=all&sort=created&direction=asc&page=2&per_page=100>; rel=\"next\", "
+            + "<" + REST_ISSUES_URL + "?state=all&sort=created&direction=asc&page=3&per_page=100>; rel=\"last\"";
+        server.expect(requestTo(REST_ISSUES_URL + "?state=all&sort=created&direction=asc&page=1&per_page=100"))
+            .andExpect(method(HttpMethod.GET))
+            .andRespond(withSuccess(recorded("rest-issues-page1.json"), MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.LINK, link));
+        server.expect(requestTo(REST_ISSUES_URL + "?state=all&sort=created&direction=asc&page=2&per_page=100"))
+            .andRespond(withSuccess("[]", MediaType.APPLICATION_JSON));
+
+        GitHubIssueService.IssueBatch first = service.listIssuesBatch("octo", "repo", "token", "all", null, null, 100);
+
+        // PR은 제외하지만 마지막 페이지 판단용 rawCount에는 포함
+        assertThat(first.getIssues()).extracting(GitHubIssueService.GitHubIssue::getNumber).containsExactly(1);
+        assertThat(first.getRawCount()).isEqualTo(2);
+        assertThat(first.getEndCursor()).isEqualTo("1");
+        assertThat(first.isHasNextPage()).isTrue();
+        assertThat(first.getTotalPages()).isEqualTo(3);
+
+        // REST로 받은 Issue도 GraphQL과 같은 형태
+        GitHubIssueService.GitHubIssue issue = first.getIssues().get(0);
+        assertThat(issue.getId()).isEqualTo(1984001201L);
+        assertThat(issue.getState()).isEqualTo("open");
+        assertThat(issue.getLabels()).containsExactly("bug", "priority:high");
+        assertThat(issue.getAssignees()).containsExactly("octocat", "Hubot");
+        assertThat(issue.getMilestoneDueOn()).isEqualTo("2024-12-01T00:00:00Z");
+        assertThat(issue.getCreatorLogin()).isEqualTo("octocat");
+
+        // 커서는 마지막으로 받은 페이지 번호
+        GitHubIssueService.IssueBatch second = service.listIssuesBatch("octo", "repo", "token", "all", null,
+            first.getEndCursor(), 100);
+        assertThat(second.getIssues()).isEmpty();
+        assertThat(second.isHasNextPage()).isFalse();
+        server.verify();
+    }
+
+    private static ClassPathResource recorded(String name) {
+        return new ClassPathResource("github/" + name);
+    }
+}
@@ -0,0 +1,217 @@
+package com.example.demo.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.example.demo.dao.MemberDao;
+import com.example.demo.dao.SynodosColumnDao;
+import com.example.demo.dao.TaskAssigneeDao;
+import com.example.demo.dao.TaskDao;
+import com.example.demo.dao.TaskGitHubIssueDao;
+import com.example.demo.dao.TeamDao;
+import com.example.demo.model.Member;
+import com.example.demo.model.SynodosColumn;
+import com.example.demo.model.Task;
+import com.example.demo.model.TaskGitHubIssue;
+import com.example.demo.model.Team;
+
+/**
+ * GitHubIssueSyncService 일괄 가져오기 테스트 (DAO는 호출 내용을 기록하는 대역)
+ * - 5,000개 Issue(100개씩 50페이지)를 페이지마다 태스크/매핑 INSERT 한 번씩으로 저장하는지
+ * - 이미 연결된 Issue는 미리 읽은 번호 집합으로 건너뛰고 Issue마다 조회하지 않는지
+ * - 컬럼별 position은 컬럼마다 한 번만 조회하고 이어서 매기는지
+ * - 처리 중 Webhook으로 먼저 연결된 Issue의 태스크는 지우고 건너뜀으로 집계하는지
+ */
+class GitHubIssueSyncServiceImportTest {
+
+    private static final int TEAM_ID = 7;
+    private static final int MEMBER_NO = 3;
+    private static final int TODO_COLUMN = 10;
+    private static final int BUG_COLUMN = 11;
+    private static final int PAGE_SIZE = 100;
+    private static final int ISSUES = 5_000;
+    private static final int ALREADY_LINKED = 50;
+    private static final int LINKED_BY_WEBHOOK = 4321;
+
+    private TaskDao taskDao;
+    private TaskGitHubIssueDao taskGitHubIssueDao;
+    private GitHubIssueSyncService service;
+
+    private final AtomicInteger taskSeq = new AtomicInteger(1000);
+    private final List<Task> insertedTasks = new ArrayList<>();
+    private final Map<Integer, Integer> issueByTask = new java.util.HashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        taskDao = mock(TaskDao.class);
+        taskGitHubIssueDao = mock(TaskGitHubIssueDao.class);
+        MemberDao memberDao = mock(MemberDao.class);
+        TeamDao teamDao = mock(TeamDao.class);
+        SynodosColumnDao columnDao = mock(SynodosColumnDao.class);
+
+        Member member = new Member();
+        member.setNo(MEMBER_NO);
+        member.setGithubAccessToken("token");
+        when(memberDao.findByNo(MEMBER_NO)).thenReturn(member);
+
+        Team team = new Team();
+        team.setTeamId(TEAM_ID);
+        team.setGithubRepoUrl("https://github.com/octo/repo");
+        team.setGithubDefaultColumnId(TODO_COLUMN);
+        when(teamDao.findById(TEAM_ID)).thenReturn(team);
+
+        when(columnDao.listByTeam(TEAM_ID)).thenReturn(List.of(column(TODO_COLUMN, null), column(BUG_COLUMN, "[버그]")));
+        when(taskGitHubIssueDao.listIssueNumbersByTeam(TEAM_ID))
+            .thenReturn(IntStream.rangeClosed(1, ALREADY_LINKED).boxed().collect(Collectors.toList()));
+
+        when(taskDao.getMaxPosition(TODO_COLUMN)).thenReturn(4);
+        when(taskDao.getMaxPosition(BUG_COLUMN)).thenReturn(-1);
+        when(taskDao.nextTaskIds(anyInt())).thenAnswer(invocation -> IntStream.range(0, invocation.<Integer>getArgument(0))
+            .map(i -> taskSeq.incrementAndGet()).boxed().collect(Collectors.toList()));
+        when(taskDao.insertBatch(anyList())).thenAnswer(invocation -> {
+            List<Task> tasks = invocation.getArgument(0);
+            insertedTasks.addAll(tasks);
+            return tasks.size();
+        });
+        // 매핑 INSERT는 ON CONFLICT DO NOTHING: 그 사이 Webhook이 연결한 Issue는 반환되지 않음
+        when(taskGitHubIssueDao.insertBatch(anyList())).thenAnswer(invocation -> {
+            List<TaskGitHubIssue> mappings = invocation.getArgument(0);
+            mappings.forEach(mapping -> issueByTask.put(mapping.getTaskId(), mapping.getIssueNumber()));
+            return mappings.stream()
+                .filter(mapping -> mapping.getIssueNumber() != LINKED_BY_WEBHOOK)
+                .map(TaskGitHubIssue::getTaskId)
+                .collect(Collectors.toList());
+        });
+
+        service = new GitHubIssueSyncService();
+        ReflectionTestUtils.setField(service, "memberDao", memberDao);
+        ReflectionTestUtils.setField(service, "teamDao", teamDao);
+        ReflectionTestUtils.setField(service, "columnDao", columnDao);
+        ReflectionTestUtils.setField(service, "taskDao", taskDao);
+        ReflectionTestUtils.setField(service, "taskGitHubIssueDao", taskGitHubIssueDao);
+        ReflectionTestUtils.setField(service, "taskAssigneeDao", mock(TaskAssigneeDao.class));
+        ReflectionTestUtils.setField(service, "identityService", mock(GitHubIdentityService.class));
+        ReflectionTestUtils.setField(service, "gitHubService", new GitHubService());
+        ReflectionTestUtils.setField(service, "labelService", new GitHubLabelService());
+    }
+
+    @Test
+    void importsFiveThousandIssuesWithOneInsertPerPage() {
+        GitHubIssueSyncService.ImportPlan plan = service.prepareImport(TEAM_ID, MEMBER_NO);
+        assertThat(plan.getOwner()).isEqualTo("octo");
+        assertThat(plan.getRepo()).isEqualTo("repo");
+
+        int succeeded = 0;
+        int skipped = 0;
+        for (int page = 1; page <= ISSUES / PAGE_SIZE; page++) {
+            GitHubIssueSyncService.BulkSyncResult result = service.importIssueBatch(plan, issuePage(page));
+            succeeded += result.getSuccessCount();
+            skipped += result.getSkipCount();
+        }
+
+        assertThat(succeeded).isEqualTo(ISSUES - ALREADY_LINKED - 1);
+        assertThat(skipped).isEqualTo(ALREADY_LINKED + 1);
+
+        // 페이지당 ID 할당/태스크/매핑 INSERT 한 번 (첫 페이지는 절반이 이미 연결됨)
+        verify(taskDao, times(ISSUES / PAGE_SIZE)).nextTaskIds(anyInt());
+        verify(taskDao).nextTaskIds(PAGE_SIZE - ALREADY_LINKED);
+        verify(taskDao, times(ISSUES / PAGE_SIZE)).insertBatch(anyList());
+        verify(taskGitHubIssueDao, times(ISSUES / PAGE_SIZE)).insertBatch(anyList());
+        verify(taskGitHubIssueDao, never()).countByTeamAndIssue(anyInt(), anyInt());
+        verify(taskDao, times(1)).getMaxPosition(TODO_COLUMN);
+        verify(taskDao, times(1)).getMaxPosition(BUG_COLUMN);
+
+        // Webhook이 먼저 연결한 Issue의 태스크만 삭제
+        Integer orphanTaskId = issueByTask.entrySet().stream()
+            .filter(entry -> entry.getValue() == LINKED_BY_WEBHOOK)
+            .map(Map.Entry::getKey)
+            .findFirst().orElseThrow();
+        verify(taskDao).deleteByIds(List.of(orphanTaskId));
+
+        // 컬럼별 position은 기존 최댓값 다음부터 빈틈없이 이어짐
+        assertThat(insertedTasks).hasSize(ISSUES - ALREADY_LINKED);
+        assertThat(positions(BUG_COLUMN)).isEqualTo(range(0, (int) insertedTasks.stream()
+            .filter(task -> task.getColumnId() == BUG_COLUMN).count()));
+        assertThat(positions(TODO_COLUMN)).isEqualTo(range(5, (int) insertedTasks.stream()
+            .filter(task -> task.getColumnId() == TODO_COLUMN).count()));
+
+        Map<Integer, Task> taskByIssue = insertedTasks.stream()
+            .collect(Collectors.toMap(task -> issueByTask.get(task.getTaskId()), Function.identity()));
+        assertThat(taskByIssue.get(60).getColumnId()).isEqualTo(BUG_COLUMN);
+        assertThat(taskByIssue.get(60).getTitle()).isEqualTo("로그인 오류 60");
+        assertThat(taskByIssue.get(63).getWorkflowStatus()).isEqualTo("DONE");
+        assertThat(taskByIssue.get(64).getWorkflowStatus()).isEqualTo("WAITING");
+        assertThat(taskByIssue.get(65).getPriority()).isEqualTo("URGENT");
+        assertThat(taskByIssue.get(66).getPriority()).isNull();
+    }
+
+    @Test
+    void resumedPageSkipsIssuesImportedEarlier() {
+        GitHubIssueSyncService.ImportPlan plan = service.prepareImport(TEAM_ID, MEMBER_NO);
+        service.importIssueBatch(plan, issuePage(2));
+
+        GitHubIssueSyncService.BulkSyncResult again = service.importIssueBatch(plan, issuePage(2));
+
+        assertThat(again.getSuccessCount()).isZero();
+        assertThat(again.getSkipCount()).isEqualTo(PAGE_SIZE);
+        verify(taskDao, times(1)).nextTaskIds(anyInt());
+        verify(taskDao, times(1)).insertBatch(anyList());
+    }
+
+    private static List<GitHubIssueService.GitHubIssue> issuePage(int page) {
+        List<GitHubIssueService.GitHubIssue> issues = new ArrayList<>();
+        for (int number = (page - 1) * PAGE_SIZE + 1; number <= page * PAGE_SIZE; number++) {
+            GitHubIssueService.GitHubIssue issue = new GitHubIssueService.GitHubIssue();
+            issue.setId(1_000_000L + number);
+            issue.setNumber(number);
+            issue.setTitle(number % 10 == 0 ? "[버그] 로그인 오류 " + number : "Issue " + number);
+            issue.setState(number % 7 == 0 ? "closed" : "open");
+            issue.setHtmlUrl("https://github.com/octo/repo/issues/" + number);
+            issue.setLabels(number % 5 == 0 ? List.of("priority:urgent") : List.of());
+            issue.setAssignees(List.of());
+            issues.add(issue);
+        }
+        return issues;
+    }
+
+    private static SynodosColumn column(int columnId, String githubPrefix) {
+        SynodosColumn column = new SynodosColumn();
+        column.setColumnId(columnId);
+        column.setTeamId(TEAM_ID);
+        column.setTitle("column " + columnId);
+        column.setGithubPrefix(githubPrefix);
+        return column;
+    }
+
+    private Set<Integer> positions(int columnId) {
+        Set<Integer> positions = new HashSet<>();
+        insertedTasks.stream()
+            .filter(task -> task.getColumnId() == columnId)
+            .forEach(task -> assertThat(positions.add(task.getPosition())).isTrue());
+        return positions;
+    }
+
+    private static Set<Integer> range(int from, int count) {
+        return IntStream.range(from, from + count).boxed().collect(Collectors.toSet());
+    }
+}
@@ -123,9 +123,11 @@ export const getTeamIssueMappings = async (teamId) => {
 
 // ========== GitHub Issues (Direct API) ==========
 
-// GitHub Issues 목록 조회 (연결되지 않은 Issue 선택용)
-export const listGitHubIssues = async (teamId, memberNo, state = 'open') => {
-    const response = await axiosInstance.get(`${API_PATH}/team/${teamId}/issues?memberNo=${memberNo}&state=${state}`);
+// GitHub Issues 목록 조회 (연결되지 않은 Issue 선택용, q: 제목 일부 또는 #번호)
+export const listGitHubIssues = async (teamId, memberNo, state = 'open', q) => {
+    const response = await axiosInstance.get(`${API_PATH}/team/${teamId}/issues`, {
+        params: { memberNo, state, q }
+    });
     return response.data;
 };
 
@@ -168,6 +170,24 @@ export const bulkImportIssues = async (teamId, memberNo) => {
     return response.data;
 };
 
+// 일괄 작업 상태 조회
+export const getBulkJob = async (jobId) => {
+    const response = await axiosInstance.get(`${API_PATH}/bulk/jobs/${jobId}`);
+    return response.data;
+};
+
+// 일괄 작업이 끝날 때까지 상태 확인 (onProgress로 진행 상황 전달)
+export const waitForBulkJob = async (jobId, onProgress, intervalMs = 1000) => {
+    while (true) {
+        const job = await getBulkJob(jobId);
+        if (onProgress) onProgress(job);
+        if (job.status === 'DONE' || job.status === 'FAILED') {
+            return job;
+        }
+        await new Promise(resolve => setTimeout(resolve, intervalMs));
+    }
+};
+
 // Tasks 일괄 내보내기
 export const bulkExportTasks = async (teamId, memberNo) => {
     const response = await axiosInstance.post(`${API_PATH}/bulk/export/${teamId}?memberNo=${memberNo}`);
@@ -145,6 +145,15 @@ function TeamView() {
                 }
                 break;
 
+            // GitHub 일괄 작업 이벤트 (가져오기 완료 시 태스크 목록 다시 로드)
+            case 'GITHUB_JOB_PROGRESS':
+                if (event.payload.jobType === 'IMPORT' && event.payload.status === 'DONE' && event.payload.succeeded > 0) {
+                    tasklistByTeam(teamId)
+                        .then(tasksData => setTasks(Array.isArray(tasksData) ? tasksData : []))
+                        .catch(error => console.error('태스크 목록 갱신 실패:', error));
+                }
+                break;
+
             // Presence 이벤트
             case 'PRESENCE_UPDATE':
                 setOnlineMembers(Array.isArray(event.payload) ? event.payload : []);
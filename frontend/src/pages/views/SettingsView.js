@@ -5,7 +5,7 @@ import {
 } from '../../api/teamApi';
 import {
     listUserRepositories, connectRepository, disconnectRepository,
-    getGitHubStatus, getWebhookConfig, bulkImportIssues, bulkExportTasks, getUnlinkedCounts
+    getGitHubStatus, getWebhookConfig, bulkImportIssues, bulkExportTasks, getUnlinkedCounts, waitForBulkJob
 } from '../../api/githubIssueApi';
 import { columnlistByTeam } from '../../api/boardApi';
 import { useNavigate } from 'react-router-dom';
@@ -35,6 +35,7 @@ function SettingsView({ team, loginMember, isLeader, updateTeam, columns: viewCo
     const [bulkSyncing, setBulkSyncing] = useState(false);
     const [unlinkedCounts, setUnlinkedCounts] = useState({ unlinkedTasks: 0, unlinkedIssues: 0 });
     const [syncResult, setSyncResult] = useState(null);
+    const [bulkProgress, setBulkProgress] = useState(null);
 
     const [columnMappings, setColumnMappings] = useState([]);
     const [newPrefix, setNewPrefix] = useState('');
@@ -111,14 +112,20 @@ function SettingsView({ team, loginMember, isLeader, updateTeam, columns: viewCo
         setBulkSyncing(true);
         setSyncResult(null);
         try {
-            const result = await bulkImportIssues(team.teamId, loginMember.no);
-            setSyncResult({ type: 'import', success: result.imported, skipped: result.skipped, failed: result.failed });
-            alert(result.imported > 0 ? `${result.imported}개의 Issue를 가져왔습니다.` : '가져올 Issue가 없습니다.');
+            const started = await bulkImportIssues(team.teamId, loginMember.no);
+            const job = await waitForBulkJob(started.jobId, setBulkProgress);
+            setSyncResult({ type: 'import', success: job.succeeded, skipped: job.skipped, failed: job.failed });
+            if (job.status === 'FAILED') {
+                alert('일괄 가져오기가 중단되었습니다. 다시 시도하면 중단된 페이지부터 이어서 가져옵니다.');
+            } else {
+                alert(job.succeeded > 0 ? `${job.succeeded}개의 Issue를 가져왔습니다.` : '가져올 Issue가 없습니다.');
+            }
             fetchUnlinkedCounts();
         } catch (error) {
             alert('일괄 가져오기에 실패했습니다: ' + (error.response?.data?.error || error.message));
         } finally {
             setBulkSyncing(false);
+            setBulkProgress(null);
         }
     };
 
@@ -163,14 +170,20 @@ function SettingsView({ team, loginMember, isLeader, updateTeam, columns: viewCo
         setBulkSyncing(true);
         setSyncResult(null);
         try {
-            const result = await bulkExportTasks(team.teamId, loginMember.no);
-            setSyncResult({ type: 'export', success: result.exported, skipped: result.skipped, failed: result.failed });
-            alert(result.exported > 0 ? `${result.exported}개의 Task를 내보냈습니다.` : '내보낼 Task가 없습니다.');
+            const started = await bulkExportTasks(team.teamId, loginMember.no);
+            const job = await waitForBulkJob(started.jobId, setBulkProgress);
+            setSyncResult({ type: 'export', success: job.succeeded, skipped: job.skipped, failed: job.failed });
+            if (job.status === 'FAILED') {
+                alert('일괄 내보내기가 중단되었습니다. 다시 시도하면 남은 Task부터 이어서 내보냅니다.');
+            } else {
+                alert(job.succeeded > 0 ? `${job.succeeded}개의 Task를 내보냈습니다.` : '내보낼 Task가 없습니다.');
+            }
             fetchUnlinkedCounts();
         } catch (error) {
             alert('일괄 내보내기에 실패했습니다: ' + (error.response?.data?.error || error.message));
         } finally {
             setBulkSyncing(false);
+            setBulkProgress(null);
         }
     };
 
@@ -509,6 +522,11 @@ function SettingsView({ team, loginMember, isLeader, updateTeam, columns: viewCo
                                         <div className="sv-github-repo">
                                             <a href={githubRepoUrl} target="_blank" rel="noopener noreferrer">{githubRepoUrl.replace('https://github.com/', '')}</a>
                                         </div>
+                                        {team?.githubRepoConflictTeamId && (
+                                            <p className="sv-hint warning">
+                                                다른 팀이 같은 저장소를 먼저 연결해 이 팀은 GitHub Webhook(Issue/커밋 알림)을 받지 못합니다. 다른 저장소로 변경해주세요.
+                                            </p>
+                                        )}
                                         <div className="sv-btn-group" style={{ marginTop: '12px' }}>
                                             <button className="sv-btn secondary sm" onClick={handleOpenRepoSelector}>변경</button>
                                             <button className="sv-btn danger sm" onClick={handleDisconnectRepository} disabled={saving}>연결 해제</button>
@@ -573,6 +591,20 @@ function SettingsView({ team, loginMember, isLeader, updateTeam, columns: viewCo
                                             </button>
                                         </div>
                                         <p className="sv-hint">연결되지 않은 기존 Issues와 Tasks를 일괄로 동기화합니다.</p>
+                                        {unlinkedCounts.mirrorReady === false && (
+                                            <p className="sv-hint">
+                                                {unlinkedCounts.mirrorError
+                                                    ? `GitHub Issue 목록을 가져오지 못했습니다: ${unlinkedCounts.mirrorError}`
+                                                    : 'GitHub Issue 목록을 가져오는 중입니다. 잠시 후 연결되지 않은 Issue 수가 표시됩니다.'}
+                                            </p>
+                                        )}
+                                        {bulkProgress && bulkProgress.total > 0 && (
+                                            <div className="sv-sync-result">
+                                                {bulkProgress.jobType === 'EXPORT'
+                                                    ? `진행 중: ${bulkProgress.processed}/${bulkProgress.total} Task (내보냄 ${bulkProgress.succeeded}개)`
+                                                    : `진행 중: ${bulkProgress.processed}/${bulkProgress.total} 페이지 (가져옴 ${bulkProgress.succeeded}개)`}
+                                            </div>
+                                        )}
                                         {syncResult && (
                                             <div className="sv-sync-result">
                                                 {syncResult.type === 'import' ? '가져오기' : '내보내기'} 완료: 성공 {syncResult.success}개